@@ -8,6 +8,7 @@ import org.uma.evolver.parameter.catalogue.*;
 import org.uma.evolver.parameter.catalogue.createinitialsolutionsparameter.CreateInitialSolutionsParameter;
 import org.uma.evolver.parameter.catalogue.selectionparameter.SelectionParameter;
 import org.uma.evolver.parameter.catalogue.variationparameter.VariationParameter;
+import org.uma.evolver.util.neighborhood.WeightVectorNeighborhoodCache;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
@@ -335,19 +336,21 @@ public abstract class BaseMOEAD<S extends Solution<?>> implements BaseLevelAlgor
    * <p>This method creates a weight vector neighborhood based on the population size and number of
    * objectives in the problem. If the problem has two objectives, a simple weight vector
    * neighborhood is created; otherwise, a weight vector neighborhood with a specified size is
-   * created.
+   * created. Neighborhoods are obtained from the {@link WeightVectorNeighborhoodCache}, so the
+   * weight vectors and neighbor indices are computed only once per combination of population size,
+   * number of objectives and neighborhood size.
    *
    * @return a neighborhood structure for solution interactions
    */
   protected Neighborhood<S> getNeighborhood() {
     if (problem.numberOfObjectives() == 2) {
       neighborhood =
-          new WeightVectorNeighborhood<>(
+          WeightVectorNeighborhoodCache.get(
               populationSize, (int) parameterSpace.get("neighborhoodSize").value());
     } else {
       try {
         neighborhood =
-            new WeightVectorNeighborhood<>(
+            WeightVectorNeighborhoodCache.get(
                 populationSize,
                 problem.numberOfObjectives(),
                 (int) parameterSpace.get("neighborhoodSize").value(),
@@ -367,10 +370,17 @@ public abstract class BaseMOEAD<S extends Solution<?>> implements BaseLevelAlgor
    * evaluations specified during construction. The algorithm will stop once this number of solution
    * evaluations is reached.
    *
+   * <p>If the parameter space contains a {@link TerminationParameter}, the termination condition
+   * it selects is used instead, which can also stop the algorithm when its front stagnates.
+   *
    * @return a termination condition based on evaluation count
    * @see #maximumNumberOfEvaluations
    */
   protected Termination createTermination() {
+    if (parameterSpace.parameters().get(TerminationParameter.DEFAULT_NAME)
+        instanceof TerminationParameter terminationParameter) {
+      return terminationParameter.getTermination(maximumNumberOfEvaluations);
+    }
     return new TerminationByEvaluations(maximumNumberOfEvaluations);
   }
 
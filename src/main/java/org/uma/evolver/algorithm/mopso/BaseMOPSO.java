@@ -12,6 +12,7 @@ import org.uma.evolver.parameter.catalogue.LocalBestInitializationParameter;
 import org.uma.evolver.parameter.catalogue.LocalBestUpdateParameter;
 import org.uma.evolver.parameter.catalogue.PerturbationParameter;
 import org.uma.evolver.parameter.catalogue.PositionUpdateParameter;
+import org.uma.evolver.parameter.catalogue.TerminationParameter;
 import org.uma.evolver.parameter.catalogue.VelocityInitializationParameter;
 import org.uma.evolver.parameter.catalogue.VelocityUpdateParameter;
 import org.uma.evolver.parameter.catalogue.createinitialsolutionsparameter.CreateInitialSolutionsParameter;
@@ -296,15 +297,20 @@ public class BaseMOPSO implements BaseLevelAlgorithm<DoubleSolution> {
    * 
    * <p>The external archive stores additional non-dominated solutions found during the search.
    * The size of the archive is set according to the leader archive size specified during
-   * construction.
+   * construction. The archive type is read from the "externalArchiveType" parameter or, if the
+   * parameter space does not define it, from the "archiveType" parameter.
    *
    * @return the configured external archive instance
    * @throws IllegalStateException if the external archive cannot be created or configured
    * @see #leaderArchiveSize
    */
   protected Archive<DoubleSolution> createExternalArchive() {
+    String archiveTypeName =
+        parameterSpace.parameters().containsKey("externalArchiveType")
+            ? "externalArchiveType"
+            : "archiveType";
     ExternalArchiveParameter<DoubleSolution> externalArchiveParameter =
-        (ExternalArchiveParameter<DoubleSolution>) parameterSpace.get("externalArchiveType");
+        (ExternalArchiveParameter<DoubleSolution>) parameterSpace.get(archiveTypeName);
   
     externalArchiveParameter.setSize(leaderArchiveSize);
     Archive<DoubleSolution> archive = externalArchiveParameter.getExternalArchive();
@@ -359,10 +365,17 @@ public class BaseMOPSO implements BaseLevelAlgorithm<DoubleSolution> {
    * evaluations specified during construction. The algorithm will stop once this number of
    * solution evaluations is reached.
    *
+   * <p>If the parameter space contains a {@link TerminationParameter}, the termination condition
+   * it selects is used instead, which can also stop the algorithm when its front stagnates.
+   *
    * @return the termination condition based on evaluation count
    * @see #maximumNumberOfEvaluations
    */
   protected Termination createTermination() {
+    if (parameterSpace.parameters().get(TerminationParameter.DEFAULT_NAME)
+        instanceof TerminationParameter terminationParameter) {
+      return terminationParameter.getTermination(maximumNumberOfEvaluations);
+    }
     return new TerminationByEvaluations(maximumNumberOfEvaluations);
   }
 
@@ -8,6 +8,7 @@ import org.uma.evolver.parameter.catalogue.*;
 import org.uma.evolver.parameter.catalogue.createinitialsolutionsparameter.CreateInitialSolutionsParameter;
 import org.uma.evolver.parameter.catalogue.selectionparameter.SelectionParameter;
 import org.uma.evolver.parameter.catalogue.variationparameter.VariationParameter;
+import org.uma.evolver.util.dominance.KernelNonDominatedSortRanking;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
@@ -28,7 +29,6 @@ import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.ranking.Ranking;
-import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
 /**
  * Abstract base class for configurable NSGA-II (Non-dominated Sorting Genetic Algorithm II)
@@ -154,7 +154,7 @@ public abstract class BaseNSGAII<S extends Solution<?>> implements BaseLevelAlgo
     this.problem = problem;
     this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
 
-    ranking = new FastNonDominatedSortRanking<>();
+    ranking = new KernelNonDominatedSortRanking<>();
     densityEstimator = new CrowdingDistanceDensityEstimator<>();
     rankingAndCrowdingComparator =
         new MultiComparator<>(
@@ -280,9 +280,16 @@ public abstract class BaseNSGAII<S extends Solution<?>> implements BaseLevelAlgo
    * Creates the termination condition for the algorithm. By default, termination is based on the
    * maximum number of evaluations.
    *
+   * <p>If the parameter space contains a {@link TerminationParameter}, the termination condition
+   * it selects is used instead, which can also stop the algorithm when its front stagnates.
+   *
    * @return the termination condition
    */
   protected Termination createTermination() {
+    if (parameterSpace.parameters().get(TerminationParameter.DEFAULT_NAME)
+        instanceof TerminationParameter terminationParameter) {
+      return terminationParameter.getTermination(maximumNumberOfEvaluations);
+    }
     return new TerminationByEvaluations(maximumNumberOfEvaluations);
   }
 
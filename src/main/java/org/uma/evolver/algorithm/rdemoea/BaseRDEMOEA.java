@@ -8,6 +8,7 @@ import org.uma.evolver.parameter.catalogue.*;
 import org.uma.evolver.parameter.catalogue.createinitialsolutionsparameter.CreateInitialSolutionsParameter;
 import org.uma.evolver.parameter.catalogue.selectionparameter.SelectionParameter;
 import org.uma.evolver.parameter.catalogue.variationparameter.VariationParameter;
+import org.uma.evolver.util.dominance.KernelNonDominatedSortRanking;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
@@ -25,7 +26,6 @@ import org.uma.jmetal.util.comparator.MultiComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.ranking.Ranking;
-import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
 /**
  * Abstract base class for configurable NSGA-II algorithm implementations for evolutionary
@@ -101,7 +101,7 @@ public abstract class BaseRDEMOEA<S extends Solution<?>> implements BaseLevelAlg
     this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
     this.parameterSpace = parameterSpace;
 
-    ranking = new FastNonDominatedSortRanking<>();
+    ranking = new KernelNonDominatedSortRanking<>();
     densityEstimator = new CrowdingDistanceDensityEstimator<>();
     rankingAndCrowdingComparator =
         new MultiComparator<>(
@@ -222,9 +222,16 @@ public abstract class BaseRDEMOEA<S extends Solution<?>> implements BaseLevelAlg
    * Creates the termination condition for the algorithm. By default, termination is based on the
    * maximum number of evaluations.
    *
+   * <p>If the parameter space contains a {@link TerminationParameter}, the termination condition
+   * it selects is used instead, which can also stop the algorithm when its front stagnates.
+   *
    * @return the termination condition
    */
   protected Termination createTermination() {
+    if (parameterSpace.parameters().get(TerminationParameter.DEFAULT_NAME)
+        instanceof TerminationParameter terminationParameter) {
+      return terminationParameter.getTermination(maximumNumberOfEvaluations);
+    }
     return new TerminationByEvaluations(maximumNumberOfEvaluations);
   }
 
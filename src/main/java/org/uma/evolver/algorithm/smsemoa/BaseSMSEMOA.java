@@ -7,6 +7,7 @@ import org.uma.evolver.parameter.catalogue.*;
 import org.uma.evolver.parameter.catalogue.createinitialsolutionsparameter.CreateInitialSolutionsParameter;
 import org.uma.evolver.parameter.catalogue.selectionparameter.SelectionParameter;
 import org.uma.evolver.parameter.catalogue.variationparameter.VariationParameter;
+import org.uma.evolver.util.dominance.KernelNonDominatedSortRanking;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
@@ -24,7 +25,6 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.ranking.Ranking;
-import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
 /**
  * Abstract base class for configurable SMS-EMOA (S-Metric Selection Evolutionary Multi-Objective Algorithm)
@@ -105,7 +105,7 @@ public abstract class BaseSMSEMOA<S extends Solution<?>> implements BaseLevelAlg
     this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
     this.parameterSpace = parameterSpace;
 
-    ranking = new FastNonDominatedSortRanking<>();
+    ranking = new KernelNonDominatedSortRanking<>();
   }
 
   /**
@@ -194,9 +194,16 @@ public abstract class BaseSMSEMOA<S extends Solution<?>> implements BaseLevelAlg
    * Creates the termination condition for the algorithm.
    * By default, termination is based on the maximum number of evaluations.
    *
+   * <p>If the parameter space contains a {@link TerminationParameter}, the termination condition
+   * it selects is used instead, which can also stop the algorithm when its front stagnates.
+   *
    * @return the termination condition
    */
   protected Termination createTermination() {
+    if (parameterSpace.parameters().get(TerminationParameter.DEFAULT_NAME)
+        instanceof TerminationParameter terminationParameter) {
+      return terminationParameter.getTermination(maximumNumberOfEvaluations);
+    }
     return new TerminationByEvaluations(maximumNumberOfEvaluations);
   }
 
@@ -258,12 +265,29 @@ public abstract class BaseSMSEMOA<S extends Solution<?>> implements BaseLevelAlg
   }
 
   /**
-   * Creates the replacement operator for the algorithm using ranking and density estimators.
+   * Creates the replacement operator for the algorithm. If the parameter space includes a
+   * "replacement" parameter, it is used to choose between the original and the incremental
+   * SMS-EMOA replacement; otherwise, the original one is used.
+   *
+   * <p>Note that both replacements do not use the same reference point to compute the hypervolume
+   * contributions, so they may discard different solutions: {@link SMSEMOAReplacement} derives it
+   * from the joint population with {@link PISAHypervolume}, while the incremental one takes the
+   * component-wise maximum of the last front plus an offset.
    *
    * @return the replacement operator
    */
   protected Replacement<S> createReplacement() {
-    return new SMSEMOAReplacement<S>(ranking, new PISAHypervolume());
+    Replacement<S> replacement;
+    if (parameterSpace.parameters().get(ReplacementParameter.DEFAULT_NAME)
+        instanceof ReplacementParameter<?> parameter) {
+      @SuppressWarnings("unchecked")
+      var replacementParameter = (ReplacementParameter<S>) parameter;
+      replacementParameter.setRanking(ranking);
+      replacement = replacementParameter.getReplacement();
+    } else {
+      replacement = new SMSEMOAReplacement<S>(ranking, new PISAHypervolume());
+    }
+    return replacement;
   }
 }
 
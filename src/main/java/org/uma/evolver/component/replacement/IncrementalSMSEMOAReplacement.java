@@ -0,0 +1,122 @@
+package org.uma.evolver.component.replacement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.uma.evolver.util.hypervolume.IncrementalHypervolumeContributions;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * SMS-EMOA replacement that keeps the hypervolume contributions of the last non-dominated front
+ * between consecutive steady-state steps.
+ *
+ * <p>As in {@link org.uma.jmetal.component.catalogue.ea.replacement.impl.SMSEMOAReplacement}, the
+ * current population and the offspring are joined and ranked, and the solution of the worst front
+ * with the lowest hypervolume contribution is discarded. The difference is that the contributions
+ * are held by an {@link IncrementalHypervolumeContributions} instance: as the last front usually
+ * differs from the one of the previous step in only a few solutions (typically the discarded
+ * solution and the new offspring), only those changes are applied instead of recomputing the
+ * contributions of the whole front. If the front has changed substantially, the contributions are
+ * rebuilt from scratch.
+ *
+ * <p>The reference point is not the same as in {@code SMSEMOAReplacement}: it is the component-wise
+ * maximum of the last front plus an offset (see {@link
+ * IncrementalHypervolumeContributions#DEFAULT_OFFSET}), instead of being derived from the joint
+ * population. As a consequence, the extreme solutions of the last front get different contributions
+ * and the discarded solution may not match the one of the original replacement.
+ *
+ * <p>Contributions are exact for two and three objectives and estimated by Monte Carlo sampling for
+ * more objectives.
+ *
+ * @param <S> the type of the solutions
+ */
+public class IncrementalSMSEMOAReplacement<S extends Solution<?>> implements Replacement<S> {
+  private final Ranking<S> ranking;
+  private final double offset;
+  private final int numberOfSamples;
+  private IncrementalHypervolumeContributions<S> contributions;
+
+  /**
+   * Creates the replacement using the default offset and number of Monte Carlo samples of {@link
+   * IncrementalHypervolumeContributions}.
+   *
+   * @param ranking the ranking used to obtain the last front
+   */
+  public IncrementalSMSEMOAReplacement(Ranking<S> ranking) {
+    this(
+        ranking,
+        IncrementalHypervolumeContributions.DEFAULT_OFFSET,
+        IncrementalHypervolumeContributions.DEFAULT_NUMBER_OF_SAMPLES);
+  }
+
+  /**
+   * Creates the replacement.
+   *
+   * @param ranking the ranking used to obtain the last front
+   * @param offset the offset used to build the reference point from the maximum objective values
+   *     of the last front
+   * @param numberOfSamples the number of Monte Carlo samples used with more than three objectives
+   */
+  public IncrementalSMSEMOAReplacement(Ranking<S> ranking, double offset, int numberOfSamples) {
+    Check.notNull(ranking);
+    this.ranking = ranking;
+    this.offset = offset;
+    this.numberOfSamples = numberOfSamples;
+  }
+
+  @Override
+  public List<S> replace(List<S> population, List<S> offspringPopulation) {
+    List<S> jointPopulation = new ArrayList<>(population);
+    jointPopulation.addAll(offspringPopulation);
+
+    ranking.compute(jointPopulation);
+    List<S> lastFront = ranking.getSubFront(ranking.getNumberOfSubFronts() - 1);
+
+    S solutionToRemove;
+    if (lastFront.size() == 1) {
+      solutionToRemove = lastFront.get(0);
+    } else {
+      synchronizeWith(lastFront);
+      solutionToRemove = contributions.worst();
+      contributions.remove(solutionToRemove);
+    }
+    jointPopulation.removeIf(solution -> solution == solutionToRemove);
+
+    return jointPopulation;
+  }
+
+  /**
+   * Updates the stored contributions so that they correspond to the given front, applying the
+   * differences with respect to the previously stored front or rebuilding them if the differences
+   * are larger than half of the front.
+   */
+  private void synchronizeWith(List<S> front) {
+    if (contributions == null) {
+      contributions =
+          new IncrementalHypervolumeContributions<>(
+              front.get(0).objectives().length, offset, numberOfSamples);
+    }
+
+    Set<S> frontSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    frontSolutions.addAll(front);
+    Set<S> storedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    storedSolutions.addAll(contributions.solutions());
+
+    List<S> solutionsToRemove =
+        storedSolutions.stream().filter(solution -> !frontSolutions.contains(solution)).toList();
+    List<S> solutionsToAdd =
+        front.stream().filter(solution -> !storedSolutions.contains(solution)).toList();
+
+    if (solutionsToRemove.size() + solutionsToAdd.size() > front.size() / 2) {
+      contributions.reset(front);
+    } else {
+      solutionsToRemove.forEach(contributions::remove);
+      solutionsToAdd.forEach(contributions::add);
+    }
+  }
+}
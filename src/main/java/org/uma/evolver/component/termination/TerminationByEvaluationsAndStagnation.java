@@ -0,0 +1,224 @@
+package org.uma.evolver.component.termination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.uma.evolver.util.dominance.DominanceKernel;
+import org.uma.evolver.util.hypervolume.IncrementalHypervolumeContributions;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Termination condition that stops an algorithm when a maximum number of evaluations is reached
+ * or, optionally, when the non-dominated front of its population stagnates.
+ *
+ * <p>Stagnation is detected by computing the hypervolume of the non-dominated solutions of the
+ * population every {@code windowSize} evaluations, and stopping when its relative change since the
+ * previous check is not greater than {@code epsilon}. Only one hypervolume value is kept between
+ * checks, so the cost does not depend on how often the condition is tested (e.g., after every
+ * evaluation in steady-state algorithms). The objectives are normalized with the ideal and nadir
+ * points of the first front seen, and the reference point is 1.1 in every normalized objective;
+ * keeping them fixed makes the hypervolume values of consecutive checks comparable.
+ *
+ * <p>The hypervolume is computed exactly with a sweep in two and three objectives, and with {@link
+ * PISAHypervolume} in more objectives.
+ *
+ * <p>The number of evaluations consumed when the condition was last tested is available with
+ * {@link #numberOfEvaluations()}, so that the actual effort of a run stopped early can be reported.
+ */
+public class TerminationByEvaluationsAndStagnation implements Termination {
+  private static final double REFERENCE_POINT_VALUE = 1.1;
+
+  private final int maximumNumberOfEvaluations;
+  private final int windowSize;
+  private final double epsilon;
+  private final boolean stagnationDetection;
+
+  private int numberOfEvaluations;
+  private int nextCheck;
+  private double[] idealPoint;
+  private double[] nadirPoint;
+  private double lastHypervolume;
+  private boolean stagnated;
+
+  /**
+   * Creates a termination condition based only on the number of evaluations.
+   *
+   * @param maximumNumberOfEvaluations the maximum number of evaluations
+   */
+  public TerminationByEvaluationsAndStagnation(int maximumNumberOfEvaluations) {
+    Check.that(
+        maximumNumberOfEvaluations > 0,
+        "The maximum number of evaluations must be positive: " + maximumNumberOfEvaluations);
+    this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
+    this.windowSize = 0;
+    this.epsilon = 0.0;
+    this.stagnationDetection = false;
+  }
+
+  /**
+   * Creates a termination condition based on the number of evaluations and on the stagnation of
+   * the hypervolume of the non-dominated front of the population.
+   *
+   * @param maximumNumberOfEvaluations the maximum number of evaluations
+   * @param windowSize the number of evaluations between two consecutive stagnation checks
+   * @param epsilon the relative hypervolume change under which the front is stagnated
+   */
+  public TerminationByEvaluationsAndStagnation(
+      int maximumNumberOfEvaluations, int windowSize, double epsilon) {
+    Check.that(
+        maximumNumberOfEvaluations > 0,
+        "The maximum number of evaluations must be positive: " + maximumNumberOfEvaluations);
+    Check.that(windowSize > 0, "The window size must be positive: " + windowSize);
+    Check.that(epsilon >= 0.0, "Epsilon cannot be negative: " + epsilon);
+    this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
+    this.windowSize = windowSize;
+    this.epsilon = epsilon;
+    this.stagnationDetection = true;
+  }
+
+  @Override
+  public boolean isMet(Map<String, Object> algorithmStatusData) {
+    numberOfEvaluations = (int) algorithmStatusData.get("EVALUATIONS");
+    if (numberOfEvaluations >= maximumNumberOfEvaluations) {
+      return true;
+    }
+
+    if (stagnationDetection
+        && numberOfEvaluations >= nextCheck
+        && algorithmStatusData.get("POPULATION") instanceof List<?> population
+        && !population.isEmpty()) {
+      @SuppressWarnings("unchecked")
+      List<Solution<?>> solutions = (List<Solution<?>>) population;
+      checkStagnation(solutions);
+    }
+
+    return stagnated;
+  }
+
+  private void checkStagnation(List<Solution<?>> population) {
+    List<double[]> front = new ArrayList<>();
+    for (Solution<?> solution : DominanceKernel.nonDominatedSolutions(population)) {
+      front.add(solution.objectives());
+    }
+    boolean firstCheck = idealPoint == null;
+    if (firstCheck) {
+      computeNormalizationBounds(front);
+    }
+
+    double hypervolume = hypervolume(normalize(front));
+    if (!firstCheck) {
+      stagnated = Math.abs(hypervolume - lastHypervolume) <= epsilon * lastHypervolume;
+    }
+    lastHypervolume = hypervolume;
+    nextCheck = numberOfEvaluations + windowSize;
+  }
+
+  private void computeNormalizationBounds(List<double[]> front) {
+    int numberOfObjectives = front.get(0).length;
+    idealPoint = new double[numberOfObjectives];
+    nadirPoint = new double[numberOfObjectives];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      idealPoint[i] = Double.POSITIVE_INFINITY;
+      nadirPoint[i] = Double.NEGATIVE_INFINITY;
+      for (double[] point : front) {
+        idealPoint[i] = Math.min(idealPoint[i], point[i]);
+        nadirPoint[i] = Math.max(nadirPoint[i], point[i]);
+      }
+    }
+  }
+
+  private List<double[]> normalize(List<double[]> front) {
+    List<double[]> normalizedFront = new ArrayList<>(front.size());
+    for (double[] point : front) {
+      double[] normalizedPoint = new double[point.length];
+      for (int i = 0; i < point.length; i++) {
+        double range = nadirPoint[i] - idealPoint[i];
+        normalizedPoint[i] = (point[i] - idealPoint[i]) / (range > 0.0 ? range : 1.0);
+      }
+      normalizedFront.add(normalizedPoint);
+    }
+    return normalizedFront;
+  }
+
+  private static double hypervolume(List<double[]> front) {
+    int numberOfObjectives = front.get(0).length;
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, REFERENCE_POINT_VALUE);
+
+    if (numberOfObjectives == 2) {
+      return hypervolume2D(front);
+    } else if (numberOfObjectives == 3) {
+      return IncrementalHypervolumeContributions.hypervolume3D(front, referencePoint);
+    }
+
+    List<double[]> dominatingPoints = new ArrayList<>();
+    for (double[] point : front) {
+      boolean dominatesReferencePoint = true;
+      for (double value : point) {
+        dominatesReferencePoint &= value < REFERENCE_POINT_VALUE;
+      }
+      if (dominatesReferencePoint) {
+        dominatingPoints.add(point);
+      }
+    }
+    return dominatingPoints.isEmpty()
+        ? 0.0
+        : new PISAHypervolume(referencePoint).compute(dominatingPoints.toArray(new double[0][]));
+  }
+
+  private static double hypervolume2D(List<double[]> front) {
+    List<double[]> sortedFront = new ArrayList<>(front);
+    sortedFront.sort(Comparator.comparingDouble(point -> point[0]));
+
+    double hypervolume = 0.0;
+    double previousSecondObjective = REFERENCE_POINT_VALUE;
+    for (double[] point : sortedFront) {
+      if (point[0] < REFERENCE_POINT_VALUE && point[1] < previousSecondObjective) {
+        hypervolume += (REFERENCE_POINT_VALUE - point[0]) * (previousSecondObjective - point[1]);
+        previousSecondObjective = point[1];
+      }
+    }
+    return hypervolume;
+  }
+
+  /**
+   * Returns the number of evaluations consumed when the condition was last tested.
+   *
+   * @return the number of evaluations
+   */
+  public int numberOfEvaluations() {
+    return numberOfEvaluations;
+  }
+
+  /**
+   * Returns whether the condition has been met because of the stagnation of the front.
+   *
+   * @return true if the front has stagnated
+   */
+  public boolean stagnated() {
+    return stagnated;
+  }
+
+  /**
+   * Returns the number of evaluations between two consecutive stagnation checks.
+   *
+   * @return the window size, or 0 if the stagnation is not detected
+   */
+  public int windowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Returns the maximum number of evaluations.
+   *
+   * @return the maximum number of evaluations
+   */
+  public int maximumNumberOfEvaluations() {
+    return maximumNumberOfEvaluations;
+  }
+}
@@ -0,0 +1,74 @@
+package org.uma.evolver.example.configuration;
+
+import java.io.IOException;
+import org.uma.evolver.algorithm.nsgaii.PermutationNSGAII;
+import org.uma.evolver.parameter.factory.PermutationParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.problem.tsp.MultiObjectiveTSP;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Benchmark of the delta evaluation of permutation mutations on the bi-objective kroAB100 TSP
+ * instance.
+ *
+ * <p>It runs the NSGA-II configuration of {@link NSGAIIBiObjectiveTSP} (1,000,000 evaluations) twice
+ * on {@link MultiObjectiveTSP}: first with the {@code swap} mutation, which requires evaluating
+ * every offspring from scratch, and then with {@code deltaSwap}, which lets the problem update the
+ * tour lengths of the offspring not modified by the crossover from the four edges changed by the
+ * mutation. The computing times of both runs are reported. The delta mutations are not part of
+ * the default permutation parameter spaces, so the opt-in {@code
+ * NSGAIIPermutationDeltaMutations.yaml} space is used.
+ *
+ * <p>The TSPLIB files are read from {@code resources/tspInstances}.
+ *
+ * @see org.uma.evolver.util.permutation.DeltaEvaluation
+ */
+public class NSGAIIBiObjectiveTSPDeltaEvaluation {
+
+  public static void main(String[] args) throws IOException {
+    MultiObjectiveTSP problem =
+        MultiObjectiveTSP.fromTSPLibFiles(
+            "KroAB100TSP",
+            "resources/tspInstances/kroA100.tsp",
+            "resources/tspInstances/kroB100.tsp");
+
+    long fullEvaluationTime = run(problem, "swap");
+    long deltaEvaluationTime = run(problem, "deltaSwap");
+
+    JMetalLogger.logger.info("Computing time with full evaluation: " + fullEvaluationTime + " ms");
+    JMetalLogger.logger.info(
+        "Computing time with delta evaluation: " + deltaEvaluationTime + " ms");
+  }
+
+  private static long run(MultiObjectiveTSP problem, String mutation) {
+    String[] parameters =
+        ("--algorithmResult population "
+                + "--createInitialSolutions default  "
+                + "--offspringPopulationSize 100 "
+                + "--variation crossoverAndMutationVariation "
+                + "--crossover CX "
+                + "--crossoverProbability 0.6848051886685469 "
+                + "--mutation "
+                + mutation
+                + " --mutationProbability 0.09728575979674077 "
+                + "--selection tournament "
+                + "--selectionTournamentSize 2 ")
+            .split("\\s+");
+
+    var baseNSGAII =
+        new PermutationNSGAII(
+            problem,
+            100,
+            1000000,
+            new YAMLParameterSpace(
+                "NSGAIIPermutationDeltaMutations.yaml", new PermutationParameterFactory()));
+    baseNSGAII.parse(parameters);
+
+    EvolutionaryAlgorithm<PermutationSolution<Integer>> nsgaII = baseNSGAII.build();
+    nsgaII.run();
+
+    return nsgaII.totalComputingTime();
+  }
+}
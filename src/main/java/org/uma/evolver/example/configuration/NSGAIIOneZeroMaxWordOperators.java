@@ -0,0 +1,65 @@
+package org.uma.evolver.example.configuration;
+
+import org.uma.evolver.algorithm.nsgaii.BinaryNSGAII;
+import org.uma.evolver.parameter.factory.BinaryParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.problem.multiobjective.OneZeroMax;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Benchmark of the word-packed binary operators on a OneZeroMax problem of 8,192 bits.
+ *
+ * <p>It runs the same NSGA-II configuration with the {@code HUX} crossover and {@code bitFlip}
+ * mutation of jMetal, which process the solutions bit by bit, and with the {@code wordHUX} and
+ * {@code geometricBitFlip} operators of {@code org.uma.evolver.util.binary}. Each configuration is
+ * run once to warm up the JVM before the measured run, and the computing times are reported.
+ */
+public class NSGAIIOneZeroMaxWordOperators {
+  private static final int NUMBER_OF_BITS = 8192;
+  private static final int MAXIMUM_NUMBER_OF_EVALUATIONS = 20000;
+
+  public static void main(String[] args) {
+    var problem = new OneZeroMax(NUMBER_OF_BITS);
+
+    run(problem, "HUX", "bitFlip");
+    long bitwiseTime = run(problem, "HUX", "bitFlip");
+    run(problem, "wordHUX", "geometricBitFlip");
+    long wordTime = run(problem, "wordHUX", "geometricBitFlip");
+
+    JMetalLogger.logger.info("Computing time with HUX and bitFlip: " + bitwiseTime + " ms");
+    JMetalLogger.logger.info(
+        "Computing time with wordHUX and geometricBitFlip: " + wordTime + " ms");
+  }
+
+  private static long run(OneZeroMax problem, String crossover, String mutation) {
+    String[] parameters =
+        ("--algorithmResult population "
+                + "--createInitialSolutions default "
+                + "--variation crossoverAndMutationVariation "
+                + "--offspringPopulationSize 100 "
+                + "--crossover "
+                + crossover
+                + " --crossoverProbability 0.9 "
+                + "--mutation "
+                + mutation
+                + " --mutationProbabilityFactor 1.0 "
+                + "--selection tournament "
+                + "--selectionTournamentSize 2")
+            .split("\\s+");
+
+    var baseNSGAII =
+        new BinaryNSGAII(
+            problem,
+            100,
+            MAXIMUM_NUMBER_OF_EVALUATIONS,
+            new YAMLParameterSpace("NSGAIIBinary.yaml", new BinaryParameterFactory()));
+    baseNSGAII.parse(parameters);
+
+    EvolutionaryAlgorithm<BinarySolution> nsgaII = baseNSGAII.build();
+    nsgaII.run();
+
+    return nsgaII.totalComputingTime();
+  }
+}
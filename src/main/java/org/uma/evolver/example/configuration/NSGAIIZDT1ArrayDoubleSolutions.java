@@ -0,0 +1,82 @@
+package org.uma.evolver.example.configuration;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.util.doublesolution.ArrayDoubleProblem;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Measures the memory allocated by a NSGA-II run on a ZDT1 problem with 1,024 variables when the
+ * population is stored in jMetal's default solutions and in {@link
+ * org.uma.evolver.util.doublesolution.ArrayDoubleSolution}s, created by wrapping the problem in an
+ * {@link ArrayDoubleProblem}.
+ *
+ * <p>Both runs use the same configuration, with the {@code arraySBX} and {@code arrayPolynomial}
+ * operators, and are preceded by a warm-up run. The bytes allocated by the thread running the
+ * algorithm, as reported by the JVM, and the computing times are logged.
+ */
+public class NSGAIIZDT1ArrayDoubleSolutions {
+  private static final int NUMBER_OF_VARIABLES = 1024;
+  private static final int MAXIMUM_NUMBER_OF_EVALUATIONS = 25000;
+
+  public static void main(String[] args) {
+    var problem = new ZDT1(NUMBER_OF_VARIABLES);
+    var arrayProblem = new ArrayDoubleProblem(problem);
+
+    run(problem, "default solutions");
+    run(problem, "default solutions");
+    run(arrayProblem, "array solutions");
+    run(arrayProblem, "array solutions");
+  }
+
+  private static void run(Problem<DoubleSolution> problem, String description) {
+    String[] parameters =
+        ("--algorithmResult population "
+                + "--createInitialSolutions default "
+                + "--offspringPopulationSize 100 "
+                + "--variation crossoverAndMutationVariation "
+                + "--crossover arraySBX "
+                + "--crossoverProbability 0.9 "
+                + "--crossoverRepairStrategy bounds "
+                + "--arraySbxDistributionIndex 20.0 "
+                + "--mutation arrayPolynomial "
+                + "--mutationProbabilityFactor 1.0 "
+                + "--mutationRepairStrategy bounds "
+                + "--arrayPolynomialMutationDistributionIndex 20.0 "
+                + "--selection tournament "
+                + "--selectionTournamentSize 2")
+            .split("\\s+");
+
+    var baseNSGAII =
+        new DoubleNSGAII(
+            problem,
+            100,
+            MAXIMUM_NUMBER_OF_EVALUATIONS,
+            new YAMLParameterSpace(
+                "NSGAIIDoubleArrayOperators.yaml", new DoubleParameterFactory()));
+    baseNSGAII.parse(parameters);
+
+    EvolutionaryAlgorithm<DoubleSolution> nsgaII = baseNSGAII.build();
+
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long allocatedBytes = threadBean.getCurrentThreadAllocatedBytes();
+    nsgaII.run();
+    allocatedBytes = threadBean.getCurrentThreadAllocatedBytes() - allocatedBytes;
+
+    JMetalLogger.logger.info(
+        "With "
+            + description
+            + ": "
+            + allocatedBytes / (1024 * 1024)
+            + " MB allocated in "
+            + nsgaII.totalComputingTime()
+            + " ms");
+  }
+}
@@ -0,0 +1,73 @@
+package org.uma.evolver.example.configuration;
+
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Benchmark of the real-coded operators on primitive arrays on a ZDT1 problem with 2,048 variables,
+ * where the variation operators dominate the computing time.
+ *
+ * <p>It runs the same NSGA-II configuration with the {@code SBX} crossover and {@code polynomial}
+ * mutation of jMetal and with the {@code arraySBX} and {@code arrayPolynomial} operators of {@code
+ * org.uma.evolver.util.doublesolution}. Each configuration is run once to warm up the JVM before
+ * the measured run, and the computing times are reported.
+ */
+public class NSGAIIZDT1ArrayOperators {
+  private static final int NUMBER_OF_VARIABLES = 2048;
+  private static final int MAXIMUM_NUMBER_OF_EVALUATIONS = 25000;
+
+  public static void main(String[] args) {
+    var problem = new ZDT1(NUMBER_OF_VARIABLES);
+
+    String listOperators =
+        "--crossover SBX --sbxDistributionIndex 20.0 "
+            + "--mutation polynomial --polynomialMutationDistributionIndex 20.0";
+    String arrayOperators =
+        "--crossover arraySBX --arraySbxDistributionIndex 20.0 "
+            + "--mutation arrayPolynomial --arrayPolynomialMutationDistributionIndex 20.0";
+
+    run(problem, listOperators);
+    long listTime = run(problem, listOperators);
+    run(problem, arrayOperators);
+    long arrayTime = run(problem, arrayOperators);
+
+    JMetalLogger.logger.info("Computing time with SBX and polynomial: " + listTime + " ms");
+    JMetalLogger.logger.info(
+        "Computing time with arraySBX and arrayPolynomial: " + arrayTime + " ms");
+  }
+
+  private static long run(ZDT1 problem, String operators) {
+    String[] parameters =
+        ("--algorithmResult population "
+                + "--createInitialSolutions default "
+                + "--offspringPopulationSize 100 "
+                + "--variation crossoverAndMutationVariation "
+                + "--crossoverProbability 0.9 "
+                + "--crossoverRepairStrategy bounds "
+                + "--mutationProbabilityFactor 1.0 "
+                + "--mutationRepairStrategy bounds "
+                + "--selection tournament "
+                + "--selectionTournamentSize 2 "
+                + operators)
+            .split("\\s+");
+
+    var baseNSGAII =
+        new DoubleNSGAII(
+            problem,
+            100,
+            MAXIMUM_NUMBER_OF_EVALUATIONS,
+            new YAMLParameterSpace(
+                "NSGAIIDoubleArrayOperators.yaml", new DoubleParameterFactory()));
+    baseNSGAII.parse(parameters);
+
+    EvolutionaryAlgorithm<DoubleSolution> nsgaII = baseNSGAII.build();
+    nsgaII.run();
+
+    return nsgaII.totalComputingTime();
+  }
+}
@@ -29,7 +29,8 @@ public class SMSEMOAExample {
                 + "--mutationProbabilityFactor 1.0 "
                 + "--mutationRepairStrategy bounds "
                 + "--polynomialMutationDistributionIndex 20.0 "
-                + "--selection random ")
+                + "--selection random "
+                + "--replacement incrementalSMSEMOA ")
             .split("\\s+");
 
     var baseAlgorithm =
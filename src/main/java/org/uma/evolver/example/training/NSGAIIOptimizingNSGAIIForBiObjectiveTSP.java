@@ -10,13 +10,13 @@ import org.uma.evolver.meta.strategy.FixedEvaluationsStrategy;
 import org.uma.evolver.parameter.factory.DoubleParameterFactory;
 import org.uma.evolver.parameter.factory.PermutationParameterFactory;
 import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.problem.tsp.MultiObjectiveTSP;
 import org.uma.evolver.util.HypervolumeMinus;
 import org.uma.evolver.util.ConsolidatedOutputResults;
 import org.uma.evolver.util.MetaOptimizerConfig;
 import org.uma.evolver.util.WriteExecutionDataToFilesObserver;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.problem.Problem;
-import org.uma.jmetal.problem.multiobjective.multiobjectivetsp.instance.KroAB100TSP;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.Epsilon;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
@@ -28,7 +28,9 @@ import org.uma.jmetal.util.observer.impl.FrontPlotObserver;
 /**
  * Class for running NSGA-II as meta-optimizer to configure
  * {@link PermutationNSGAII} using
- * problem {@link KroAB100TSP} as training set.
+ * the bi-objective kroAB100 TSP instance as training set. The instance is a {@link
+ * MultiObjectiveTSP} whose distance matrices, read once from {@code resources/tspInstances}, are
+ * shared by all the worker threads.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  */
@@ -52,7 +54,12 @@ public class NSGAIIOptimizingNSGAIIForBiObjectiveTSP {
         String yamlParameterSpaceFile = "NSGAIIPermutation.yaml";
 
         // Step 1: Select the target problem
-        List<Problem<PermutationSolution<Integer>>> trainingSet = List.of(new KroAB100TSP());
+        List<Problem<PermutationSolution<Integer>>> trainingSet =
+                List.of(
+                        MultiObjectiveTSP.fromTSPLibFiles(
+                                "KroAB100TSP",
+                                "resources/tspInstances/kroA100.tsp",
+                                "resources/tspInstances/kroB100.tsp"));
         List<String> referenceFrontFileNames = List.of("resources/referenceFrontsTSP/KroAB100TSP.csv");
         String problemName = "KroAB100TSP";
 
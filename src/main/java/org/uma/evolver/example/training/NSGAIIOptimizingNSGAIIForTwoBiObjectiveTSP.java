@@ -11,13 +11,12 @@ import org.uma.evolver.parameter.ParameterSpace;
 import org.uma.evolver.parameter.factory.DoubleParameterFactory;
 import org.uma.evolver.parameter.factory.PermutationParameterFactory;
 import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.problem.tsp.MultiObjectiveTSP;
 import org.uma.evolver.util.HypervolumeMinus;
 import org.uma.evolver.util.OutputResults;
 import org.uma.evolver.util.WriteExecutionDataToFilesObserver;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.problem.Problem;
-import org.uma.jmetal.problem.multiobjective.multiobjectivetsp.instance.KroAB100TSP;
-import org.uma.jmetal.problem.multiobjective.multiobjectivetsp.instance.KroAC100TSP;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.Epsilon;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
@@ -28,7 +27,8 @@ import org.uma.jmetal.util.observer.impl.FrontPlotObserver;
 
 /**
  * Class for running NSGA-II as meta-optimizer to configure {@link PermutationNSGAII} using
- * problem {@link KroAB100TSP} as training set.
+ * the bi-objective kroAB100 and kroAC100 TSP instances as training set. Both instances are {@link
+ * MultiObjectiveTSP} problems sharing the kroA100 distance matrix, which is read only once.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  */
@@ -52,7 +52,15 @@ public class NSGAIIOptimizingNSGAIIForTwoBiObjectiveTSP {
 
     // Step 1: Select the target problem
     List<Problem<PermutationSolution<Integer>>> trainingSet =
-        List.of(new KroAB100TSP(), new KroAC100TSP());
+        List.of(
+            MultiObjectiveTSP.fromTSPLibFiles(
+                "KroAB100TSP",
+                "resources/tspInstances/kroA100.tsp",
+                "resources/tspInstances/kroB100.tsp"),
+            MultiObjectiveTSP.fromTSPLibFiles(
+                "KroAC100TSP",
+                "resources/tspInstances/kroA100.tsp",
+                "resources/tspInstances/kroC100.tsp"));
     List<String> referenceFrontFileNames =
         List.of(
             "resources/referenceFrontsTSP/KroAB100TSP.csv",
@@ -0,0 +1,131 @@
+package org.uma.evolver.example.training;
+
+import java.io.IOException;
+import java.util.List;
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.meta.builder.MetaTPEBuilder;
+import org.uma.evolver.meta.builder.MultiObjectiveTPE;
+import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.strategy.EvaluationBudgetStrategy;
+import org.uma.evolver.meta.strategy.FixedEvaluationsStrategy;
+import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.trainingset.DTLZ3DTrainingSet;
+import org.uma.evolver.trainingset.TrainingSet;
+import org.uma.evolver.util.ConsolidatedOutputResults;
+import org.uma.evolver.util.MetaOptimizerConfig;
+import org.uma.evolver.util.WriteExecutionDataToFilesObserver;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.observer.impl.EvaluationObserver;
+import org.uma.jmetal.util.observer.impl.FrontPlotObserver;
+
+/**
+ * Class for running the multi-objective TPE as meta-optimizer to configure {@link DoubleNSGAII}
+ * using the DTLZ problems as training set. Being model-based, it is given a budget of meta-level
+ * evaluations much smaller than that of {@link RandomSearchOptimizingNSGAIIForBenchmarkDTLZ}.
+ */
+public class TPEOptimizingNSGAIIForBenchmarkDTLZ {
+
+  // Meta-optimizer configuration
+  private static final int META_MAX_EVALUATIONS = 300;
+  private static final int NUMBER_OF_CORES = 8; // Asynchronous TPE workers
+
+  // Base-level algorithm configuration
+  private static final int BASE_POPULATION_SIZE = 100;
+  private static final int NUMBER_OF_INDEPENDENT_RUNS = 1;
+
+  // Observer configuration
+  private static final int EVALUATION_OBSERVER_FREQUENCY = 10; // Notify every 10 meta-evals
+  private static final int WRITE_FREQUENCY = 25;
+  private static final int PLOT_UPDATE_FREQUENCY = 10;
+
+  public static void main(String[] args) throws IOException {
+    String yamlParameterSpaceFile = "NSGAIIDouble.yaml";
+
+    // Step 1: Select the target problem
+    TrainingSet<DoubleSolution> trainingSetDescriptor = new DTLZ3DTrainingSet();
+
+    List<Problem<DoubleSolution>> trainingSet = trainingSetDescriptor.problemList();
+    List<String> referenceFrontFileNames = trainingSetDescriptor.referenceFronts();
+
+    // Step 2: Set the parameters for the algorithm to be configured
+    var indicators = List.of(new Epsilon(), new InvertedGenerationalDistancePlus());
+    var parameterSpace =
+        new YAMLParameterSpace(yamlParameterSpaceFile, new DoubleParameterFactory());
+    var baseAlgorithm = new DoubleNSGAII(BASE_POPULATION_SIZE, parameterSpace);
+    var maximumNumberOfEvaluations = trainingSetDescriptor.evaluationsToOptimize();
+
+    EvaluationBudgetStrategy evaluationBudgetStrategy =
+        new FixedEvaluationsStrategy(maximumNumberOfEvaluations);
+
+    MetaOptimizationProblem<DoubleSolution> metaOptimizationProblem =
+        new MetaOptimizationProblem<>(
+            baseAlgorithm,
+            trainingSet,
+            referenceFrontFileNames,
+            indicators,
+            evaluationBudgetStrategy,
+            NUMBER_OF_INDEPENDENT_RUNS);
+
+    // Step 3: Set up and configure the meta-optimizer (MOTPE)
+    MultiObjectiveTPE tpe =
+        new MetaTPEBuilder(metaOptimizationProblem)
+            .setNumberOfCores(NUMBER_OF_CORES)
+            .setMaxEvaluations(META_MAX_EVALUATIONS)
+            .build();
+
+    // Step 4: Create observers for the meta-optimizer
+    String algorithmName = "MOTPE";
+    String problemName = trainingSetDescriptor.name();
+
+    MetaOptimizerConfig config =
+        MetaOptimizerConfig.builder()
+            .metaOptimizerName(algorithmName)
+            .metaMaxEvaluations(META_MAX_EVALUATIONS)
+            .metaPopulationSize(1) // TPE doesn't have a population size per se
+            .numberOfCores(NUMBER_OF_CORES)
+            .baseLevelAlgorithmName("NSGA-II")
+            .baseLevelPopulationSize(BASE_POPULATION_SIZE)
+            .baseLevelMaxEvaluations(maximumNumberOfEvaluations.get(0))
+            .evaluationBudgetStrategy(evaluationBudgetStrategy.toString())
+            .yamlParameterSpaceFile(yamlParameterSpaceFile)
+            .build();
+
+    var outputResults =
+        new ConsolidatedOutputResults(
+            metaOptimizationProblem,
+            problemName,
+            indicators,
+            "results/motpe/" + problemName,
+            config);
+
+    var writeExecutionDataToFilesObserver =
+        new WriteExecutionDataToFilesObserver(WRITE_FREQUENCY, outputResults);
+
+    var evaluationObserver = new EvaluationObserver(EVALUATION_OBSERVER_FREQUENCY);
+    var frontChartObserver =
+        new FrontPlotObserver<DoubleSolution>(
+            "MOTPE, " + trainingSetDescriptor.name(),
+            indicators.get(0).name(),
+            indicators.get(1).name(),
+            trainingSetDescriptor.name(),
+            PLOT_UPDATE_FREQUENCY);
+
+    // Register observers!
+    tpe.observable().register(evaluationObserver);
+    tpe.observable().register(frontChartObserver);
+    tpe.observable().register(writeExecutionDataToFilesObserver);
+
+    // Step 5: Run the meta-optimizer
+    tpe.run();
+
+    // Step 6: Write results
+    outputResults.updateEvaluations(META_MAX_EVALUATIONS);
+    outputResults.writeResultsToFiles(tpe.result());
+
+    System.exit(0);
+  }
+}
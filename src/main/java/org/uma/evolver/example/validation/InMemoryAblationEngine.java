@@ -0,0 +1,300 @@
+package org.uma.evolver.example.validation;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.example.validation.RepresentativeConfigurationCatalog.ConfigurationSpec;
+import org.uma.evolver.parameter.ParameterSpace;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Evaluates NSGA-II configurations on a set of problems without going through a jMetal {@code
+ * Experiment}.
+ *
+ * <p>The forward ablation of {@link RepresentativeConfigurationValidationStudy} evaluates, at each
+ * stage, a set of candidate configurations. Running each stage as an experiment writes every FUN
+ * and VAR file to disk, reads them back to compute the quality indicators and reruns the
+ * configurations that were already evaluated in previous stages (e.g., the source and the target
+ * configurations). This engine instead:
+ *
+ * <ul>
+ *   <li>runs the algorithms on a thread pool shared by all the stages,
+ *   <li>computes the EP and HV indicators from the resulting fronts in memory, normalizing them
+ *       with the bounds of the reference fronts as {@code ComputeQualityIndicators} does, and
+ *   <li>memoises the indicator values of each (configuration, problem, run) triple, so a
+ *       configuration evaluated in an earlier stage is never run again. Configurations are
+ *       identified by their parameter values, not by their tags.
+ * </ul>
+ *
+ * <p>Only the indicator summaries are persisted, with {@link #writeSummary(Path, List)}.
+ */
+public final class InMemoryAblationEngine implements AutoCloseable {
+  private static final String EPSILON_NAME = new Epsilon().name();
+  private static final String HYPERVOLUME_NAME = new PISAHypervolume().name();
+
+  /**
+   * Indicator values of one run of a configuration on a problem.
+   *
+   * @param algorithm configuration tag
+   * @param problem problem tag
+   * @param run run index
+   * @param epsilon additive epsilon of the normalized front
+   * @param hypervolume hypervolume of the normalized front
+   */
+  public record RunIndicators(
+      String algorithm, String problem, int run, double epsilon, double hypervolume) {}
+
+  private record RunKey(String configuration, String problem, int run) {}
+
+  private record IndicatorValues(double epsilon, double hypervolume) {}
+
+  private final List<ExperimentProblem<DoubleSolution>> problems;
+  private final Map<String, double[][]> referenceFronts;
+  private final ThreadLocal<ParameterSpace> parameterSpaces;
+  private final int populationSize;
+  private final int maximumNumberOfEvaluations;
+  private final ExecutorService executor;
+  private final Map<RunKey, IndicatorValues> cache;
+
+  /**
+   * Creates the engine.
+   *
+   * @param problems problems on which the configurations are evaluated
+   * @param referenceFrontDirectory directory containing the reference fronts of the problems
+   * @param parameterSpace NSGA-II parameter space; each worker thread uses its own copy
+   * @param populationSize population size of NSGA-II
+   * @param maximumNumberOfEvaluations evaluation budget of each run
+   * @param numberOfCores number of worker threads
+   * @throws IOException if a reference front cannot be read
+   */
+  public InMemoryAblationEngine(
+      List<ExperimentProblem<DoubleSolution>> problems,
+      String referenceFrontDirectory,
+      ParameterSpace parameterSpace,
+      int populationSize,
+      int maximumNumberOfEvaluations,
+      int numberOfCores)
+      throws IOException {
+    this.problems = List.copyOf(problems);
+    this.referenceFronts = new LinkedHashMap<>();
+    for (ExperimentProblem<DoubleSolution> problem : problems) {
+      referenceFronts.put(
+          problem.getTag(),
+          VectorUtils.readVectors(
+              Path.of(referenceFrontDirectory, problem.getReferenceFront()).toString(), ","));
+    }
+    this.parameterSpaces = ThreadLocal.withInitial(parameterSpace::createInstance);
+    this.populationSize = populationSize;
+    this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
+    this.executor = Executors.newFixedThreadPool(numberOfCores);
+    this.cache = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Evaluates the configurations on all the problems, running only the (configuration, problem,
+   * run) triples that have not been evaluated before.
+   *
+   * @param configurations configurations to evaluate
+   * @param runs number of runs per configuration and problem
+   * @return the indicator values, ordered by configuration, problem and run
+   */
+  public List<RunIndicators> evaluate(List<ConfigurationSpec> configurations, int runs) {
+    Map<RunKey, Future<IndicatorValues>> pending;
+    List<RunIndicators> result;
+
+    pending = new LinkedHashMap<>();
+    for (ConfigurationSpec configuration : configurations) {
+      for (ExperimentProblem<DoubleSolution> problem : problems) {
+        for (int run = 0; run < runs; run++) {
+          RunKey key;
+
+          key = runKey(configuration, problem, run);
+          if (!cache.containsKey(key) && !pending.containsKey(key)) {
+            pending.put(key, executor.submit(() -> run(configuration, problem)));
+          }
+        }
+      }
+    }
+
+    for (Map.Entry<RunKey, Future<IndicatorValues>> entry : pending.entrySet()) {
+      cache.put(entry.getKey(), resultOf(entry.getValue()));
+    }
+
+    result = new ArrayList<>();
+    for (ConfigurationSpec configuration : configurations) {
+      for (ExperimentProblem<DoubleSolution> problem : problems) {
+        for (int run = 0; run < runs; run++) {
+          IndicatorValues values;
+
+          values = cache.get(runKey(configuration, problem, run));
+          result.add(
+              new RunIndicators(
+                  configuration.tag(),
+                  problem.getTag(),
+                  run,
+                  values.epsilon(),
+                  values.hypervolume()));
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the number of memoised (configuration, problem, run) evaluations.
+   *
+   * @return the number of cached evaluations
+   */
+  public int numberOfCachedRuns() {
+    return cache.size();
+  }
+
+  /**
+   * Groups indicator values by algorithm, indicator name ("EP" or "HV") and problem, which is the
+   * structure obtained when reading a {@code QualityIndicatorSummary.csv} file.
+   *
+   * @param indicators indicator values
+   * @return the grouped values
+   */
+  public static Map<String, Map<String, Map<String, List<Double>>>> groupByAlgorithm(
+      List<RunIndicators> indicators) {
+    Map<String, Map<String, Map<String, List<Double>>>> result;
+
+    result = new LinkedHashMap<>();
+    for (RunIndicators runIndicators : indicators) {
+      Map<String, Map<String, List<Double>>> valuesOfAlgorithm;
+
+      valuesOfAlgorithm =
+          result.computeIfAbsent(runIndicators.algorithm(), ignored -> new LinkedHashMap<>());
+      valuesOfAlgorithm
+          .computeIfAbsent(EPSILON_NAME, ignored -> new LinkedHashMap<>())
+          .computeIfAbsent(runIndicators.problem(), ignored -> new ArrayList<>())
+          .add(runIndicators.epsilon());
+      valuesOfAlgorithm
+          .computeIfAbsent(HYPERVOLUME_NAME, ignored -> new LinkedHashMap<>())
+          .computeIfAbsent(runIndicators.problem(), ignored -> new ArrayList<>())
+          .add(runIndicators.hypervolume());
+    }
+
+    return result;
+  }
+
+  /**
+   * Writes indicator values with the format of the {@code QualityIndicatorSummary.csv} files
+   * generated by {@code ComputeQualityIndicators}.
+   *
+   * @param summaryPath file to write
+   * @param indicators indicator values
+   * @throws IOException if the file cannot be written
+   */
+  public static void writeSummary(Path summaryPath, List<RunIndicators> indicators)
+      throws IOException {
+    if (summaryPath.getParent() != null) {
+      Files.createDirectories(summaryPath.getParent());
+    }
+    try (FileWriter writer = new FileWriter(summaryPath.toFile(), false)) {
+      writer.write("Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue\n");
+      for (RunIndicators runIndicators : indicators) {
+        writeSummaryLine(writer, runIndicators, EPSILON_NAME, runIndicators.epsilon());
+      }
+      for (RunIndicators runIndicators : indicators) {
+        writeSummaryLine(writer, runIndicators, HYPERVOLUME_NAME, runIndicators.hypervolume());
+      }
+    }
+  }
+
+  /** Shuts down the worker threads. */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private IndicatorValues run(
+      ConfigurationSpec configuration, ExperimentProblem<DoubleSolution> problem) {
+    DoubleNSGAII factory;
+    EvolutionaryAlgorithm<DoubleSolution> algorithm;
+    double[][] referenceFront;
+    double[][] normalizedReferenceFront;
+    double[][] normalizedFront;
+    QualityIndicator epsilon;
+    QualityIndicator hypervolume;
+
+    factory =
+        new DoubleNSGAII(
+            problem.getProblem(),
+            populationSize,
+            maximumNumberOfEvaluations,
+            parameterSpaces.get());
+    factory.parse(configuration.parameterString().split("\\s+"));
+    algorithm = factory.build();
+    algorithm.run();
+
+    referenceFront = referenceFronts.get(problem.getTag());
+    normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+    normalizedFront =
+        NormalizeUtils.normalize(
+            SolutionListUtils.getMatrixWithObjectiveValues(algorithm.result()),
+            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+    epsilon = new Epsilon(normalizedReferenceFront);
+    hypervolume = new PISAHypervolume(normalizedReferenceFront);
+
+    return new IndicatorValues(
+        epsilon.compute(normalizedFront), hypervolume.compute(normalizedFront));
+  }
+
+  private static RunKey runKey(
+      ConfigurationSpec configuration, ExperimentProblem<DoubleSolution> problem, int run) {
+    return new RunKey(
+        RepresentativeConfigurationCatalog.canonicalParameterString(configuration),
+        problem.getTag(),
+        run);
+  }
+
+  private static IndicatorValues resultOf(Future<IndicatorValues> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while evaluating an ablation stage", exception);
+    } catch (ExecutionException exception) {
+      throw new JMetalException("Error evaluating an ablation configuration", exception);
+    }
+  }
+
+  private static void writeSummaryLine(
+      FileWriter writer, RunIndicators runIndicators, String indicatorName, double value)
+      throws IOException {
+    writer.write(runIndicators.algorithm());
+    writer.write(",");
+    writer.write(runIndicators.problem());
+    writer.write(",");
+    writer.write(indicatorName);
+    writer.write(",");
+    writer.write(Integer.toString(runIndicators.run()));
+    writer.write(",");
+    writer.write(Double.toString(value));
+    writer.write("\n");
+  }
+}
@@ -5,6 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 
 /**
@@ -453,6 +454,21 @@ public final class RepresentativeConfigurationCatalog {
     return result;
   }
 
+  /**
+   * Returns a representation of the parameter values of a configuration that does not depend on
+   * the order in which they appear in its parameter string.
+   *
+   * @param configuration configuration
+   * @return the parameter values sorted by parameter name
+   */
+  public static String canonicalParameterString(ConfigurationSpec configuration) {
+    String result;
+
+    result = new TreeMap<>(parseParameterString(configuration.parameterString())).toString();
+
+    return result;
+  }
+
   private static ConfigurationSpec resetArchive(ConfigurationSpec base) {
     ConfigurationSpec result;
     LinkedHashMap<String, String> params;
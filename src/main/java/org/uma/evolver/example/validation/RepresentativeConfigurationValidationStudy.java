@@ -14,10 +14,10 @@ import org.uma.evolver.example.validation.RepresentativeConfigurationCatalog.Con
 import org.uma.evolver.example.validation.RepresentativeConfigurationCatalog.ForwardStepCandidate;
 import org.uma.evolver.parameter.factory.DoubleParameterFactory;
 import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.util.experiment.ParallelQualityIndicatorComputation;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.ExperimentBuilder;
-import org.uma.jmetal.lab.experiment.component.impl.ComputeQualityIndicators;
 import org.uma.jmetal.lab.experiment.component.impl.ExecuteAlgorithms;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateFriedmanTestTables;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateLatexTablesWithStatistics;
@@ -61,6 +61,11 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * reported in the manuscript appendix on the full RE and RWA suites. The same runner can also
  * execute knockout ablations or a stepwise forward ablation that follows the irace-style
  * source-to-target path.
+ *
+ * <p>By default, the candidates of each forward-ablation stage are evaluated with an {@link
+ * InMemoryAblationEngine}, which reuses the runs of configurations evaluated in earlier stages and
+ * only writes the indicator summaries. The {@code --ablation-engine experiment} option restores the
+ * evaluation of each stage as a jMetal experiment, which stores all the FUN/VAR files.
  */
 public class RepresentativeConfigurationValidationStudy {
   private static final int DEFAULT_INDEPENDENT_RUNS = 30;
@@ -69,6 +74,7 @@ public class RepresentativeConfigurationValidationStudy {
   private static final int DEFAULT_POPULATION_SIZE = 100;
   private static final int DEFAULT_NUMBER_OF_CORES = -1;
   private static final String YAML_FILE = "NSGAIIDouble.yaml";
+  private static final String REFERENCE_FRONT_DIRECTORY = "resources/referenceFronts";
   private static final String DEFAULT_OUTPUT_DIRECTORY =
       "experiments/rq4_validation/results/representative-configs";
 
@@ -93,6 +99,9 @@ public class RepresentativeConfigurationValidationStudy {
    * @param outputDirectory base output directory
    * @param runAlgorithms whether to execute missing FUN/VAR runs
    * @param ablationBaseTag optional representative configuration tag for real ablations
+   * @param ablationMode ablation strategy ({@code forward} or {@code knockout})
+   * @param ablationEngine engine used to evaluate the forward stages ({@code memory} or {@code
+   *     experiment})
    * @param ablationNrep number of stochastic repetitions used to rank forward-ablation candidates
    * @param numberOfCores number of parallel workers used by the experiment
    * @param independentRuns number of stochastic repetitions per problem
@@ -103,6 +112,7 @@ public class RepresentativeConfigurationValidationStudy {
       boolean runAlgorithms,
       String ablationBaseTag,
       String ablationMode,
+      String ablationEngine,
       int ablationNrep,
       int numberOfCores,
       int independentRuns) {}
@@ -148,12 +158,14 @@ public class RepresentativeConfigurationValidationStudy {
     int index;
 
     String ablationMode;
+    String ablationEngine;
 
     suiteId = "all";
     outputDirectory = DEFAULT_OUTPUT_DIRECTORY;
     runAlgorithms = false;
     ablationBaseTag = null;
     ablationMode = "forward";
+    ablationEngine = "memory";
     ablationNrep = DEFAULT_ABLATION_NREP;
     numberOfCores = DEFAULT_NUMBER_OF_CORES;
     independentRuns = DEFAULT_INDEPENDENT_RUNS;
@@ -184,6 +196,16 @@ public class RepresentativeConfigurationValidationStudy {
           }
           index += 2;
         }
+        case "--ablation-engine" -> {
+          ablationEngine = valueOf(args, index, token).toLowerCase();
+          if (!ablationEngine.equals("memory") && !ablationEngine.equals("experiment")) {
+            throw new IllegalArgumentException(
+                "Unknown ablation engine: "
+                    + ablationEngine
+                    + " (expected 'memory' or 'experiment')");
+          }
+          index += 2;
+        }
         case "--ablation-nrep" -> {
           ablationNrep = Integer.parseInt(valueOf(args, index, token));
           index += 2;
@@ -224,6 +246,7 @@ public class RepresentativeConfigurationValidationStudy {
             runAlgorithms,
             ablationBaseTag,
             ablationMode,
+            ablationEngine,
             ablationNrep,
             numberOfCores,
             independentRuns);
@@ -264,7 +287,7 @@ public class RepresentativeConfigurationValidationStudy {
     if (arguments.runAlgorithms()) {
       new ExecuteAlgorithms<>(experiment).run();
     }
-    new ComputeQualityIndicators<>(experiment).run();
+    new ParallelQualityIndicatorComputation<>(experiment).run();
     new GenerateLatexTablesWithStatistics(experiment).run();
     new GenerateWilcoxonTestTablesWithR<>(experiment).run();
     new GenerateFriedmanTestTables<>(experiment).run();
@@ -274,6 +297,30 @@ public class RepresentativeConfigurationValidationStudy {
       throws IOException {
     YAMLParameterSpace parameterSpace;
     SuiteSpec selectionSuite;
+
+    parameterSpace = new YAMLParameterSpace(YAML_FILE, new DoubleParameterFactory());
+    selectionSuite = seenOnlySuite(suite);
+    try (InMemoryAblationEngine engine =
+        "memory".equals(arguments.ablationEngine())
+            ? new InMemoryAblationEngine(
+                selectionSuite.problems(),
+                REFERENCE_FRONT_DIRECTORY,
+                parameterSpace,
+                DEFAULT_POPULATION_SIZE,
+                DEFAULT_MAX_EVALUATIONS,
+                arguments.numberOfCores())
+            : null) {
+      runForwardAblationStudy(arguments, suite, selectionSuite, parameterSpace, engine);
+    }
+  }
+
+  private static void runForwardAblationStudy(
+      Arguments arguments,
+      SuiteSpec suite,
+      SuiteSpec selectionSuite,
+      YAMLParameterSpace parameterSpace,
+      InMemoryAblationEngine engine)
+      throws IOException {
     ConfigurationSpec standard;
     ConfigurationSpec target;
     LinkedHashMap<String, ConfigurationSpec> selectedConfigurations;
@@ -286,8 +333,6 @@ public class RepresentativeConfigurationValidationStudy {
     CandidateMetrics targetMetrics;
     int stepIndex;
 
-    parameterSpace = new YAMLParameterSpace(YAML_FILE, new DoubleParameterFactory());
-    selectionSuite = seenOnlySuite(suite);
     standard = RepresentativeConfigurationCatalog.standard();
     target = RepresentativeConfigurationCatalog.configurationByTag(arguments.ablationBaseTag());
     experimentDirectory =
@@ -303,6 +348,7 @@ public class RepresentativeConfigurationValidationStudy {
             arguments,
             selectionSuite,
             parameterSpace,
+            engine,
             List.of(standard, target),
             stagesDirectory,
             "step-00-source-target");
@@ -360,6 +406,7 @@ public class RepresentativeConfigurationValidationStudy {
                   arguments,
                   selectionSuite,
                   parameterSpace,
+                  engine,
                   candidateConfigurations(candidates),
                   stagesDirectory,
                   "step-" + String.format("%02d", stepIndex)),
@@ -488,7 +535,7 @@ public class RepresentativeConfigurationValidationStudy {
         new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>(experimentName)
             .setAlgorithmList(algorithmList)
             .setProblemList(suite.problems())
-            .setReferenceFrontDirectory("resources/referenceFronts")
+            .setReferenceFrontDirectory(REFERENCE_FRONT_DIRECTORY)
             .setExperimentBaseDirectory(experimentBaseDirectory)
             .setOutputParetoFrontFileName("FUN")
             .setOutputParetoSetFileName("VAR")
@@ -504,6 +551,7 @@ public class RepresentativeConfigurationValidationStudy {
       Arguments arguments,
       SuiteSpec suite,
       YAMLParameterSpace parameterSpace,
+      InMemoryAblationEngine engine,
       List<ConfigurationSpec> configurationSpecs,
       Path stagesDirectory,
       String stageName)
@@ -513,6 +561,16 @@ public class RepresentativeConfigurationValidationStudy {
     Path summaryPath;
     Map<String, CandidateMetrics> result;
 
+    if (engine != null) {
+      List<InMemoryAblationEngine.RunIndicators> indicators;
+
+      indicators = engine.evaluate(configurationSpecs, arguments.ablationNrep());
+      InMemoryAblationEngine.writeSummary(
+          stagesDirectory.resolve(stageName).resolve("QualityIndicatorSummary.csv"), indicators);
+      return seenMetrics(
+          InMemoryAblationEngine.groupByAlgorithm(indicators), suite, configurationSpecs);
+    }
+
     algorithmList =
         configureAlgorithmList(
             suite.problems(),
@@ -531,7 +589,7 @@ public class RepresentativeConfigurationValidationStudy {
     if (arguments.runAlgorithms()) {
       new ExecuteAlgorithms<>(experiment).run();
     }
-    new ComputeQualityIndicators<>(experiment).run();
+    new ParallelQualityIndicatorComputation<>(experiment).run();
 
     summaryPath = Path.of(experiment.getExperimentBaseDirectory(), "QualityIndicatorSummary.csv");
     result = readSeenMetrics(summaryPath, suite, configurationSpecs);
@@ -570,7 +628,7 @@ public class RepresentativeConfigurationValidationStudy {
     if (arguments.runAlgorithms()) {
       new ExecuteAlgorithms<>(experiment).run();
     }
-    new ComputeQualityIndicators<>(experiment).run();
+    new ParallelQualityIndicatorComputation<>(experiment).run();
   }
 
   private static SuiteSpec seenOnlySuite(SuiteSpec suite) {
@@ -676,21 +734,10 @@ public class RepresentativeConfigurationValidationStudy {
 
   private static Map<String, CandidateMetrics> readSeenMetrics(
       Path summaryPath, SuiteSpec suite, List<ConfigurationSpec> configurationSpecs) throws IOException {
-    Map<String, String> splitByProblem;
     Map<String, Map<String, Map<String, List<Double>>>> values;
-    Map<String, CandidateMetrics> result;
     List<String> lines;
 
-    splitByProblem = new LinkedHashMap<>();
-    for (String[] splitRow : suite.splitRows()) {
-      splitByProblem.put(splitRow[0], splitRow[1]);
-    }
-
     values = new LinkedHashMap<>();
-    for (ConfigurationSpec configurationSpec : configurationSpecs) {
-      values.put(configurationSpec.tag(), new LinkedHashMap<>());
-    }
-
     lines = Files.readAllLines(summaryPath);
     for (int index = 1; index < lines.size(); index++) {
       String line;
@@ -713,12 +760,6 @@ public class RepresentativeConfigurationValidationStudy {
       algorithm = columns[0];
       problem = columns[1];
       indicatorName = columns[2];
-      if (!values.containsKey(algorithm) || !splitByProblem.getOrDefault(problem, "").equals("seen")) {
-        continue;
-      }
-      if (!indicatorName.equals("HV") && !indicatorName.equals("EP")) {
-        continue;
-      }
 
       indicatorValue = Double.parseDouble(columns[4]);
       values
@@ -728,6 +769,29 @@ public class RepresentativeConfigurationValidationStudy {
           .add(indicatorValue);
     }
 
+    return seenMetrics(values, suite, configurationSpecs);
+  }
+
+  /**
+   * Aggregates the HV and EP values of the configurations on the seen problems of a suite.
+   *
+   * @param values indicator values indexed by algorithm, indicator name and problem
+   * @param suite suite whose split rows identify the seen problems
+   * @param configurationSpecs configurations to aggregate
+   * @return suite medians of the per-problem medians, indexed by configuration tag
+   */
+  private static Map<String, CandidateMetrics> seenMetrics(
+      Map<String, Map<String, Map<String, List<Double>>>> values,
+      SuiteSpec suite,
+      List<ConfigurationSpec> configurationSpecs) {
+    Map<String, String> splitByProblem;
+    Map<String, CandidateMetrics> result;
+
+    splitByProblem = new LinkedHashMap<>();
+    for (String[] splitRow : suite.splitRows()) {
+      splitByProblem.put(splitRow[0], splitRow[1]);
+    }
+
     result = new LinkedHashMap<>();
     for (ConfigurationSpec configurationSpec : configurationSpecs) {
       Map<String, Map<String, List<Double>>> indicators;
@@ -739,8 +803,8 @@ public class RepresentativeConfigurationValidationStudy {
         continue;
       }
 
-      seenHv = suiteMedian(indicators.get("HV"));
-      seenEp = suiteMedian(indicators.get("EP"));
+      seenHv = suiteMedian(seenValues(indicators.get("HV"), splitByProblem));
+      seenEp = suiteMedian(seenValues(indicators.get("EP"), splitByProblem));
       if (Double.isNaN(seenHv) || Double.isNaN(seenEp)) {
         continue;
       }
@@ -750,6 +814,22 @@ public class RepresentativeConfigurationValidationStudy {
     return result;
   }
 
+  private static Map<String, List<Double>> seenValues(
+      Map<String, List<Double>> valuesByProblem, Map<String, String> splitByProblem) {
+    Map<String, List<Double>> result;
+
+    result = new LinkedHashMap<>();
+    if (valuesByProblem != null) {
+      for (Map.Entry<String, List<Double>> entry : valuesByProblem.entrySet()) {
+        if (splitByProblem.getOrDefault(entry.getKey(), "").equals("seen")) {
+          result.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+
+    return result;
+  }
+
   private static double suiteMedian(Map<String, List<Double>> valuesByProblem) {
     List<Double> perProblemMedians;
     double result;
@@ -1066,6 +1146,7 @@ public class RepresentativeConfigurationValidationStudy {
     System.out.println("  --run-algorithms              Execute missing FUN/VAR runs");
     System.out.println("  --ablation-base <tag>         Run compact real ablations for one representative tag");
     System.out.println("  --ablation-mode <forward|knockout>  Ablation strategy (default: forward)");
+    System.out.println("  --ablation-engine <memory|experiment>  Forward-stage evaluation (default: memory)");
     System.out.println("  --ablation-nrep <int>         Repetitions used to rank forward candidates on seen (default: 5)");
     System.out.println(
         "  --cores <int|-1>              Number of parallel workers (-1 = all available minus one; default: -1)");
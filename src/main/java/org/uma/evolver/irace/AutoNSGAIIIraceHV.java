@@ -21,9 +21,18 @@ import org.uma.jmetal.util.VectorUtils;
  * and returns the hypervolume value of the obtained solution set, which is used by irace
  * to evaluate different configurations.
  *
+ * <p>A new JVM is launched for each evaluation. {@link IraceTargetRunnerServer} evaluates the same
+ * arguments in a long-lived process, avoiding the startup cost of each call.
+ *
  * @author Antonio J. Nebro
  */
 public class AutoNSGAIIIraceHV {
+  /** Directory containing the reference front files, relative to the irace execution directory. */
+  public static final String REFERENCE_FRONT_DIRECTORY = "resources/referenceFrontsCSV/";
+
+  /** YAML file defining the NSGA-II parameter space. */
+  public static final String PARAMETER_SPACE_FILE = "NSGAIIDouble.yaml";
+
   /**
    * Main method that runs NSGA-II with the provided configuration and returns the hypervolume value.
    * The result is printed to standard output for irace to capture.
@@ -57,7 +66,7 @@ public class AutoNSGAIIIraceHV {
         problem,
         populationSize,
         maximumNumberOfEvaluations,
-        new YAMLParameterSpace("NSGAIIDouble.yaml", new DoubleParameterFactory()));
+        new YAMLParameterSpace(PARAMETER_SPACE_FILE, new DoubleParameterFactory()));
 
     // Parse any additional NSGA-II specific parameters
     baseNSGAII.parse(args);
@@ -67,7 +76,7 @@ public class AutoNSGAIIIraceHV {
     nsgaII.run();
 
     // Load and process the reference front
-    String referenceFrontFile = "resources/referenceFrontsCSV/" + referenceFrontFilename;
+    String referenceFrontFile = REFERENCE_FRONT_DIRECTORY + referenceFrontFilename;
     double[][] referenceFront = VectorUtils.readVectors(referenceFrontFile, ",");
     double[][] front = getMatrixWithObjectiveValues(nsgaII.result());
 
@@ -0,0 +1,58 @@
+package org.uma.evolver.irace;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Client of {@link IraceTargetRunnerServer} to be used as irace target runner on systems where the
+ * {@code target-runner-client.sh} script cannot be used.
+ *
+ * <p>The arguments are forwarded to the server, and its response is printed to standard output. If
+ * the server reports an error, the response is printed to standard error and the program exits
+ * with status 1, so irace aborts the execution as it does with a failing {@link
+ * AutoNSGAIIIraceHV}. The server address is read from the {@code evolver.server.host} (default
+ * {@code 127.0.0.1}) and {@code evolver.server.port} (default {@value
+ * IraceTargetRunnerServer#DEFAULT_PORT}) system properties.
+ *
+ * <p>This class only depends on the JDK, so the JVM it runs on starts much faster than one loading
+ * the jMetal classes.
+ */
+public class IraceTargetRunnerClient {
+  /**
+   * Sends the arguments to the server and prints the response.
+   *
+   * @param args the arguments accepted by {@link AutoNSGAIIIraceHV}
+   * @throws IOException if the server cannot be reached
+   */
+  public static void main(String[] args) throws IOException {
+    String host;
+    int port;
+    String response;
+
+    host = System.getProperty("evolver.server.host", "127.0.0.1");
+    port =
+        Integer.parseInt(
+            System.getProperty(
+                "evolver.server.port", String.valueOf(IraceTargetRunnerServer.DEFAULT_PORT)));
+
+    try (Socket socket = new Socket(host, port);
+        PrintWriter writer =
+            new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+      writer.println(String.join(" ", args));
+      response = reader.readLine();
+    }
+
+    if (response == null || response.startsWith(IraceTargetRunnerServer.ERROR_PREFIX)) {
+      System.err.println(response == null ? "No response from the server" : response);
+      System.exit(1);
+    }
+    System.out.println(response);
+  }
+}
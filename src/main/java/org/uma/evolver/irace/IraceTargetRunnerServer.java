@@ -0,0 +1,298 @@
+package org.uma.evolver.irace;
+
+import static org.uma.jmetal.util.SolutionListUtils.getMatrixWithObjectiveValues;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.parameter.ParameterSpace;
+import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.type.StringParameter;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.ProblemFactory;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Long-lived alternative to {@link AutoNSGAIIIraceHV} for irace target runners.
+ *
+ * <p>Launching {@link AutoNSGAIIIraceHV} for every target evaluation pays, on each call, the JVM
+ * startup, the loading of the jMetal classes, the parsing of {@code NSGAIIDouble.yaml} and the
+ * reading and normalization of the reference front, and runs the algorithm with code that has not
+ * been compiled by the JIT yet. This server performs that work once: it listens on a local TCP port
+ * and evaluates the configurations sent by a lightweight client ({@code target-runner-client.sh}
+ * or {@link IraceTargetRunnerClient}), keeping resident:
+ *
+ * <ul>
+ *   <li>the problems and the NSGA-II parameter spaces, one copy per worker thread, as neither of
+ *       them is guaranteed to be thread-safe;
+ *   <li>the normalized reference fronts, shared by all the workers.
+ * </ul>
+ *
+ * <p>The protocol is line based: a request is a single line containing the same arguments accepted
+ * by {@link AutoNSGAIIIraceHV}, and the response is a single line with the cost (the hypervolume
+ * multiplied by -1) or, if the evaluation fails, a line starting with {@value #ERROR_PREFIX}. The
+ * request {@value #SHUTDOWN_REQUEST} stops the server. Several requests, such as those of irace
+ * running in parallel mode, are evaluated concurrently by a fixed pool of worker threads.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * java -cp Evolver-2.1-SNAPSHOT-jar-with-dependencies.jar \
+ *     org.uma.evolver.irace.IraceTargetRunnerServer --port 9876 --numberOfThreads 8
+ * }</pre>
+ *
+ * <p>The options are {@code --port} (default {@value #DEFAULT_PORT}), {@code --numberOfThreads}
+ * (default: number of available processors) and {@code --referenceFrontDirectory} (default {@value
+ * AutoNSGAIIIraceHV#REFERENCE_FRONT_DIRECTORY}).
+ */
+public class IraceTargetRunnerServer implements AutoCloseable {
+  /** Port used when no {@code --port} option is given. */
+  public static final int DEFAULT_PORT = 9876;
+
+  /** Prefix of the responses of failed evaluations. */
+  public static final String ERROR_PREFIX = "ERROR";
+
+  /** Request that stops the server. */
+  public static final String SHUTDOWN_REQUEST = "shutdown";
+
+  private record ReferenceFront(
+      double[] minimumValues, double[] maximumValues, double[][] normalizedValues) {}
+
+  private final ServerSocket serverSocket;
+  private final ExecutorService executor;
+  private final String referenceFrontDirectory;
+  private final ThreadLocal<ParameterSpace> parameterSpaces;
+  private final ThreadLocal<Map<String, Problem<DoubleSolution>>> problems;
+  private final Map<String, ReferenceFront> referenceFronts;
+
+  /**
+   * Creates the server, bound to the loopback address.
+   *
+   * @param port the port to listen on; 0 selects a free port
+   * @param numberOfThreads the number of requests evaluated concurrently
+   * @param referenceFrontDirectory the directory containing the reference front files
+   * @throws IOException if the port cannot be bound
+   */
+  public IraceTargetRunnerServer(int port, int numberOfThreads, String referenceFrontDirectory)
+      throws IOException {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    Check.notNull(referenceFrontDirectory);
+
+    this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    this.executor = Executors.newFixedThreadPool(numberOfThreads);
+    this.referenceFrontDirectory = referenceFrontDirectory;
+    this.parameterSpaces =
+        ThreadLocal.withInitial(
+            () ->
+                new YAMLParameterSpace(
+                    AutoNSGAIIIraceHV.PARAMETER_SPACE_FILE, new DoubleParameterFactory()));
+    this.problems = ThreadLocal.withInitial(HashMap::new);
+    this.referenceFronts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the port the server is listening on.
+   *
+   * @return the local port
+   */
+  public int port() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Accepts requests until the server is closed or a {@value #SHUTDOWN_REQUEST} request is
+   * received.
+   *
+   * @throws IOException if an error other than the closing of the server occurs while accepting
+   *     connections
+   */
+  public void serve() throws IOException {
+    JMetalLogger.logger.info("irace target runner server listening on port " + port());
+    try {
+      while (!serverSocket.isClosed()) {
+        Socket socket;
+
+        socket = serverSocket.accept();
+        executor.execute(() -> handle(socket));
+      }
+    } catch (SocketException exception) {
+      if (!serverSocket.isClosed()) {
+        throw exception;
+      }
+    }
+  }
+
+  /**
+   * Evaluates a configuration in the calling thread.
+   *
+   * @param args the arguments accepted by {@link AutoNSGAIIIraceHV}
+   * @return the hypervolume of the normalized front multiplied by -1
+   * @throws IOException if the reference front cannot be read
+   */
+  public double evaluate(String[] args) throws IOException {
+    String problemName;
+    String referenceFrontFileName;
+    int populationSize;
+    int maximumNumberOfEvaluations;
+    DoubleNSGAII baseNSGAII;
+    EvolutionaryAlgorithm<DoubleSolution> nsgaII;
+    ReferenceFront referenceFront;
+    double[][] normalizedFront;
+
+    problemName = stringValue("problemName", args);
+    referenceFrontFileName = stringValue("referenceFrontFileName", args);
+    populationSize = Integer.parseInt(stringValue("populationSize", args));
+    maximumNumberOfEvaluations = Integer.parseInt(stringValue("maximumNumberOfEvaluations", args));
+
+    baseNSGAII =
+        new DoubleNSGAII(
+            problems.get().computeIfAbsent(problemName, ProblemFactory::loadProblem),
+            populationSize,
+            maximumNumberOfEvaluations,
+            parameterSpaces.get());
+    baseNSGAII.parse(args);
+    nsgaII = baseNSGAII.build();
+    nsgaII.run();
+
+    referenceFront = referenceFront(referenceFrontFileName);
+    normalizedFront =
+        NormalizeUtils.normalize(
+            getMatrixWithObjectiveValues(nsgaII.result()),
+            referenceFront.minimumValues(),
+            referenceFront.maximumValues());
+
+    return new PISAHypervolume(referenceFront.normalizedValues()).compute(normalizedFront) * -1.0;
+  }
+
+  /** Stops accepting requests and waits for the running evaluations to finish. */
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    executor.shutdown();
+  }
+
+  private void handle(Socket socket) {
+    try (socket;
+        BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer =
+            new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+      String request;
+
+      request = reader.readLine();
+      if (request == null) {
+        return;
+      }
+      request = request.trim();
+      if (request.equals(SHUTDOWN_REQUEST)) {
+        writer.println(SHUTDOWN_REQUEST);
+        close();
+      } else {
+        writer.println(response(request));
+      }
+    } catch (IOException exception) {
+      JMetalLogger.logger.warning("Error handling an irace request: " + exception.getMessage());
+    }
+  }
+
+  private String response(String request) {
+    String result;
+
+    try {
+      result = String.valueOf(evaluate(request.split("\\s+")));
+    } catch (Exception exception) {
+      JMetalLogger.logger.warning("Error evaluating request '" + request + "': " + exception);
+      result = ERROR_PREFIX + " " + exception;
+    }
+
+    return result;
+  }
+
+  private ReferenceFront referenceFront(String referenceFrontFileName) throws IOException {
+    ReferenceFront result;
+
+    result = referenceFronts.get(referenceFrontFileName);
+    if (result == null) {
+      double[][] values;
+
+      values =
+          VectorUtils.readVectors(
+              Path.of(referenceFrontDirectory, referenceFrontFileName).toString(), ",");
+      result =
+          new ReferenceFront(
+              NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(values),
+              NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(values),
+              NormalizeUtils.normalize(values));
+      referenceFronts.putIfAbsent(referenceFrontFileName, result);
+    }
+
+    return result;
+  }
+
+  private static String stringValue(String name, String[] args) {
+    StringParameter parameter;
+
+    parameter = new StringParameter(name);
+    parameter.parse(args);
+
+    return parameter.value();
+  }
+
+  private static String option(String[] args, String name, String defaultValue) {
+    int index;
+
+    index = List.of(args).indexOf("--" + name);
+
+    return index != -1 && index < args.length - 1 ? args[index + 1] : defaultValue;
+  }
+
+  /**
+   * Starts the server.
+   *
+   * @param args the {@code --port}, {@code --numberOfThreads} and {@code
+   *     --referenceFrontDirectory} options
+   * @throws IOException if the server cannot be started
+   */
+  public static void main(String[] args) throws IOException {
+    int port;
+    int numberOfThreads;
+    String referenceFrontDirectory;
+
+    port = Integer.parseInt(option(args, "port", String.valueOf(DEFAULT_PORT)));
+    numberOfThreads =
+        Integer.parseInt(
+            option(
+                args,
+                "numberOfThreads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    referenceFrontDirectory =
+        option(args, "referenceFrontDirectory", AutoNSGAIIIraceHV.REFERENCE_FRONT_DIRECTORY);
+
+    try (IraceTargetRunnerServer server =
+        new IraceTargetRunnerServer(port, numberOfThreads, referenceFrontDirectory)) {
+      server.serve();
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package org.uma.evolver.meta.builder;
 
+import java.util.List;
+import org.uma.evolver.meta.problem.WarmStartProblem;
+import org.uma.evolver.util.ConsolidatedResultsReader;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
@@ -8,8 +11,10 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
 import org.uma.jmetal.parallel.asynchronous.algorithm.impl.AsynchronousMultiThreadedNSGAII;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
  * Builder for creating asynchronous multi-threaded NSGA-II instances for optimization tasks.
@@ -55,6 +60,12 @@ public class MetaAsyncNSGAIIBuilder {
   /** The mutation probability factor (default: 1.0) */
 private double mutationProbabilityFactor = 1.0  ;
 
+  /** The solutions seeding the initial population (default: none) */
+  private List<DoubleSolution> initialSolutions;
+
+  /** Whether the measured objectives of the initial solutions are reused (default: false) */
+  private boolean reuseObjectives = false;
+
   /**
    * Creates a new builder with the specified problem.
    *
@@ -152,20 +163,47 @@ private double mutationProbabilityFactor = 1.0  ;
     return this;
   }
 
+  /**
+   * Seeds the initial population with the given solutions, typically read from the results of
+   * previous runs with a {@link ConsolidatedResultsReader}; the rest of the population is created
+   * at random. If there are more solutions than the population size, only the first ones are used.
+   *
+   * @param initialSolutions the initial solutions (must not be null)
+   * @param reuseObjectives whether the objective values measured in the previous runs are reused
+   *     instead of evaluating the initial solutions again
+   * @return this builder instance for method chaining
+   * @throws JMetalException if initialSolutions is null
+   * @see WarmStartProblem
+   */
+  public MetaAsyncNSGAIIBuilder setWarmStart(
+      List<DoubleSolution> initialSolutions, boolean reuseObjectives) {
+    Check.notNull(initialSolutions);
+    this.initialSolutions = initialSolutions;
+    this.reuseObjectives = reuseObjectives;
+    return this;
+  }
+
   /**
    * Builds and configures an asynchronous multi-threaded NSGA-II instance.
    *
    * <p>The returned instance is ready for execution with the configured parameters.
    * The algorithm will use the specified number of cores for parallel evaluation
-   * and will terminate after reaching the maximum number of evaluations.</p>
+   * and will terminate after reaching the maximum number of evaluations. If a warm start has been
+   * set, the initial population is seeded from previous runs.</p>
    *
    * @return a fully configured asynchronous NSGA-II instance
    * @throws IllegalStateException if required parameters are not set properly
    */
   public AsynchronousMultiThreadedNSGAII<DoubleSolution> build() {
+    Problem<DoubleSolution> algorithmProblem = problem;
+    if (initialSolutions != null) {
+      algorithmProblem =
+          new WarmStartProblem((DoubleProblem) problem, initialSolutions, reuseObjectives);
+    }
+
     return new AsynchronousMultiThreadedNSGAII<>(
         numberOfCores, 
-        problem, 
+        algorithmProblem, 
         populationSize, 
         crossover, 
         mutation,
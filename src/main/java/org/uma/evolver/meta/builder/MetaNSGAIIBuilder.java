@@ -1,11 +1,20 @@
 package org.uma.evolver.meta.builder;
 
+import java.util.List;
+import java.util.function.Function;
 import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.meta.problem.ActiveSubspaceProblem;
 import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.problem.WarmStartProblem;
+import org.uma.evolver.meta.surrogate.SurrogateScreeningEvaluation;
 import org.uma.evolver.parameter.ParameterSpace;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.util.ConsolidatedResultsReader;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -54,6 +63,24 @@ public class MetaNSGAIIBuilder {
   /** The parameter space */
   private ParameterSpace parameterSpace;
 
+  /** The fraction of the offspring evaluated after surrogate screening (default: 1.0, disabled) */
+  private double surrogateEvaluatedFraction = 1.0;
+
+  /** The surrogate screening evaluation created by the last build, if any */
+  private SurrogateScreeningEvaluation surrogateScreeningEvaluation;
+
+  /** The solutions seeding the initial population (default: none) */
+  private List<DoubleSolution> initialSolutions;
+
+  /** Whether the measured objectives of the initial solutions are reused (default: false) */
+  private boolean reuseObjectives = false;
+
+  /** Whether the active-subspace encoding is used (default: false) */
+  private boolean activeSubspaceEncoding = false;
+
+  /** The active-subspace problem created by the last build, if any */
+  private ActiveSubspaceProblem activeSubspaceProblem;
+
   /**
    * Creates a new builder with the specified meta-optimization problem.
    *
@@ -134,6 +161,92 @@ public class MetaNSGAIIBuilder {
     return this;
   }
 
+  /**
+   * Enables the surrogate-assisted pre-screening of the offspring: once a random forest has been
+   * trained on the evaluated configurations, only the given fraction of each offspring population,
+   * the most promising according to the model, is evaluated.
+   *
+   * @param evaluatedFraction the fraction of the offspring really evaluated (in (0, 1]; 1.0
+   *     disables the screening)
+   * @return this builder instance for method chaining
+   * @throws JMetalException if evaluatedFraction is not in (0, 1]
+   * @see SurrogateScreeningEvaluation
+   */
+  public MetaNSGAIIBuilder setSurrogateScreening(double evaluatedFraction) {
+    Check.that(
+        evaluatedFraction > 0.0 && evaluatedFraction <= 1.0,
+        "The evaluated fraction must be in (0, 1]: " + evaluatedFraction);
+    this.surrogateEvaluatedFraction = evaluatedFraction;
+    return this;
+  }
+
+  /**
+   * Returns the surrogate screening evaluation of the last algorithm built, which reports the
+   * number of saved evaluations.
+   *
+   * @return the surrogate screening evaluation, or {@code null} if the screening is disabled or
+   *     {@link #build()} has not been invoked
+   */
+  public SurrogateScreeningEvaluation surrogateScreeningEvaluation() {
+    return surrogateScreeningEvaluation;
+  }
+
+  /**
+   * Seeds the initial population with the given solutions, typically read from the results of
+   * previous runs with a {@link ConsolidatedResultsReader}; the rest of the population is created
+   * at random. If there are more solutions than the population size, only the first ones are used.
+   *
+   * @param initialSolutions the initial solutions (must not be null)
+   * @param reuseObjectives whether the objective values measured in the previous runs are reused
+   *     instead of evaluating the initial solutions again
+   * @return this builder instance for method chaining
+   * @throws JMetalException if initialSolutions is null
+   * @see WarmStartProblem
+   */
+  public MetaNSGAIIBuilder setWarmStart(
+      List<DoubleSolution> initialSolutions, boolean reuseObjectives) {
+    Check.notNull(initialSolutions);
+    this.initialSolutions = initialSolutions;
+    this.reuseObjectives = reuseObjectives;
+    return this;
+  }
+
+  /**
+   * Enables the active-subspace encoding: the configurations are repaired into a canonical
+   * encoding in which only the variables of the active parameters matter, a configuration already
+   * evaluated is not evaluated again, and the mutation only changes active variables. The
+   * parameter space must include the {@code arrayPolynomial} mutation, as
+   * NSGAIIDoubleArrayOperators.yaml does.
+   *
+   * @param activeSubspaceEncoding whether the active-subspace encoding is used
+   * @return this builder instance for method chaining
+   * @throws JMetalException if the encoding is enabled and the parameter space does not include
+   *     the arrayPolynomial mutation
+   * @see ActiveSubspaceProblem
+   */
+  public MetaNSGAIIBuilder setActiveSubspaceEncoding(boolean activeSubspaceEncoding) {
+    Check.that(
+        !activeSubspaceEncoding
+            || (parameterSpace.parameters().get("mutation")
+                    instanceof CategoricalParameter mutationParameter
+                && mutationParameter.validValues().contains("arrayPolynomial")),
+        "The active-subspace encoding requires a parameter space including the arrayPolynomial "
+            + "mutation, such as NSGAIIDoubleArrayOperators.yaml");
+    this.activeSubspaceEncoding = activeSubspaceEncoding;
+    return this;
+  }
+
+  /**
+   * Returns the active-subspace problem of the last algorithm built, which reports the number of
+   * duplicated evaluations and the effective dimensionality of the search.
+   *
+   * @return the active-subspace problem, or {@code null} if the encoding is disabled or {@link
+   *     #build()} has not been invoked
+   */
+  public ActiveSubspaceProblem activeSubspaceProblem() {
+    return activeSubspaceProblem;
+  }
+
   /**
    * Builds and configures an NSGA-II instance with the specified parameters.
    *
@@ -142,15 +255,43 @@ public class MetaNSGAIIBuilder {
    *   <li>SBX Crossover (probability=0.9, distribution index=20.0)</li>
    *   <li>Polynomial Mutation (probability=1.0, distribution index=20.0)</li>
    *   <li>Tournament Selection (tournament size=2)</li>
-   *   <li>Multi-threaded evaluation</li>
+   *   <li>Multi-threaded evaluation, pre-screened by a surrogate model if enabled</li>
+   *   <li>Initial population seeded from previous runs if a warm start has been set</li>
+   *   <li>Active-subspace encoding with the arrayPolynomial mutation if enabled</li>
    * </ul>
    *
    * @return a fully configured NSGA-II instance ready for execution
    * @throws JMetalException if the configuration is invalid
    */
   public EvolutionaryAlgorithm<DoubleSolution> build() {
+    // The initial population is seeded from previous runs if a warm start has been set
+    Problem<DoubleSolution> algorithmProblem = problem;
+    if (initialSolutions != null) {
+      algorithmProblem =
+          new WarmStartProblem((DoubleProblem) problem, initialSolutions, reuseObjectives);
+    }
+    activeSubspaceProblem = null;
+    String mutation = "--mutation polynomial --polynomialMutationDistributionIndex 20.0 ";
+    if (activeSubspaceEncoding) {
+      var metaOptimizationProblem = (MetaOptimizationProblem<?>) problem;
+      activeSubspaceProblem =
+          new ActiveSubspaceProblem(
+              (DoubleProblem) algorithmProblem,
+              metaOptimizationProblem.topLevelParameters(),
+              metaOptimizationProblem.parameters());
+      algorithmProblem = activeSubspaceProblem;
+      mutation = "--mutation arrayPolynomial --arrayPolynomialMutationDistributionIndex 20.0 ";
+    }
+
     // Create evaluation
-    var evaluation = new MultiThreadedEvaluation<DoubleSolution>(numberOfCores, problem);
+    Evaluation<DoubleSolution> evaluation =
+        new MultiThreadedEvaluation<DoubleSolution>(numberOfCores, algorithmProblem);
+    surrogateScreeningEvaluation = null;
+    if (surrogateEvaluatedFraction < 1.0) {
+      surrogateScreeningEvaluation =
+          new SurrogateScreeningEvaluation(evaluation, surrogateEvaluatedFraction);
+      evaluation = surrogateScreeningEvaluation;
+    }
     String[] parameters =
             ("--algorithmResult population "
                     + "--createInitialSolutions default "
@@ -160,16 +301,23 @@ public class MetaNSGAIIBuilder {
                     + "--crossoverProbability 0.9 "
                     + "--crossoverRepairStrategy bounds "
                     + "--sbxDistributionIndex 20.0 "
-                    + "--mutation polynomial "
+                    + mutation
                     + "--mutationProbabilityFactor " + mutationProbabilityFactor + " "
                     + "--mutationRepairStrategy bounds "
-                    + "--polynomialMutationDistributionIndex 20.0 "
                     + "--selection tournament "
                     + "--selectionTournamentSize 2")
                     .split("\\s+");
 
-    var metaNSGAII = new DoubleNSGAII(problem, populationSize, maxEvaluations, parameterSpace);
+    var metaNSGAII =
+        new DoubleNSGAII(algorithmProblem, populationSize, maxEvaluations, parameterSpace);
     metaNSGAII.parse(parameters);
+    if (activeSubspaceProblem != null) {
+      Function<DoubleSolution, int[]> activeVariables = activeSubspaceProblem::activeVariables;
+      metaNSGAII
+          .parameterSpace()
+          .get("mutation")
+          .addNonConfigurableSubParameter("activeVariables", activeVariables);
+    }
 
     EvolutionaryAlgorithm<DoubleSolution> nsgaII = metaNSGAII.build();
     nsgaII.evaluation(evaluation);
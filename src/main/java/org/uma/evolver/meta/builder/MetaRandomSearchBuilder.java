@@ -1,7 +1,11 @@
 package org.uma.evolver.meta.builder;
 
+import java.util.List;
+import org.uma.evolver.meta.problem.WarmStartProblem;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -11,6 +15,8 @@ public class MetaRandomSearchBuilder<S extends Solution<?>> {
     private final Problem<S> problem;
     private int maxEvaluations = 25000;
     private int numberOfCores = 1;
+    private List<S> initialSolutions;
+    private boolean reuseObjectives = false;
 
     public MetaRandomSearchBuilder(Problem<S> problem) {
         this.problem = problem;
@@ -28,7 +34,35 @@ public class MetaRandomSearchBuilder<S extends Solution<?>> {
         return this;
     }
 
+    /**
+     * Evaluates the given solutions, typically read from the results of previous runs, before the
+     * random ones. Only problems with double solutions, such as meta-optimization problems, are
+     * supported.
+     *
+     * @see WarmStartProblem
+     */
+    public MetaRandomSearchBuilder<S> setWarmStart(
+        List<S> initialSolutions, boolean reuseObjectives) {
+        Check.notNull(initialSolutions);
+        Check.that(
+            problem instanceof DoubleProblem,
+            "The warm start requires a problem with double solutions");
+        this.initialSolutions = initialSolutions;
+        this.reuseObjectives = reuseObjectives;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
     public RandomSearch<S> build() {
-        return new RandomSearch<>(problem, maxEvaluations, numberOfCores);
+        Problem<S> algorithmProblem = problem;
+        if (initialSolutions != null) {
+            algorithmProblem =
+                (Problem<S>)
+                    new WarmStartProblem(
+                        (DoubleProblem) problem,
+                        (List<DoubleSolution>) initialSolutions,
+                        reuseObjectives);
+        }
+        return new RandomSearch<>(algorithmProblem, maxEvaluations, numberOfCores);
     }
 }
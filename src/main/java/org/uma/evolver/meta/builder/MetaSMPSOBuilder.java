@@ -1,6 +1,9 @@
 package org.uma.evolver.meta.builder;
 
+import java.util.List;
 import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.problem.WarmStartProblem;
+import org.uma.evolver.util.ConsolidatedResultsReader;
 import org.uma.jmetal.component.algorithm.ParticleSwarmOptimizationAlgorithm;
 import org.uma.jmetal.component.algorithm.multiobjective.SMPSOBuilder;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
@@ -51,6 +54,12 @@ public class MetaSMPSOBuilder {
   /** The number of cores to use for parallel evaluation (default: available processors) */
   private int numberOfCores = Runtime.getRuntime().availableProcessors();
 
+  /** The solutions seeding the initial swarm (default: none) */
+  private List<DoubleSolution> initialSolutions;
+
+  /** Whether the measured objectives of the initial solutions are reused (default: false) */
+  private boolean reuseObjectives = false;
+
   /**
    * Creates a new builder with the specified meta-optimization problem.
    *
@@ -101,6 +110,26 @@ public class MetaSMPSOBuilder {
     return this;
   }
 
+  /**
+   * Seeds the initial swarm with the given solutions, typically read from the results of
+   * previous runs with a {@link ConsolidatedResultsReader}; the rest of the swarm is created at
+   * random. If there are more solutions than the swarm size, only the first ones are used.
+   *
+   * @param initialSolutions the initial solutions (must not be null)
+   * @param reuseObjectives whether the objective values measured in the previous runs are reused
+   *     instead of evaluating the initial solutions again
+   * @return this builder instance for method chaining
+   * @throws JMetalException if initialSolutions is null
+   * @see WarmStartProblem
+   */
+  public MetaSMPSOBuilder setWarmStart(
+      List<DoubleSolution> initialSolutions, boolean reuseObjectives) {
+    Check.notNull(initialSolutions);
+    this.initialSolutions = initialSolutions;
+    this.reuseObjectives = reuseObjectives;
+    return this;
+  }
+
   /**
    * Builds and configures an SMPSO instance with the specified parameters.
    *
@@ -119,10 +148,17 @@ public class MetaSMPSOBuilder {
   public ParticleSwarmOptimizationAlgorithm build() {
     Check.that(problem instanceof DoubleProblem, "SMPSO requires a DoubleProblem");
     
-    var evaluation = new MultiThreadedEvaluation<DoubleSolution>(numberOfCores, problem);
+    // The initial swarm is seeded from previous runs if a warm start has been set
+    Problem<DoubleSolution> algorithmProblem = problem;
+    if (initialSolutions != null) {
+      algorithmProblem =
+          new WarmStartProblem((DoubleProblem) problem, initialSolutions, reuseObjectives);
+    }
+
+    var evaluation = new MultiThreadedEvaluation<DoubleSolution>(numberOfCores, algorithmProblem);
     Termination termination = new TerminationByEvaluations(maxEvaluations);
 
-    return new SMPSOBuilder((DoubleProblem) problem, swarmSize)
+    return new SMPSOBuilder((DoubleProblem) algorithmProblem, swarmSize)
         .setTermination(termination)
         .setEvaluation(evaluation)
         .build();
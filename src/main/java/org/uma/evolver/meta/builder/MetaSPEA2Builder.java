@@ -1,13 +1,17 @@
 package org.uma.evolver.meta.builder;
 
+import java.util.List;
 import org.uma.evolver.algorithm.rdemoea.DoubleRDEMOEA;
 import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.problem.WarmStartProblem;
 import org.uma.evolver.parameter.ParameterSpace;
 import org.uma.evolver.parameter.factory.DoubleParameterFactory;
 import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.evolver.util.ConsolidatedResultsReader;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -56,6 +60,12 @@ public class MetaSPEA2Builder {
   /** The parameter space */
   private ParameterSpace parameterSpace;
 
+  /** The solutions seeding the initial population (default: none) */
+  private List<DoubleSolution> initialSolutions;
+
+  /** Whether the measured objectives of the initial solutions are reused (default: false) */
+  private boolean reuseObjectives = false;
+
   /**
    * Creates a new builder with the specified meta-optimization problem.
    *
@@ -133,6 +143,26 @@ public class MetaSPEA2Builder {
     return this;
   }
 
+  /**
+   * Seeds the initial population with the given solutions, typically read from the results of
+   * previous runs with a {@link ConsolidatedResultsReader}; the rest of the population is created
+   * at random. If there are more solutions than the population size, only the first ones are used.
+   *
+   * @param initialSolutions the initial solutions (must not be null)
+   * @param reuseObjectives whether the objective values measured in the previous runs are reused
+   *     instead of evaluating the initial solutions again
+   * @return this builder instance for method chaining
+   * @throws JMetalException if initialSolutions is null
+   * @see WarmStartProblem
+   */
+  public MetaSPEA2Builder setWarmStart(
+      List<DoubleSolution> initialSolutions, boolean reuseObjectives) {
+    Check.notNull(initialSolutions);
+    this.initialSolutions = initialSolutions;
+    this.reuseObjectives = reuseObjectives;
+    return this;
+  }
+
   /**
    * Builds and configures a SPEA2 instance with the specified parameters.
    *
@@ -144,14 +174,22 @@ public class MetaSPEA2Builder {
    *   <li>KNN density estimator (k=1)</li>
    *   <li>Tournament Selection (tournament size=2)</li>
    *   <li>Multi-threaded evaluation</li>
+   *   <li>Initial population seeded from previous runs if a warm start has been set</li>
    * </ul>
    *
    * @return a fully configured SPEA2 instance ready for execution
    * @throws JMetalException if the configuration is invalid
    */
   public EvolutionaryAlgorithm<DoubleSolution> build() {
+    // The initial population is seeded from previous runs if a warm start has been set
+    Problem<DoubleSolution> algorithmProblem = problem;
+    if (initialSolutions != null) {
+      algorithmProblem =
+          new WarmStartProblem((DoubleProblem) problem, initialSolutions, reuseObjectives);
+    }
+
     // Create evaluation
-    var evaluation = new MultiThreadedEvaluation<DoubleSolution>(numberOfCores, problem);
+    var evaluation = new MultiThreadedEvaluation<DoubleSolution>(numberOfCores, algorithmProblem);
 
     String[] parameters =
             ("--algorithmResult population "
@@ -176,7 +214,8 @@ public class MetaSPEA2Builder {
                     + "--removalPolicy sequential")
                     .split("\\s+");
 
-    var metaSPEA2 =  new DoubleRDEMOEA(problem, populationSize, maxEvaluations, parameterSpace);
+    var metaSPEA2 =
+        new DoubleRDEMOEA(algorithmProblem, populationSize, maxEvaluations, parameterSpace);
     metaSPEA2.parse(parameters);
 
     EvolutionaryAlgorithm<DoubleSolution> spea2 = metaSPEA2.build();
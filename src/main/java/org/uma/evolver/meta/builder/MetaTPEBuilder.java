@@ -0,0 +1,177 @@
+package org.uma.evolver.meta.builder;
+
+import java.util.List;
+import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.problem.WarmStartProblem;
+import org.uma.evolver.util.ConsolidatedResultsReader;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Builder for {@link MultiObjectiveTPE}, a model-based meta-optimizer that exploits the conditional
+ * structure of the parameter space of a {@link MetaOptimizationProblem}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * MultiObjectiveTPE tpe = new MetaTPEBuilder(metaOptimizationProblem)
+ *     .setMaxEvaluations(300)
+ *     .setNumberOfCores(8)
+ *     .build();
+ * tpe.run();
+ * }</pre>
+ * </p>
+ */
+public class MetaTPEBuilder {
+  /** The problem to be solved */
+  private final MetaOptimizationProblem<?> problem;
+
+  /** The maximum number of evaluations (default: 300) */
+  private int maxEvaluations = 300;
+
+  /** The number of configurations evaluated in parallel (default: available processors) */
+  private int numberOfCores = Runtime.getRuntime().availableProcessors();
+
+  /** The number of random configurations evaluated before using the model (default: 30) */
+  private int numberOfStartupEvaluations = 30;
+
+  /** The fraction of configurations in the good group (default: 0.25) */
+  private double gamma = 0.25;
+
+  /** The number of candidates sampled per suggestion (default: 24) */
+  private int numberOfCandidates = 24;
+
+  /** The solutions replacing the first start-up configurations (default: none) */
+  private List<DoubleSolution> initialSolutions;
+
+  /** Whether the measured objectives of the initial solutions are reused (default: false) */
+  private boolean reuseObjectives = false;
+
+  /**
+   * Creates a new builder with the specified meta-optimization problem.
+   *
+   * @param problem the meta-optimization problem to be solved (must not be null)
+   * @throws JMetalException if the problem is null
+   */
+  public MetaTPEBuilder(MetaOptimizationProblem<?> problem) {
+    Check.notNull(problem);
+    this.problem = problem;
+  }
+
+  /**
+   * Sets the number of configurations to evaluate.
+   *
+   * @param maxEvaluations the maximum number of evaluations (must be positive)
+   * @return this builder instance for method chaining
+   * @throws JMetalException if maxEvaluations is not positive
+   */
+  public MetaTPEBuilder setMaxEvaluations(int maxEvaluations) {
+    Check.that(maxEvaluations > 0, "The number of evaluations must be positive: " + maxEvaluations);
+    this.maxEvaluations = maxEvaluations;
+    return this;
+  }
+
+  /**
+   * Sets the number of configurations evaluated in parallel, each by an asynchronous worker.
+   *
+   * @param numberOfCores the number of CPU cores to use (must be positive)
+   * @return this builder instance for method chaining
+   * @throws JMetalException if numberOfCores is not positive
+   */
+  public MetaTPEBuilder setNumberOfCores(int numberOfCores) {
+    Check.that(numberOfCores > 0, "The number of cores must be positive: " + numberOfCores);
+    this.numberOfCores = numberOfCores;
+    return this;
+  }
+
+  /**
+   * Sets the number of random configurations evaluated before the suggestions of the model.
+   *
+   * @param numberOfStartupEvaluations the number of start-up evaluations (must be positive)
+   * @return this builder instance for method chaining
+   * @throws JMetalException if numberOfStartupEvaluations is not positive
+   */
+  public MetaTPEBuilder setNumberOfStartupEvaluations(int numberOfStartupEvaluations) {
+    Check.that(
+        numberOfStartupEvaluations > 0,
+        "The number of start-up evaluations must be positive: " + numberOfStartupEvaluations);
+    this.numberOfStartupEvaluations = numberOfStartupEvaluations;
+    return this;
+  }
+
+  /**
+   * Sets the fraction of the evaluated configurations used to build the density of the good ones.
+   *
+   * @param gamma the fraction (in (0, 1))
+   * @return this builder instance for method chaining
+   * @throws JMetalException if gamma is not in (0, 1)
+   */
+  public MetaTPEBuilder setGamma(double gamma) {
+    Check.that(gamma > 0.0 && gamma < 1.0, "Gamma must be in (0, 1): " + gamma);
+    this.gamma = gamma;
+    return this;
+  }
+
+  /**
+   * Sets the number of candidates sampled from the density of the good configurations to suggest
+   * each new one.
+   *
+   * @param numberOfCandidates the number of candidates (must be positive)
+   * @return this builder instance for method chaining
+   * @throws JMetalException if numberOfCandidates is not positive
+   */
+  public MetaTPEBuilder setNumberOfCandidates(int numberOfCandidates) {
+    Check.that(
+        numberOfCandidates > 0,
+        "The number of candidates must be positive: " + numberOfCandidates);
+    this.numberOfCandidates = numberOfCandidates;
+    return this;
+  }
+
+  /**
+   * Evaluates the given solutions, typically read from the results of previous runs with a {@link
+   * ConsolidatedResultsReader}, instead of the first random start-up configurations. If there are
+   * more solutions than start-up evaluations, only the first ones are used, as the configurations
+   * suggested afterwards are sampled from the model.
+   *
+   * @param initialSolutions the initial solutions (must not be null)
+   * @param reuseObjectives whether the objective values measured in the previous runs are reused
+   *     instead of evaluating the initial solutions again
+   * @return this builder instance for method chaining
+   * @throws JMetalException if initialSolutions is null
+   * @see WarmStartProblem
+   */
+  public MetaTPEBuilder setWarmStart(
+      List<DoubleSolution> initialSolutions, boolean reuseObjectives) {
+    Check.notNull(initialSolutions);
+    this.initialSolutions = initialSolutions;
+    this.reuseObjectives = reuseObjectives;
+    return this;
+  }
+
+  /**
+   * Builds the meta-optimizer.
+   *
+   * @return a configured {@link MultiObjectiveTPE} instance
+   */
+  public MultiObjectiveTPE build() {
+    Problem<DoubleSolution> algorithmProblem = problem;
+    if (initialSolutions != null) {
+      int numberOfInitialSolutions =
+          Math.min(initialSolutions.size(), numberOfStartupEvaluations);
+      algorithmProblem =
+          new WarmStartProblem(
+              problem, initialSolutions.subList(0, numberOfInitialSolutions), reuseObjectives);
+    }
+
+    return new MultiObjectiveTPE(
+        algorithmProblem,
+        problem.topLevelParameters(),
+        maxEvaluations,
+        numberOfCores,
+        numberOfStartupEvaluations,
+        gamma,
+        numberOfCandidates);
+  }
+}
@@ -0,0 +1,588 @@
+package org.uma.evolver.meta.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.uma.evolver.parameter.ActivationGraph;
+import org.uma.evolver.parameter.Parameter;
+import org.uma.evolver.parameter.ParameterManagement;
+import org.uma.evolver.parameter.type.BooleanParameter;
+import org.uma.evolver.parameter.type.CategoricalIntegerParameter;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.util.dominance.KernelNonDominatedSortRanking;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Multi-objective Tree-structured Parzen Estimator (MOTPE), a model-based meta-optimizer that
+ * needs far fewer meta-evaluations than the population-based ones.
+ *
+ * <p>The algorithm works on the encoding of {@code MetaOptimizationProblem}: one variable in [0, 1]
+ * per parameter of the flattened parameter space. After a number of random start-up
+ * configurations, each new configuration is suggested as follows:
+ *
+ * <ol>
+ *   <li>The evaluated configurations are split into a good group, the best {@code gamma} fraction
+ *       according to their non-dominated rank and crowding distance, and a bad group with the rest.
+ *   <li>For each parameter, two univariate Parzen estimators, {@code l(x)} and {@code g(x)}, are
+ *       built from the values of the parameter in the good and bad configurations <em>in which it
+ *       is active</em>. Categorical, categorical integer and boolean parameters use smoothed
+ *       category frequencies, and numerical parameters use mixtures of Gaussians truncated to [0,
+ *       1]; both include a uniform prior.
+ *   <li>A number of candidates are sampled from the {@code l} estimators, and the one maximizing
+ *       the sum of {@code log l(x) - log g(x)} over its active parameters is suggested.
+ * </ol>
+ *
+ * <p>The active parameters are derived from the conditional structure of the top-level parameters
+ * of the parameter space, compiled once into an {@link ActivationGraph}, so the value of a
+ * parameter does not influence the model when it is ignored by the configuration (e.g., the SBX
+ * distribution index of a configuration using BLX-alpha crossover).
+ *
+ * <p>The suggestions are asynchronous: each of {@code numberOfCores} workers asks for a new
+ * configuration as soon as its previous evaluation finishes. The configurations being evaluated by
+ * other workers are added to the bad group ("constant liar"), so simultaneous suggestions are
+ * pushed apart. The result is the set of non-dominated configurations evaluated, and the observers
+ * receive the same data as those of {@link RandomSearch} after each evaluation.
+ *
+ * @see MetaTPEBuilder
+ */
+public class MultiObjectiveTPE implements Algorithm<List<DoubleSolution>> {
+  private static final double PRIOR_WEIGHT = 1.0;
+
+  private final Problem<DoubleSolution> problem;
+  private final List<Parameter<?>> parameters;
+  private final ActivationGraph activationGraph;
+  private final int maxEvaluations;
+  private final int numberOfCores;
+  private final int numberOfStartupEvaluations;
+  private final double gamma;
+  private final int numberOfCandidates;
+
+  private final List<DoubleSolution> evaluatedSolutions = new ArrayList<>();
+  private final List<long[]> activeParameters = new ArrayList<>();
+  private final Set<DoubleSolution> pendingSolutions =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+  private final NonDominatedSolutionListArchive<DoubleSolution> nonDominatedArchive =
+      new NonDominatedSolutionListArchive<>();
+  private final Observable<Map<String, Object>> observable =
+      new DefaultObservable<>("MOTPE Observable");
+  private long startTime;
+  private long totalComputingTime;
+
+  /**
+   * Creates the algorithm.
+   *
+   * @param problem the problem, whose variables encode the flattened parameters
+   * @param topLevelParameters the top-level parameters of the parameter space
+   * @param maxEvaluations the number of configurations to evaluate (must be positive)
+   * @param numberOfCores the number of configurations evaluated in parallel (must be positive)
+   * @param numberOfStartupEvaluations the number of random configurations evaluated before using
+   *     the model (must be positive)
+   * @param gamma the fraction of configurations in the good group (in (0, 1))
+   * @param numberOfCandidates the number of candidates sampled to suggest a configuration (must be
+   *     positive)
+   */
+  public MultiObjectiveTPE(
+      Problem<DoubleSolution> problem,
+      List<Parameter<?>> topLevelParameters,
+      int maxEvaluations,
+      int numberOfCores,
+      int numberOfStartupEvaluations,
+      double gamma,
+      int numberOfCandidates) {
+    Check.notNull(problem);
+    Check.notNull(topLevelParameters);
+    Check.that(maxEvaluations > 0, "The number of evaluations must be positive: " + maxEvaluations);
+    Check.that(numberOfCores > 0, "The number of cores must be positive: " + numberOfCores);
+    Check.that(
+        numberOfStartupEvaluations > 0,
+        "The number of start-up evaluations must be positive: " + numberOfStartupEvaluations);
+    Check.that(gamma > 0.0 && gamma < 1.0, "Gamma must be in (0, 1): " + gamma);
+    Check.that(
+        numberOfCandidates > 0,
+        "The number of candidates must be positive: " + numberOfCandidates);
+
+    this.problem = problem;
+    this.parameters = ParameterManagement.parameterFlattening(topLevelParameters);
+    this.activationGraph = new ActivationGraph(topLevelParameters, parameters);
+    this.maxEvaluations = maxEvaluations;
+    this.numberOfCores = numberOfCores;
+    this.numberOfStartupEvaluations = numberOfStartupEvaluations;
+    this.gamma = gamma;
+    this.numberOfCandidates = numberOfCandidates;
+
+    Check.that(
+        parameters.size() == problem.numberOfVariables(),
+        "The number of variables of the problem ("
+            + problem.numberOfVariables()
+            + ") does not match the number of parameters ("
+            + parameters.size()
+            + ")");
+  }
+
+  public int maxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int numberOfCores() {
+    return numberOfCores;
+  }
+
+  public Observable<Map<String, Object>> observable() {
+    return observable;
+  }
+
+  /**
+   * Returns the computing time of the last run.
+   *
+   * @return the computing time in milliseconds
+   */
+  public long totalComputingTime() {
+    return totalComputingTime;
+  }
+
+  /**
+   * Returns all the configurations evaluated so far, in the order in which their evaluations
+   * finished.
+   *
+   * @return a copy of the list of evaluated configurations
+   */
+  public synchronized List<DoubleSolution> evaluatedSolutions() {
+    return new ArrayList<>(evaluatedSolutions);
+  }
+
+  @Override
+  public void run() {
+    AtomicInteger issuedEvaluations;
+    ExecutorService executor;
+    List<Future<?>> workers;
+
+    startTime = System.currentTimeMillis();
+    issuedEvaluations = new AtomicInteger(0);
+    executor = Executors.newFixedThreadPool(numberOfCores);
+    workers = new ArrayList<>();
+    for (int i = 0; i < numberOfCores; i++) {
+      workers.add(
+          executor.submit(
+              () -> {
+                while (issuedEvaluations.getAndIncrement() < maxEvaluations) {
+                  DoubleSolution solution;
+
+                  solution = suggest();
+                  problem.evaluate(solution);
+                  register(solution);
+                }
+              }));
+    }
+
+    try {
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("MOTPE interrupted", exception);
+    } catch (ExecutionException exception) {
+      throw new JMetalException("Error evaluating a configuration", exception.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    totalComputingTime = System.currentTimeMillis() - startTime;
+  }
+
+  /** Returns a new configuration to evaluate and records it as pending. */
+  private synchronized DoubleSolution suggest() {
+    DoubleSolution solution;
+
+    solution = problem.createSolution();
+    if (evaluatedSolutions.size() >= numberOfStartupEvaluations) {
+      double[] values;
+
+      values = sampleFromModel();
+      for (int i = 0; i < values.length; i++) {
+        solution.variables().set(i, values[i]);
+      }
+    }
+    pendingSolutions.add(solution);
+
+    return solution;
+  }
+
+  /**
+   * Records an evaluated configuration and notifies the observers. The observers are notified
+   * after releasing the lock of the algorithm, so that the other workers can register their
+   * evaluations and get new suggestions meanwhile; the population they receive is a copy.
+   */
+  private void register(DoubleSolution solution) {
+    Map<String, Object> data = new HashMap<>();
+    synchronized (this) {
+      pendingSolutions.remove(solution);
+      evaluatedSolutions.add(solution);
+      activeParameters.add(activeParameters(solution.variables()));
+      nonDominatedArchive.add(solution);
+
+      data.put("EVALUATIONS", evaluatedSolutions.size());
+      data.put("POPULATION", new ArrayList<>(result()));
+      data.put("ALGORITHM_NAME", name());
+      data.put("PROBLEM_NAME", problem.name());
+      data.put("COMPUTING_TIME", System.currentTimeMillis() - startTime);
+    }
+
+    synchronized (observable) {
+      observable.setChanged();
+      observable.notifyObservers(data);
+    }
+  }
+
+  private long[] activeParameters(List<Double> values) {
+    return activationGraph.activeSet(values);
+  }
+
+  private double[] sampleFromModel() {
+    boolean[] good;
+    List<List<Double>> goodValues;
+    List<List<Double>> badValues;
+    ParzenEstimator[] goodEstimators;
+    ParzenEstimator[] badEstimators;
+    double[] bestCandidate;
+    double bestScore;
+    JMetalRandom random;
+
+    good = splitIntoGoodAndBad();
+    goodValues = new ArrayList<>();
+    badValues = new ArrayList<>();
+    for (int p = 0; p < parameters.size(); p++) {
+      goodValues.add(new ArrayList<>());
+      badValues.add(new ArrayList<>());
+    }
+    for (int i = 0; i < evaluatedSolutions.size(); i++) {
+      List<Double> variables;
+
+      variables = evaluatedSolutions.get(i).variables();
+      long[] activeSet = activeParameters.get(i);
+      for (int p = ActivationGraph.nextActive(activeSet, 0); p >= 0;
+          p = ActivationGraph.nextActive(activeSet, p + 1)) {
+        (good[i] ? goodValues : badValues).get(p).add(variables.get(p));
+      }
+    }
+    for (DoubleSolution pending : pendingSolutions) {
+      long[] activeSet = activeParameters(pending.variables());
+      for (int p = ActivationGraph.nextActive(activeSet, 0); p >= 0;
+          p = ActivationGraph.nextActive(activeSet, p + 1)) {
+        badValues.get(p).add(pending.variables().get(p));
+      }
+    }
+
+    goodEstimators = new ParzenEstimator[parameters.size()];
+    badEstimators = new ParzenEstimator[parameters.size()];
+    for (int p = 0; p < parameters.size(); p++) {
+      goodEstimators[p] = createEstimator(parameters.get(p), goodValues.get(p));
+      badEstimators[p] = createEstimator(parameters.get(p), badValues.get(p));
+    }
+
+    random = JMetalRandom.getInstance();
+    bestCandidate = null;
+    bestScore = Double.NEGATIVE_INFINITY;
+    for (int c = 0; c < numberOfCandidates; c++) {
+      double[] candidate;
+      List<Double> candidateValues;
+      double score;
+
+      candidate = new double[parameters.size()];
+      candidateValues = new ArrayList<>(parameters.size());
+      for (int p = 0; p < parameters.size(); p++) {
+        candidate[p] = goodEstimators[p].sample(random);
+        candidateValues.add(candidate[p]);
+      }
+
+      score = 0.0;
+      long[] activeSet = activeParameters(candidateValues);
+      for (int p = ActivationGraph.nextActive(activeSet, 0); p >= 0;
+          p = ActivationGraph.nextActive(activeSet, p + 1)) {
+        score +=
+            Math.log(goodEstimators[p].density(candidate[p]))
+                - Math.log(badEstimators[p].density(candidate[p]));
+      }
+      if (score > bestScore) {
+        bestScore = score;
+        bestCandidate = candidate;
+      }
+    }
+
+    return bestCandidate;
+  }
+
+  /**
+   * Marks the best {@code gamma} fraction of the evaluated configurations, taking whole fronts of
+   * the non-dominated sorting and then the most isolated configurations of the first front that
+   * does not fit.
+   */
+  private boolean[] splitIntoGoodAndBad() {
+    List<DoubleSolution> solutions;
+    KernelNonDominatedSortRanking<DoubleSolution> ranking;
+    Map<DoubleSolution, Integer> indices;
+    int numberOfGood;
+    boolean[] result;
+    int selected;
+
+    solutions = new ArrayList<>(evaluatedSolutions.size());
+    indices = new IdentityHashMap<>();
+    for (int i = 0; i < evaluatedSolutions.size(); i++) {
+      DoubleSolution copy;
+
+      copy = (DoubleSolution) evaluatedSolutions.get(i).copy();
+      solutions.add(copy);
+      indices.put(copy, i);
+    }
+
+    numberOfGood = Math.max(1, (int) Math.ceil(gamma * solutions.size()));
+    ranking = new KernelNonDominatedSortRanking<>();
+    ranking.compute(solutions);
+    result = new boolean[solutions.size()];
+    selected = 0;
+    for (int rank = 0; selected < numberOfGood; rank++) {
+      List<DoubleSolution> front;
+
+      front = new ArrayList<>(ranking.getSubFront(rank));
+      if (selected + front.size() > numberOfGood) {
+        CrowdingDistanceDensityEstimator<DoubleSolution> crowdingDistance;
+
+        crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+        crowdingDistance.compute(front);
+        front.sort(
+            Comparator.comparing(
+                (DoubleSolution solution) -> crowdingDistance.value(solution),
+                Comparator.reverseOrder()));
+      }
+      for (int i = 0; i < front.size() && selected < numberOfGood; i++) {
+        result[indices.get(front.get(i))] = true;
+        selected++;
+      }
+    }
+
+    return result;
+  }
+
+  private static ParzenEstimator createEstimator(Parameter<?> parameter, List<Double> values) {
+    ParzenEstimator result;
+
+    if (parameter instanceof CategoricalParameter categoricalParameter) {
+      result = new CategoricalEstimator(categoricalParameter.validValues().size(), values);
+    } else if (parameter instanceof CategoricalIntegerParameter categoricalParameter) {
+      result = new CategoricalEstimator(categoricalParameter.validValues().size(), values);
+    } else if (parameter instanceof BooleanParameter) {
+      result = new CategoricalEstimator(2, values);
+    } else {
+      result = new NumericalEstimator(values);
+    }
+
+    return result;
+  }
+
+  @Override
+  public List<DoubleSolution> result() {
+    return nonDominatedArchive.solutions();
+  }
+
+  @Override
+  public String name() {
+    return "MOTPE";
+  }
+
+  @Override
+  public String description() {
+    return "Multi-objective Tree-structured Parzen Estimator";
+  }
+
+  /** Univariate density estimator of the encoded values of a parameter. */
+  private interface ParzenEstimator {
+    double sample(JMetalRandom random);
+
+    double density(double value);
+  }
+
+  /**
+   * Estimator of a parameter whose encoded value selects one of {@code k} categories, as decoded
+   * by {@link ParameterManagement#decodeParameter}. Sampled values are the centres of the
+   * categories.
+   */
+  private static final class CategoricalEstimator implements ParzenEstimator {
+    private final double[] probabilities;
+
+    CategoricalEstimator(int numberOfCategories, List<Double> values) {
+      probabilities = new double[numberOfCategories];
+      for (double value : values) {
+        probabilities[category(value)] += 1.0;
+      }
+      for (int k = 0; k < numberOfCategories; k++) {
+        probabilities[k] =
+            (probabilities[k] + PRIOR_WEIGHT / numberOfCategories) / (values.size() + PRIOR_WEIGHT);
+      }
+    }
+
+    private int category(double value) {
+      return Math.min(probabilities.length - 1, (int) Math.floor(value * probabilities.length));
+    }
+
+    @Override
+    public double sample(JMetalRandom random) {
+      double threshold;
+      int k;
+
+      threshold = random.nextDouble();
+      k = 0;
+      while (k < probabilities.length - 1 && threshold >= probabilities[k]) {
+        threshold -= probabilities[k];
+        k++;
+      }
+
+      return (k + 0.5) / probabilities.length;
+    }
+
+    @Override
+    public double density(double value) {
+      return probabilities[category(value)];
+    }
+  }
+
+  /**
+   * Mixture of Gaussians truncated to [0, 1], one per observed value plus a wide prior centred at
+   * 0.5, with the bandwidths of Hyperopt: the distance of each value to its farthest neighbour,
+   * bounded by {@code [1 / min(100, n + 1), 1]}.
+   */
+  private static final class NumericalEstimator implements ParzenEstimator {
+    private final double[] means;
+    private final double[] sigmas;
+    private final double[] weights;
+    private final double[] normalizations;
+
+    NumericalEstimator(List<Double> values) {
+      int n;
+      double minimumSigma;
+      Integer[] order;
+
+      n = values.size() + 1;
+      means = new double[n];
+      sigmas = new double[n];
+      weights = new double[n];
+      normalizations = new double[n];
+      for (int i = 0; i < values.size(); i++) {
+        means[i] = values.get(i);
+        weights[i] = 1.0 / (values.size() + PRIOR_WEIGHT);
+      }
+      means[n - 1] = 0.5;
+      weights[n - 1] = PRIOR_WEIGHT / (values.size() + PRIOR_WEIGHT);
+
+      order = new Integer[n];
+      for (int i = 0; i < n; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingDouble(i -> means[i]));
+      minimumSigma = 1.0 / Math.min(100.0, n);
+      for (int j = 0; j < n; j++) {
+        int i;
+        double left;
+        double right;
+
+        i = order[j];
+        left = j > 0 ? means[i] - means[order[j - 1]] : means[i];
+        right = j < n - 1 ? means[order[j + 1]] - means[i] : 1.0 - means[i];
+        sigmas[i] = Math.min(1.0, Math.max(minimumSigma, Math.max(left, right)));
+      }
+      sigmas[n - 1] = 1.0;
+
+      for (int i = 0; i < n; i++) {
+        normalizations[i] =
+            normalCdf((1.0 - means[i]) / sigmas[i]) - normalCdf(-means[i] / sigmas[i]);
+      }
+    }
+
+    @Override
+    public double sample(JMetalRandom random) {
+      double threshold;
+      int i;
+      double value;
+
+      threshold = random.nextDouble();
+      i = 0;
+      while (i < weights.length - 1 && threshold >= weights[i]) {
+        threshold -= weights[i];
+        i++;
+      }
+
+      // Rejection sampling of the truncated Gaussian; at least a third of the draws are accepted
+      do {
+        value = means[i] + sigmas[i] * gaussian(random);
+      } while (value < 0.0 || value > 1.0);
+
+      return value;
+    }
+
+    @Override
+    public double density(double value) {
+      double result;
+
+      result = 0.0;
+      for (int i = 0; i < means.length; i++) {
+        double z;
+
+        z = (value - means[i]) / sigmas[i];
+        result +=
+            weights[i] * Math.exp(-0.5 * z * z) / (Math.sqrt(2.0 * Math.PI) * sigmas[i])
+                / normalizations[i];
+      }
+
+      return result;
+    }
+
+    private static double gaussian(JMetalRandom random) {
+      double u;
+      double v;
+
+      // Box-Muller transform
+      u = 1.0 - random.nextDouble();
+      v = random.nextDouble();
+
+      return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    /** Standard normal distribution function, with the error function of Abramowitz-Stegun. */
+    private static double normalCdf(double x) {
+      double z;
+      double t;
+      double erf;
+
+      z = Math.abs(x) / Math.sqrt(2.0);
+      t = 1.0 / (1.0 + 0.3275911 * z);
+      erf =
+          1.0
+              - t
+                  * (0.254829592
+                      + t
+                          * (-0.284496736
+                              + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+                  * Math.exp(-z * z);
+
+      return 0.5 * (1.0 + Math.signum(x) * erf);
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package org.uma.evolver.meta.problem;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.uma.evolver.parameter.ActivationGraph;
+import org.uma.evolver.parameter.Parameter;
+import org.uma.evolver.parameter.ParameterManagement;
+import org.uma.evolver.parameter.type.BooleanParameter;
+import org.uma.evolver.parameter.type.DoubleParameter;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Decorator of a meta-optimization problem implementing an active-subspace encoding: every
+ * solution is repaired into the canonical encoding of the configuration it represents before being
+ * evaluated, so that only the variables of the active parameters, those whose parent categorical
+ * parameters select them, carry information.
+ *
+ * <p>The repair is deterministic. The variables of active categorical, integer and boolean
+ * parameters are moved to the center of the interval of their decoded value, and those of inactive
+ * parameters are set to the canonical value of 0.5. Two solutions decoding into the same
+ * configuration are thus identical, and a configuration that has already been evaluated gets the
+ * objectives and the {@link MetaOptimizationProblem#EVALUATED_PROBLEMS_ATTRIBUTE} and {@link
+ * MetaOptimizationProblem#INDEPENDENT_RUNS_ATTRIBUTE} attributes of its first evaluation without
+ * running the base-level algorithm again. A configuration being evaluated by another thread is
+ * waited for instead of being evaluated twice.
+ *
+ * <p>The indices of the active variables of a solution are computed from its current variables by
+ * {@link #activeVariables(DoubleSolution)}, which the {@code arrayPolynomial} mutation takes as its
+ * {@code activeVariables} sub-parameter to only mutate active variables. They are not stored in
+ * the solutions, as an offspring produced by crossover may not have the active variables of the
+ * parent it was copied from.
+ */
+public class ActiveSubspaceProblem implements DoubleProblem {
+  private static final double INACTIVE_VALUE = 0.5;
+  private static final List<String> EVALUATION_ATTRIBUTES =
+      List.of(
+          MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE,
+          MetaOptimizationProblem.INDEPENDENT_RUNS_ATTRIBUTE);
+
+  /** Objectives and evaluation attributes of the first evaluation of a configuration */
+  private record Evaluation(double[] objectives, Map<Object, Object> attributes) {}
+
+  private final DoubleProblem problem;
+  private final List<Parameter<?>> parameters;
+  private final ActivationGraph activationGraph;
+  private final Map<List<Double>, CompletableFuture<Evaluation>> evaluatedConfigurations =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger numberOfEvaluations = new AtomicInteger();
+  private final AtomicInteger numberOfDuplicatedEvaluations = new AtomicInteger();
+  private final AtomicInteger numberOfRepairs = new AtomicInteger();
+  private final AtomicLong numberOfActiveVariables = new AtomicLong();
+
+  /**
+   * Creates the decorator of a meta-optimization problem.
+   *
+   * @param problem the meta-optimization problem
+   */
+  public ActiveSubspaceProblem(MetaOptimizationProblem<?> problem) {
+    this(problem, problem.topLevelParameters(), problem.parameters());
+  }
+
+  /**
+   * Creates the decorator of a problem whose variables encode a parameter tree, such as a {@link
+   * WarmStartProblem} decorating a meta-optimization problem.
+   *
+   * @param problem the decorated problem
+   * @param topLevelParameters the top-level parameters of the tree
+   * @param parameters the flattened parameters, one per variable
+   */
+  public ActiveSubspaceProblem(
+      DoubleProblem problem, List<Parameter<?>> topLevelParameters, List<Parameter<?>> parameters) {
+    Check.notNull(problem);
+    Check.notNull(topLevelParameters);
+    Check.notNull(parameters);
+    Check.that(
+        parameters.size() == problem.numberOfVariables(),
+        "The number of parameters is not the number of variables: " + parameters.size());
+    this.problem = problem;
+    this.parameters = parameters;
+    this.activationGraph = new ActivationGraph(topLevelParameters, parameters);
+  }
+
+  @Override
+  public DoubleSolution createSolution() {
+    return repair(problem.createSolution());
+  }
+
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    repair(solution);
+    numberOfEvaluations.incrementAndGet();
+
+    List<Double> configuration = List.copyOf(solution.variables());
+    CompletableFuture<Evaluation> evaluation = new CompletableFuture<>();
+    CompletableFuture<Evaluation> firstEvaluation =
+        evaluatedConfigurations.putIfAbsent(configuration, evaluation);
+    if (firstEvaluation == null) {
+      evaluate(solution, configuration, evaluation);
+    } else {
+      numberOfDuplicatedEvaluations.incrementAndGet();
+      copy(join(firstEvaluation), solution);
+    }
+
+    return solution;
+  }
+
+  private void evaluate(
+      DoubleSolution solution,
+      List<Double> configuration,
+      CompletableFuture<Evaluation> evaluation) {
+    try {
+      problem.evaluate(solution);
+    } catch (RuntimeException | Error e) {
+      evaluatedConfigurations.remove(configuration, evaluation);
+      evaluation.completeExceptionally(e);
+      throw e;
+    }
+
+    Map<Object, Object> attributes = new HashMap<>();
+    for (String attribute : EVALUATION_ATTRIBUTES) {
+      if (solution.attributes().containsKey(attribute)) {
+        attributes.put(attribute, solution.attributes().get(attribute));
+      }
+    }
+    evaluation.complete(new Evaluation(solution.objectives().clone(), attributes));
+  }
+
+  private static Evaluation join(CompletableFuture<Evaluation> evaluation) {
+    try {
+      return evaluation.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static void copy(Evaluation evaluation, DoubleSolution solution) {
+    double[] objectives = evaluation.objectives();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+    solution.attributes().putAll(evaluation.attributes());
+  }
+
+  /**
+   * Repairs a solution into the canonical encoding of its configuration.
+   *
+   * @param solution the solution to repair
+   * @return the repaired solution
+   */
+  public DoubleSolution repair(DoubleSolution solution) {
+    List<Double> variables = solution.variables();
+    long[] activeSet = activationGraph.activeSet(variables);
+
+    for (int i = 0; i < parameters.size(); i++) {
+      double value = ActivationGraph.isActive(activeSet, i) ? variables.get(i) : INACTIVE_VALUE;
+      variables.set(i, canonicalValue(parameters.get(i), value));
+    }
+    numberOfRepairs.incrementAndGet();
+    numberOfActiveVariables.addAndGet(ActivationGraph.numberOfActiveParameters(activeSet));
+
+    return solution;
+  }
+
+  /**
+   * Returns the indices of the active variables of a solution, computed from its current variables.
+   *
+   * @param solution the solution
+   * @return the sorted indices of the variables of the active parameters
+   */
+  public int[] activeVariables(DoubleSolution solution) {
+    long[] activeSet = activationGraph.activeSet(solution.variables());
+
+    int[] activeVariables = new int[ActivationGraph.numberOfActiveParameters(activeSet)];
+    int numberOfActive = 0;
+    for (int i = ActivationGraph.nextActive(activeSet, 0);
+        i >= 0;
+        i = ActivationGraph.nextActive(activeSet, i + 1)) {
+      activeVariables[numberOfActive++] = i;
+    }
+
+    return activeVariables;
+  }
+
+  private static double canonicalValue(Parameter<?> parameter, double value) {
+    if (parameter instanceof DoubleParameter) {
+      return value;
+    } else if (parameter instanceof BooleanParameter) {
+      return value < 0.5 ? 0.25 : 0.75;
+    }
+
+    return ParameterManagement.encodeParameterFromDoubleValues(
+        parameter, ParameterManagement.decodeParameterToDoubleValues(parameter, value));
+  }
+
+  /**
+   * Returns the number of solutions evaluated, including those whose configuration had already
+   * been evaluated.
+   *
+   * @return the number of evaluations
+   */
+  public int numberOfEvaluations() {
+    return numberOfEvaluations.get();
+  }
+
+  /**
+   * Returns the number of evaluations of configurations that had already been evaluated, which
+   * did not run the base-level algorithm.
+   *
+   * @return the number of duplicated evaluations
+   */
+  public int numberOfDuplicatedEvaluations() {
+    return numberOfDuplicatedEvaluations.get();
+  }
+
+  /**
+   * Returns the mean number of active variables of the repaired solutions, i.e., the effective
+   * dimensionality of the search.
+   *
+   * @return the mean number of active variables, or 0 if no solution has been repaired
+   */
+  public double meanNumberOfActiveVariables() {
+    int repairs = numberOfRepairs.get();
+    return repairs == 0 ? 0.0 : (double) numberOfActiveVariables.get() / repairs;
+  }
+
+  @Override
+  public List<Bounds<Double>> variableBounds() {
+    return problem.variableBounds();
+  }
+
+  @Override
+  public int numberOfVariables() {
+    return problem.numberOfVariables();
+  }
+
+  @Override
+  public int numberOfObjectives() {
+    return problem.numberOfObjectives();
+  }
+
+  @Override
+  public int numberOfConstraints() {
+    return problem.numberOfConstraints();
+  }
+
+  @Override
+  public String name() {
+    return problem.name();
+  }
+}
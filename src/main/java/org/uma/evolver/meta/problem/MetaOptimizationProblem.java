@@ -5,23 +5,38 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 import org.uma.evolver.algorithm.BaseLevelAlgorithm;
+import org.uma.evolver.meta.strategy.AllInstancesStrategy;
 import org.uma.evolver.meta.strategy.EvaluationBudgetStrategy;
+import org.uma.evolver.meta.strategy.FixedRunsStrategy;
+import org.uma.evolver.meta.strategy.IndependentRunsStrategy;
+import org.uma.evolver.meta.strategy.InstanceSamplingStrategy;
+import org.uma.evolver.meta.strategy.SequentialRunsStrategy;
 import org.uma.evolver.parameter.Parameter;
 import org.uma.evolver.parameter.ParameterManagement;
+import org.uma.evolver.parameter.catalogue.TerminationParameter;
 import org.uma.evolver.util.EvaluationsQualityIndicator;
+import org.uma.evolver.util.anytime.AnytimeProfileObserver;
+import org.uma.evolver.util.anytime.AnytimeQualityIndicator;
+import org.uma.evolver.util.dominance.DominanceKernel;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.VectorUtils;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.ObservableEntity;
 
 /**
  * A meta-optimization problem that optimizes the parameters of an optimization
@@ -48,12 +63,34 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * <li>Allows evaluation on multiple problem instances with different
  * characteristics</li>
  * <li>Uses quality indicators to assess algorithm performance</li>
- * <li>Supports multiple independent runs to account for stochasticity</li>
+ * <li>Supports multiple independent runs to account for stochasticity, either
+ * a fixed number or as many as an {@link IndependentRunsStrategy} requires;
+ * the number of runs used is stored in the
+ * {@link #INDEPENDENT_RUNS_ATTRIBUTE} attribute of each solution</li>
  * <li>Provides flexible evaluation budget control through
  * {@link EvaluationBudgetStrategy}</li>
+ * <li>Optionally evaluates each candidate on a subset of the problems through an
+ * {@link InstanceSamplingStrategy}</li>
+ * <li>Assesses the anytime performance of each run at several budgets when
+ * {@link AnytimeQualityIndicator}s are used, by capturing the fronts of the run
+ * at their checkpoints with an {@link AnytimeProfileObserver}; runs of
+ * algorithms that are not observable are assessed with their final front</li>
  * </ul>
  *
  * <p>
+ * When an instance sampling strategy selects a subset of the problems, the
+ * indicator values of the candidate are corrected with the mean indicator
+ * values observed on each problem, so that candidates evaluated on different
+ * subsets can be compared: objective {@code i} is the mean, over the sampled
+ * problems {@code p}, of {@code v[p][i] - mean[p][i]}, plus the mean of
+ * {@code mean[p][i]} over all the problems. The number of problems on which a
+ * solution has been evaluated is stored in its
+ * {@link #EVALUATED_PROBLEMS_ATTRIBUTE} attribute, and
+ * {@link #reevaluateNonDominatedSolutions(List)} re-evaluates on the full
+ * training set only the non-dominated candidates before they are reported.
+ * </p>
+ *
+ * <p>
  * Typical usage involves:
  * </p>
  * <ol>
@@ -71,6 +108,12 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * @see org.uma.jmetal.qualityindicator.QualityIndicator
  */
 public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoubleProblem {
+  /** Attribute storing the number of problems on which a solution has been evaluated. */
+  public static final String EVALUATED_PROBLEMS_ATTRIBUTE = "EvaluatedProblems";
+
+  /** Attribute storing the number of base-level runs performed to evaluate a solution. */
+  public static final String INDEPENDENT_RUNS_ATTRIBUTE = "IndependentRuns";
+
   /** The base algorithm whose parameters are being optimized. */
   private final BaseLevelAlgorithm<S> baseAlgorithm;
 
@@ -92,8 +135,23 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
   /** Original reference fronts for each problem. */
   private final List<double[][]> referenceFronts;
 
-  /** Number of independent runs to perform for each evaluation. */
-  private final int numberOfIndependentRuns;
+  /** Strategy for determining the number of independent runs of each evaluation. */
+  private final IndependentRunsStrategy independentRunsStrategy;
+
+  /** Strategy for selecting the problems on which each candidate is evaluated. */
+  private final InstanceSamplingStrategy instanceSamplingStrategy;
+
+  /** Sum of the indicator values observed on each problem [problemIndex][indicatorIndex]. */
+  private final double[][] instanceIndicatorSums;
+
+  /** Number of evaluations performed on each problem. */
+  private final int[] instanceEvaluationCounts;
+
+  /** Checkpoints of the anytime indicators, in increasing order; empty if there are none. */
+  private final int[] anytimeCheckpoints;
+
+  /** Objective values on the full training set of the re-evaluated configurations. */
+  private final Map<List<Double>, double[]> fullEvaluationCache = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new meta-optimization problem instance.
@@ -130,17 +188,111 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
       List<QualityIndicator> indicators,
       EvaluationBudgetStrategy evaluationBudgetStrategy,
       int numberOfIndependentRuns) {
+    this(
+        baseAlgorithm,
+        problems,
+        referenceFrontFileNames,
+        indicators,
+        evaluationBudgetStrategy,
+        new FixedRunsStrategy(numberOfIndependentRuns),
+        new AllInstancesStrategy());
+  }
+
+  /**
+   * Constructs a new meta-optimization problem instance that evaluates the
+   * candidates on the problems selected by an instance sampling strategy.
+   *
+   * @param baseAlgorithm            the base algorithm whose parameters will be
+   *                                 optimized (must not be null)
+   * @param problems                 the list of problems to evaluate the
+   *                                 algorithm on (must not be null or empty)
+   * @param referenceFrontFileNames  list of file paths containing reference
+   *                                 fronts for each problem
+   * @param indicators               list of quality indicators to evaluate
+   *                                 solutions (must not be null or empty)
+   * @param evaluationBudgetStrategy strategy for determining the evaluation
+   *                                 budget for each problem
+   * @param numberOfIndependentRuns  number of independent runs to perform for
+   *                                 each evaluation
+   * @param instanceSamplingStrategy strategy for selecting the problems on which
+   *                                 each candidate is evaluated (must not be
+   *                                 null)
+   * @see InstanceSamplingStrategy#validate(int)
+   */
+  public MetaOptimizationProblem(
+      BaseLevelAlgorithm<S> baseAlgorithm,
+      List<Problem<S>> problems,
+      List<String> referenceFrontFileNames,
+      List<QualityIndicator> indicators,
+      EvaluationBudgetStrategy evaluationBudgetStrategy,
+      int numberOfIndependentRuns,
+      InstanceSamplingStrategy instanceSamplingStrategy) {
+    this(
+        baseAlgorithm,
+        problems,
+        referenceFrontFileNames,
+        indicators,
+        evaluationBudgetStrategy,
+        new FixedRunsStrategy(numberOfIndependentRuns),
+        instanceSamplingStrategy);
+  }
+
+  /**
+   * Constructs a new meta-optimization problem instance whose number of
+   * independent runs per candidate and problem is decided by a strategy, e.g.,
+   * a {@link SequentialRunsStrategy} that adds runs only while the median
+   * indicator values are not estimated precisely enough.
+   *
+   * @param baseAlgorithm            the base algorithm whose parameters will be
+   *                                 optimized (must not be null)
+   * @param problems                 the list of problems to evaluate the
+   *                                 algorithm on (must not be null or empty)
+   * @param referenceFrontFileNames  list of file paths containing reference
+   *                                 fronts for each problem
+   * @param indicators               list of quality indicators to evaluate
+   *                                 solutions (must not be null or empty)
+   * @param evaluationBudgetStrategy strategy for determining the evaluation
+   *                                 budget for each problem
+   * @param independentRunsStrategy  strategy for determining the number of
+   *                                 independent runs of each evaluation (must
+   *                                 not be null)
+   * @param instanceSamplingStrategy strategy for selecting the problems on which
+   *                                 each candidate is evaluated (must not be
+   *                                 null)
+   * @see InstanceSamplingStrategy#validate(int)
+   */
+  public MetaOptimizationProblem(
+      BaseLevelAlgorithm<S> baseAlgorithm,
+      List<Problem<S>> problems,
+      List<String> referenceFrontFileNames,
+      List<QualityIndicator> indicators,
+      EvaluationBudgetStrategy evaluationBudgetStrategy,
+      IndependentRunsStrategy independentRunsStrategy,
+      InstanceSamplingStrategy instanceSamplingStrategy) {
     Check.notNull(baseAlgorithm);
     Check.notNull(problems);
     Check.notNull(referenceFrontFileNames);
     Check.notNull(indicators);
     Check.notNull(evaluationBudgetStrategy);
+    Check.notNull(independentRunsStrategy);
+    Check.notNull(instanceSamplingStrategy);
 
     this.baseAlgorithm = baseAlgorithm;
     this.problems = new ArrayList<>(problems);
     this.indicators = new ArrayList<>(indicators);
     this.evaluationBudgetStrategy = evaluationBudgetStrategy;
-    this.numberOfIndependentRuns = numberOfIndependentRuns;
+    this.independentRunsStrategy = independentRunsStrategy;
+    this.instanceSamplingStrategy = instanceSamplingStrategy;
+    this.instanceIndicatorSums = new double[problems.size()][indicators.size()];
+    this.instanceEvaluationCounts = new int[problems.size()];
+    this.anytimeCheckpoints =
+        indicators.stream()
+            .filter(AnytimeQualityIndicator.class::isInstance)
+            .map(AnytimeQualityIndicator.class::cast)
+            .flatMapToInt(indicator -> IntStream.of(indicator.checkpoints()))
+            .distinct()
+            .sorted()
+            .toArray();
 
     this.parameters = ParameterManagement.parameterFlattening(baseAlgorithm.parameterSpace().topLevelParameters());
 
@@ -154,6 +306,7 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
     // Validate that the evaluation strategy is compatible with the number of
     // problems
     evaluationBudgetStrategy.validate(problems.size());
+    instanceSamplingStrategy.validate(problems.size());
 
     List<Double> lowerLimit = Collections.nCopies(parameters.size(), 0.0);
     List<Double> upperLimit = Collections.nCopies(parameters.size(), 1.0);
@@ -235,6 +388,16 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
     return evaluationBudgetStrategy;
   }
 
+  /**
+   * Returns the strategy determining the number of independent runs of each
+   * evaluation.
+   *
+   * @return the independent runs strategy
+   */
+  public IndependentRunsStrategy independentRunsStrategy() {
+    return independentRunsStrategy;
+  }
+
   /**
    * Returns the list of parameters being optimized.
    *
@@ -278,12 +441,198 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
   @Override
   public DoubleSolution evaluate(DoubleSolution solution) {
     String[] parameterArray = convertSolutionToParameters(solution);
-    double[][] indicatorValuesPerProblem = computeIndicatorValuesForAllProblems(parameterArray);
+    int[] problemIds = selectProblems();
+    int[] numberOfRuns = new int[problemIds.length];
+    double[][] indicatorValuesPerProblem =
+        computeIndicatorValuesForProblems(parameterArray, problemIds, numberOfRuns);
+    updateInstanceStatistics(problemIds, indicatorValuesPerProblem);
+
+    if (problemIds.length == problems.size()) {
+      updateSolutionWithMeanIndicatorValues(solution, indicatorValuesPerProblem);
+    } else {
+      updateSolutionWithCorrectedIndicatorValues(solution, problemIds, indicatorValuesPerProblem);
+    }
+    solution.attributes().put(EVALUATED_PROBLEMS_ATTRIBUTE, problemIds.length);
+    solution.attributes().put(INDEPENDENT_RUNS_ATTRIBUTE, IntStream.of(numberOfRuns).sum());
+
+    return solution;
+  }
+
+  /**
+   * Evaluates a solution on all the problems of the training set, whatever the
+   * instance sampling strategy.
+   *
+   * @param solution the solution containing the parameter values to evaluate
+   * @return the evaluated solution with objective values set
+   */
+  public DoubleSolution evaluateOnAllProblems(DoubleSolution solution) {
+    String[] parameterArray = convertSolutionToParameters(solution);
+    int[] problemIds = IntStream.range(0, problems.size()).toArray();
+    int[] numberOfRuns = new int[problemIds.length];
+    double[][] indicatorValuesPerProblem =
+        computeIndicatorValuesForProblems(parameterArray, problemIds, numberOfRuns);
+    updateInstanceStatistics(problemIds, indicatorValuesPerProblem);
     updateSolutionWithMeanIndicatorValues(solution, indicatorValuesPerProblem);
+    solution.attributes().put(EVALUATED_PROBLEMS_ATTRIBUTE, problems.size());
+    solution.attributes().put(INDEPENDENT_RUNS_ATTRIBUTE, IntStream.of(numberOfRuns).sum());
 
     return solution;
   }
 
+  /**
+   * Returns the non-dominated solutions of a list after re-evaluating on the full
+   * training set those of them that were evaluated on a subset of the problems.
+   *
+   * <p>
+   * Only non-dominated solutions are re-evaluated; as re-evaluation may change
+   * the dominance relations, the process is repeated until every non-dominated
+   * solution has been evaluated on all the problems. The re-evaluated solutions
+   * are copies, and their objective values are cached, so each configuration is
+   * re-evaluated at most once. Without instance sampling, this method just
+   * returns the non-dominated solutions.
+   * </p>
+   *
+   * @param solutions the solutions, e.g., the result of the meta-optimizer
+   * @return the non-dominated solutions, all of them evaluated on the full
+   *         training set
+   */
+  public List<DoubleSolution> reevaluateNonDominatedSolutions(List<DoubleSolution> solutions) {
+    List<DoubleSolution> pool = new ArrayList<>(solutions);
+    List<DoubleSolution> nonDominated = DominanceKernel.nonDominatedSolutions(pool);
+
+    while (!nonDominated.stream().allMatch(this::isEvaluatedOnAllProblems)) {
+      Set<DoubleSolution> toReevaluate = Collections.newSetFromMap(new IdentityHashMap<>());
+      nonDominated.stream()
+          .filter(solution -> !isEvaluatedOnAllProblems(solution))
+          .forEach(toReevaluate::add);
+      for (int i = 0; i < pool.size(); i++) {
+        if (toReevaluate.contains(pool.get(i))) {
+          pool.set(i, fullyEvaluatedCopy(pool.get(i)));
+        }
+      }
+      nonDominated = DominanceKernel.nonDominatedSolutions(pool);
+    }
+
+    return nonDominated;
+  }
+
+  private boolean isEvaluatedOnAllProblems(DoubleSolution solution) {
+    Object evaluatedProblems = solution.attributes().get(EVALUATED_PROBLEMS_ATTRIBUTE);
+    return evaluatedProblems == null || (Integer) evaluatedProblems >= problems.size();
+  }
+
+  private DoubleSolution fullyEvaluatedCopy(DoubleSolution solution) {
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+    double[] objectives = fullEvaluationCache.computeIfAbsent(
+        List.copyOf(solution.variables()),
+        variables -> evaluateOnAllProblems(copy).objectives().clone());
+    System.arraycopy(objectives, 0, copy.objectives(), 0, objectives.length);
+    copy.attributes().put(EVALUATED_PROBLEMS_ATTRIBUTE, problems.size());
+
+    return copy;
+  }
+
+  /**
+   * Returns the strategy selecting the problems on which each candidate is
+   * evaluated.
+   *
+   * @return the instance sampling strategy
+   */
+  public InstanceSamplingStrategy instanceSamplingStrategy() {
+    return instanceSamplingStrategy;
+  }
+
+  /**
+   * Returns the mean value of each indicator observed on each problem, over all
+   * the evaluations performed so far.
+   *
+   * @return a 2D array [problemIndex][indicatorIndex], with {@code NaN} for the
+   *         problems not evaluated yet
+   */
+  public synchronized double[][] instanceIndicatorMeans() {
+    double[][] means = new double[problems.size()][indicators.size()];
+    for (int p = 0; p < problems.size(); p++) {
+      for (int i = 0; i < indicators.size(); i++) {
+        means[p][i] = instanceEvaluationCounts[p] == 0
+            ? Double.NaN
+            : instanceIndicatorSums[p][i] / instanceEvaluationCounts[p];
+      }
+    }
+    return means;
+  }
+
+  /**
+   * Returns the number of evaluations performed on each problem.
+   *
+   * @return an array with the number of evaluations of each problem
+   */
+  public synchronized int[] instanceEvaluationCounts() {
+    return instanceEvaluationCounts.clone();
+  }
+
+  /**
+   * Selects the problems on which the next candidate is evaluated. All of them
+   * are selected until every problem has been evaluated at least once, so that
+   * the indicator means used to correct subset evaluations are available.
+   *
+   * @return the indices of the selected problems
+   */
+  private int[] selectProblems() {
+    synchronized (this) {
+      for (int count : instanceEvaluationCounts) {
+        if (count == 0) {
+          return IntStream.range(0, problems.size()).toArray();
+        }
+      }
+    }
+    return instanceSamplingStrategy.sampleProblems(problems.size());
+  }
+
+  /**
+   * Adds the indicator values of an evaluation to the statistics of each
+   * evaluated problem.
+   *
+   * @param problemIds                the indices of the evaluated problems
+   * @param indicatorValuesPerProblem the indicator values, one row per evaluated
+   *                                  problem
+   */
+  private synchronized void updateInstanceStatistics(
+      int[] problemIds, double[][] indicatorValuesPerProblem) {
+    for (int k = 0; k < problemIds.length; k++) {
+      instanceEvaluationCounts[problemIds[k]]++;
+      for (int i = 0; i < indicators.size(); i++) {
+        instanceIndicatorSums[problemIds[k]][i] += indicatorValuesPerProblem[k][i];
+      }
+    }
+  }
+
+  /**
+   * Sets the objectives of a solution evaluated on a subset of the problems to
+   * its mean indicator values relative to the means observed on those problems,
+   * shifted by the mean over all the problems.
+   *
+   * @param solution                  the solution to update
+   * @param problemIds                the indices of the evaluated problems
+   * @param indicatorValuesPerProblem the indicator values, one row per evaluated
+   *                                  problem
+   */
+  private void updateSolutionWithCorrectedIndicatorValues(
+      DoubleSolution solution, int[] problemIds, double[][] indicatorValuesPerProblem) {
+    double[][] means = instanceIndicatorMeans();
+
+    for (int i = 0; i < indicators.size(); i++) {
+      double relativeValue = 0.0;
+      for (int k = 0; k < problemIds.length; k++) {
+        relativeValue += indicatorValuesPerProblem[k][i] - means[problemIds[k]][i];
+      }
+      double overallMean = 0.0;
+      for (double[] problemMeans : means) {
+        overallMean += problemMeans[i];
+      }
+      solution.objectives()[i] = relativeValue / problemIds.length + overallMean / means.length;
+    }
+  }
+
   /**
    * Converts a solution's variables into an array of parameter strings.
    *
@@ -298,22 +647,30 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
   }
 
   /**
-   * Computes the indicator values for all problems using the given parameter
-   * settings.
+   * Computes the indicator values for the given problems using the given
+   * parameter settings.
    *
    * @param parameterArray the parameter settings to evaluate
-   * @return a 2D array where each row corresponds to a problem and each column to
-   *         an indicator
+   * @param problemIds     the indices of the problems to evaluate
+   * @param numberOfRuns   array filled with the number of runs performed on
+   *                       each problem of {@code problemIds}
+   * @return a 2D array where each row corresponds to a problem of
+   *         {@code problemIds} and each column to an indicator
    */
-  private double[][] computeIndicatorValuesForAllProblems(String[] parameterArray) {
-    double[][] indicatorValuesPerProblem = new double[problems.size()][indicators.size()];
+  private double[][] computeIndicatorValuesForProblems(
+      String[] parameterArray, int[] problemIds, int[] numberOfRuns) {
+    double[][] indicatorValuesPerProblem = new double[problemIds.length][indicators.size()];
 
-    // Run each problem n independent times
-    IntStream.range(0, problems.size())
+    // Run each problem the number of independent times given by the strategy
+    IntStream.range(0, problemIds.length)
         .forEach(
-            problemId -> {
-              double[] medianIndicatorValues = computeIndependentRuns(parameterArray, problemId);
-              indicatorValuesPerProblem[problemId] = medianIndicatorValues;
+            k -> {
+              double[][] indicatorValues = computeIndependentRuns(parameterArray, problemIds[k]);
+              numberOfRuns[k] = indicatorValues[0].length;
+              indicatorValuesPerProblem[k] =
+                  Arrays.stream(indicatorValues)
+                      .mapToDouble(MetaOptimizationProblem::median)
+                      .toArray();
             });
 
     return indicatorValuesPerProblem;
@@ -353,53 +710,102 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
 
   /**
    * Performs multiple independent runs of the base algorithm with the given
-   * parameters and computes median indicator values.
+   * parameters. The initial number of runs of the independent runs strategy is
+   * performed, and runs are added one at a time while the strategy asks for
+   * more, up to its maximum.
    *
    * @param parameterArray the parameter settings to evaluate
    * @param problemId      the index of the problem to evaluate against
-   * @return array of median indicator values, one for each quality indicator
+   * @return the indicator values of the runs [indicatorIndex][runIndex]
    * @throws JMetalException           if the computed front dimensions don't
    *                                   match the reference front
    * @throws IndexOutOfBoundsException if problemId is out of bounds
    */
-  private double[] computeIndependentRuns(String[] parameterArray, int problemId) {
-    double[][] indicatorValues = new double[indicators.size()][numberOfIndependentRuns];
-
-    for (int runId = 0; runId < numberOfIndependentRuns; runId++) {
+  private double[][] computeIndependentRuns(String[] parameterArray, int problemId) {
+    int maximumNumberOfRuns = independentRunsStrategy.maximumNumberOfRuns();
+    double[][] indicatorValues = new double[indicators.size()][maximumNumberOfRuns];
+
+    int runId = 0;
+    while (runId < independentRunsStrategy.initialNumberOfRuns()
+        || (runId < maximumNumberOfRuns
+            && independentRunsStrategy.needsMoreRuns(firstRuns(indicatorValues, runId)))) {
       int evaluations = evaluationBudgetStrategy.getEvaluations(problemId);
-      List<S> results = runAlgorithm(parameterArray, problemId, evaluations);
+      BaseLevelAlgorithm<S> algorithm =
+          baseAlgorithm.createInstance(problems.get(problemId), evaluations).parse(parameterArray);
+      AnytimeProfileObserver profileObserver =
+          anytimeCheckpoints.length > 0 ? new AnytimeProfileObserver(anytimeCheckpoints) : null;
+      List<S> results = runAlgorithm(algorithm, profileObserver);
       double[][] front = extractNonDominatedFront(results);
       double[][] normalizedFront = normalizeFront(front, problemId);
-      double[] runIndicators = computeIndicatorValuesForRun(normalizedFront, problemId, evaluations);
+      double[] runIndicators =
+          computeIndicatorValuesForRun(
+              normalizedFront,
+              problemId,
+              consumedEvaluations(algorithm, evaluations),
+              profileObserver);
 
       for (int i = 0; i < indicators.size(); i++) {
         indicatorValues[i][runId] = runIndicators[i];
       }
+      runId++;
     }
 
-    double[] medianIndicatorValues = new double[indicators.size()];
-    for (int i = 0; i < indicators.size(); i++) {
-      medianIndicatorValues[i] = median(indicatorValues[i]);
-    }
-    return medianIndicatorValues;
+    return firstRuns(indicatorValues, runId);
   }
 
   /**
-   * Builds and runs the base algorithm with the given parameters on the specified problem.
+   * Returns the indicator values of the first runs.
    *
-   * @param parameterArray the parameter settings
-   * @param problemId      the index of the problem
-   * @param evaluations    the evaluation budget for this run
+   * @param indicatorValues the indicator values [indicatorIndex][runIndex]
+   * @param numberOfRuns    the number of runs to keep
+   * @return a copy of the values of the first {@code numberOfRuns} runs
+   */
+  private static double[][] firstRuns(double[][] indicatorValues, int numberOfRuns) {
+    return Arrays.stream(indicatorValues)
+        .map(values -> Arrays.copyOf(values, numberOfRuns))
+        .toArray(double[][]::new);
+  }
+
+  /**
+   * Builds and runs a configured instance of the base algorithm. If a profile observer is given,
+   * it is registered in the algorithm when it is observable, and completed with the result of the
+   * run.
+   *
+   * @param algorithm       the instance of the base algorithm, configured for the problem
+   * @param profileObserver the observer capturing the anytime profile of the run, or null
    * @return the list of solutions produced by the algorithm
    */
-  private List<S> runAlgorithm(String[] parameterArray, int problemId, int evaluations) {
-    var algorithm = baseAlgorithm
-        .createInstance(problems.get(problemId), evaluations)
-        .parse(parameterArray)
-        .build();
+  @SuppressWarnings("unchecked")
+  private List<S> runAlgorithm(
+      BaseLevelAlgorithm<S> algorithm, AnytimeProfileObserver profileObserver) {
+    var runnableAlgorithm = algorithm.build();
+    if (profileObserver != null && runnableAlgorithm instanceof ObservableEntity<?> observable) {
+      ((ObservableEntity<Map<String, Object>>) observable).observable().register(profileObserver);
+    }
+
+    runnableAlgorithm.run();
+    List<S> result = runnableAlgorithm.result();
+    if (profileObserver != null) {
+      profileObserver.complete(result);
+    }
+    return result;
+  }
 
-    algorithm.run();
-    return algorithm.result();
+  /**
+   * Returns the number of evaluations consumed by a run of the base algorithm, which is lower than
+   * its budget when the {@link TerminationParameter} of the configuration stopped it early.
+   *
+   * @param algorithm   the instance of the base algorithm that has been run
+   * @param evaluations the evaluation budget of the run
+   * @return the number of evaluations consumed by the run
+   */
+  private int consumedEvaluations(BaseLevelAlgorithm<S> algorithm, int evaluations) {
+    if (algorithm.parameterSpace().parameters().get(TerminationParameter.DEFAULT_NAME)
+            instanceof TerminationParameter terminationParameter
+        && terminationParameter.termination() != null) {
+      return Math.min(evaluations, terminationParameter.termination().numberOfEvaluations());
+    }
+    return evaluations;
   }
 
   /**
@@ -409,9 +815,7 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
    * @return the objective value matrix of the non-dominated solutions
    */
   private double[][] extractNonDominatedFront(List<S> solutions) {
-    NonDominatedSolutionListArchive<S> archive = new NonDominatedSolutionListArchive<>();
-    archive.addAll(solutions);
-    return getMatrixWithObjectiveValues(archive.solutions());
+    return getMatrixWithObjectiveValues(DominanceKernel.nonDominatedSolutions(solutions));
   }
 
   /**
@@ -443,18 +847,35 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
    *
    * @param normalizedFront the normalized objective value matrix
    * @param problemId       the index of the problem being evaluated
-   * @param evaluations     the evaluation budget used for this run
+   * @param evaluations     the number of evaluations consumed by this run
+   * @param profileObserver the observer that captured the anytime profile of the run, or null
    * @return array of indicator values, one per quality indicator
    */
   private double[] computeIndicatorValuesForRun(
-      double[][] normalizedFront, int problemId, int evaluations) {
+      double[][] normalizedFront,
+      int problemId,
+      int evaluations,
+      AnytimeProfileObserver profileObserver) {
     double[] values = new double[indicators.size()];
+    Map<Integer, Double> profileValues = new HashMap<>();
 
     for (int i = 0; i < indicators.size(); i++) {
       QualityIndicator indicator = indicators.get(i).newInstance();
       if (indicator instanceof EvaluationsQualityIndicator evalIndicator) {
         evalIndicator.setNumberOfEvaluations(evaluations);
         values[i] = evaluations;
+      } else if (indicator instanceof AnytimeQualityIndicator anytimeIndicator) {
+        int[] checkpoints = anytimeIndicator.checkpoints();
+        double[] profile = new double[checkpoints.length];
+        for (int j = 0; j < checkpoints.length; j++) {
+          profile[j] =
+              profileValues.computeIfAbsent(
+                  checkpoints[j],
+                  checkpoint ->
+                      normalizedHypervolume(profileObserver.front(checkpoint), problemId));
+        }
+        anytimeIndicator.setProfile(profile);
+        values[i] = anytimeIndicator.compute(normalizedFront);
       } else {
         indicator.referenceFront(normalizedReferenceFronts.get(problemId));
         values[i] = indicator.compute(normalizedFront);
@@ -463,6 +884,19 @@ public class MetaOptimizationProblem<S extends Solution<?>> extends AbstractDoub
     return values;
   }
 
+  /**
+   * Computes the normalized hypervolume of a front captured during a run.
+   *
+   * @param front     the objective values of the front
+   * @param problemId the index of the problem being evaluated
+   * @return the normalized hypervolume of the front
+   */
+  private double normalizedHypervolume(double[][] front, int problemId) {
+    QualityIndicator indicator = new NormalizedHypervolume();
+    indicator.referenceFront(normalizedReferenceFronts.get(problemId));
+    return indicator.compute(normalizeFront(front, problemId));
+  }
+
   /**
    * Computes the median of a double array.
    *
@@ -0,0 +1,119 @@
+package org.uma.evolver.meta.problem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.uma.evolver.util.ConsolidatedResultsReader;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Decorator of a meta-optimization problem that warm-starts a meta-optimizer: the first solutions
+ * it creates are copies of a list of initial solutions, typically the configurations found in
+ * previous runs as read by {@link ConsolidatedResultsReader}, and the remaining ones are created
+ * by the decorated problem. The meta-optimizer is built with the decorator in place of the problem,
+ * e.g., {@code new DoubleNSGAII(new WarmStartProblem(problem, solutions, true), populationSize,
+ * maxEvaluations, parameterSpace)}.
+ *
+ * <p>If the objectives are reused, the initial solutions marked with {@link
+ * #MEASURED_OBJECTIVES_ATTRIBUTE} keep their measured objective values the first time they are
+ * evaluated instead of running the base-level algorithm again; they still count as evaluations of
+ * the meta-optimizer. Any other solution, including the offspring of the initial ones, is
+ * evaluated by the decorated problem.
+ */
+public class WarmStartProblem implements DoubleProblem {
+  /** Attribute marking the solutions whose objectives have been measured in a previous run */
+  public static final String MEASURED_OBJECTIVES_ATTRIBUTE = "MeasuredObjectives";
+
+  private final DoubleProblem problem;
+  private final List<DoubleSolution> initialSolutions;
+  private final boolean reuseObjectives;
+  private final Set<DoubleSolution> solutionsWithMeasuredObjectives =
+      Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+  private int numberOfCreatedSolutions;
+
+  /**
+   * Creates the decorator.
+   *
+   * @param problem the decorated problem
+   * @param initialSolutions the solutions returned first by {@link #createSolution()}
+   * @param reuseObjectives whether the measured objectives of the initial solutions are reused
+   */
+  public WarmStartProblem(
+      DoubleProblem problem, List<DoubleSolution> initialSolutions, boolean reuseObjectives) {
+    Check.notNull(problem);
+    Check.notNull(initialSolutions);
+    for (DoubleSolution solution : initialSolutions) {
+      Check.that(
+          solution.variables().size() == problem.numberOfVariables(),
+          "The initial solutions must have " + problem.numberOfVariables() + " variables");
+    }
+    this.problem = problem;
+    this.initialSolutions = new ArrayList<>(initialSolutions);
+    this.reuseObjectives = reuseObjectives;
+  }
+
+  @Override
+  public synchronized DoubleSolution createSolution() {
+    if (numberOfCreatedSolutions >= initialSolutions.size()) {
+      numberOfCreatedSolutions++;
+      return problem.createSolution();
+    }
+
+    DoubleSolution initialSolution = initialSolutions.get(numberOfCreatedSolutions++);
+    DoubleSolution solution = (DoubleSolution) initialSolution.copy();
+    // The attribute is not inherited by the copies made by the variation operators
+    if (solution.attributes().remove(MEASURED_OBJECTIVES_ATTRIBUTE) != null && reuseObjectives) {
+      solutionsWithMeasuredObjectives.add(solution);
+    }
+
+    return solution;
+  }
+
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    if (solutionsWithMeasuredObjectives.remove(solution)) {
+      return solution;
+    }
+
+    return problem.evaluate(solution);
+  }
+
+  /**
+   * Returns the number of initial solutions already returned by {@link #createSolution()}.
+   *
+   * @return the number of seeded solutions
+   */
+  public synchronized int numberOfSeededSolutions() {
+    return Math.min(numberOfCreatedSolutions, initialSolutions.size());
+  }
+
+  @Override
+  public List<Bounds<Double>> variableBounds() {
+    return problem.variableBounds();
+  }
+
+  @Override
+  public int numberOfVariables() {
+    return problem.numberOfVariables();
+  }
+
+  @Override
+  public int numberOfObjectives() {
+    return problem.numberOfObjectives();
+  }
+
+  @Override
+  public int numberOfConstraints() {
+    return problem.numberOfConstraints();
+  }
+
+  @Override
+  public String name() {
+    return problem.name();
+  }
+}
@@ -0,0 +1,26 @@
+package org.uma.evolver.meta.strategy;
+
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Implementation of InstanceSamplingStrategy that evaluates every candidate on all the problems of
+ * the training set. This is the default behavior of meta-optimization problems.
+ */
+public class AllInstancesStrategy implements InstanceSamplingStrategy {
+
+  @Override
+  public int[] sampleProblems(int numberOfProblems) {
+    return IntStream.range(0, numberOfProblems).toArray();
+  }
+
+  @Override
+  public void validate(int numberOfProblems) {
+    Check.that(numberOfProblems > 0, "Number of problems must be positive: " + numberOfProblems);
+  }
+
+  @Override
+  public String toString() {
+    return "AllInstancesStrategy";
+  }
+}
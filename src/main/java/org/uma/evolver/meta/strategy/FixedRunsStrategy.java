@@ -0,0 +1,43 @@
+package org.uma.evolver.meta.strategy;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Implementation of IndependentRunsStrategy that performs the same number of runs for every
+ * candidate and problem. This is the behavior of meta-optimization problems constructed with a
+ * number of independent runs.
+ */
+public class FixedRunsStrategy implements IndependentRunsStrategy {
+  private final int numberOfRuns;
+
+  /**
+   * Creates a new FixedRunsStrategy.
+   *
+   * @param numberOfRuns the number of runs per candidate and problem
+   * @throws org.uma.jmetal.util.errorchecking.JMetalException if the number of runs is not positive
+   */
+  public FixedRunsStrategy(int numberOfRuns) {
+    Check.that(numberOfRuns > 0, "The number of runs must be positive: " + numberOfRuns);
+    this.numberOfRuns = numberOfRuns;
+  }
+
+  @Override
+  public int initialNumberOfRuns() {
+    return numberOfRuns;
+  }
+
+  @Override
+  public int maximumNumberOfRuns() {
+    return numberOfRuns;
+  }
+
+  @Override
+  public boolean needsMoreRuns(double[][] indicatorValues) {
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "FixedRunsStrategy(" + numberOfRuns + ")";
+  }
+}
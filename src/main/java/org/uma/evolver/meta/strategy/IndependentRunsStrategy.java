@@ -0,0 +1,34 @@
+package org.uma.evolver.meta.strategy;
+
+/**
+ * Interface defining the contract for deciding how many independent runs of the base algorithm are
+ * performed to evaluate a candidate configuration on a problem in meta-optimization problems. The
+ * runs are performed one at a time: {@link #initialNumberOfRuns()} runs are always performed, and
+ * further runs are added while {@link #needsMoreRuns(double[][])} returns true, up to {@link
+ * #maximumNumberOfRuns()}.
+ */
+public interface IndependentRunsStrategy {
+  /**
+   * Returns the number of runs performed before deciding whether more runs are needed.
+   *
+   * @return the initial number of runs, which is positive
+   */
+  int initialNumberOfRuns();
+
+  /**
+   * Returns the maximum number of runs performed on a problem.
+   *
+   * @return the maximum number of runs, which is not lower than the initial number of runs
+   */
+  int maximumNumberOfRuns();
+
+  /**
+   * Decides whether another run is needed to estimate the median indicator values of a candidate
+   * on a problem. Implementations must be thread-safe, as candidates may be evaluated in parallel.
+   *
+   * @param indicatorValues the indicator values of the runs performed so far
+   *     [indicatorIndex][runIndex]
+   * @return true if another run must be performed
+   */
+  boolean needsMoreRuns(double[][] indicatorValues);
+}
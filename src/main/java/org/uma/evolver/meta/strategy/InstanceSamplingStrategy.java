@@ -0,0 +1,26 @@
+package org.uma.evolver.meta.strategy;
+
+/**
+ * Interface defining the contract for selecting the problems of the training set on which a
+ * candidate configuration is evaluated in meta-optimization problems. Evaluating each candidate on
+ * a subset of the problems reduces its cost proportionally to the size of the subset.
+ */
+public interface InstanceSamplingStrategy {
+  /**
+   * Returns the indices of the problems on which the next candidate is evaluated. Implementations
+   * must be thread-safe, as candidates may be evaluated in parallel.
+   *
+   * @param numberOfProblems the total number of problems of the training set
+   * @return the distinct zero-based indices of the selected problems, in increasing order
+   */
+  int[] sampleProblems(int numberOfProblems);
+
+  /**
+   * Validates the configuration of the strategy against the number of problems.
+   *
+   * @param numberOfProblems the total number of problems of the training set
+   * @throws IllegalArgumentException if the strategy configuration is invalid for the given number
+   *     of problems
+   */
+  void validate(int numberOfProblems);
+}
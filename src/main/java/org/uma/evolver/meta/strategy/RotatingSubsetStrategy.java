@@ -0,0 +1,136 @@
+package org.uma.evolver.meta.strategy;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Implementation of InstanceSamplingStrategy that evaluates each candidate on a rotating random
+ * subset of the problems of the training set.
+ *
+ * <p>The problems are shuffled and consecutive windows of {@code subsetSize} problems of the
+ * shuffled order are returned; when the order is exhausted it is shuffled again, and the problems
+ * left in the previous order start the next subset. Therefore, all the problems are sampled
+ * equally often, and any {@code numberOfProblems} consecutive evaluations cover the whole training
+ * set.
+ */
+public class RotatingSubsetStrategy implements InstanceSamplingStrategy {
+  private final int subsetSize;
+  private final Random random;
+  private int[] order;
+  private int position;
+
+  /**
+   * Creates a new RotatingSubsetStrategy.
+   *
+   * @param subsetSize the number of problems on which each candidate is evaluated
+   * @throws IllegalArgumentException if subsetSize is not positive
+   */
+  public RotatingSubsetStrategy(int subsetSize) {
+    this(subsetSize, new Random());
+  }
+
+  /**
+   * Creates a new RotatingSubsetStrategy with the given random number generator. This constructor
+   * is primarily for testing purposes.
+   *
+   * @param subsetSize the number of problems on which each candidate is evaluated
+   * @param random the random number generator used to shuffle the problems
+   * @throws IllegalArgumentException if subsetSize is not positive
+   */
+  public RotatingSubsetStrategy(int subsetSize, Random random) {
+    Check.notNull(random);
+    Check.that(subsetSize > 0, "Subset size must be positive: " + subsetSize);
+    this.subsetSize = subsetSize;
+    this.random = random;
+  }
+
+  @Override
+  public synchronized int[] sampleProblems(int numberOfProblems) {
+    int[] result;
+
+    if (subsetSize >= numberOfProblems) {
+      return new AllInstancesStrategy().sampleProblems(numberOfProblems);
+    }
+
+    if (order == null || order.length != numberOfProblems) {
+      order = shuffledIndices(numberOfProblems);
+      position = 0;
+    }
+
+    result = new int[subsetSize];
+    for (int i = 0; i < subsetSize; i++) {
+      if (position == order.length) {
+        reshuffleAvoiding(Arrays.copyOf(result, i));
+      }
+      result[i] = order[position++];
+    }
+    Arrays.sort(result);
+
+    return result;
+  }
+
+  private int[] shuffledIndices(int numberOfProblems) {
+    int[] result;
+
+    result = new int[numberOfProblems];
+    for (int i = 0; i < numberOfProblems; i++) {
+      result[i] = i;
+    }
+    for (int i = numberOfProblems - 1; i > 0; i--) {
+      int j;
+      int swap;
+
+      j = random.nextInt(i + 1);
+      swap = result[i];
+      result[i] = result[j];
+      result[j] = swap;
+    }
+
+    return result;
+  }
+
+  /** Shuffles the order again, moving the problems already in the current subset to its end. */
+  private void reshuffleAvoiding(int[] alreadySelected) {
+    int next;
+
+    order = shuffledIndices(order.length);
+    next = 0;
+    for (int i = 0; i < order.length; i++) {
+      int problem;
+      boolean selected;
+
+      problem = order[i];
+      selected = false;
+      for (int taken : alreadySelected) {
+        selected |= taken == problem;
+      }
+      if (!selected) {
+        order[next++] = problem;
+      }
+    }
+    for (int taken : alreadySelected) {
+      order[next++] = taken;
+    }
+    position = 0;
+  }
+
+  @Override
+  public void validate(int numberOfProblems) {
+    Check.that(numberOfProblems > 0, "Number of problems must be positive: " + numberOfProblems);
+  }
+
+  /**
+   * Returns the number of problems on which each candidate is evaluated.
+   *
+   * @return the subset size
+   */
+  public int getSubsetSize() {
+    return subsetSize;
+  }
+
+  @Override
+  public String toString() {
+    return "RotatingSubsetStrategy(subsetSize=" + subsetSize + ")";
+  }
+}
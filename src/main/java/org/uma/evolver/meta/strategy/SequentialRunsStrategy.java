@@ -0,0 +1,117 @@
+package org.uma.evolver.meta.strategy;
+
+import java.util.Arrays;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Implementation of IndependentRunsStrategy that performs sequential sampling: after a small
+ * initial number of runs, a run is added while the 95% confidence interval of the median of any
+ * indicator is wider than a tolerance, up to a maximum number of runs. Configurations whose runs
+ * have a low variance are thus evaluated with few runs, and the saved runs are spent on the noisy
+ * ones.
+ *
+ * <p>The confidence interval is the distribution-free one given by two order statistics of the
+ * runs, whose ranks are computed with the normal approximation of the binomial distribution. With
+ * fewer than eleven runs it spans all the values. The tolerance is absolute for indicator values
+ * whose median is not greater than one in magnitude (e.g., the indicators computed on normalized
+ * fronts) and relative to the median otherwise (e.g., numbers of evaluations).
+ */
+public class SequentialRunsStrategy implements IndependentRunsStrategy {
+  private static final double Z_95 = 1.959964;
+
+  private final int initialNumberOfRuns;
+  private final int maximumNumberOfRuns;
+  private final double tolerance;
+
+  /**
+   * Creates a new SequentialRunsStrategy.
+   *
+   * @param initialNumberOfRuns the number of runs always performed
+   * @param maximumNumberOfRuns the maximum number of runs
+   * @param tolerance the maximum width of the confidence interval of the median
+   * @throws org.uma.jmetal.util.errorchecking.JMetalException if the initial number of runs is not
+   *     positive, the maximum is lower than it, or the tolerance is negative
+   */
+  public SequentialRunsStrategy(
+      int initialNumberOfRuns, int maximumNumberOfRuns, double tolerance) {
+    Check.that(
+        initialNumberOfRuns > 0,
+        "The initial number of runs must be positive: " + initialNumberOfRuns);
+    Check.that(
+        maximumNumberOfRuns >= initialNumberOfRuns,
+        "The maximum number of runs ("
+            + maximumNumberOfRuns
+            + ") cannot be lower than the initial number of runs ("
+            + initialNumberOfRuns
+            + ")");
+    Check.valueIsNotNegative(tolerance);
+    this.initialNumberOfRuns = initialNumberOfRuns;
+    this.maximumNumberOfRuns = maximumNumberOfRuns;
+    this.tolerance = tolerance;
+  }
+
+  @Override
+  public int initialNumberOfRuns() {
+    return initialNumberOfRuns;
+  }
+
+  @Override
+  public int maximumNumberOfRuns() {
+    return maximumNumberOfRuns;
+  }
+
+  @Override
+  public boolean needsMoreRuns(double[][] indicatorValues) {
+    for (double[] values : indicatorValues) {
+      double[] interval = medianConfidenceInterval(values);
+      double median = median(values);
+      if (interval[1] - interval[0] > tolerance * Math.max(1.0, Math.abs(median))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the 95% confidence interval of the median of a sample.
+   *
+   * @param values the sample
+   * @return the lower and upper bounds of the interval
+   */
+  static double[] medianConfidenceInterval(double[] values) {
+    double[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int n = sorted.length;
+    double halfWidth = Z_95 * Math.sqrt(n) / 2.0;
+    int lowerRank = Math.max(1, (int) Math.floor(n / 2.0 - halfWidth));
+    int upperRank = Math.min(n, (int) Math.ceil(n / 2.0 + halfWidth + 1.0));
+    return new double[] {sorted[lowerRank - 1], sorted[upperRank - 1]};
+  }
+
+  private static double median(double[] values) {
+    double[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int n = sorted.length;
+    return n % 2 == 0 ? (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0 : sorted[n / 2];
+  }
+
+  /**
+   * Returns the maximum width of the confidence interval of the median.
+   *
+   * @return the tolerance
+   */
+  public double tolerance() {
+    return tolerance;
+  }
+
+  @Override
+  public String toString() {
+    return "SequentialRunsStrategy("
+        + initialNumberOfRuns
+        + ", "
+        + maximumNumberOfRuns
+        + ", "
+        + tolerance
+        + ")";
+  }
+}
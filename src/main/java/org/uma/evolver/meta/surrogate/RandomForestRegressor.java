@@ -0,0 +1,431 @@
+package org.uma.evolver.meta.surrogate;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Multi-output random forest regressor used as a surrogate of the meta-optimization problem.
+ *
+ * <p>Each tree is grown on a bootstrap sample of the training set, choosing at every node the
+ * split that most reduces the sum of the variances of the outputs among a random subset of the
+ * features. The outputs are standardized before growing the trees, so all of them contribute
+ * equally to the splits whatever their scales. A single forest predicts all the outputs (e.g., the
+ * values of all the quality indicators of a configuration), and the spread of the predictions of
+ * the trees is reported as the uncertainty of the prediction.
+ *
+ * <p>Instances are immutable once {@link #fit(double[][], double[][], long)} returns, so they can
+ * be queried by several threads while a new forest is being fitted by another one. The trees are
+ * stored in flat arrays of nodes.
+ */
+public class RandomForestRegressor {
+  private final int numberOfTrees;
+  private final int minimumLeafSize;
+  private final int maximumDepth;
+  private final double featureFraction;
+
+  private Tree[] trees;
+  private int numberOfFeatures;
+  private int numberOfOutputs;
+  private double[] outputMeans;
+  private double[] outputStandardDeviations;
+
+  /**
+   * Creates an unfitted forest.
+   *
+   * @param numberOfTrees the number of trees (must be positive)
+   * @param minimumLeafSize the minimum number of samples in a leaf (must be positive)
+   * @param maximumDepth the maximum depth of the trees (must be positive)
+   * @param featureFraction the fraction of the features considered at each split (in (0, 1])
+   */
+  public RandomForestRegressor(
+      int numberOfTrees, int minimumLeafSize, int maximumDepth, double featureFraction) {
+    Check.that(numberOfTrees > 0, "The number of trees must be positive: " + numberOfTrees);
+    Check.that(minimumLeafSize > 0, "The minimum leaf size must be positive: " + minimumLeafSize);
+    Check.that(maximumDepth > 0, "The maximum depth must be positive: " + maximumDepth);
+    Check.that(
+        featureFraction > 0.0 && featureFraction <= 1.0,
+        "The feature fraction must be in (0, 1]: " + featureFraction);
+    this.numberOfTrees = numberOfTrees;
+    this.minimumLeafSize = minimumLeafSize;
+    this.maximumDepth = maximumDepth;
+    this.featureFraction = featureFraction;
+  }
+
+  /**
+   * Creates an unfitted forest of 50 trees with leaves of at least 3 samples, a maximum depth of
+   * 12, and a third of the features considered at each split.
+   */
+  public RandomForestRegressor() {
+    this(50, 3, 12, 1.0 / 3.0);
+  }
+
+  /**
+   * Fits a new forest with the configuration of this one. This forest is not modified.
+   *
+   * @param features the inputs of the training samples, one row per sample
+   * @param outputs the outputs of the training samples, one row per sample
+   * @param seed the seed of the bootstrap samples and of the feature subsets
+   * @return the fitted forest
+   */
+  public RandomForestRegressor fit(double[][] features, double[][] outputs, long seed) {
+    Check.notNull(features);
+    Check.notNull(outputs);
+    Check.that(features.length > 0, "The training set is empty");
+    Check.that(
+        features.length == outputs.length,
+        "There must be the same number of inputs as outputs: "
+            + features.length
+            + " vs "
+            + outputs.length);
+
+    RandomForestRegressor result;
+    double[][] standardizedOutputs;
+    SplittableRandom random;
+
+    result =
+        new RandomForestRegressor(numberOfTrees, minimumLeafSize, maximumDepth, featureFraction);
+    result.numberOfFeatures = features[0].length;
+    result.numberOfOutputs = outputs[0].length;
+    result.outputMeans = new double[result.numberOfOutputs];
+    result.outputStandardDeviations = new double[result.numberOfOutputs];
+    standardizedOutputs = result.standardize(outputs);
+
+    random = new SplittableRandom(seed);
+    result.trees = new Tree[numberOfTrees];
+    for (int t = 0; t < numberOfTrees; t++) {
+      int[] sample;
+
+      sample = new int[features.length];
+      for (int i = 0; i < sample.length; i++) {
+        sample[i] = random.nextInt(features.length);
+      }
+      result.trees[t] = result.grow(features, standardizedOutputs, sample, random.split());
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns whether the forest has been fitted.
+   *
+   * @return {@code true} if the forest can make predictions
+   */
+  public boolean isFitted() {
+    return trees != null;
+  }
+
+  /**
+   * Predicts the outputs of an input as the mean of the predictions of the trees.
+   *
+   * @param input the input
+   * @param mean the array where the predicted outputs are stored
+   * @param standardDeviation the array where the standard deviations of the predictions of the
+   *     trees are stored, or {@code null} if they are not needed
+   */
+  public void predict(double[] input, double[] mean, double[] standardDeviation) {
+    Check.that(isFitted(), "The forest has not been fitted");
+    Check.that(
+        input.length == numberOfFeatures,
+        "Wrong number of features: " + input.length + " instead of " + numberOfFeatures);
+
+    double[] squares;
+
+    squares = new double[numberOfOutputs];
+    Arrays.fill(mean, 0, numberOfOutputs, 0.0);
+    for (Tree tree : trees) {
+      int leaf;
+
+      leaf = tree.leafOffset(input);
+      for (int k = 0; k < numberOfOutputs; k++) {
+        double value;
+
+        value = tree.values[leaf + k];
+        mean[k] += value;
+        squares[k] += value * value;
+      }
+    }
+
+    for (int k = 0; k < numberOfOutputs; k++) {
+      double standardizedMean;
+
+      standardizedMean = mean[k] / trees.length;
+      mean[k] = outputMeans[k] + standardizedMean * outputStandardDeviations[k];
+      if (standardDeviation != null) {
+        double variance;
+
+        variance = Math.max(0.0, squares[k] / trees.length - standardizedMean * standardizedMean);
+        standardDeviation[k] = Math.sqrt(variance) * outputStandardDeviations[k];
+      }
+    }
+  }
+
+  /**
+   * Predicts the outputs of an input.
+   *
+   * @param input the input
+   * @return the predicted outputs
+   */
+  public double[] predict(double[] input) {
+    double[] result;
+
+    result = new double[numberOfOutputs];
+    predict(input, result, null);
+
+    return result;
+  }
+
+  private double[][] standardize(double[][] outputs) {
+    double[][] result;
+
+    result = new double[outputs.length][numberOfOutputs];
+    for (int k = 0; k < numberOfOutputs; k++) {
+      double sum;
+      double sumOfSquares;
+      double variance;
+
+      sum = 0.0;
+      sumOfSquares = 0.0;
+      for (double[] output : outputs) {
+        sum += output[k];
+        sumOfSquares += output[k] * output[k];
+      }
+      outputMeans[k] = sum / outputs.length;
+      variance = sumOfSquares / outputs.length - outputMeans[k] * outputMeans[k];
+      outputStandardDeviations[k] = variance > 1e-24 ? Math.sqrt(variance) : 1.0;
+      for (int i = 0; i < outputs.length; i++) {
+        result[i][k] = (outputs[i][k] - outputMeans[k]) / outputStandardDeviations[k];
+      }
+    }
+
+    return result;
+  }
+
+  private Tree grow(
+      double[][] features, double[][] outputs, int[] sample, SplittableRandom random) {
+    Tree tree;
+
+    tree = new Tree(numberOfOutputs, 2 * sample.length / minimumLeafSize + 1);
+    split(tree, features, outputs, sample, 0, sample.length, 0, random);
+
+    return tree;
+  }
+
+  /** Adds the subtree of the samples in {@code sample[from, to)} and returns its root. */
+  private int split(
+      Tree tree,
+      double[][] features,
+      double[][] outputs,
+      int[] sample,
+      int from,
+      int to,
+      int depth,
+      SplittableRandom random) {
+    int node;
+    int bestFeature;
+    double bestThreshold;
+    double bestScore;
+    int numberOfCandidateFeatures;
+    int[] candidateFeatures;
+    double[] totalSum;
+
+    node = tree.addNode();
+    totalSum = new double[numberOfOutputs];
+    for (int i = from; i < to; i++) {
+      for (int k = 0; k < numberOfOutputs; k++) {
+        totalSum[k] += outputs[sample[i]][k];
+      }
+    }
+
+    bestFeature = -1;
+    bestThreshold = 0.0;
+    bestScore = squaredNorm(totalSum) / (to - from);
+    if (depth < maximumDepth && to - from >= 2 * minimumLeafSize) {
+      numberOfCandidateFeatures = Math.max(1, (int) Math.round(featureFraction * numberOfFeatures));
+      candidateFeatures = sampleFeatures(numberOfCandidateFeatures, random);
+      for (int feature : candidateFeatures) {
+        double[] leftSum;
+        Integer[] order;
+
+        order = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+          order[i - from] = sample[i];
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(features[a][feature], features[b][feature]));
+
+        // Maximizing the sum of |sum of outputs|^2 / size over both children minimizes the sum of
+        // their squared errors
+        leftSum = new double[numberOfOutputs];
+        for (int i = 0; i < order.length - minimumLeafSize; i++) {
+          double value;
+          double nextValue;
+
+          for (int k = 0; k < numberOfOutputs; k++) {
+            leftSum[k] += outputs[order[i]][k];
+          }
+          value = features[order[i]][feature];
+          nextValue = features[order[i + 1]][feature];
+          if (i + 1 >= minimumLeafSize && value < nextValue) {
+            double score;
+            int leftSize;
+
+            leftSize = i + 1;
+            score =
+                squaredNorm(leftSum) / leftSize
+                    + squaredDifferenceNorm(totalSum, leftSum) / (order.length - leftSize);
+            if (score > bestScore + 1e-12) {
+              bestScore = score;
+              bestFeature = feature;
+              bestThreshold = 0.5 * (value + nextValue);
+            }
+          }
+        }
+      }
+    }
+
+    if (bestFeature < 0) {
+      double[] values;
+
+      values = new double[numberOfOutputs];
+      for (int k = 0; k < numberOfOutputs; k++) {
+        values[k] = totalSum[k] / (to - from);
+      }
+      tree.setLeaf(node, values);
+    } else {
+      int middle;
+      int left;
+      int right;
+
+      middle = partition(features, sample, from, to, bestFeature, bestThreshold);
+      left = split(tree, features, outputs, sample, from, middle, depth + 1, random);
+      right = split(tree, features, outputs, sample, middle, to, depth + 1, random);
+      tree.setSplit(node, bestFeature, bestThreshold, left, right);
+    }
+
+    return node;
+  }
+
+  private int[] sampleFeatures(int count, SplittableRandom random) {
+    int[] features;
+
+    features = new int[numberOfFeatures];
+    for (int i = 0; i < numberOfFeatures; i++) {
+      features[i] = i;
+    }
+    for (int i = 0; i < count; i++) {
+      int j;
+      int swap;
+
+      j = i + random.nextInt(numberOfFeatures - i);
+      swap = features[i];
+      features[i] = features[j];
+      features[j] = swap;
+    }
+
+    return Arrays.copyOf(features, count);
+  }
+
+  private static int partition(
+      double[][] features, int[] sample, int from, int to, int feature, double threshold) {
+    int middle;
+
+    middle = from;
+    for (int i = from; i < to; i++) {
+      if (features[sample[i]][feature] <= threshold) {
+        int swap;
+
+        swap = sample[i];
+        sample[i] = sample[middle];
+        sample[middle] = swap;
+        middle++;
+      }
+    }
+
+    return middle;
+  }
+
+  private static double squaredNorm(double[] vector) {
+    double result;
+
+    result = 0.0;
+    for (double value : vector) {
+      result += value * value;
+    }
+
+    return result;
+  }
+
+  private static double squaredDifferenceNorm(double[] first, double[] second) {
+    double result;
+
+    result = 0.0;
+    for (int k = 0; k < first.length; k++) {
+      double difference;
+
+      difference = first[k] - second[k];
+      result += difference * difference;
+    }
+
+    return result;
+  }
+
+  /** Regression tree stored in flat arrays; leaves have a negative feature index. */
+  private static final class Tree {
+    private final int numberOfOutputs;
+    private int[] feature;
+    private double[] threshold;
+    private int[] left;
+    private int[] right;
+    private double[] values;
+    private int size;
+
+    Tree(int numberOfOutputs, int capacity) {
+      this.numberOfOutputs = numberOfOutputs;
+      this.feature = new int[capacity];
+      this.threshold = new double[capacity];
+      this.left = new int[capacity];
+      this.right = new int[capacity];
+      this.values = new double[capacity * numberOfOutputs];
+    }
+
+    int addNode() {
+      if (size == feature.length) {
+        int capacity;
+
+        capacity = 2 * size;
+        feature = Arrays.copyOf(feature, capacity);
+        threshold = Arrays.copyOf(threshold, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        values = Arrays.copyOf(values, capacity * numberOfOutputs);
+      }
+      feature[size] = -1;
+
+      return size++;
+    }
+
+    void setLeaf(int node, double[] leafValues) {
+      feature[node] = -1;
+      System.arraycopy(leafValues, 0, values, node * numberOfOutputs, numberOfOutputs);
+    }
+
+    void setSplit(int node, int splitFeature, double splitThreshold, int leftNode, int rightNode) {
+      feature[node] = splitFeature;
+      threshold[node] = splitThreshold;
+      left[node] = leftNode;
+      right[node] = rightNode;
+    }
+
+    /** Returns the position in {@code values} of the outputs of the leaf reached by an input. */
+    int leafOffset(double[] input) {
+      int node;
+
+      node = 0;
+      while (feature[node] >= 0) {
+        node = input[feature[node]] <= threshold[node] ? left[node] : right[node];
+      }
+
+      return node * numberOfOutputs;
+    }
+  }
+}
@@ -0,0 +1,423 @@
+package org.uma.evolver.meta.surrogate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import org.uma.evolver.util.dominance.DominanceKernel;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Evaluation of the meta-optimizer that pre-screens the offspring with a surrogate model and only
+ * forwards the most promising fraction of them to the real evaluation.
+ *
+ * <p>The surrogate is a {@link RandomForestRegressor} that maps the encoded variables of the
+ * solutions of a {@code MetaOptimizationProblem} to their objective values (the quality indicator
+ * values), trained online on all the solutions that have been really evaluated. Until the first
+ * model is available, every solution is evaluated. Afterwards, the objectives of each list of
+ * candidates are predicted, the candidates are sorted by the non-dominated rank of their
+ * predictions and, within a rank, by decreasing uncertainty of the prediction, and only the first
+ * {@code evaluatedFraction} of them (at least one) is evaluated by the decorated evaluation. The
+ * remaining candidates get {@link Double#MAX_VALUE} in all their objectives, so they are dominated
+ * by any evaluated solution and discarded by the replacement, and are marked with the {@link
+ * #SCREENED_OUT_ATTRIBUTE} attribute.
+ *
+ * <p>The model is refitted after a number of new real evaluations by a background executor, and the
+ * new model replaces the previous one when it is ready, so fitting never delays the evaluation of
+ * the offspring. If fitting a model fails, the error is logged and the model is not refitted again:
+ * the last model, if any, keeps screening the candidates, and otherwise every candidate is
+ * evaluated (see {@link #isRefittingStopped()}). {@link #computedEvaluations()} only counts the
+ * real evaluations, so a meta-optimizer stopped by a number of evaluations explores more candidates
+ * with the same budget.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * var evaluation =
+ *     new SurrogateScreeningEvaluation(new MultiThreadedEvaluation<>(8, metaProblem), 0.5);
+ * nsgaII.evaluation(evaluation);
+ * nsgaII.run();
+ * JMetalLogger.logger.info(evaluation.toString());
+ * }</pre>
+ */
+public class SurrogateScreeningEvaluation implements Evaluation<DoubleSolution> {
+  /** Attribute set to {@code true} in the solutions that were not really evaluated. */
+  public static final String SCREENED_OUT_ATTRIBUTE = "SurrogateScreenedOut";
+
+  private static final int DEFAULT_MINIMUM_TRAINING_SET_SIZE = 20;
+
+  private final Evaluation<DoubleSolution> evaluation;
+  private final double evaluatedFraction;
+  private final int minimumTrainingSetSize;
+  private final int refitInterval;
+  private final RandomForestRegressor forest;
+  private final Executor executor;
+
+  private final List<double[]> trainingFeatures = new ArrayList<>();
+  private final List<double[]> trainingObjectives = new ArrayList<>();
+  private final AtomicBoolean fitting = new AtomicBoolean();
+  private volatile RandomForestRegressor model;
+  private volatile boolean refittingStopped;
+  private int samplesAtLastFit;
+
+  private long numberOfCandidates;
+  private long numberOfScreenedOutSolutions;
+  private int numberOfModelFits;
+
+  /**
+   * Creates the evaluation.
+   *
+   * @param evaluation the decorated evaluation, which performs the real evaluations
+   * @param evaluatedFraction the fraction of each list of candidates that is really evaluated once
+   *     the model is available (in (0, 1])
+   * @param minimumTrainingSetSize the number of real evaluations before the first model is fitted
+   *     (must be positive)
+   * @param refitInterval the number of new real evaluations after which the model is refitted
+   *     (must be positive)
+   * @param forest the configuration of the surrogate model
+   * @param executor the executor that fits the models
+   */
+  public SurrogateScreeningEvaluation(
+      Evaluation<DoubleSolution> evaluation,
+      double evaluatedFraction,
+      int minimumTrainingSetSize,
+      int refitInterval,
+      RandomForestRegressor forest,
+      Executor executor) {
+    Check.notNull(evaluation);
+    Check.notNull(forest);
+    Check.notNull(executor);
+    Check.that(
+        evaluatedFraction > 0.0 && evaluatedFraction <= 1.0,
+        "The evaluated fraction must be in (0, 1]: " + evaluatedFraction);
+    Check.that(
+        minimumTrainingSetSize > 0,
+        "The minimum training set size must be positive: " + minimumTrainingSetSize);
+    Check.that(refitInterval > 0, "The refit interval must be positive: " + refitInterval);
+
+    this.evaluation = evaluation;
+    this.evaluatedFraction = evaluatedFraction;
+    this.minimumTrainingSetSize = minimumTrainingSetSize;
+    this.refitInterval = refitInterval;
+    this.forest = forest;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates the evaluation with a default random forest, which is first fitted after 20 real
+   * evaluations and refitted every 20 new ones by a daemon thread.
+   *
+   * @param evaluation the decorated evaluation, which performs the real evaluations
+   * @param evaluatedFraction the fraction of each list of candidates that is really evaluated once
+   *     the model is available (in (0, 1])
+   */
+  public SurrogateScreeningEvaluation(
+      Evaluation<DoubleSolution> evaluation, double evaluatedFraction) {
+    this(
+        evaluation,
+        evaluatedFraction,
+        DEFAULT_MINIMUM_TRAINING_SET_SIZE,
+        DEFAULT_MINIMUM_TRAINING_SET_SIZE,
+        new RandomForestRegressor(),
+        createDaemonExecutor());
+  }
+
+  private static ExecutorService createDaemonExecutor() {
+    return Executors.newSingleThreadExecutor(
+        runnable -> {
+          Thread thread;
+
+          thread = new Thread(runnable, "surrogate-model-fitting");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  @Override
+  public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList) {
+    Check.notNull(solutionList);
+
+    RandomForestRegressor currentModel;
+    List<DoubleSolution> selected;
+    Set<DoubleSolution> evaluated;
+
+    currentModel = model;
+    if (currentModel == null || solutionList.isEmpty()) {
+      selected = solutionList;
+    } else {
+      selected = screen(solutionList, currentModel);
+    }
+
+    for (DoubleSolution solution : solutionList) {
+      solution.attributes().remove(SCREENED_OUT_ATTRIBUTE);
+    }
+    evaluation.evaluate(selected);
+    evaluated = Collections.newSetFromMap(new IdentityHashMap<>());
+    evaluated.addAll(selected);
+    for (DoubleSolution solution : solutionList) {
+      if (!evaluated.contains(solution)) {
+        Arrays.fill(solution.objectives(), Double.MAX_VALUE);
+        solution.attributes().put(SCREENED_OUT_ATTRIBUTE, true);
+      }
+    }
+
+    synchronized (this) {
+      numberOfCandidates += solutionList.size();
+      numberOfScreenedOutSolutions += solutionList.size() - selected.size();
+      for (DoubleSolution solution : selected) {
+        trainingFeatures.add(variables(solution));
+        trainingObjectives.add(solution.objectives().clone());
+      }
+    }
+    refitIfNeeded();
+
+    return solutionList;
+  }
+
+  private List<DoubleSolution> screen(
+      List<DoubleSolution> candidates, RandomForestRegressor currentModel) {
+    int n;
+    int m;
+    double[] predictions;
+    double[] uncertainties;
+    int[] ranks;
+    Integer[] order;
+    int numberOfEvaluated;
+    List<DoubleSolution> result;
+
+    n = candidates.size();
+    m = candidates.get(0).objectives().length;
+    predictions = new double[n * m];
+    uncertainties = new double[n];
+    for (int i = 0; i < n; i++) {
+      double[] mean;
+      double[] standardDeviation;
+
+      mean = new double[m];
+      standardDeviation = new double[m];
+      currentModel.predict(variables(candidates.get(i)), mean, standardDeviation);
+      System.arraycopy(mean, 0, predictions, i * m, m);
+      for (double value : standardDeviation) {
+        uncertainties[i] += value;
+      }
+    }
+
+    ranks = nonDominatedRanks(predictions, n, m);
+    order = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(
+        order,
+        Comparator.<Integer>comparingInt(i -> ranks[i])
+            .thenComparing(i -> uncertainties[i], Comparator.reverseOrder()));
+
+    numberOfEvaluated = Math.max(1, (int) Math.ceil(evaluatedFraction * n));
+    result = new ArrayList<>(numberOfEvaluated);
+    for (int i = 0; i < numberOfEvaluated; i++) {
+      result.add(candidates.get(order[i]));
+    }
+
+    return result;
+  }
+
+  /** Returns the non-dominated rank (0 for the first front) of each of {@code n} rows. */
+  private static int[] nonDominatedRanks(double[] rows, int n, int m) {
+    int[] ranks;
+    int[] dominationCounts;
+    boolean[] assigned;
+    int numberOfAssigned;
+    int rank;
+
+    ranks = new int[n];
+    dominationCounts = new int[n];
+    for (int i = 0; i < n; i++) {
+      for (int j = i + 1; j < n; j++) {
+        int relation;
+
+        relation = DominanceKernel.compare(rows, i * m, rows, j * m, m);
+        if (relation < 0) {
+          dominationCounts[j]++;
+        } else if (relation > 0) {
+          dominationCounts[i]++;
+        }
+      }
+    }
+
+    assigned = new boolean[n];
+    numberOfAssigned = 0;
+    rank = 0;
+    while (numberOfAssigned < n) {
+      List<Integer> front;
+
+      front = new ArrayList<>();
+      for (int i = 0; i < n; i++) {
+        if (!assigned[i] && dominationCounts[i] == 0) {
+          front.add(i);
+        }
+      }
+      for (int i : front) {
+        assigned[i] = true;
+        ranks[i] = rank;
+        numberOfAssigned++;
+        for (int j = 0; j < n; j++) {
+          if (!assigned[j] && DominanceKernel.compare(rows, i * m, rows, j * m, m) < 0) {
+            dominationCounts[j]--;
+          }
+        }
+      }
+      rank++;
+    }
+
+    return ranks;
+  }
+
+  private void refitIfNeeded() {
+    double[][] features;
+    double[][] objectives;
+    long seed;
+
+    synchronized (this) {
+      if (refittingStopped
+          || trainingFeatures.size() < minimumTrainingSetSize
+          || trainingFeatures.size() - samplesAtLastFit < refitInterval
+          || !fitting.compareAndSet(false, true)) {
+        return;
+      }
+      features = trainingFeatures.toArray(new double[0][]);
+      objectives = trainingObjectives.toArray(new double[0][]);
+      samplesAtLastFit = features.length;
+    }
+
+    seed = JMetalRandom.getInstance().nextInt(0, Integer.MAX_VALUE - 1);
+    executor.execute(
+        () -> {
+          try {
+            model = forest.fit(features, objectives, seed);
+            synchronized (this) {
+              numberOfModelFits++;
+            }
+          } catch (RuntimeException exception) {
+            refittingStopped = true;
+            JMetalLogger.logger.log(
+                Level.WARNING,
+                "Error fitting the surrogate model, which will not be refitted again",
+                exception);
+          } finally {
+            fitting.set(false);
+          }
+        });
+  }
+
+  private static double[] variables(DoubleSolution solution) {
+    double[] result;
+
+    result = new double[solution.variables().size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = solution.variables().get(i);
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the number of real evaluations, performed by the decorated evaluation.
+   *
+   * @return the number of real evaluations
+   */
+  @Override
+  public int computedEvaluations() {
+    return evaluation.computedEvaluations();
+  }
+
+  /**
+   * Returns the problem of the decorated evaluation.
+   *
+   * @return the problem
+   */
+  public Problem<DoubleSolution> problem() {
+    return evaluation.problem();
+  }
+
+  /**
+   * Returns the number of solutions received for evaluation.
+   *
+   * @return the number of candidates
+   */
+  public synchronized long numberOfCandidates() {
+    return numberOfCandidates;
+  }
+
+  /**
+   * Returns the number of candidates that were not really evaluated, i.e., the number of saved
+   * evaluations.
+   *
+   * @return the number of saved evaluations
+   */
+  public synchronized long numberOfSavedEvaluations() {
+    return numberOfScreenedOutSolutions;
+  }
+
+  /**
+   * Returns the fraction of the candidates that were not really evaluated.
+   *
+   * @return the fraction of saved evaluations, or 0 if no candidate has been received
+   */
+  public synchronized double savedEvaluationsRatio() {
+    return numberOfCandidates == 0
+        ? 0.0
+        : (double) numberOfScreenedOutSolutions / numberOfCandidates;
+  }
+
+  /**
+   * Returns the number of models fitted so far.
+   *
+   * @return the number of model fits
+   */
+  public synchronized int numberOfModelFits() {
+    return numberOfModelFits;
+  }
+
+  /**
+   * Returns whether the model is no longer refitted because fitting it failed.
+   *
+   * @return true if a model fit has failed
+   */
+  public boolean isRefittingStopped() {
+    return refittingStopped;
+  }
+
+  /**
+   * Returns the current surrogate model.
+   *
+   * @return the model, or {@code null} if none has been fitted yet
+   */
+  public RandomForestRegressor model() {
+    return model;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "Surrogate screening: "
+        + numberOfCandidates
+        + " candidates, "
+        + numberOfScreenedOutSolutions
+        + " saved evaluations ("
+        + String.format("%.1f", 100.0 * savedEvaluationsRatio())
+        + "%), "
+        + numberOfModelFits
+        + " model fits";
+  }
+}
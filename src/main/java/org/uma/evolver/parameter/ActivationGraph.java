@@ -0,0 +1,215 @@
+package org.uma.evolver.parameter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Index-based representation of the activation structure of a parameter tree, compiled once from
+ * its top-level parameters, which computes the active parameters of an encoded configuration as a
+ * bitset in a single pass without allocating memory.
+ *
+ * <p>Each node of the tree is compiled into the index of its parameter in the flattened list (see
+ * {@link ParameterManagement#parameterFlattening(List)}), the index of its parent and the index of
+ * the category of the parent that activates it. The nodes are stored in pre-order, so the activity
+ * of the parent of a node is known when the node is visited. As in {@link
+ * ParameterManagement#getActiveParameterIndices(List, List, List)}, the top-level parameters and
+ * the global sub-parameters of the active parameters are always active, and a conditional
+ * parameter is active if its parent is an active {@link CategoricalParameter} whose decoded value
+ * is the one the condition describes.
+ *
+ * <p>A bitset has one bit per flattened parameter, parameter {@code i} being bit {@code i % 64} of
+ * word {@code i / 64}.
+ */
+public class ActivationGraph {
+  private static final int UNCONDITIONAL = -1;
+  private static final int NEVER_ACTIVE = -2;
+
+  private final int numberOfParameters;
+  private final int[] nodeParameters;
+  private final int[] nodeParents;
+  private final int[] nodeCategories;
+  private final int[] numberOfCategories;
+
+  /**
+   * Compiles the activation graph of a parameter tree.
+   *
+   * @param topLevelParameters the top-level parameters of the tree
+   * @param flattenedParameters the flattened list of all the parameters of the tree
+   */
+  public ActivationGraph(
+      List<Parameter<?>> topLevelParameters, List<Parameter<?>> flattenedParameters) {
+    Check.notNull(topLevelParameters);
+    Check.notNull(flattenedParameters);
+    numberOfParameters = flattenedParameters.size();
+
+    Map<Parameter<?>, Integer> indices = new IdentityHashMap<>();
+    numberOfCategories = new int[numberOfParameters];
+    for (int i = numberOfParameters - 1; i >= 0; i--) {
+      Parameter<?> parameter = flattenedParameters.get(i);
+      indices.put(parameter, i);
+      if (parameter instanceof CategoricalParameter categoricalParameter) {
+        numberOfCategories[i] = categoricalParameter.validValues().size();
+      }
+    }
+
+    List<int[]> nodes = new ArrayList<>();
+    compile(topLevelParameters, -1, UNCONDITIONAL, indices, nodes);
+    nodeParameters = new int[nodes.size()];
+    nodeParents = new int[nodes.size()];
+    nodeCategories = new int[nodes.size()];
+    for (int i = 0; i < nodes.size(); i++) {
+      nodeParameters[i] = nodes.get(i)[0];
+      nodeParents[i] = nodes.get(i)[1];
+      nodeCategories[i] = nodes.get(i)[2];
+    }
+  }
+
+  private static void compile(
+      List<Parameter<?>> parameters,
+      int parent,
+      int category,
+      Map<Parameter<?>, Integer> indices,
+      List<int[]> nodes) {
+    for (Parameter<?> parameter : parameters) {
+      Integer index = indices.get(parameter);
+      Check.that(index != null, "The parameter is not flattened: " + parameter.name());
+      nodes.add(new int[] {index, parent, category});
+
+      compile(parameter.globalSubParameters(), index, UNCONDITIONAL, indices, nodes);
+      for (ConditionalParameter<?> conditionalParameter : parameter.conditionalParameters()) {
+        int activatingCategory =
+            parameter instanceof CategoricalParameter categoricalParameter
+                ? categoricalParameter.validValues().indexOf(conditionalParameter.description())
+                : -1;
+        compile(
+            List.of(conditionalParameter.parameter()),
+            index,
+            activatingCategory >= 0 ? activatingCategory : NEVER_ACTIVE,
+            indices,
+            nodes);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of flattened parameters.
+   *
+   * @return the number of parameters
+   */
+  public int numberOfParameters() {
+    return numberOfParameters;
+  }
+
+  /**
+   * Creates an empty bitset for the active parameters of this graph.
+   *
+   * @return a bitset with no active parameter
+   */
+  public long[] createActiveSet() {
+    return new long[(numberOfParameters + 63) / 64];
+  }
+
+  /**
+   * Computes the active parameters of an encoded configuration.
+   *
+   * @param values the encoded values in [0.0, 1.0] of the flattened parameters
+   * @param activeSet the bitset where the active parameters are stored, created with {@link
+   *     #createActiveSet()}
+   */
+  public void computeActiveSet(List<Double> values, long[] activeSet) {
+    Check.that(
+        values.size() == numberOfParameters,
+        "The number of values is not the number of parameters: " + values.size());
+    for (int word = 0; word < activeSet.length; word++) {
+      activeSet[word] = 0L;
+    }
+
+    for (int node = 0; node < nodeParameters.length; node++) {
+      int parent = nodeParents[node];
+      int category = nodeCategories[node];
+      boolean active;
+      if (parent < 0) {
+        active = true;
+      } else if (!isActive(activeSet, parent) || category == NEVER_ACTIVE) {
+        active = false;
+      } else {
+        active =
+            category == UNCONDITIONAL || decodeCategory(parent, values.get(parent)) == category;
+      }
+
+      if (active) {
+        activeSet[nodeParameters[node] >>> 6] |= 1L << nodeParameters[node];
+      }
+    }
+  }
+
+  /**
+   * Computes the active parameters of an encoded configuration into a new bitset.
+   *
+   * @param values the encoded values in [0.0, 1.0] of the flattened parameters
+   * @return the bitset of the active parameters
+   */
+  public long[] activeSet(List<Double> values) {
+    long[] activeSet = createActiveSet();
+    computeActiveSet(values, activeSet);
+    return activeSet;
+  }
+
+  private int decodeCategory(int parameter, double value) {
+    // Same decoding as ParameterManagement.decodeParameter
+    return (int) Math.floor(Math.min(value, 0.999999999999) * numberOfCategories[parameter]);
+  }
+
+  /**
+   * Returns whether a parameter is in a bitset of active parameters.
+   *
+   * @param activeSet the bitset
+   * @param index the index of the parameter
+   * @return true if the parameter is active
+   */
+  public static boolean isActive(long[] activeSet, int index) {
+    return (activeSet[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Returns the first active parameter from a given index on, to iterate over a bitset with {@code
+   * for (int i = nextActive(set, 0); i >= 0; i = nextActive(set, i + 1))}.
+   *
+   * @param activeSet the bitset
+   * @param fromIndex the index to start from
+   * @return the index of the next active parameter, or -1 if there is none
+   */
+  public static int nextActive(long[] activeSet, int fromIndex) {
+    int word = fromIndex >>> 6;
+    if (word >= activeSet.length) {
+      return -1;
+    }
+    long bits = activeSet[word] & (-1L << fromIndex);
+    while (bits == 0) {
+      if (++word == activeSet.length) {
+        return -1;
+      }
+      bits = activeSet[word];
+    }
+
+    return word * 64 + Long.numberOfTrailingZeros(bits);
+  }
+
+  /**
+   * Returns the number of active parameters of a bitset.
+   *
+   * @param activeSet the bitset
+   * @return the number of active parameters
+   */
+  public static int numberOfActiveParameters(long[] activeSet) {
+    int count = 0;
+    for (long word : activeSet) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+}
@@ -54,8 +54,10 @@ public class ParameterManagement {
     double result;
     Check.valueIsInRange(value, 0.0, 1.0);
     if (parameter instanceof CategoricalParameter categoricalParameter) {
+      value = Math.min(value, 0.999999999999);
       result = (int) Math.floor(value * categoricalParameter.validValues().size());
     } else if (parameter instanceof CategoricalIntegerParameter categoricalParameter) {
+      value = Math.min(value, 0.999999999999);
       result = Math.floor(value * categoricalParameter.validValues().size());
     } else if (parameter instanceof DoubleParameter realParameter) {
       double min = realParameter.minValue();
@@ -74,6 +76,51 @@ public class ParameterManagement {
     return result;
   }
 
+  /**
+   * Inverse of {@link #decodeParameterToDoubleValues(Parameter, double)}: encodes a value in the
+   * form written to CONFIGURATIONS.csv (index of a categorical value, value of a numerical
+   * parameter, raw encoded value of a boolean one) into the range [0.0, 1.0]. Categorical indices
+   * and integers are mapped to the center of their interval, so decoding the encoded value gives
+   * back the original one; numerical values outside the bounds of the parameter are clipped. A
+   * categorical index equal to the number of values, written by earlier versions for the encoded
+   * value 1.0, is read as the last value.
+   *
+   * @param parameter The parameter
+   * @param value     The decoded value
+   * @return The encoded value in the range [0.0, 1.0]
+   * @throws JMetalException if the value is not a valid index of a categorical parameter
+   */
+  public static double encodeParameterFromDoubleValues(Parameter<?> parameter, double value) {
+    double result;
+    if (parameter instanceof CategoricalParameter categoricalParameter) {
+      result = encodeCategoricalIndex(parameter, value, categoricalParameter.validValues().size());
+    } else if (parameter instanceof CategoricalIntegerParameter categoricalParameter) {
+      result = encodeCategoricalIndex(parameter, value, categoricalParameter.validValues().size());
+    } else if (parameter instanceof DoubleParameter realParameter) {
+      double min = realParameter.minValue();
+      double max = realParameter.maxValue();
+      result = max > min ? (value - min) / (max - min) : 0.0;
+    } else if (parameter instanceof IntegerParameter integerParameter) {
+      int min = integerParameter.minValue();
+      int max = integerParameter.maxValue();
+      result = max > min ? (Math.round(value) - min + 0.5) / (max - min) : 0.0;
+    } else if (parameter instanceof BooleanParameter) {
+      result = value;
+    } else {
+      throw new JMetalException("The parameter is non-configurable: " + parameter.name());
+    }
+
+    return Math.max(0.0, Math.min(1.0, result));
+  }
+
+  private static double encodeCategoricalIndex(
+      Parameter<?> parameter, double index, int numberOfValues) {
+    Check.that(
+        index == Math.rint(index) && index >= 0 && index <= numberOfValues,
+        "Invalid index " + index + " of the categorical parameter " + parameter.name());
+    return (Math.min(index, numberOfValues - 1) + 0.5) / numberOfValues;
+  }
+
   /**
    * Given a list of parameters and a list of the corresponding encoded parameter
    * values in the
@@ -122,6 +169,28 @@ public class ParameterManagement {
     return parameterString;
   }
 
+  /**
+   * Given a list of parameters, their encoded values, and a bitset of the active
+   * parameters computed by an {@link ActivationGraph}, returns a string containing
+   * only the active parameters as "--parameterName parameterValue" pairs.
+   *
+   * @param parameters List of parameters
+   * @param values     List of encoded parameter values in the range [0.0, 1.0]
+   * @param activeSet  Bitset of the active parameters
+   * @return A {@link StringBuilder} object containing only active parameters
+   */
+  public static StringBuilder decodeActiveParametersToString(List<Parameter<?>> parameters,
+      List<Double> values, long[] activeSet) {
+    StringBuilder parameterString = new StringBuilder();
+    for (int i = ActivationGraph.nextActive(activeSet, 0); i >= 0;
+        i = ActivationGraph.nextActive(activeSet, i + 1)) {
+      String parameterName = parameters.get(i).name();
+      String value = decodeParameter(parameters.get(i), values.get(i));
+      parameterString.append("--").append(parameterName).append(" ").append(value).append(" ");
+    }
+    return parameterString;
+  }
+
   private static StringBuilder decodeParametersToDoubleValues(List<Parameter<?>> parameters,
       DoubleSolution solution) {
     StringBuilder parameterString = new StringBuilder();
@@ -194,6 +263,10 @@ public class ParameterManagement {
    * are "active" (i.e., their parent categorical parameter's value activates
    * them).
    *
+   * <p>The parameter tree is compiled into an {@link ActivationGraph} in each
+   * call; callers computing the active parameters of many configurations should
+   * compile it once and use {@link ActivationGraph#computeActiveSet}.
+   *
    * @param topLevelParameters  The top-level parameters from the parameter space
    * @param flattenedParameters The flattened list of all parameters
    * @param values              The encoded values [0.0, 1.0] for each flattened
@@ -205,58 +278,14 @@ public class ParameterManagement {
       List<Parameter<?>> flattenedParameters,
       List<Double> values) {
 
+    long[] activeSet =
+        new ActivationGraph(topLevelParameters, flattenedParameters).activeSet(values);
     java.util.Set<Integer> activeIndices = new java.util.HashSet<>();
-    java.util.Map<String, String> decodedCategoricalValues = new java.util.HashMap<>();
-
-    // First pass: decode all categorical parameter values
-    for (int i = 0; i < flattenedParameters.size(); i++) {
-      Parameter<?> param = flattenedParameters.get(i);
-      if (param instanceof CategoricalParameter) {
-        String decodedValue = decodeParameter(param, values.get(i));
-        decodedCategoricalValues.put(param.name(), decodedValue);
-      }
+    for (int i = ActivationGraph.nextActive(activeSet, 0); i >= 0;
+        i = ActivationGraph.nextActive(activeSet, i + 1)) {
+      activeIndices.add(i);
     }
 
-    // Second pass: determine which parameters are active
-    collectActiveParameters(topLevelParameters, flattenedParameters, decodedCategoricalValues, activeIndices);
-
     return activeIndices;
   }
-
-  private static void collectActiveParameters(
-      List<Parameter<?>> parameters,
-      List<Parameter<?>> flattenedParameters,
-      java.util.Map<String, String> decodedCategoricalValues,
-      java.util.Set<Integer> activeIndices) {
-
-    for (Parameter<?> param : parameters) {
-      // Find index in flattened list
-      int idx = flattenedParameters.indexOf(param);
-      if (idx >= 0) {
-        activeIndices.add(idx);
-      }
-
-      // Always add global sub-parameters
-      collectActiveParameters(param.globalSubParameters(), flattenedParameters,
-          decodedCategoricalValues, activeIndices);
-
-      // For conditional parameters, only add if condition is met
-      String parentValue = decodedCategoricalValues.get(param.name());
-      if (parentValue != null) {
-        for (ConditionalParameter<?> condParam : param.conditionalParameters()) {
-          // Check if the condition description matches the parent value
-          if (condParam.description().equals(parentValue)) {
-            Parameter<?> childParam = condParam.parameter();
-            int childIdx = flattenedParameters.indexOf(childParam);
-            if (childIdx >= 0) {
-              activeIndices.add(childIdx);
-            }
-            // Recursively process child's sub-parameters
-            collectActiveParameters(List.of(childParam), flattenedParameters,
-                decodedCategoricalValues, activeIndices);
-          }
-        }
-      }
-    }
-  }
 }
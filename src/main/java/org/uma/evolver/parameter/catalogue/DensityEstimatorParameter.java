@@ -2,6 +2,7 @@ package org.uma.evolver.parameter.catalogue;
 
 import java.util.List;
 import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.util.densityestimator.KdTreeKnnDensityEstimator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
@@ -17,6 +18,8 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * <ul>
  *   <li>crowdingDistance: Uses crowding distance to estimate solution density (used in NSGA-II)</li>
  *   <li>knn: Uses k-nearest neighbors to estimate solution density (used in some variants of MOEA/D)</li>
+ *   <li>kdTreeKnn: Same as knn, but the neighbors are found with a k-d tree that is updated
+ *       incrementally when solutions are removed during truncation</li>
  * </ul>
  *
  * <p>For the "knn" strategy, the following sub-parameters are required:
@@ -25,6 +28,10 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *   <li>knnNormalizeObjectives: Whether to normalize objectives before computing distances</li>
  * </ul>
  *
+ * <p>The "kdTreeKnn" strategy requires the analogous sub-parameters kdTreeKnnNeighborhoodSize and
+ * kdTreeKnnNormalizeObjectives. As it computes the same densities as "knn", it is only included in
+ * the opt-in RDEMOEADoubleKdTreeKnn.yaml parameter space.
+ *
  * @param <S> The type of solutions being evaluated
  */
 public class DensityEstimatorParameter<S extends Solution<?>> extends CategoricalParameter {
@@ -38,6 +45,7 @@ public class DensityEstimatorParameter<S extends Solution<?>> extends Categorica
    * @param validDensityEstimators A list of valid density estimator strategy names. Supported values:
    *                              - "crowdingDistance"
    *                              - "knn" (requires additional sub-parameters)
+   *                              - "kdTreeKnn" (requires additional sub-parameters)
    * @throws IllegalArgumentException if name is null or empty, or if validDensityEstimators is null or empty
    */
   public DensityEstimatorParameter(String name, List<String> validDensityEstimators) {
@@ -80,6 +88,13 @@ public class DensityEstimatorParameter<S extends Solution<?>> extends Categorica
             (Integer) findConditionalParameter("knnNeighborhoodSize").value();
         yield new KnnDensityEstimator<>(knnNeighborhoodSize, normalizeObjectives);
       }
+      case "kdTreeKnn" -> {
+        String value = (String) findConditionalParameter("kdTreeKnnNormalizeObjectives").value();
+        boolean normalizeObjectives = value.toLowerCase().equals("true");
+        int neighborhoodSize =
+            (Integer) findConditionalParameter("kdTreeKnnNeighborhoodSize").value();
+        yield new KdTreeKnnDensityEstimator<>(neighborhoodSize, normalizeObjectives);
+      }
       default -> throw new JMetalException("Density estimator does not exist: " + name());
     };
   }
@@ -2,6 +2,8 @@ package org.uma.evolver.parameter.catalogue;
 
 import java.util.List;
 import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.util.archive.IncrementalCrowdingDistanceArchive;
+import org.uma.evolver.util.archive.IncrementalHypervolumeArchive;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.BestSolutionsArchive;
@@ -19,7 +21,11 @@ import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.WFGHype
  * <p>The available archive types are:
  * <ul>
  *   <li>crowdingDistanceArchive: Maintains diversity using crowding distance</li>
+ *   <li>incrementalCrowdingDistanceArchive: Maintains diversity using crowding distance, which is
+ *       updated only for the neighbours of the inserted and removed solutions</li>
  *   <li>hypervolumeArchive: Selects solutions based on hypervolume contribution</li>
+ *   <li>incrementalHypervolumeArchive: Selects solutions based on hypervolume contribution, which
+ *       is updated incrementally instead of being recomputed when the archive overflows</li>
  *   <li>spatialSpreadDeviationArchive: Maintains diversity using spatial spread deviation</li>
  *   <li>unboundedArchive: Uses a non-dominated solution list archive with best solutions</li>
  * </ul>
@@ -37,7 +43,9 @@ public class ExternalArchiveParameter<S extends Solution<?>> extends Categorical
    * @param parameterName The name of the parameter
    * @param archiveTypes A list of valid archive type names. Supported values:
    *                    - "crowdingDistanceArchive"
+   *                    - "incrementalCrowdingDistanceArchive"
    *                    - "hypervolumeArchive"
+   *                    - "incrementalHypervolumeArchive"
    *                    - "spatialSpreadDeviationArchive"
    *                    - "unboundedArchive"
    * @throws IllegalArgumentException if parameterName is null or empty, or if archiveTypes is null or empty
@@ -69,7 +77,9 @@ public class ExternalArchiveParameter<S extends Solution<?>> extends Categorical
   public Archive<S> getExternalArchive() {
     return switch (value()) {
       case "crowdingDistanceArchive" -> new CrowdingDistanceArchive<>(size);
+      case "incrementalCrowdingDistanceArchive" -> new IncrementalCrowdingDistanceArchive<>(size);
       case "hypervolumeArchive" -> new HypervolumeArchive<>(size, new WFGHypervolume<>());
+      case "incrementalHypervolumeArchive" -> new IncrementalHypervolumeArchive<>(size);
       case "spatialSpreadDeviationArchive" -> new SpatialSpreadDeviationArchive<>(size);
       case "unboundedArchive" -> new BestSolutionsArchive<>(new NonDominatedSolutionListArchive<>(), size);
       default -> throw new JMetalException("Archive type does not exist: " + name());
@@ -2,10 +2,10 @@ package org.uma.evolver.parameter.catalogue;
 
 import java.util.List;
 import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.util.dominance.KernelNonDominatedSortRanking;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.ranking.Ranking;
-import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 import org.uma.jmetal.util.ranking.impl.StrengthRanking;
 
 /**
@@ -57,7 +57,7 @@ public class RankingParameter<S extends Solution<?>> extends CategoricalParamete
    */
   public Ranking<S> getRanking() {
     return switch (value()) {
-      case "dominanceRanking" -> new FastNonDominatedSortRanking<>();
+      case "dominanceRanking" -> new KernelNonDominatedSortRanking<>();
       case "strengthRanking" -> new StrengthRanking<>();
       default -> throw new JMetalException("Ranking does not exist: " + name());
     };
@@ -1,9 +1,13 @@
 package org.uma.evolver.parameter.catalogue;
 
+import java.util.Arrays;
 import java.util.List;
+import org.uma.evolver.component.replacement.IncrementalSMSEMOAReplacement;
 import org.uma.evolver.parameter.type.CategoricalParameter;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.component.catalogue.ea.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.SMSEMOAReplacement;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -18,6 +22,10 @@ import org.uma.jmetal.util.ranking.Ranking;
  * <ul>
  *   <li>rankingAndDensityEstimator: Uses a combination of ranking and density estimation
  *       to select which solutions to replace</li>
+ *   <li>smsEMOA: Removes the solution of the last front with the lowest hypervolume contribution,
+ *       recomputing the contributions in every step</li>
+ *   <li>incrementalSMSEMOA: As smsEMOA, but the contributions of the last front are updated
+ *       incrementally between steps</li>
  * </ul>
  *
  * <p>For the "rankingAndDensityEstimator" strategy, the following sub-parameters are required:
@@ -26,12 +34,17 @@ import org.uma.jmetal.util.ranking.Ranking;
  * </ul>
  *
  * <p>This parameter also requires setting a Ranking and DensityEstimator instance using the
- * appropriate setter methods before use.
+ * appropriate setter methods before use (the SMS-EMOA strategies only require the Ranking).
+ *
+ * <p>If the parameter is not present in the arguments to parse and "smsEMOA" is one of its valid
+ * values, the value {@code smsEMOA} is assumed, so that SMS-EMOA configurations written before the
+ * parameter existed remain valid.
  *
  * @param <S> The type of solutions being evolved
  */
 public class ReplacementParameter<S extends Solution<?>> extends CategoricalParameter {
-  private static final String DEFAULT_NAME = "replacement";
+  public static final String DEFAULT_NAME = "replacement";
+  private static final String SMS_EMOA_DEFAULT_VALUE = "smsEMOA";
   private Ranking<S> ranking;
   private DensityEstimator<S> densityEstimator;
 
@@ -40,6 +53,8 @@ public class ReplacementParameter<S extends Solution<?>> extends CategoricalPara
    *
    * @param selectionStrategies A list of valid replacement strategy names. Currently supports:
    *                          - "rankingAndDensityEstimator"
+   *                          - "smsEMOA"
+   *                          - "incrementalSMSEMOA"
    * @throws IllegalArgumentException if selectionStrategies is null or empty
    */
   public ReplacementParameter(List<String> selectionStrategies) {
@@ -54,7 +69,17 @@ public class ReplacementParameter<S extends Solution<?>> extends CategoricalPara
    */
   public ReplacementParameter(String name, List<String> selectionStrategies) {
     super(name, selectionStrategies);
-  } 
+  }
+
+  @Override
+  public void parse(String[] arguments) {
+    if (!Arrays.asList(arguments).contains("--" + name())
+        && validValues().contains(SMS_EMOA_DEFAULT_VALUE)) {
+      value(SMS_EMOA_DEFAULT_VALUE);
+    } else {
+      super.parse(arguments);
+    }
+  }
 
   /**
    * Creates and returns a Replacement instance based on the current parameter value.
@@ -90,6 +115,8 @@ public class ReplacementParameter<S extends Solution<?>> extends CategoricalPara
           throw new JMetalException("Removal policy unknown: " + removalPolicy) ;
         }
       }
+      case "smsEMOA" -> result = new SMSEMOAReplacement<>(ranking, new PISAHypervolume());
+      case "incrementalSMSEMOA" -> result = new IncrementalSMSEMOAReplacement<>(ranking);
       default -> throw new JMetalException("Replacement component unknown: " + value());
     }
 
@@ -0,0 +1,87 @@
+package org.uma.evolver.parameter.catalogue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.uma.evolver.component.termination.TerminationByEvaluationsAndStagnation;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * A categorical parameter representing the termination condition of a base-level algorithm.
+ *
+ * <p>The available termination conditions are:
+ *
+ * <ul>
+ *   <li>evaluations: The algorithm runs until the maximum number of evaluations is reached
+ *   <li>stagnation: The algorithm also stops when the hypervolume of the non-dominated front of its
+ *       population changes less than a relative {@code stagnationEpsilon} between two checks
+ *       separated by {@code stagnationWindow} times the maximum number of evaluations
+ * </ul>
+ *
+ * <p>Both conditions are created as a {@link TerminationByEvaluationsAndStagnation}, and the last
+ * one created is kept so that the number of evaluations actually consumed by the run can be
+ * retrieved with {@link #termination()}.
+ *
+ * <p>If the parameter is not present in the arguments to parse, the value {@code evaluations} is
+ * assumed, so that configurations written before the parameter existed remain valid.
+ */
+public class TerminationParameter extends CategoricalParameter {
+  public static final String DEFAULT_NAME = "termination";
+  private static final String DEFAULT_VALUE = "evaluations";
+
+  private TerminationByEvaluationsAndStagnation termination;
+
+  /**
+   * Creates a new TerminationParameter with the default name "termination" and the specified
+   * termination conditions.
+   *
+   * @param terminationConditions A list of valid termination condition names. Supported values:
+   *     - "evaluations" - "stagnation"
+   */
+  public TerminationParameter(List<String> terminationConditions) {
+    super(DEFAULT_NAME, terminationConditions);
+  }
+
+  @Override
+  public void parse(String[] arguments) {
+    if (Arrays.asList(arguments).contains("--" + name())) {
+      super.parse(arguments);
+    } else {
+      value(DEFAULT_VALUE);
+    }
+  }
+
+  /**
+   * Creates the termination condition based on the current parameter value.
+   *
+   * @param maximumNumberOfEvaluations the maximum number of evaluations of the algorithm
+   * @return the termination condition
+   * @throws JMetalException if the current value does not match any known termination condition
+   */
+  public TerminationByEvaluationsAndStagnation getTermination(int maximumNumberOfEvaluations) {
+    termination =
+        switch (value()) {
+          case "evaluations" -> new TerminationByEvaluationsAndStagnation(
+              maximumNumberOfEvaluations);
+          case "stagnation" -> {
+            double window = (Double) findConditionalParameter("stagnationWindow").value();
+            double epsilon = (Double) findConditionalParameter("stagnationEpsilon").value();
+            int windowSize = Math.max(1, (int) Math.round(window * maximumNumberOfEvaluations));
+            yield new TerminationByEvaluationsAndStagnation(
+                maximumNumberOfEvaluations, windowSize, epsilon);
+          }
+          default -> throw new JMetalException("Termination condition does not exist: " + value());
+        };
+
+    return termination;
+  }
+
+  /**
+   * Returns the termination condition created by the last call of {@link #getTermination(int)}.
+   *
+   * @return the termination condition, or {@code null} if none has been created
+   */
+  public TerminationByEvaluationsAndStagnation termination() {
+    return termination;
+  }
+}
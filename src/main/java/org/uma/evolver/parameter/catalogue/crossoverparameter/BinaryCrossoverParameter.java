@@ -1,6 +1,9 @@
 package org.uma.evolver.parameter.catalogue.crossoverparameter;
 
 import java.util.List;
+import org.uma.evolver.util.binary.WordHUXCrossover;
+import org.uma.evolver.util.binary.WordSinglePointCrossover;
+import org.uma.evolver.util.binary.WordUniformCrossover;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.*;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
@@ -21,6 +24,9 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *   <li><b>singlePoint</b> (Single Point Crossover): requires a probability.
  *   <li><b>HUX</b> (HUX Crossover): requires a probability.
  *   <li><b>uniform</b> (Uniform Crossover): requires a probability.
+ *   <li><b>wordHUX</b>, <b>wordUniform</b>, <b>wordSinglePoint</b>: the same crossovers operating
+ *       on 64-bit words (see {@link org.uma.evolver.util.binary.WordCrossover}); require a
+ *       probability.
  * </ul>
  *
  * <p>Example usage:
@@ -32,7 +38,8 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * </pre>
  */
 public class BinaryCrossoverParameter extends CrossoverParameter<BinarySolution> {
-  private static List<String> validCrossoverNames = List.of("HUX", "uniform", "singlePoint");
+  private static List<String> validCrossoverNames = List.of(
+          "HUX", "uniform", "singlePoint", "wordHUX", "wordUniform", "wordSinglePoint");
 
   /**
    * Constructs a new BinaryCrossoverParameter with the specified list of crossover operator names.
@@ -75,6 +82,9 @@ public class BinaryCrossoverParameter extends CrossoverParameter<BinarySolution>
       case "HUX" -> new HUXCrossover<>(crossoverProbability);
       case "uniform" -> new UniformCrossover<>(crossoverProbability);
       case "singlePoint" -> new SinglePointCrossover<>(crossoverProbability);
+      case "wordHUX" -> new WordHUXCrossover(crossoverProbability);
+      case "wordUniform" -> new WordUniformCrossover(crossoverProbability);
+      case "wordSinglePoint" -> new WordSinglePointCrossover(crossoverProbability);
       default -> throw new JMetalException("Crossover operator does not exist: " + name());
     };
   }
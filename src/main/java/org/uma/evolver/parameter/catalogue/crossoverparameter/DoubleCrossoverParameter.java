@@ -2,6 +2,9 @@ package org.uma.evolver.parameter.catalogue.crossoverparameter;
 
 import java.util.List;
 import org.uma.evolver.parameter.catalogue.RepairDoubleSolutionStrategyParameter;
+import org.uma.evolver.util.doublesolution.ArrayBLXAlphaCrossover;
+import org.uma.evolver.util.doublesolution.ArraySBXCrossover;
+import org.uma.evolver.util.doublesolution.ArrayWholeArithmeticCrossover;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.*;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
@@ -23,6 +26,11 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *   <li><b>SBX</b> (Simulated Binary Crossover): requires a distribution index.
  *   <li><b>BLX_ALPHA</b> (BLX-Alpha Crossover): requires an alpha value.
  *   <li><b>wholeArithmetic</b> (Whole Arithmetic Crossover): no additional parameters.
+ *   <li><b>arraySBX</b>, <b>arrayBlxAlpha</b>, <b>arrayWholeArithmetic</b>: the same crossovers
+ *       computed on primitive arrays (see {@link
+ *       org.uma.evolver.util.doublesolution.ArrayDoubleCrossover}); they require {@code
+ *       arraySbxDistributionIndex}, {@code arrayBlxAlphaCrossoverAlpha} and no additional
+ *       parameters, respectively.
  * </ul>
  *
  * <p>Example usage:
@@ -36,7 +44,8 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
 public class DoubleCrossoverParameter extends CrossoverParameter<DoubleSolution> {
   long timeStamp ;
 
-  private static List<String> validCrossoverNames = List.of("SBX", "blxAlpha", "wholeArithmetic", "arithmetic", "fuzzyRecombination", "laplace", "blxAlphaBeta", "PCX", "UNDC");
+  private static List<String> validCrossoverNames = List.of("SBX", "blxAlpha", "wholeArithmetic", "arithmetic", "fuzzyRecombination", "laplace", "blxAlphaBeta", "PCX", "UNDC",
+      "arraySBX", "arrayBlxAlpha", "arrayWholeArithmetic");
 
   /**
    * Constructs a crossover parameter for double solutions with the given list of supported
@@ -143,6 +152,23 @@ public class DoubleCrossoverParameter extends CrossoverParameter<DoubleSolution>
                 eta,
                 repairDoubleSolution.getRepairDoubleSolutionStrategy());
       }
+      case "arraySBX" -> {
+        Double distributionIndex =
+            (Double) findConditionalParameter("arraySbxDistributionIndex").value();
+        yield new ArraySBXCrossover(
+                crossoverProbability,
+                distributionIndex,
+                repairDoubleSolution.getRepairDoubleSolutionStrategy());
+      }
+      case "arrayBlxAlpha" -> {
+        Double alpha = (Double) findConditionalParameter("arrayBlxAlphaCrossoverAlpha").value();
+        yield new ArrayBLXAlphaCrossover(
+                crossoverProbability,
+                alpha,
+                repairDoubleSolution.getRepairDoubleSolutionStrategy());
+      }
+      case "arrayWholeArithmetic" -> new ArrayWholeArithmeticCrossover(
+                crossoverProbability, repairDoubleSolution.getRepairDoubleSolutionStrategy());
       default -> throw new JMetalException("Crossover operator does not exist: " + value());
     };
   }
@@ -1,6 +1,7 @@
 package org.uma.evolver.parameter.catalogue.mutationparameter;
 
 import java.util.List;
+import org.uma.evolver.util.binary.GeometricBitFlipMutation;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.*;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
@@ -16,6 +17,8 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * <p>Supported mutation operators:
  * <ul>
  *   <li><b>bitFlip</b>: Flips each bit in the solution with a given probability.
+ *   <li><b>geometricBitFlip</b>: Same distribution as bitFlip, but skipping to the next flipped
+ *       bit with geometrically distributed jumps, so its cost depends on the number of flips.
  * </ul>
  *
  * <p>Required parameters:
@@ -37,12 +40,12 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * @see org.uma.jmetal.operator.mutation.impl.BitFlipMutation
  */
 public class BinaryMutationParameter extends MutationParameter<BinarySolution> {
-
+  private static final List<String> validMutationNames = List.of("bitFlip", "geometricBitFlip");
 
   /**
    * Constructs a new MutationBinaryParameter with the specified list of mutation operator names.
    *
-   * @param mutationOperators the list of supported mutation operator names (should contain "bitFlip")
+   * @param mutationOperators the list of supported mutation operator names ("bitFlip" or "geometricBitFlip")
    * @throws IllegalArgumentException if mutationOperators is null, empty, or contains invalid values
    */ 
   public BinaryMutationParameter(List<String> mutationOperators) {
@@ -52,7 +55,7 @@ public class BinaryMutationParameter extends MutationParameter<BinarySolution> {
   /**
    * Constructs a new MutationBinaryParameter with the specified list of mutation operator names.
    *
-   * @param mutationOperators the list of supported mutation operator names (should contain "bitFlip")
+   * @param mutationOperators the list of supported mutation operator names ("bitFlip" or "geometricBitFlip")
    * @throws IllegalArgumentException if mutationOperators is null, empty, or contains invalid values
    */
   public BinaryMutationParameter(String name, List<String> mutationOperators) {
@@ -60,7 +63,7 @@ public class BinaryMutationParameter extends MutationParameter<BinarySolution> {
     
     // Validate that only supported operators are provided
     mutationOperators.forEach(operator -> {
-      if (!"bitFlip".equals(operator)) {
+      if (!validMutationNames.contains(operator)) {
         throw new IllegalArgumentException("Unsupported mutation operator for binary solutions: " + operator);
       }
     });
@@ -90,11 +93,11 @@ public class BinaryMutationParameter extends MutationParameter<BinarySolution> {
     double mutationProbability = mutationProbabilityFactor / numberOfBitsInASolution;
     
     // Create and return the appropriate mutation operator
-    if ("bitFlip".equals(value())) {
-      return new BitFlipMutation<>(mutationProbability);
-    } else {
-      throw new JMetalException("Unsupported mutation operator: " + value());
-    }
+    return switch (value()) {
+      case "bitFlip" -> new BitFlipMutation<>(mutationProbability);
+      case "geometricBitFlip" -> new GeometricBitFlipMutation(mutationProbability);
+      default -> throw new JMetalException("Unsupported mutation operator: " + value());
+    };
   }
 }
 
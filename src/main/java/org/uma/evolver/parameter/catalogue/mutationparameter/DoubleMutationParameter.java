@@ -1,7 +1,9 @@
 package org.uma.evolver.parameter.catalogue.mutationparameter;
 
 import java.util.List;
+import java.util.function.Function;
 import org.uma.evolver.parameter.catalogue.RepairDoubleSolutionStrategyParameter;
+import org.uma.evolver.util.doublesolution.ArrayPolynomialMutation;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.*;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
@@ -21,6 +23,8 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *   <li><b>linkedPolynomial</b>: Linked polynomial mutation for correlated variables
  *   <li><b>uniform</b>: Uniform mutation with fixed perturbation
  *   <li><b>nonUniform</b>: Non-uniform mutation with decreasing perturbation over time
+ *   <li><b>arrayPolynomial</b>: Polynomial mutation that only draws random numbers for the mutated
+ *       variables
  * </ul>
  *
  * <p>Required parameters:
@@ -37,6 +41,9 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *   <li><b>linkedPolynomial</b>: linkedPolynomialMutationDistributionIndex
  *   <li><b>uniform</b>: uniformMutationPerturbation
  *   <li><b>nonUniform</b>: nonUniformMutationPerturbation, maxIterations
+ *   <li><b>arrayPolynomial</b>: arrayPolynomialMutationDistributionIndex, and optionally
+ *       activeVariables (non-configurable), the function returning the indices of the variables
+ *       that may be mutated
  * </ul>
  *
  * <p>Example usage:
@@ -52,11 +59,13 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * @see org.uma.jmetal.operator.mutation.impl.LinkedPolynomialMutation
  * @see org.uma.jmetal.operator.mutation.impl.UniformMutation
  * @see org.uma.jmetal.operator.mutation.impl.NonUniformMutation
+ * @see org.uma.evolver.util.doublesolution.ArrayPolynomialMutation
  */
 public class DoubleMutationParameter extends MutationParameter<DoubleSolution> {
   /** List of valid mutation operator names for double solutions. */
   private static final List<String> VALID_MUTATION_NAMES = 
-      List.of("polynomial", "linkedPolynomial", "uniform", "nonUniform", "levyFlight", "powerLaw");
+      List.of("polynomial", "linkedPolynomial", "uniform", "nonUniform", "levyFlight", "powerLaw",
+          "arrayPolynomial");
 
   /**
    * Constructs a new DoubleMutationParameter with the specified list of mutation operator names.
@@ -119,6 +128,8 @@ public class DoubleMutationParameter extends MutationParameter<DoubleSolution> {
       case "nonUniform" -> createNonUniformMutation(mutationProbability, repairDoubleSolution);
       case "levyFlight" -> createLevyFlightMutation(mutationProbability, repairDoubleSolution);
       case "powerLaw" -> createPowerLawMutation(mutationProbability, repairDoubleSolution);
+      case "arrayPolynomial" ->
+          createArrayPolynomialMutation(mutationProbability, repairDoubleSolution);
       default -> throw new JMetalException("Unsupported mutation operator: " + value());
     };
   }
@@ -168,6 +179,26 @@ public class DoubleMutationParameter extends MutationParameter<DoubleSolution> {
         repairStrategy.getRepairDoubleSolutionStrategy());
   }
   
+  /**
+   * Creates an ArrayPolynomialMutation operator with the given parameters.
+   */
+  private MutationOperator<DoubleSolution> createArrayPolynomialMutation(
+      double mutationProbability, 
+      RepairDoubleSolutionStrategyParameter repairStrategy) {
+    
+    Double distributionIndex =
+        (Double) findConditionalParameter("arrayPolynomialMutationDistributionIndex").value();
+    Check.notNull(distributionIndex) ;
+    @SuppressWarnings("unchecked")
+    var activeVariables =
+        (Function<DoubleSolution, int[]>) nonConfigurableSubParameters().get("activeVariables");
+    return new ArrayPolynomialMutation(
+        mutationProbability, 
+        distributionIndex, 
+        repairStrategy.getRepairDoubleSolutionStrategy(),
+        activeVariables);
+  }
+  
   /**
    * Creates a LinkedPolynomialMutation operator with the given parameters.
    */
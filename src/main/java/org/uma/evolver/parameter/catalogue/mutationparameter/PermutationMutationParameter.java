@@ -1,6 +1,9 @@
 package org.uma.evolver.parameter.catalogue.mutationparameter;
 
 import java.util.List;
+import org.uma.evolver.util.permutation.DeltaInsertMutation;
+import org.uma.evolver.util.permutation.DeltaInversionMutation;
+import org.uma.evolver.util.permutation.DeltaSwapMutation;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.*;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
@@ -21,6 +24,9 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *   <li><b>scramble</b>: Randomly reorders a subsequence of the permutation
  *   <li><b>inversion</b>: Reverses the order of a randomly selected subsequence
  *   <li><b>simpleInversion</b>: A simpler version of inversion with fixed subsequence length
+ *   <li><b>deltaSwap</b>, <b>deltaInsert</b>, <b>deltaInversion</b>: Swap, insert and inversion
+ *       mutations that record the applied move, so problems supporting delta evaluation (e.g.,
+ *       {@link org.uma.evolver.problem.tsp.MultiObjectiveTSP}) update the objectives incrementally
  * </ul>
  *
  * <p>Required parameters:
@@ -49,7 +55,16 @@ public class PermutationMutationParameter extends MutationParameter<PermutationS
 
   /** Valid mutation operator names for permutation solutions. */
   private static final List<String> VALID_OPERATORS = 
-      List.of("swap", "displacement", "insert", "scramble", "inversion", "simpleInversion");
+      List.of(
+          "swap",
+          "displacement",
+          "insert",
+          "scramble",
+          "inversion",
+          "simpleInversion",
+          "deltaSwap",
+          "deltaInsert",
+          "deltaInversion");
 
   /**
    * Constructs a new MutationPermutationParameter with the specified list of mutation operator names.
@@ -108,6 +123,9 @@ public class PermutationMutationParameter extends MutationParameter<PermutationS
       case "scramble" -> new ScrambleMutation<>(mutationProbability);
       case "inversion" -> new InversionMutation<>(mutationProbability);
       case "simpleInversion" -> new SimpleInversionMutation<>(mutationProbability);
+      case "deltaSwap" -> new DeltaSwapMutation(mutationProbability);
+      case "deltaInsert" -> new DeltaInsertMutation(mutationProbability);
+      case "deltaInversion" -> new DeltaInversionMutation(mutationProbability);
       default -> throw new JMetalException("Unsupported permutation mutation operator: " + value());
     };
   }
@@ -3,6 +3,8 @@ package org.uma.evolver.parameter.catalogue.variationparameter;
 import java.util.List;
 import org.uma.evolver.parameter.catalogue.crossoverparameter.CrossoverParameter;
 import org.uma.evolver.parameter.catalogue.mutationparameter.MutationParameter;
+import org.uma.evolver.util.permutation.DeltaEvaluationCrossover;
+import org.uma.evolver.util.permutation.DeltaPermutationMutation;
 import org.uma.jmetal.component.catalogue.ea.variation.Variation;
 import org.uma.jmetal.component.catalogue.ea.variation.impl.CrossoverAndMutationVariation;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
@@ -117,6 +119,12 @@ public class PermutationVariationParameter extends VariationParameter<Permutatio
           crossoverParameter.getCrossover();
       MutationOperator<PermutationSolution<Integer>> mutationOperator = 
           mutationParameter.getMutation();
+
+      // The moves recorded by delta mutations can only be used if the crossover marks the
+      // offspring it leaves unchanged
+      if (mutationOperator instanceof DeltaPermutationMutation) {
+        crossoverOperator = new DeltaEvaluationCrossover(crossoverOperator);
+      }
       
       // Create and return the variation operator
       return new CrossoverAndMutationVariation<>(
@@ -136,6 +136,9 @@ public class DoubleParameterFactory implements ParameterFactory<DoubleSolution>
     // Selection mechanisms
     register("selection", values -> new SelectionParameter<DoubleSolution>(values));
 
+    // Termination conditions
+    register("termination", TerminationParameter::new);
+
     // Variation operators
     register("variation", DoubleVariationParameter::new);
   }
@@ -39,7 +39,7 @@ public class MOPSOParameterFactory implements ParameterFactory<DoubleSolution> {
    *   <caption>Supported MOPSO Parameter Types</caption>
    *   <tr><th>Parameter Name</th><th>Creates</th><th>Description</th></tr>
    *   <tr><td>leaderArchive</td><td>{@link ExternalArchiveParameter}</td><td>Archive for storing leader particles</td></tr>
-   *   <tr><td>externalArchiveType</td><td>{@link ExternalArchiveParameter}</td><td>Type of external archive for non-dominated solutions</td></tr>
+   *   <tr><td>externalArchiveType, archiveType</td><td>{@link ExternalArchiveParameter}</td><td>Type of external archive for non-dominated solutions</td></tr>
    *   <tr><td>swarmInitialization</td><td>{@link CreateInitialSolutionsDoubleParameter}</td><td>Strategy for initializing the swarm</td></tr>
    *   <tr><td>velocityInitialization</td><td>{@link VelocityInitializationParameter}</td><td>Method for initializing particle velocities</td></tr>
    *   <tr><td>perturbation</td><td>{@link PerturbationParameter}</td><td>Perturbation strategy for maintaining diversity</td></tr>
@@ -53,6 +53,7 @@ public class MOPSOParameterFactory implements ParameterFactory<DoubleSolution> {
    *   <tr><td>globalBestSelection</td><td>{@link GlobalBestSelectionParameter}</td><td>Strategy for selecting global best</td></tr>
    *   <tr><td>globalBestUpdate</td><td>{@link GlobalBestUpdateParameter}</td><td>Strategy for updating global best position</td></tr>
    *   <tr><td>positionUpdate</td><td>{@link PositionUpdateParameter}</td><td>Position update strategy</td></tr>
+   *   <tr><td>termination</td><td>{@link TerminationParameter}</td><td>Termination condition of the algorithm</td></tr>
    *   <tr><td>any other value</td><td>{@link CategoricalParameter}</td><td>Basic categorical parameter with the given name</td></tr>
    * </table>
    *
@@ -71,7 +72,7 @@ public class MOPSOParameterFactory implements ParameterFactory<DoubleSolution> {
 
     return switch (parameterName) {
       case "leaderArchive" -> new ExternalArchiveParameter<DoubleSolution>(parameterName, values);
-      case "externalArchiveType" -> new ExternalArchiveParameter<DoubleSolution>(parameterName, values);
+      case "externalArchiveType", "archiveType" -> new ExternalArchiveParameter<DoubleSolution>(parameterName, values);
       case "swarmInitialization" -> new CreateInitialSolutionsDoubleParameter(parameterName, values);
       case "velocityInitialization" -> new VelocityInitializationParameter(values);
       case "perturbation" -> new PerturbationParameter(values);
@@ -85,6 +86,7 @@ public class MOPSOParameterFactory implements ParameterFactory<DoubleSolution> {
       case "globalBestSelection" -> new GlobalBestSelectionParameter(values);
       case "globalBestUpdate" -> new GlobalBestUpdateParameter(values);
       case "positionUpdate" -> new PositionUpdateParameter(values);
+      case "termination" -> new TerminationParameter(values);
       default -> new CategoricalParameter(parameterName, values);
     };
   }
@@ -54,6 +54,7 @@ public class PermutationParameterFactory implements ParameterFactory<Permutation
    *   <tr><td>selection</td><td>{@link SelectionParameter}</td><td>Parent selection mechanism</td></tr>
    *   <tr><td>variation</td><td>{@link PermutationVariationParameter}</td><td>Variation operator for permutation solutions</td></tr>
    *   <tr><td>subProblemIdGenerator</td><td>{@link SequenceGeneratorParameter}</td><td>Generator for sub-problem identifiers</td></tr>
+   *   <tr><td>termination</td><td>{@link TerminationParameter}</td><td>Termination condition of the algorithm</td></tr>
    *   <tr><td>any other value</td><td>{@link CategoricalParameter}</td><td>Basic categorical parameter with the given name</td></tr>
    * </table>
    *
@@ -83,6 +84,7 @@ public class PermutationParameterFactory implements ParameterFactory<Permutation
       case "replacement" -> new ReplacementParameter<PermutationSolution<Integer>>(values);
       case "selection" -> new SelectionParameter<PermutationSolution<Integer>>(values);
       case "variation" -> new PermutationVariationParameter(values);
+      case "termination" -> new TerminationParameter(values);
       default -> new CategoricalParameter(parameterName, values);
     };
   }
@@ -0,0 +1,54 @@
+package org.uma.evolver.problem.tsp;
+
+/**
+ * Read-only matrix with the distances between the cities of a TSP instance.
+ *
+ * <p>Implementations store the matrix in a single flat array in row-major order, so the rows are
+ * contiguous in memory, and are immutable, so an instance can be shared by all the problems and
+ * threads using the same TSP instance (see {@link TSPInstanceLoader}).
+ */
+public interface DistanceMatrix {
+  /**
+   * Returns the number of cities, which is the number of rows and columns of the matrix.
+   *
+   * @return the number of cities
+   */
+  int numberOfCities();
+
+  /**
+   * Returns the distance from a city to another one.
+   *
+   * @param from the index of the origin city
+   * @param to the index of the destination city
+   * @return the distance
+   */
+  double distance(int from, int to);
+
+  /**
+   * Returns whether the distance from any city to another one is equal to the distance in the
+   * opposite direction.
+   *
+   * @return true if the matrix is symmetric
+   */
+  boolean isSymmetric();
+
+  /**
+   * Checks whether a matrix is symmetric by comparing the distances of every pair of cities in
+   * both directions. Implementations call it once, when they are created, to implement {@link
+   * #isSymmetric()}.
+   *
+   * @param matrix the matrix
+   * @return true if the matrix is symmetric
+   */
+  static boolean computeSymmetry(DistanceMatrix matrix) {
+    int numberOfCities = matrix.numberOfCities();
+    boolean symmetric = true;
+    for (int i = 0; i < numberOfCities && symmetric; i++) {
+      for (int j = i + 1; j < numberOfCities && symmetric; j++) {
+        symmetric = matrix.distance(i, j) == matrix.distance(j, i);
+      }
+    }
+
+    return symmetric;
+  }
+}
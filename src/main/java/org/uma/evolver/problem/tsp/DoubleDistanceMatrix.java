@@ -0,0 +1,42 @@
+package org.uma.evolver.problem.tsp;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+/** {@link DistanceMatrix} storing the distances as doubles in a flat array. */
+public final class DoubleDistanceMatrix implements DistanceMatrix {
+  private final int numberOfCities;
+  private final double[] distances;
+  private final boolean symmetric;
+
+  /**
+   * Creates the matrix, copying the given distances.
+   *
+   * @param distances a square matrix with the distances between the cities
+   */
+  public DoubleDistanceMatrix(double[][] distances) {
+    Check.notNull(distances);
+
+    this.numberOfCities = distances.length;
+    this.distances = new double[numberOfCities * numberOfCities];
+    for (int i = 0; i < numberOfCities; i++) {
+      Check.that(distances[i].length == numberOfCities, "The distance matrix must be square");
+      System.arraycopy(distances[i], 0, this.distances, i * numberOfCities, numberOfCities);
+    }
+    this.symmetric = DistanceMatrix.computeSymmetry(this);
+  }
+
+  @Override
+  public int numberOfCities() {
+    return numberOfCities;
+  }
+
+  @Override
+  public double distance(int from, int to) {
+    return distances[from * numberOfCities + to];
+  }
+
+  @Override
+  public boolean isSymmetric() {
+    return symmetric;
+  }
+}
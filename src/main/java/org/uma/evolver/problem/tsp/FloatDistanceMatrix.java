@@ -0,0 +1,50 @@
+package org.uma.evolver.problem.tsp;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * {@link DistanceMatrix} storing the distances as floats in a flat array, which halves the memory
+ * of {@link DoubleDistanceMatrix} and doubles the number of distances per cache line.
+ *
+ * <p>Integer distances up to 2<sup>24</sup>, such as the rounded Euclidean distances of the
+ * TSPLIB instances, are represented exactly, so the tour lengths are the same as with doubles.
+ */
+public final class FloatDistanceMatrix implements DistanceMatrix {
+  private final int numberOfCities;
+  private final float[] distances;
+  private final boolean symmetric;
+
+  /**
+   * Creates the matrix, converting the given distances to floats.
+   *
+   * @param distances a square matrix with the distances between the cities
+   */
+  public FloatDistanceMatrix(double[][] distances) {
+    Check.notNull(distances);
+
+    this.numberOfCities = distances.length;
+    this.distances = new float[numberOfCities * numberOfCities];
+    for (int i = 0; i < numberOfCities; i++) {
+      Check.that(distances[i].length == numberOfCities, "The distance matrix must be square");
+      for (int j = 0; j < numberOfCities; j++) {
+        this.distances[i * numberOfCities + j] = (float) distances[i][j];
+      }
+    }
+    this.symmetric = DistanceMatrix.computeSymmetry(this);
+  }
+
+  @Override
+  public int numberOfCities() {
+    return numberOfCities;
+  }
+
+  @Override
+  public double distance(int from, int to) {
+    return distances[from * numberOfCities + to];
+  }
+
+  @Override
+  public boolean isSymmetric() {
+    return symmetric;
+  }
+}
@@ -0,0 +1,163 @@
+package org.uma.evolver.problem.tsp;
+
+import java.io.IOException;
+import java.util.List;
+import org.uma.evolver.util.permutation.DeltaEvaluation;
+import org.uma.evolver.util.permutation.PermutationMove;
+import org.uma.jmetal.problem.permutationproblem.PermutationProblem;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Multi-objective traveling salesman problem whose i-th objective is the length of the tour
+ * according to the i-th distance matrix, supporting delta evaluation.
+ *
+ * <p>When a solution carries the moves recorded by the operators of {@code
+ * org.uma.evolver.util.permutation} (see {@link DeltaEvaluation}), its objective values are updated
+ * by adding the lengths of the added edges and subtracting those of the removed ones, which takes
+ * constant time per objective for swap, insert and inversion moves instead of time proportional to
+ * the number of cities. Solutions without recorded moves, e.g., those produced by a crossover, are
+ * fully evaluated.
+ *
+ * <p>Instances can be read from TSPLIB files with {@link #fromTSPLibFiles(String, String...)},
+ * which shares the distance matrices of the files through {@link TSPInstanceLoader}; for example,
+ * the bi-objective kroAB100 instance is {@code fromTSPLibFiles("KroAB100TSP",
+ * "resources/tspInstances/kroA100.tsp", "resources/tspInstances/kroB100.tsp")}. As in jMetal,
+ * Euclidean distances are rounded to the nearest integer, so delta and full evaluations yield
+ * exactly the same values. The problem has no mutable state, so it can be evaluated by several
+ * threads concurrently.
+ */
+public class MultiObjectiveTSP implements PermutationProblem<PermutationSolution<Integer>> {
+  private final String name;
+  private final DistanceMatrix[] distanceMatrices;
+  private final int numberOfCities;
+  private final boolean symmetric;
+
+  /**
+   * Creates the problem.
+   *
+   * @param name the name of the problem
+   * @param distanceMatrices a distance matrix of the same size for each objective
+   */
+  public MultiObjectiveTSP(String name, List<? extends DistanceMatrix> distanceMatrices) {
+    Check.notNull(name);
+    Check.notNull(distanceMatrices);
+    Check.that(!distanceMatrices.isEmpty(), "At least one distance matrix is required");
+
+    this.name = name;
+    this.distanceMatrices = distanceMatrices.toArray(new DistanceMatrix[0]);
+    this.numberOfCities = this.distanceMatrices[0].numberOfCities();
+    for (DistanceMatrix matrix : this.distanceMatrices) {
+      Check.that(
+          matrix.numberOfCities() == numberOfCities,
+          "The distance matrices must have the same size");
+    }
+    this.symmetric = distanceMatrices.stream().allMatch(DistanceMatrix::isSymmetric);
+  }
+
+  /**
+   * Creates a problem with an objective per TSPLIB file, using the shared double precision matrices
+   * of {@link TSPInstanceLoader}.
+   *
+   * @param name the name of the problem
+   * @param instanceFiles the paths of the TSPLIB files
+   * @return the problem
+   * @throws IOException if a file cannot be read
+   */
+  public static MultiObjectiveTSP fromTSPLibFiles(String name, String... instanceFiles)
+      throws IOException {
+    DistanceMatrix[] distanceMatrices;
+
+    distanceMatrices = new DistanceMatrix[instanceFiles.length];
+    for (int i = 0; i < instanceFiles.length; i++) {
+      distanceMatrices[i] = TSPInstanceLoader.load(instanceFiles[i]);
+    }
+
+    return new MultiObjectiveTSP(name, List.of(distanceMatrices));
+  }
+
+  @Override
+  public int numberOfVariables() {
+    return numberOfCities;
+  }
+
+  @Override
+  public int numberOfObjectives() {
+    return distanceMatrices.length;
+  }
+
+  @Override
+  public int numberOfConstraints() {
+    return 0;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public int length() {
+    return numberOfCities;
+  }
+
+  @Override
+  public PermutationSolution<Integer> createSolution() {
+    return new IntegerPermutationSolution(numberOfCities, numberOfObjectives(), 0);
+  }
+
+  @Override
+  public PermutationSolution<Integer> evaluate(PermutationSolution<Integer> solution) {
+    List<PermutationMove> moves;
+
+    moves = DeltaEvaluation.consumeMoves(solution);
+    if (moves == null || (!symmetric && requireSymmetricCosts(moves))) {
+      for (int i = 0; i < distanceMatrices.length; i++) {
+        solution.objectives()[i] = tourLength(solution.variables(), distanceMatrices[i]);
+      }
+    } else {
+      for (int i = 0; i < distanceMatrices.length; i++) {
+        for (PermutationMove move : moves) {
+          solution.objectives()[i] += lengthChange(move, distanceMatrices[i]);
+        }
+      }
+    }
+
+    return solution;
+  }
+
+  private static double tourLength(List<Integer> tour, DistanceMatrix distances) {
+    double result;
+    int previous;
+
+    result = 0.0;
+    previous = tour.get(tour.size() - 1);
+    for (int city : tour) {
+      result += distances.distance(previous, city);
+      previous = city;
+    }
+
+    return result;
+  }
+
+  private static double lengthChange(PermutationMove move, DistanceMatrix distances) {
+    int[] removedEdges;
+    int[] addedEdges;
+    double result;
+
+    removedEdges = move.removedEdges();
+    addedEdges = move.addedEdges();
+    result = 0.0;
+    for (int i = 0; i < addedEdges.length; i += 2) {
+      result += distances.distance(addedEdges[i], addedEdges[i + 1]);
+      result -= distances.distance(removedEdges[i], removedEdges[i + 1]);
+    }
+
+    return result;
+  }
+
+  private static boolean requireSymmetricCosts(List<PermutationMove> moves) {
+    return moves.stream().anyMatch(PermutationMove::requiresSymmetricCosts);
+  }
+}
@@ -0,0 +1,143 @@
+package org.uma.evolver.problem.tsp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Process-wide cache of the distance matrices of TSPLIB instances, such as those in {@code
+ * resources/tspInstances}.
+ *
+ * <p>Each file is parsed once per precision, and the resulting immutable {@link DistanceMatrix} is
+ * shared by all the problems and threads that request it. For example, the kroAB100 and kroAC100
+ * bi-objective instances share the kroA100 matrix, and the workers of a meta-optimization do not
+ * duplicate any of them.
+ *
+ * <p>Only instances with {@code EUC_2D} node coordinates are supported. As in jMetal, the
+ * Euclidean distances are rounded to the nearest integer.
+ */
+public final class TSPInstanceLoader {
+  /** Type used to store the distances. */
+  public enum Precision {
+    /** Distances stored as doubles ({@link DoubleDistanceMatrix}). */
+    DOUBLE,
+    /** Distances stored as floats ({@link FloatDistanceMatrix}). */
+    FLOAT
+  }
+
+  private record Key(Path instanceFile, Precision precision) {}
+
+  private static final Map<Key, DistanceMatrix> cache = new ConcurrentHashMap<>();
+
+  private TSPInstanceLoader() {}
+
+  /**
+   * Returns the distance matrix of a TSPLIB file, with double precision.
+   *
+   * @param instanceFile the path of the TSPLIB file
+   * @return the shared distance matrix
+   * @throws IOException if the file cannot be read
+   */
+  public static DistanceMatrix load(String instanceFile) throws IOException {
+    return load(instanceFile, Precision.DOUBLE);
+  }
+
+  /**
+   * Returns the distance matrix of a TSPLIB file.
+   *
+   * @param instanceFile the path of the TSPLIB file
+   * @param precision the type used to store the distances
+   * @return the shared distance matrix
+   * @throws IOException if the file cannot be read
+   */
+  public static DistanceMatrix load(String instanceFile, Precision precision) throws IOException {
+    Check.notNull(instanceFile);
+    Check.notNull(precision);
+    try {
+      return cache.computeIfAbsent(
+          new Key(Path.of(instanceFile).toAbsolutePath().normalize(), precision),
+          key -> {
+            double[][] distances;
+
+            try {
+              distances = readDistances(key.instanceFile());
+            } catch (IOException exception) {
+              throw new UncheckedIOException(exception);
+            }
+            return switch (key.precision()) {
+              case DOUBLE -> new DoubleDistanceMatrix(distances);
+              case FLOAT -> new FloatDistanceMatrix(distances);
+            };
+          });
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+  }
+
+  /** Removes all the cached matrices. */
+  public static void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the number of cached matrices.
+   *
+   * @return the number of cached matrices
+   */
+  public static int size() {
+    return cache.size();
+  }
+
+  private static double[][] readDistances(Path instanceFile) throws IOException {
+    List<double[]> coordinates;
+    boolean inCoordinateSection;
+    double[][] result;
+
+    coordinates = new ArrayList<>();
+    inCoordinateSection = false;
+    for (String line : Files.readAllLines(instanceFile)) {
+      String trimmedLine;
+
+      trimmedLine = line.trim();
+      if (trimmedLine.startsWith("EDGE_WEIGHT_TYPE") && !trimmedLine.endsWith("EUC_2D")) {
+        throw new JMetalException("Unsupported edge weight type in " + instanceFile + ": " + line);
+      } else if (trimmedLine.equals("NODE_COORD_SECTION")) {
+        inCoordinateSection = true;
+      } else if (trimmedLine.equals("EOF")) {
+        inCoordinateSection = false;
+      } else if (inCoordinateSection && !trimmedLine.isEmpty()) {
+        String[] fields;
+
+        fields = trimmedLine.split("\\s+");
+        coordinates.add(
+            new double[] {Double.parseDouble(fields[1]), Double.parseDouble(fields[2])});
+      }
+    }
+    Check.that(!coordinates.isEmpty(), "No node coordinates found in " + instanceFile);
+
+    result = new double[coordinates.size()][coordinates.size()];
+    for (int i = 0; i < coordinates.size(); i++) {
+      for (int j = i + 1; j < coordinates.size(); j++) {
+        double distance;
+
+        distance =
+            (int)
+                (Math.hypot(
+                        coordinates.get(i)[0] - coordinates.get(j)[0],
+                        coordinates.get(i)[1] - coordinates.get(j)[1])
+                    + 0.5);
+        result[i][j] = distance;
+        result[j][i] = distance;
+      }
+    }
+
+    return result;
+  }
+}
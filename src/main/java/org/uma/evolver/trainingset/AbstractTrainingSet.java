@@ -1,10 +1,18 @@
 package org.uma.evolver.trainingset;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import org.uma.evolver.util.ReferenceFrontThinning;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
  * Abstract base class for {@link TrainingSet} implementations that eliminates
@@ -22,6 +30,14 @@ import org.uma.jmetal.solution.Solution;
  * at any time via
  * {@link #setReferenceFrontDirectory(String)}.
  *
+ * <p>
+ * Large reference fronts can be thinned to a maximum number of points with
+ * {@link #setMaximumReferenceFrontSize(int)}, which reduces the cost of the
+ * indicators computed against them in every run. The thinned copies are
+ * written to a temporary directory the first time the reference fronts are
+ * requested, and the error bound of each one is available with
+ * {@link #referenceFrontErrorBounds()}.
+ *
  * @param <S> the solution type
  */
 public abstract class AbstractTrainingSet<S extends Solution<?>> implements TrainingSet<S> {
@@ -33,6 +49,12 @@ public abstract class AbstractTrainingSet<S extends Solution<?>> implements Trai
   private String referenceFrontDirectory;
   private List<Integer> evaluationsToOptimize;
   private final String name;
+  private int maximumReferenceFrontSize;
+  private final Map<String, ThinnedReferenceFront> thinnedReferenceFronts = new HashMap<>();
+  private Path thinnedReferenceFrontDirectory;
+
+  /** Path and error bound of the thinned copy of a reference front. */
+  private record ThinnedReferenceFront(String path, double errorBound) {}
 
   /**
    * Constructs a training set with the specified configuration. The reference
@@ -90,11 +112,75 @@ public abstract class AbstractTrainingSet<S extends Solution<?>> implements Trai
 
   @Override
   public List<String> referenceFronts() {
+    if (maximumReferenceFrontSize > 0) {
+      return referenceFrontFileNames.stream()
+          .map(fileName -> thinnedReferenceFront(fileName).path())
+          .collect(Collectors.toUnmodifiableList());
+    }
     return referenceFrontFileNames.stream()
         .map(fileName -> referenceFrontDirectory + "/" + fileName)
         .collect(Collectors.toUnmodifiableList());
   }
 
+  /**
+   * Returns the bound of the error introduced by thinning each reference front: the largest
+   * Euclidean distance from a point of the original front to the thinned one, in the objective
+   * space normalized with the bounds of the front. It also bounds the decrease of the additive
+   * epsilon indicator and the change of the distances averaged by IGD.
+   *
+   * @return the error bound of each reference front, 0 for the fronts that are not thinned
+   */
+  public List<Double> referenceFrontErrorBounds() {
+    if (maximumReferenceFrontSize == 0) {
+      return Collections.nCopies(referenceFrontFileNames.size(), 0.0);
+    }
+    return referenceFrontFileNames.stream()
+        .map(fileName -> thinnedReferenceFront(fileName).errorBound())
+        .toList();
+  }
+
+  /**
+   * Returns the thinned copy of a reference front, creating it if it does not exist yet.
+   *
+   * @param fileName the file name of the reference front
+   * @return the path and error bound of the thinned copy
+   * @throws JMetalException if the reference front cannot be read or the copy written
+   */
+  private synchronized ThinnedReferenceFront thinnedReferenceFront(String fileName) {
+    String path = referenceFrontDirectory + "/" + fileName;
+    return thinnedReferenceFronts.computeIfAbsent(
+        path + "#" + maximumReferenceFrontSize,
+        key -> {
+          try {
+            if (thinnedReferenceFrontDirectory == null) {
+              thinnedReferenceFrontDirectory = Files.createTempDirectory("thinnedReferenceFronts");
+              thinnedReferenceFrontDirectory.toFile().deleteOnExit();
+            }
+          } catch (IOException e) {
+            throw new JMetalException("Cannot create the thinned reference front directory", e);
+          }
+
+          Path thinnedPath =
+              thinnedReferenceFrontDirectory.resolve(maximumReferenceFrontSize + "_" + fileName);
+          var thinnedFront =
+              new ReferenceFrontThinning(maximumReferenceFrontSize)
+                  .thinFile(path, thinnedPath.toString());
+          thinnedPath.toFile().deleteOnExit();
+          JMetalLogger.logger.info(
+              "Reference front "
+                  + path
+                  + " thinned from "
+                  + thinnedFront.originalSize()
+                  + " to "
+                  + thinnedFront.front().length
+                  + " points (error bound "
+                  + thinnedFront.maximumDistance()
+                  + ")");
+
+          return new ThinnedReferenceFront(thinnedPath.toString(), thinnedFront.maximumDistance());
+        });
+  }
+
   @Override
   public List<Integer> evaluationsToOptimize() {
     return evaluationsToOptimize;
@@ -138,4 +224,14 @@ public abstract class AbstractTrainingSet<S extends Solution<?>> implements Trai
     this.referenceFrontDirectory = directory;
     return this;
   }
+
+  @Override
+  public TrainingSet<S> setMaximumReferenceFrontSize(int maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException(
+          "Maximum reference front size cannot be negative: " + maximumSize);
+    }
+    this.maximumReferenceFrontSize = maximumSize;
+    return this;
+  }
 }
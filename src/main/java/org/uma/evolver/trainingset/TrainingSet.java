@@ -65,4 +65,15 @@ public interface TrainingSet<S extends Solution<?>> {
    * @return this training set instance for method chaining
    */
   TrainingSet<S> setReferenceFrontDirectory(String directory);
+
+  /**
+   * Sets the maximum number of points of the reference fronts. The paths returned by {@link
+   * #referenceFronts()} refer to thinned copies of the reference fronts that have more points.
+   *
+   * @param maximumSize the maximum number of points of each reference front, or 0 to use the
+   *     original reference fronts
+   * @return this training set instance for method chaining
+   * @see org.uma.evolver.util.ReferenceFrontThinning
+   */
+  TrainingSet<S> setMaximumReferenceFrontSize(int maximumSize);
 }
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.parameter.ActivationGraph;
 import org.uma.evolver.parameter.Parameter;
 import org.uma.evolver.parameter.ParameterManagement;
 import org.uma.jmetal.problem.Problem;
@@ -40,6 +41,7 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
     private final List<QualityIndicator> indicators;
     private final String outputDirectoryName;
     private final MetaOptimizerConfig config;
+    private final ActivationGraph activationGraph;
 
     private boolean headersWritten = false;
 
@@ -66,6 +68,9 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
         this.indicators = indicators;
         this.outputDirectoryName = outputDirectoryName;
         this.config = config;
+        this.activationGraph = new ActivationGraph(
+                configurableAlgorithmProblem.topLevelParameters(),
+                configurableAlgorithmProblem.parameters());
 
         createOutputDirectory();
         writeMetadata();
@@ -160,13 +165,17 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
             headersWritten = true;
         }
 
+        // Candidates evaluated on a subset of the training set are re-evaluated on all of it
         Archive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>();
-        solutions.forEach(archive::add);
+        configurableAlgorithmProblem.reevaluateNonDominatedSolutions(solutions).forEach(archive::add);
         List<DoubleSolution> nonDominatedSolutions = archive.solutions();
+        List<long[]> activeSets = nonDominatedSolutions.stream()
+                .map(solution -> activationGraph.activeSet(solution.variables()))
+                .toList();
 
         writeIndicators(nonDominatedSolutions);
-        writeConfigurations(nonDominatedSolutions);
-        writeVarConf(nonDominatedSolutions);
+        writeConfigurations(nonDominatedSolutions, activeSets);
+        writeVarConf(nonDominatedSolutions, activeSets);
     }
 
     private void writeHeaders() throws IOException {
@@ -209,23 +218,22 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
         }
     }
 
-    private void writeConfigurations(List<DoubleSolution> solutions) throws IOException {
-        List<Parameter<?>> topLevelParams = configurableAlgorithmProblem.topLevelParameters();
+    private void writeConfigurations(List<DoubleSolution> solutions, List<long[]> activeSets)
+            throws IOException {
         List<Parameter<?>> flattenedParams = configurableAlgorithmProblem.parameters();
 
         try (BufferedWriter writer = new BufferedWriter(
                 new FileWriter(new File(outputDirectoryName, "CONFIGURATIONS.csv"), true))) {
             for (int i = 0; i < solutions.size(); i++) {
                 DoubleSolution solution = solutions.get(i);
-                java.util.Set<Integer> activeIndices = ParameterManagement.getActiveParameterIndices(
-                        topLevelParams, flattenedParams, solution.variables());
+                long[] activeSet = activeSets.get(i);
 
                 StringBuilder line = new StringBuilder();
                 line.append(evaluations).append(",").append(i);
 
                 for (int varIndex = 0; varIndex < flattenedParams.size(); varIndex++) {
                     Parameter<?> parameter = flattenedParams.get(varIndex);
-                    if (activeIndices.contains(varIndex)) {
+                    if (ActivationGraph.isActive(activeSet, varIndex)) {
                         Double value = solution.variables().get(varIndex);
                         double decoded = ParameterManagement.decodeParameterToDoubleValues(parameter, value);
                         line.append(",").append(decoded);
@@ -240,8 +248,8 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
         }
     }
 
-    private void writeVarConf(List<DoubleSolution> solutions) throws IOException {
-        List<Parameter<?>> topLevelParams = configurableAlgorithmProblem.topLevelParameters();
+    private void writeVarConf(List<DoubleSolution> solutions, List<long[]> activeSets)
+            throws IOException {
         List<Parameter<?>> flattenedParams = configurableAlgorithmProblem.parameters();
 
         try (BufferedWriter writer = new BufferedWriter(
@@ -250,8 +258,6 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
             writer.newLine();
             for (int i = 0; i < solutions.size(); i++) {
                 DoubleSolution solution = solutions.get(i);
-                java.util.Set<Integer> activeIndices = ParameterManagement.getActiveParameterIndices(
-                        topLevelParams, flattenedParams, solution.variables());
 
                 // Build indicator values string
                 StringBuilder indicatorValues = new StringBuilder();
@@ -265,7 +271,7 @@ public class ConsolidatedOutputResults implements EvaluationOutputWriter {
                 }
                 // Build configuration string with only active parameters
                 StringBuilder parameterString = ParameterManagement.decodeActiveParametersToString(
-                        flattenedParams, solution.variables(), activeIndices);
+                        flattenedParams, solution.variables(), activeSets.get(i));
                 // Write: indicators | configuration
                 writer.write(indicatorValues.toString() + " | " + parameterString.toString());
                 writer.newLine();
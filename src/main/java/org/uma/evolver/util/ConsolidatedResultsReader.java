@@ -0,0 +1,182 @@
+package org.uma.evolver.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.problem.WarmStartProblem;
+import org.uma.evolver.parameter.Parameter;
+import org.uma.evolver.parameter.ParameterManagement;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Reads the configurations written by {@link ConsolidatedOutputResults} in previous
+ * meta-optimization runs and encodes them back into solutions of a {@link
+ * MetaOptimizationProblem}, so that they can seed a new run (see {@link WarmStartProblem}).
+ *
+ * <p>Only the last checkpoint of each directory is read, i.e., the rows of CONFIGURATIONS.csv
+ * with the highest evaluation number. The columns are matched by name with the parameters of the
+ * problem, so the previous runs may have used a different parameter space; the variables of
+ * parameters that are missing, unknown or inactive (NaN) are drawn at random. If INDICATORS.csv
+ * holds as many indicators as the problem has objectives, the measured values are copied into the
+ * objectives of the solutions, which are then marked with {@link
+ * WarmStartProblem#MEASURED_OBJECTIVES_ATTRIBUTE}.
+ */
+public class ConsolidatedResultsReader {
+  private final MetaOptimizationProblem<?> problem;
+
+  /**
+   * Creates a new reader.
+   *
+   * @param problem the meta-optimization problem whose solutions are created
+   */
+  public ConsolidatedResultsReader(MetaOptimizationProblem<?> problem) {
+    Check.notNull(problem);
+    this.problem = problem;
+  }
+
+  /**
+   * Reads the configurations of the last checkpoint of the given result directories. A
+   * configuration found in several directories is returned once, with the objectives measured in
+   * the first one.
+   *
+   * @param directories the directories containing CONFIGURATIONS.csv and INDICATORS.csv files
+   * @return the encoded configurations
+   * @throws JMetalException if a file cannot be read or does not match the parameter space
+   */
+  public List<DoubleSolution> readSolutions(String... directories) {
+    Check.notNull(directories);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    Set<List<Double>> readConfigurations = new HashSet<>();
+    for (String directory : directories) {
+      solutions.addAll(readSolutions(Paths.get(directory), readConfigurations));
+    }
+
+    return solutions;
+  }
+
+  private List<DoubleSolution> readSolutions(
+      Path directory, Set<List<Double>> readConfigurations) {
+    List<String[]> configurations = readLastCheckpoint(directory.resolve("CONFIGURATIONS.csv"));
+    int[] variableIndices = variableIndices(configurations.get(0), directory);
+
+    Map<String, double[]> measuredObjectives = new HashMap<>();
+    Path indicatorsFile = directory.resolve("INDICATORS.csv");
+    if (Files.exists(indicatorsFile)) {
+      List<String[]> indicators = readLastCheckpoint(indicatorsFile);
+      if (indicators.get(0).length - 2 == problem.numberOfObjectives()) {
+        for (String[] row : indicators.subList(1, indicators.size())) {
+          measuredObjectives.put(row[0] + "," + row[1], parseValues(row, 2));
+        }
+      }
+    }
+
+    List<Parameter<?>> parameters = problem.parameters();
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (String[] row : configurations.subList(1, configurations.size())) {
+      // The configuration read, with NaN in the variables left at random
+      List<Double> configuration = new ArrayList<>();
+      for (int variable = 0; variable < parameters.size(); variable++) {
+        configuration.add(Double.NaN);
+      }
+      for (int column = 2; column < row.length; column++) {
+        int variable = variableIndices[column];
+        double value = Double.parseDouble(row[column]);
+        if (variable >= 0 && !Double.isNaN(value)) {
+          configuration.set(
+              variable,
+              ParameterManagement.encodeParameterFromDoubleValues(parameters.get(variable), value));
+        }
+      }
+      if (!readConfigurations.add(configuration)) {
+        continue;
+      }
+
+      DoubleSolution solution = problem.createSolution();
+      for (int variable = 0; variable < configuration.size(); variable++) {
+        if (!Double.isNaN(configuration.get(variable))) {
+          solution.variables().set(variable, configuration.get(variable));
+        }
+      }
+
+      double[] objectives = measuredObjectives.get(row[0] + "," + row[1]);
+      if (objectives != null) {
+        System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+        solution.attributes().put(WarmStartProblem.MEASURED_OBJECTIVES_ATTRIBUTE, true);
+      }
+      solutions.add(solution);
+    }
+
+    return solutions;
+  }
+
+  /** Maps each column of the header to the variable of the parameter with the same name. */
+  private int[] variableIndices(String[] header, Path directory) {
+    List<Parameter<?>> parameters = problem.parameters();
+    Set<Integer> assignedVariables = new HashSet<>();
+    int[] variableIndices = new int[header.length];
+    boolean anyParameterFound = false;
+    for (int column = 0; column < header.length; column++) {
+      variableIndices[column] = -1;
+      // Parameters sharing a name are matched in order of appearance
+      for (int variable = 0; column >= 2 && variable < parameters.size(); variable++) {
+        if (parameters.get(variable).name().equals(header[column])
+            && assignedVariables.add(variable)) {
+          variableIndices[column] = variable;
+          anyParameterFound = true;
+          break;
+        }
+      }
+    }
+    Check.that(
+        anyParameterFound,
+        "The configurations in " + directory + " do not match the parameter space of the problem");
+
+    return variableIndices;
+  }
+
+  /**
+   * Returns the header and the rows of the last checkpoint of a CSV file whose first column is
+   * the number of evaluations.
+   */
+  private static List<String[]> readLastCheckpoint(Path file) {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(file);
+    } catch (IOException e) {
+      throw new JMetalException("Error reading " + file, e);
+    }
+    lines.removeIf(line -> line.isBlank());
+    Check.that(lines.size() > 1, "The file " + file + " has no data rows");
+
+    List<String[]> rows = new ArrayList<>();
+    rows.add(lines.get(0).split(","));
+    String lastEvaluation = lines.get(lines.size() - 1).split(",")[0];
+    for (String line : lines.subList(1, lines.size())) {
+      String[] row = line.split(",");
+      if (row[0].equals(lastEvaluation)) {
+        rows.add(row);
+      }
+    }
+
+    return rows;
+  }
+
+  private static double[] parseValues(String[] row, int firstColumn) {
+    double[] values = new double[row.length - firstColumn];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Double.parseDouble(row[firstColumn + i]);
+    }
+
+    return values;
+  }
+}
@@ -45,7 +45,8 @@ public class OutputResults implements EvaluationOutputWriter {
 
   public void writeResultsToFiles(List<DoubleSolution> solutions) throws IOException {
     var nonDominatedSolutionsArchive = new NonDominatedSolutionListArchive<DoubleSolution>();
-    nonDominatedSolutionsArchive.addAll(solutions);
+    nonDominatedSolutionsArchive.addAll(
+        configurableAlgorithmProblem.reevaluateNonDominatedSolutions(solutions));
 
     StringBuilder problemDescriptionBuilder = new StringBuilder();
     problemDescriptionBuilder.append(algorithmName).append(".").append(problemName).append(".");
@@ -0,0 +1,290 @@
+package org.uma.evolver.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Utility class for reducing reference fronts to a bounded number of well-spread points, so that
+ * the cost of the indicators that compare a front with every point of the reference front (e.g.,
+ * IGD or the additive epsilon indicator) does not depend on the size of the reference front files.
+ *
+ * <h2>Approach</h2>
+ *
+ * <p>The points are selected with farthest-point sampling in the objective space normalized with
+ * the bounds of the front: the extreme points (those with the minimum and maximum value of each
+ * objective) are selected first, and then the point farthest from the selected ones is added until
+ * the maximum size is reached or every point coincides with a selected one. Keeping the extreme
+ * points preserves the bounds of the front, so the normalization and the hypervolume reference
+ * point computed from the thinned front are the same as with the original one.
+ *
+ * <h2>Error bound</h2>
+ *
+ * <p>Every point of the original front is within {@link ThinnedFront#maximumDistance()}
+ * (Euclidean) and {@link ThinnedFront#maximumChebyshevDistance()} of a point of the thinned front,
+ * in the normalized objective space. Consequently, for any front, the additive epsilon indicator
+ * computed with the thinned front is not greater than with the original one, and at most the
+ * Chebyshev distance lower; the distance from any original reference point to the front, which IGD
+ * averages, changes by at most the Euclidean distance. Farthest-point sampling selects a subset
+ * whose maximum distance is at most twice the smallest achievable with the same number of points.
+ *
+ * <p>Usage: java ReferenceFrontThinning maximumSize [inputDirectory] [outputDirectory]
+ *
+ * @see org.uma.evolver.trainingset.AbstractTrainingSet#setMaximumReferenceFrontSize(int)
+ */
+public class ReferenceFrontThinning {
+
+  /**
+   * A thinned reference front together with the bounds of the error it introduces.
+   *
+   * @param front the selected points, in the order of the original front
+   * @param originalSize the number of points of the original front
+   * @param maximumDistance the largest Euclidean distance from an original point to the thinned
+   *     front, in the normalized objective space
+   * @param maximumChebyshevDistance the largest Chebyshev distance from an original point to the
+   *     thinned front, in the normalized objective space
+   */
+  public record ThinnedFront(
+      double[][] front,
+      int originalSize,
+      double maximumDistance,
+      double maximumChebyshevDistance) {}
+
+  private final int maximumSize;
+
+  /**
+   * Constructs a thinning with the specified maximum size.
+   *
+   * @param maximumSize the maximum number of points of the thinned fronts
+   * @throws IllegalArgumentException if maximumSize is not positive
+   */
+  public ReferenceFrontThinning(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Thins a reference front. Fronts not larger than the maximum size are returned unchanged, and
+   * fronts with fewer distinct points than the maximum size are reduced to their distinct points.
+   *
+   * @param front the reference front
+   * @return the thinned front and its error bounds
+   * @throws IllegalArgumentException if the front is empty or the maximum size is lower than the
+   *     number of extreme points of the front
+   */
+  public ThinnedFront thin(double[][] front) {
+    if (front == null || front.length == 0) {
+      throw new IllegalArgumentException("Reference front cannot be null or empty");
+    }
+    if (front.length <= maximumSize) {
+      return new ThinnedFront(copy(front), front.length, 0.0, 0.0);
+    }
+
+    double[][] normalizedFront = normalize(front);
+    int numberOfObjectives = front[0].length;
+    boolean[] selected = new boolean[front.length];
+    double[] distances = new double[front.length];
+    double[] chebyshevDistances = new double[front.length];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    Arrays.fill(chebyshevDistances, Double.POSITIVE_INFINITY);
+
+    int numberOfSelectedPoints = 0;
+    for (int objective = 0; objective < numberOfObjectives; objective++) {
+      for (int extremeIndex : extremePoints(front, objective)) {
+        if (!selected[extremeIndex]) {
+          if (numberOfSelectedPoints == maximumSize) {
+            throw new IllegalArgumentException(
+                "Maximum size " + maximumSize + " is lower than the number of extreme points");
+          }
+          select(extremeIndex, normalizedFront, selected, distances, chebyshevDistances);
+          numberOfSelectedPoints++;
+        }
+      }
+    }
+
+    while (numberOfSelectedPoints < maximumSize) {
+      int farthest = 0;
+      for (int i = 1; i < front.length; i++) {
+        if (distances[i] > distances[farthest]) {
+          farthest = i;
+        }
+      }
+      if (distances[farthest] == 0.0) {
+        break;
+      }
+      select(farthest, normalizedFront, selected, distances, chebyshevDistances);
+      numberOfSelectedPoints++;
+    }
+
+    double[][] thinnedFront = new double[numberOfSelectedPoints][];
+    for (int i = 0, j = 0; i < front.length; i++) {
+      if (selected[i]) {
+        thinnedFront[j++] = front[i].clone();
+      }
+    }
+    return new ThinnedFront(
+        thinnedFront,
+        front.length,
+        Math.sqrt(Arrays.stream(distances).max().orElse(0.0)),
+        Arrays.stream(chebyshevDistances).max().orElse(0.0));
+  }
+
+  /**
+   * Marks a point as selected and updates the distances from every point to the selected ones.
+   */
+  private static void select(
+      int index,
+      double[][] normalizedFront,
+      boolean[] selected,
+      double[] distances,
+      double[] chebyshevDistances) {
+    selected[index] = true;
+    double[] selectedPoint = normalizedFront[index];
+    for (int i = 0; i < normalizedFront.length; i++) {
+      double squaredDistance = 0.0;
+      double chebyshevDistance = 0.0;
+      for (int k = 0; k < selectedPoint.length; k++) {
+        double difference = Math.abs(normalizedFront[i][k] - selectedPoint[k]);
+        squaredDistance += difference * difference;
+        chebyshevDistance = Math.max(chebyshevDistance, difference);
+      }
+      distances[i] = Math.min(distances[i], squaredDistance);
+      chebyshevDistances[i] = Math.min(chebyshevDistances[i], chebyshevDistance);
+    }
+  }
+
+  /**
+   * Returns the indices of the points with the minimum and the maximum value of an objective.
+   */
+  private static int[] extremePoints(double[][] front, int objective) {
+    int minimum = 0;
+    int maximum = 0;
+    for (int i = 1; i < front.length; i++) {
+      if (front[i][objective] < front[minimum][objective]) {
+        minimum = i;
+      }
+      if (front[i][objective] > front[maximum][objective]) {
+        maximum = i;
+      }
+    }
+    return new int[] {minimum, maximum};
+  }
+
+  /**
+   * Normalizes a front to [0, 1] in every objective; constant objectives are mapped to 0.
+   */
+  private static double[][] normalize(double[][] front) {
+    int numberOfObjectives = front[0].length;
+    double[] minValues = new double[numberOfObjectives];
+    double[] maxValues = new double[numberOfObjectives];
+    Arrays.fill(minValues, Double.POSITIVE_INFINITY);
+    Arrays.fill(maxValues, Double.NEGATIVE_INFINITY);
+    for (double[] point : front) {
+      for (int k = 0; k < numberOfObjectives; k++) {
+        minValues[k] = Math.min(minValues[k], point[k]);
+        maxValues[k] = Math.max(maxValues[k], point[k]);
+      }
+    }
+
+    double[][] normalizedFront = new double[front.length][numberOfObjectives];
+    for (int i = 0; i < front.length; i++) {
+      for (int k = 0; k < numberOfObjectives; k++) {
+        double range = maxValues[k] - minValues[k];
+        normalizedFront[i][k] = range > 0.0 ? (front[i][k] - minValues[k]) / range : 0.0;
+      }
+    }
+    return normalizedFront;
+  }
+
+  private static double[][] copy(double[][] front) {
+    return Arrays.stream(front).map(double[]::clone).toArray(double[][]::new);
+  }
+
+  /**
+   * Reads a reference front file, thins it and writes the result to another file.
+   *
+   * @param inputPath the path of the reference front CSV file
+   * @param outputPath the path of the thinned reference front CSV file
+   * @return the thinned front and its error bounds
+   * @throws JMetalException if a file cannot be read or written
+   */
+  public ThinnedFront thinFile(String inputPath, String outputPath) {
+    try {
+      ThinnedFront thinnedFront = thin(VectorUtils.readVectors(inputPath, ","));
+      write(thinnedFront.front(), outputPath);
+      return thinnedFront;
+    } catch (IOException e) {
+      throw new JMetalException("Error thinning reference front: " + inputPath, e);
+    }
+  }
+
+  private static void write(double[][] front, String path) throws IOException {
+    File parent = new File(path).getParentFile();
+    if (parent != null && !parent.exists()) {
+      parent.mkdirs();
+    }
+
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(path))) {
+      for (double[] point : front) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < point.length; i++) {
+          if (i > 0) {
+            line.append(",");
+          }
+          line.append(point[i]);
+        }
+        writer.write(line.toString());
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Main method to thin all the reference fronts of a directory that are larger than a maximum
+   * size, reporting the error bound of each one.
+   *
+   * @param args command line arguments: maximumSize [inputDirectory] [outputDirectory]
+   */
+  public static void main(String[] args) {
+    if (args.length < 1) {
+      System.err.println(
+          "Usage: java ReferenceFrontThinning maximumSize [inputDirectory] [outputDirectory]");
+      return;
+    }
+
+    int maximumSize = Integer.parseInt(args[0]);
+    String inputDirectory = args.length > 1 ? args[1] : "resources/referenceFronts";
+    String outputDirectory =
+        args.length > 2 ? args[2] : "resources/thinnedReferenceFronts" + maximumSize;
+
+    File[] files = new File(inputDirectory).listFiles((dir, name) -> name.endsWith(".csv"));
+    if (files == null || files.length == 0) {
+      System.err.println("No reference front files found in " + inputDirectory);
+      return;
+    }
+    Arrays.sort(files, (f1, f2) -> f1.getName().compareTo(f2.getName()));
+
+    ReferenceFrontThinning thinning = new ReferenceFrontThinning(maximumSize);
+    for (File file : files) {
+      try {
+        ThinnedFront thinnedFront =
+            thinning.thinFile(file.getPath(), outputDirectory + "/" + file.getName());
+        System.out.printf(
+            "%s: %d -> %d points, maximum distance %.4f, maximum Chebyshev distance %.4f%n",
+            file.getName(),
+            thinnedFront.originalSize(),
+            thinnedFront.front().length,
+            thinnedFront.maximumDistance(),
+            thinnedFront.maximumChebyshevDistance());
+      } catch (JMetalException | IllegalArgumentException e) {
+        System.err.println(file.getName() + ": " + e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package org.uma.evolver.util.anytime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.uma.evolver.util.dominance.DominanceKernel;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observer.Observer;
+
+/**
+ * Observer that captures the non-dominated front of the population of a run at a list of evaluation
+ * checkpoints, so that the anytime performance of the run can be assessed at several budgets.
+ *
+ * <p>The front is captured the first time the number of evaluations reported by the algorithm
+ * reaches each checkpoint; when several checkpoints are reached at once, they share the same front.
+ * The checkpoints not reached by the run (e.g., because its budget is lower or it stops early)
+ * are given the front of its result with {@link #complete(List)}.
+ */
+public class AnytimeProfileObserver implements Observer<Map<String, Object>> {
+  private final int[] checkpoints;
+  private final List<double[][]> fronts;
+
+  /**
+   * Creates the observer.
+   *
+   * @param checkpoints the evaluations at which the front is captured, in increasing order
+   */
+  public AnytimeProfileObserver(int[] checkpoints) {
+    Check.notNull(checkpoints);
+    Check.that(checkpoints.length > 0, "The list of checkpoints is empty");
+    this.checkpoints = checkpoints.clone();
+    this.fronts = new ArrayList<>(checkpoints.length);
+  }
+
+  @Override
+  public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+    int evaluations = (int) data.get("EVALUATIONS");
+    if (fronts.size() < checkpoints.length
+        && evaluations >= checkpoints[fronts.size()]
+        && data.get("POPULATION") instanceof List<?> population
+        && !population.isEmpty()) {
+      double[][] front = nonDominatedFront(population);
+      while (fronts.size() < checkpoints.length && evaluations >= checkpoints[fronts.size()]) {
+        fronts.add(front);
+      }
+    }
+  }
+
+  /**
+   * Assigns the front of the result of the run to the checkpoints it has not reached.
+   *
+   * @param result the solutions returned by the run
+   */
+  public void complete(List<? extends Solution<?>> result) {
+    if (fronts.size() < checkpoints.length) {
+      double[][] front = nonDominatedFront(result);
+      while (fronts.size() < checkpoints.length) {
+        fronts.add(front);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static double[][] nonDominatedFront(List<?> solutions) {
+    // The objectives are copied, as the solutions may be modified after the checkpoint
+    return DominanceKernel.nonDominatedSolutions((List<Solution<?>>) solutions).stream()
+        .map(solution -> solution.objectives().clone())
+        .toArray(double[][]::new);
+  }
+
+  /**
+   * Returns the checkpoints of the observer.
+   *
+   * @return the checkpoints in increasing order
+   */
+  public int[] checkpoints() {
+    return checkpoints.clone();
+  }
+
+  /**
+   * Returns the front captured at a checkpoint.
+   *
+   * @param checkpoint the checkpoint
+   * @return the objective values of the non-dominated solutions captured at the checkpoint
+   * @throws org.uma.jmetal.util.errorchecking.JMetalException if the value is not a checkpoint of
+   *     the observer or its front has not been captured
+   */
+  public double[][] front(int checkpoint) {
+    int index = Arrays.binarySearch(checkpoints, checkpoint);
+    Check.that(index >= 0, "The value is not a checkpoint: " + checkpoint);
+    Check.that(index < fronts.size(), "The front has not been captured yet: " + checkpoint);
+    return fronts.get(index);
+  }
+}
@@ -0,0 +1,85 @@
+package org.uma.evolver.util.anytime;
+
+import java.util.Arrays;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * A quality indicator that aggregates the anytime performance of a single run of an algorithm,
+ * given by the normalized hypervolume of its non-dominated front at a list of evaluation
+ * checkpoints.
+ *
+ * <p>As {@link org.uma.evolver.util.EvaluationsQualityIndicator}, this indicator does not measure
+ * the front passed to {@link #compute(double[][])}: when one of its subclasses is among the
+ * indicators of a {@link org.uma.evolver.meta.problem.MetaOptimizationProblem}, the problem attaches
+ * an {@link AnytimeProfileObserver} to each base-level run, computes the normalized hypervolume of
+ * the fronts captured at the checkpoints and sets it with {@link #setProfile(double[])}. Several
+ * budgets are thus assessed with a single run.
+ *
+ * <p>The normalized hypervolume is the one of {@link
+ * org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume}, so the lower the values of the
+ * profile, the better.
+ */
+public abstract class AnytimeQualityIndicator extends QualityIndicator {
+  /** The evaluation checkpoints, in increasing order. */
+  protected final int[] checkpoints;
+
+  private double[] profile;
+
+  /**
+   * Creates the indicator.
+   *
+   * @param checkpoints the evaluations at which the front is captured
+   */
+  protected AnytimeQualityIndicator(int... checkpoints) {
+    Check.notNull(checkpoints);
+    Check.that(checkpoints.length > 0, "The list of checkpoints is empty");
+    this.checkpoints = Arrays.stream(checkpoints).distinct().sorted().toArray();
+    Check.that(
+        this.checkpoints[0] > 0, "The checkpoints must be positive: " + this.checkpoints[0]);
+  }
+
+  /**
+   * Returns the evaluation checkpoints of the indicator.
+   *
+   * @return the checkpoints in increasing order
+   */
+  public int[] checkpoints() {
+    return checkpoints.clone();
+  }
+
+  /**
+   * Sets the normalized hypervolume of the fronts captured at the checkpoints of a run.
+   *
+   * @param profile the normalized hypervolume at each checkpoint
+   */
+  public void setProfile(double[] profile) {
+    Check.notNull(profile);
+    Check.that(
+        profile.length == checkpoints.length,
+        "The profile has "
+            + profile.length
+            + " values instead of one per checkpoint: "
+            + checkpoints.length);
+    this.profile = profile.clone();
+  }
+
+  @Override
+  public double compute(double[][] front) {
+    Check.notNull(profile);
+    return aggregate(profile);
+  }
+
+  /**
+   * Aggregates the normalized hypervolume at the checkpoints into a single value.
+   *
+   * @param profile the normalized hypervolume at each checkpoint
+   * @return the indicator value
+   */
+  protected abstract double aggregate(double[] profile);
+
+  @Override
+  public boolean isTheLowerTheIndicatorValueTheBetter() {
+    return true;
+  }
+}
@@ -0,0 +1,60 @@
+package org.uma.evolver.util.anytime;
+
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Anytime indicator returning the first checkpoint at which the normalized hypervolume of a run is
+ * not greater than a target value. Runs that do not reach the target are given twice the last
+ * checkpoint, as in the penalized average runtime (PAR2) used in algorithm configuration, so that
+ * they are worse than any run reaching it.
+ */
+public class EvaluationsToTargetIndicator extends AnytimeQualityIndicator {
+  private final double target;
+
+  /**
+   * Creates the indicator.
+   *
+   * @param target the normalized hypervolume to reach
+   * @param checkpoints the evaluations at which the front is captured
+   */
+  public EvaluationsToTargetIndicator(double target, int... checkpoints) {
+    super(checkpoints);
+    Check.valueIsInRange(target, 0.0, 1.0);
+    this.target = target;
+  }
+
+  @Override
+  protected double aggregate(double[] profile) {
+    for (int i = 0; i < checkpoints.length; i++) {
+      if (profile[i] <= target) {
+        return checkpoints[i];
+      }
+    }
+    return 2.0 * checkpoints[checkpoints.length - 1];
+  }
+
+  /**
+   * Returns the normalized hypervolume to reach.
+   *
+   * @return the target value
+   */
+  public double target() {
+    return target;
+  }
+
+  @Override
+  public QualityIndicator newInstance() {
+    return new EvaluationsToTargetIndicator(target, checkpoints);
+  }
+
+  @Override
+  public String name() {
+    return "EvalsToTarget";
+  }
+
+  @Override
+  public String description() {
+    return "Evaluations needed to reach a target normalized hypervolume";
+  }
+}
@@ -0,0 +1,49 @@
+package org.uma.evolver.util.anytime;
+
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+
+/**
+ * Anytime indicator returning the area under the normalized hypervolume curve of a run, computed
+ * with the trapezoidal rule over the checkpoints and divided by the range of evaluations they
+ * span. The result is the mean normalized hypervolume of the run between the first and the last
+ * checkpoint, so configurations that converge earlier get lower values than configurations that
+ * only reach the same front at the end of the budget.
+ */
+public class HypervolumeAreaIndicator extends AnytimeQualityIndicator {
+  /**
+   * Creates the indicator.
+   *
+   * @param checkpoints the evaluations at which the front is captured
+   */
+  public HypervolumeAreaIndicator(int... checkpoints) {
+    super(checkpoints);
+  }
+
+  @Override
+  protected double aggregate(double[] profile) {
+    if (checkpoints.length == 1) {
+      return profile[0];
+    }
+
+    double area = 0.0;
+    for (int i = 1; i < checkpoints.length; i++) {
+      area += (checkpoints[i] - checkpoints[i - 1]) * (profile[i] + profile[i - 1]) / 2.0;
+    }
+    return area / (checkpoints[checkpoints.length - 1] - checkpoints[0]);
+  }
+
+  @Override
+  public QualityIndicator newInstance() {
+    return new HypervolumeAreaIndicator(checkpoints);
+  }
+
+  @Override
+  public String name() {
+    return "NHVArea";
+  }
+
+  @Override
+  public String description() {
+    return "Area under the normalized hypervolume curve of a run";
+  }
+}
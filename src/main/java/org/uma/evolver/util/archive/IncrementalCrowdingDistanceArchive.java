@@ -0,0 +1,270 @@
+package org.uma.evolver.util.archive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.evolver.util.dominance.KernelDominanceComparator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Bounded archive of non-dominated solutions that, when full, discards the solution having the
+ * lowest crowding distance, as {@link org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive}
+ * does. Contrary to that archive, the crowding distances are not recomputed over the whole archive
+ * every time it overflows.
+ *
+ * <p>For each objective, the archive keeps its members sorted by that objective together with the
+ * distance between the two neighbours of each member in the sorted order. Inserting or removing a
+ * solution only requires updating the entries of its neighbours in each objective. The
+ * normalization by the objective ranges is applied when the crowding distance of a solution is
+ * requested, so a change of the extreme values of an objective does not force any recomputation.
+ *
+ * <p>The crowding distances are always up to date, so {@link #computeDensityEstimator()} only
+ * stores them in the {@link #ATTRIBUTE_ID} attribute of the solutions. The {@link #comparator()}
+ * ranks first the solutions with the highest crowding distances.
+ *
+ * @param <S> the type of the solutions stored in the archive
+ */
+public class IncrementalCrowdingDistanceArchive<S extends Solution<?>>
+    implements BoundedArchive<S> {
+  /** Attribute where {@link #computeDensityEstimator()} stores the crowding distances. */
+  public static final String ATTRIBUTE_ID = IncrementalCrowdingDistanceArchive.class.getName();
+
+  private final int maximumSize;
+  private final List<S> solutions;
+  private final Map<S, Entry<S>> entryOfSolution;
+  private final Comparator<S> dominanceComparator;
+  private final Comparator<S> crowdingDistanceComparator;
+  private List<List<Entry<S>>> sortedEntries;
+
+  /**
+   * Creates an archive.
+   *
+   * @param maximumSize the maximum number of solutions in the archive
+   */
+  public IncrementalCrowdingDistanceArchive(int maximumSize) {
+    Check.that(maximumSize > 0, "The maximum size must be positive: " + maximumSize);
+    this.maximumSize = maximumSize;
+    this.solutions = new ArrayList<>();
+    this.entryOfSolution = new IdentityHashMap<>();
+    this.dominanceComparator = new KernelDominanceComparator<>();
+    this.crowdingDistanceComparator =
+        Comparator.comparingDouble(this::crowdingDistance).reversed();
+  }
+
+  /**
+   * Adds a solution to the archive if it is not dominated by (or equal to) any of the stored
+   * solutions. The solutions dominated by it are removed and, if the maximum size is exceeded, the
+   * solution with the lowest crowding distance is discarded.
+   *
+   * @param solution the solution to add
+   * @return {@code true} if the solution was accepted as non-dominated
+   */
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+    if (sortedEntries == null) {
+      sortedEntries = new ArrayList<>();
+      for (int j = 0; j < solution.objectives().length; j++) {
+        sortedEntries.add(new ArrayList<>());
+      }
+    }
+
+    boolean accepted = true;
+    List<S> dominatedSolutions = new ArrayList<>();
+    for (int i = 0; i < solutions.size() && accepted; i++) {
+      S member = solutions.get(i);
+      int flag = dominanceComparator.compare(solution, member);
+      if (flag < 0) {
+        dominatedSolutions.add(member);
+      } else if (flag > 0 || Arrays.equals(solution.objectives(), member.objectives())) {
+        accepted = false;
+      }
+    }
+
+    if (accepted) {
+      dominatedSolutions.forEach(this::remove);
+      insert(solution);
+
+      if (solutions.size() > maximumSize) {
+        remove(worst());
+      }
+    }
+
+    return accepted;
+  }
+
+  /**
+   * Returns the crowding distance of a solution of the archive, computed with the objective ranges
+   * of the current members. The extreme solutions of each objective, as well as the members of an
+   * archive with fewer than three solutions, get an infinite distance.
+   *
+   * @param solution a solution of the archive
+   * @return the crowding distance, or 0 if the solution is not in the archive
+   */
+  public double crowdingDistance(S solution) {
+    double distance = 0.0;
+    Entry<S> entry = entryOfSolution.get(solution);
+    if (entry != null) {
+      for (int j = 0; j < sortedEntries.size(); j++) {
+        List<Entry<S>> sorted = sortedEntries.get(j);
+        double range =
+            sorted.get(sorted.size() - 1).solution.objectives()[j]
+                - sorted.get(0).solution.objectives()[j];
+        if (Double.isInfinite(entry.gaps[j])) {
+          distance = Double.POSITIVE_INFINITY;
+        } else if (range > 0) {
+          distance += entry.gaps[j] / range;
+        }
+      }
+    }
+    return distance;
+  }
+
+  @Override
+  public S get(int index) {
+    return solutions.get(index);
+  }
+
+  @Override
+  public List<S> solutions() {
+    return solutions;
+  }
+
+  @Override
+  public int size() {
+    return solutions.size();
+  }
+
+  @Override
+  public Archive<S> join(Archive<S> archive) {
+    archive.solutions().forEach(this::add);
+    return this;
+  }
+
+  @Override
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return crowdingDistanceComparator;
+  }
+
+  /** Stores the current crowding distance of each member in its {@link #ATTRIBUTE_ID} attribute. */
+  @Override
+  public void computeDensityEstimator() {
+    solutions.forEach(
+        solution -> solution.attributes().put(ATTRIBUTE_ID, crowdingDistance(solution)));
+  }
+
+  @Override
+  public void sortByDensityEstimator() {
+    solutions.sort(crowdingDistanceComparator);
+  }
+
+  private S worst() {
+    S worst = solutions.get(0);
+    double lowestDistance = crowdingDistance(worst);
+    for (int i = 1; i < solutions.size(); i++) {
+      double distance = crowdingDistance(solutions.get(i));
+      if (distance < lowestDistance) {
+        lowestDistance = distance;
+        worst = solutions.get(i);
+      }
+    }
+    return worst;
+  }
+
+  private void insert(S solution) {
+    Entry<S> entry = new Entry<>(solution, sortedEntries.size());
+    entryOfSolution.put(solution, entry);
+    solutions.add(solution);
+
+    for (int j = 0; j < sortedEntries.size(); j++) {
+      List<Entry<S>> sorted = sortedEntries.get(j);
+      int position = upperBound(sorted, j, solution.objectives()[j]);
+      sorted.add(position, entry);
+      updateGaps(sorted, j, position - 1, position + 1);
+    }
+  }
+
+  private void remove(S solution) {
+    Entry<S> entry = entryOfSolution.remove(solution);
+    solutions.removeIf(member -> member == solution);
+
+    for (int j = 0; j < sortedEntries.size(); j++) {
+      List<Entry<S>> sorted = sortedEntries.get(j);
+      int position = lowerBound(sorted, j, solution.objectives()[j]);
+      while (sorted.get(position) != entry) {
+        position++;
+      }
+      sorted.remove(position);
+      updateGaps(sorted, j, position - 1, position);
+    }
+  }
+
+  /** Recomputes the gaps in objective {@code j} of the entries between two positions, inclusive. */
+  private void updateGaps(List<Entry<S>> sorted, int j, int from, int to) {
+    int last = sorted.size() - 1;
+    for (int i = Math.max(from, 0); i <= Math.min(to, last); i++) {
+      sorted.get(i).gaps[j] =
+          (i == 0 || i == last)
+              ? Double.POSITIVE_INFINITY
+              : sorted.get(i + 1).solution.objectives()[j]
+                  - sorted.get(i - 1).solution.objectives()[j];
+    }
+  }
+
+  /** Returns the first position whose value in objective {@code j} is not lower than a value. */
+  private static <S extends Solution<?>> int lowerBound(
+      List<Entry<S>> sorted, int j, double value) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted.get(middle).solution.objectives()[j] < value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the first position whose value in objective {@code j} is greater than a value. */
+  private static <S extends Solution<?>> int upperBound(
+      List<Entry<S>> sorted, int j, double value) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted.get(middle).solution.objectives()[j] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Member of the archive together with, for each objective, the difference between the values of
+   * its two neighbours in the order of that objective (infinite if it is an extreme solution).
+   */
+  private static final class Entry<S extends Solution<?>> {
+    private final S solution;
+    private final double[] gaps;
+
+    private Entry(S solution, int numberOfObjectives) {
+      this.solution = solution;
+      this.gaps = new double[numberOfObjectives];
+    }
+  }
+}
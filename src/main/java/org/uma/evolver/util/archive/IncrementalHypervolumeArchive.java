@@ -0,0 +1,161 @@
+package org.uma.evolver.util.archive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.uma.evolver.util.dominance.KernelDominanceComparator;
+import org.uma.evolver.util.hypervolume.IncrementalHypervolumeContributions;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Bounded archive of non-dominated solutions that, when full, discards the solution having the
+ * lowest hypervolume contribution. Contrary to {@link
+ * org.uma.jmetal.util.archive.impl.HypervolumeArchive}, the contributions are not recomputed from
+ * scratch every time the archive overflows: they are maintained by an {@link
+ * IncrementalHypervolumeContributions} instance, which is exact for two and three objectives and
+ * uses a Monte Carlo estimation for more objectives.
+ *
+ * <p>The contribution of each solution is stored as the {@link
+ * IncrementalHypervolumeContributions#ATTRIBUTE_ID} attribute, and the {@link #comparator()} ranks
+ * first the solutions with the highest contributions.
+ *
+ * @param <S> the type of the solutions stored in the archive
+ */
+public class IncrementalHypervolumeArchive<S extends Solution<?>> implements BoundedArchive<S> {
+  private final int maximumSize;
+  private final double offset;
+  private final int numberOfSamples;
+  private final List<S> solutions;
+  private final Comparator<S> dominanceComparator;
+  private final Comparator<S> contributionComparator;
+  private IncrementalHypervolumeContributions<S> contributions;
+
+  /**
+   * Creates an archive using the default offset and number of Monte Carlo samples of {@link
+   * IncrementalHypervolumeContributions}.
+   *
+   * @param maximumSize the maximum number of solutions in the archive
+   */
+  public IncrementalHypervolumeArchive(int maximumSize) {
+    this(
+        maximumSize,
+        IncrementalHypervolumeContributions.DEFAULT_OFFSET,
+        IncrementalHypervolumeContributions.DEFAULT_NUMBER_OF_SAMPLES);
+  }
+
+  /**
+   * Creates an archive.
+   *
+   * @param maximumSize the maximum number of solutions in the archive
+   * @param offset the offset used to build the reference point from the maximum objective values
+   * @param numberOfSamples the number of Monte Carlo samples used with more than three objectives
+   */
+  public IncrementalHypervolumeArchive(int maximumSize, double offset, int numberOfSamples) {
+    Check.that(maximumSize > 0, "The maximum size must be positive: " + maximumSize);
+    this.maximumSize = maximumSize;
+    this.offset = offset;
+    this.numberOfSamples = numberOfSamples;
+    this.solutions = new ArrayList<>();
+    this.dominanceComparator = new KernelDominanceComparator<>();
+    this.contributionComparator =
+        Comparator.comparingDouble(
+                (S solution) ->
+                    (double)
+                        solution
+                            .attributes()
+                            .getOrDefault(IncrementalHypervolumeContributions.ATTRIBUTE_ID, 0.0))
+            .reversed();
+  }
+
+  /**
+   * Adds a solution to the archive if it is not dominated by (or equal to) any of the stored
+   * solutions. The solutions dominated by it are removed and, if the maximum size is exceeded, the
+   * solution with the lowest hypervolume contribution is discarded.
+   *
+   * @param solution the solution to add
+   * @return {@code true} if the solution was accepted as non-dominated
+   */
+  @Override
+  public boolean add(S solution) {
+    if (contributions == null) {
+      contributions =
+          new IncrementalHypervolumeContributions<>(
+              solution.objectives().length, offset, numberOfSamples);
+    }
+
+    boolean accepted = true;
+    List<S> dominatedSolutions = new ArrayList<>();
+    for (int i = 0; i < solutions.size() && accepted; i++) {
+      S member = solutions.get(i);
+      int flag = dominanceComparator.compare(solution, member);
+      if (flag < 0) {
+        dominatedSolutions.add(member);
+      } else if (flag > 0 || Arrays.equals(solution.objectives(), member.objectives())) {
+        accepted = false;
+      }
+    }
+
+    if (accepted) {
+      for (S dominated : dominatedSolutions) {
+        contributions.remove(dominated);
+        solutions.removeIf(member -> member == dominated);
+      }
+      solutions.add(solution);
+      contributions.add(solution);
+
+      if (solutions.size() > maximumSize) {
+        S worst = contributions.worst();
+        contributions.remove(worst);
+        solutions.removeIf(member -> member == worst);
+      }
+    }
+
+    return accepted;
+  }
+
+  @Override
+  public S get(int index) {
+    return solutions.get(index);
+  }
+
+  @Override
+  public List<S> solutions() {
+    return solutions;
+  }
+
+  @Override
+  public int size() {
+    return solutions.size();
+  }
+
+  @Override
+  public Archive<S> join(Archive<S> archive) {
+    archive.solutions().forEach(this::add);
+    return this;
+  }
+
+  @Override
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return contributionComparator;
+  }
+
+  /** The contributions are always up to date, so there is nothing to compute. */
+  @Override
+  public void computeDensityEstimator() {
+    // Contributions are updated on every insertion and removal
+  }
+
+  @Override
+  public void sortByDensityEstimator() {
+    solutions.sort(contributionComparator);
+  }
+}
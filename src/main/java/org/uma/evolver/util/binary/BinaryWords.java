@@ -0,0 +1,66 @@
+package org.uma.evolver.util.binary;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Utilities to operate on the bits of a {@link BinarySet} as 64-bit words, so the binary operators
+ * of this package process 64 bits per instruction instead of calling {@link BitSet#get(int)} and
+ * {@link BitSet#set(int, boolean)} for every bit.
+ */
+public final class BinaryWords {
+  private static final double TWO_TO_THE_32 = 4294967296.0;
+
+  private BinaryWords() {}
+
+  /**
+   * Returns the number of words needed to store a number of bits.
+   *
+   * @param numberOfBits the number of bits
+   * @return the number of words
+   */
+  public static int numberOfWords(int numberOfBits) {
+    return (numberOfBits + Long.SIZE - 1) / Long.SIZE;
+  }
+
+  /**
+   * Returns the words of a binary set; bit {@code i} is bit {@code i % 64} of word {@code i / 64}.
+   *
+   * @param binarySet the binary set
+   * @return a new array with {@link #numberOfWords(int)} words
+   */
+  public static long[] toWords(BinarySet binarySet) {
+    return Arrays.copyOf(
+        binarySet.toLongArray(), numberOfWords(binarySet.getBinarySetLength()));
+  }
+
+  /**
+   * Creates a binary set from its words.
+   *
+   * @param words the words
+   * @param numberOfBits the length of the binary set
+   * @return the binary set
+   */
+  public static BinarySet toBinarySet(long[] words, int numberOfBits) {
+    BinarySet result;
+
+    result = new BinarySet(numberOfBits);
+    result.or(BitSet.valueOf(words));
+
+    return result;
+  }
+
+  /**
+   * Returns a word whose 64 bits are independent and uniformly distributed, drawn from {@link
+   * JMetalRandom} so that runs remain reproducible with its seed.
+   *
+   * @param random the random number generator
+   * @return the random word
+   */
+  public static long randomWord(JMetalRandom random) {
+    return ((long) (random.nextDouble() * TWO_TO_THE_32) << 32)
+        | (long) (random.nextDouble() * TWO_TO_THE_32);
+  }
+}
@@ -0,0 +1,68 @@
+package org.uma.evolver.util.binary;
+
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Bit-flip mutation whose cost depends on the number of flipped bits instead of on the length of
+ * the solution.
+ *
+ * <p>As in the usual bit-flip mutation, each bit is flipped independently with the mutation
+ * probability {@code p}. Instead of drawing a random number per bit, the distance to the next
+ * flipped bit is drawn from the geometric distribution with parameter {@code p}, {@code
+ * floor(ln(u) / ln(1 - p))}, so a solution of {@code n} bits requires about {@code n * p + 1}
+ * random numbers.
+ */
+public class GeometricBitFlipMutation implements MutationOperator<BinarySolution> {
+  private final double mutationProbability;
+
+  /**
+   * Creates the operator.
+   *
+   * @param mutationProbability the probability of flipping each bit
+   */
+  public GeometricBitFlipMutation(double mutationProbability) {
+    Check.probabilityIsValid(mutationProbability);
+    this.mutationProbability = mutationProbability;
+  }
+
+  @Override
+  public BinarySolution execute(BinarySolution solution) {
+    Check.notNull(solution);
+    if (mutationProbability > 0.0) {
+      JMetalRandom random;
+      double logarithmOfComplement;
+
+      random = JMetalRandom.getInstance();
+      logarithmOfComplement = Math.log1p(-mutationProbability);
+      for (BinarySet variable : solution.variables()) {
+        int length;
+        double position;
+
+        length = variable.getBinarySetLength();
+        position = nextSkip(random, logarithmOfComplement);
+        while (position < length) {
+          variable.flip((int) position);
+          position += 1 + nextSkip(random, logarithmOfComplement);
+        }
+      }
+    }
+
+    return solution;
+  }
+
+  @Override
+  public double mutationProbability() {
+    return mutationProbability;
+  }
+
+  private static double nextSkip(JMetalRandom random, double logarithmOfComplement) {
+    // With probability 1, ln(1 - p) is -infinity and every bit is flipped
+    return logarithmOfComplement == Double.NEGATIVE_INFINITY
+        ? 0.0
+        : Math.floor(Math.log(1.0 - random.nextDouble()) / logarithmOfComplement);
+  }
+}
@@ -0,0 +1,108 @@
+package org.uma.evolver.util.binary;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Base class of the binary crossover operators that combine the parents as arrays of 64-bit words.
+ *
+ * <p>With the crossover probability, the words of the variables of two copies of the parents are
+ * recombined by {@link #cross(long[][], long[][], int[])}; otherwise, the copies are returned
+ * unchanged.
+ */
+public abstract class WordCrossover implements CrossoverOperator<BinarySolution> {
+  private final double crossoverProbability;
+
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   */
+  protected WordCrossover(double crossoverProbability) {
+    Check.probabilityIsValid(crossoverProbability);
+    this.crossoverProbability = crossoverProbability;
+  }
+
+  @Override
+  public List<BinarySolution> execute(List<BinarySolution> parents) {
+    List<BinarySolution> offspring;
+
+    Check.notNull(parents);
+    Check.that(parents.size() == 2, "There must be two parents instead of " + parents.size());
+
+    offspring = new ArrayList<>(2);
+    offspring.add((BinarySolution) parents.get(0).copy());
+    offspring.add((BinarySolution) parents.get(1).copy());
+    if (JMetalRandom.getInstance().nextDouble() < crossoverProbability) {
+      int numberOfVariables;
+      long[][] firstWords;
+      long[][] secondWords;
+      int[] numberOfBits;
+
+      numberOfVariables = offspring.get(0).variables().size();
+      firstWords = new long[numberOfVariables][];
+      secondWords = new long[numberOfVariables][];
+      numberOfBits = new int[numberOfVariables];
+      for (int i = 0; i < numberOfVariables; i++) {
+        firstWords[i] = BinaryWords.toWords(offspring.get(0).variables().get(i));
+        secondWords[i] = BinaryWords.toWords(offspring.get(1).variables().get(i));
+        numberOfBits[i] = offspring.get(0).variables().get(i).getBinarySetLength();
+      }
+
+      cross(firstWords, secondWords, numberOfBits);
+
+      for (int i = 0; i < numberOfVariables; i++) {
+        offspring.get(0).variables().set(i, BinaryWords.toBinarySet(firstWords[i], numberOfBits[i]));
+        offspring.get(1).variables().set(i, BinaryWords.toBinarySet(secondWords[i], numberOfBits[i]));
+      }
+    }
+
+    return offspring;
+  }
+
+  /**
+   * Recombines the words of two solutions in place. Bits beyond the length of a variable are zero
+   * in both parents and must remain zero.
+   *
+   * @param first the words of each variable of the first solution
+   * @param second the words of each variable of the second solution
+   * @param numberOfBits the number of bits of each variable
+   */
+  protected abstract void cross(long[][] first, long[][] second, int[] numberOfBits);
+
+  @Override
+  public double crossoverProbability() {
+    return crossoverProbability;
+  }
+
+  @Override
+  public int numberOfRequiredParents() {
+    return 2;
+  }
+
+  @Override
+  public int numberOfGeneratedChildren() {
+    return 2;
+  }
+
+  /**
+   * Exchanges between two words the bits set in a mask.
+   *
+   * @param first the words of the first solution
+   * @param second the words of the second solution
+   * @param index the index of the word
+   * @param mask the bits to exchange
+   */
+  protected static void exchange(long[] first, long[] second, int index, long mask) {
+    long difference;
+
+    difference = (first[index] ^ second[index]) & mask;
+    first[index] ^= difference;
+    second[index] ^= difference;
+  }
+}
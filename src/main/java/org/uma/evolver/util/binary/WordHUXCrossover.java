@@ -0,0 +1,44 @@
+package org.uma.evolver.util.binary;
+
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Half-uniform crossover (HUX) on 64-bit words, with the semantics of jMetal's {@code
+ * HUXCrossover}: in each variable, every bit in which the parents differ is exchanged with
+ * probability 0.5, independently of the others, so half of the differing bits are exchanged on
+ * average.
+ *
+ * <p>The exchange mask of each word is the XOR of the parents' words, which selects the differing
+ * bits, ANDed with a random word; equal words are skipped without drawing random numbers.
+ */
+public class WordHUXCrossover extends WordCrossover {
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   */
+  public WordHUXCrossover(double crossoverProbability) {
+    super(crossoverProbability);
+  }
+
+  @Override
+  protected void cross(long[][] first, long[][] second, int[] numberOfBits) {
+    JMetalRandom random;
+
+    random = JMetalRandom.getInstance();
+    for (int variable = 0; variable < first.length; variable++) {
+      for (int word = 0; word < first[variable].length; word++) {
+        long differences;
+
+        differences = first[variable][word] ^ second[variable][word];
+        if (differences != 0L) {
+          exchange(
+              first[variable],
+              second[variable],
+              word,
+              differences & BinaryWords.randomWord(random));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package org.uma.evolver.util.binary;
+
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Single-point crossover on 64-bit words: a random point is chosen among all the bits of the
+ * solution, considering its variables concatenated, and the bits from that point onwards are
+ * exchanged between the offspring, a whole word at a time.
+ */
+public class WordSinglePointCrossover extends WordCrossover {
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   */
+  public WordSinglePointCrossover(double crossoverProbability) {
+    super(crossoverProbability);
+  }
+
+  @Override
+  protected void cross(long[][] first, long[][] second, int[] numberOfBits) {
+    int totalNumberOfBits;
+    int point;
+    int variable;
+
+    totalNumberOfBits = 0;
+    for (int bits : numberOfBits) {
+      totalNumberOfBits += bits;
+    }
+    point = JMetalRandom.getInstance().nextInt(0, totalNumberOfBits - 1);
+
+    variable = 0;
+    while (point >= numberOfBits[variable]) {
+      point -= numberOfBits[variable];
+      variable++;
+    }
+
+    exchange(first[variable], second[variable], point / Long.SIZE, -1L << (point % Long.SIZE));
+    for (int word = point / Long.SIZE + 1; word < first[variable].length; word++) {
+      exchange(first[variable], second[variable], word, -1L);
+    }
+    for (variable++; variable < first.length; variable++) {
+      long[] words;
+
+      words = first[variable];
+      first[variable] = second[variable];
+      second[variable] = words;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package org.uma.evolver.util.binary;
+
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Uniform crossover on 64-bit words: each bit is exchanged between the offspring with probability
+ * 0.5, using a random mask per word.
+ */
+public class WordUniformCrossover extends WordCrossover {
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   */
+  public WordUniformCrossover(double crossoverProbability) {
+    super(crossoverProbability);
+  }
+
+  @Override
+  protected void cross(long[][] first, long[][] second, int[] numberOfBits) {
+    JMetalRandom random;
+
+    random = JMetalRandom.getInstance();
+    for (int variable = 0; variable < first.length; variable++) {
+      for (int word = 0; word < first[variable].length; word++) {
+        exchange(first[variable], second[variable], word, BinaryWords.randomWord(random));
+      }
+    }
+  }
+}
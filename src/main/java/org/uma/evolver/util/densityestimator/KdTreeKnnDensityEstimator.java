@@ -0,0 +1,314 @@
+package org.uma.evolver.util.densityestimator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Density estimator that assigns to each solution the distance to its k-th nearest neighbour in
+ * the objective space, as {@link org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator}
+ * does, but answering the nearest neighbour queries with a k-d tree instead of computing the full
+ * distance matrix.
+ *
+ * <p>The estimator also supports the iterative truncation carried out by sequential replacements,
+ * where {@link #compute(List)} is invoked repeatedly on a list that shrinks by one solution each
+ * time. If the list passed to {@link #compute(List)} is a subset of the previous one (and, when
+ * normalizing, the objective bounds have not changed), the removed solutions are deleted from the
+ * tree and only the solutions that had any of them among their k nearest neighbours are queried
+ * again. Otherwise, the tree is rebuilt.
+ *
+ * <p>Larger values indicate less crowded regions, so the {@link #comparator()} ranks first the
+ * solutions with the highest values.
+ *
+ * @param <S> the type of the solutions
+ */
+public class KdTreeKnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
+  private final String attributeId = getClass().getName();
+  private final int k;
+  private final boolean normalizeObjectives;
+
+  private Map<S, Integer> indexOfSolution;
+  private double[][] points;
+  private double[] lowerBounds;
+  private double[] upperBounds;
+  private boolean[] removed;
+  private int[][] neighbours;
+  private double[] kthDistances;
+  private KdTree tree;
+
+  /**
+   * Creates the density estimator.
+   *
+   * @param k the neighbour whose distance is used as the density value (1 is the nearest one)
+   * @param normalizeObjectives whether the objectives are normalized to [0, 1] with the bounds of
+   *     the list before computing the distances
+   */
+  public KdTreeKnnDensityEstimator(int k, boolean normalizeObjectives) {
+    Check.that(k > 0, "The value of k must be positive: " + k);
+    this.k = k;
+    this.normalizeObjectives = normalizeObjectives;
+  }
+
+  /**
+   * Creates the density estimator without objective normalization.
+   *
+   * @param k the neighbour whose distance is used as the density value (1 is the nearest one)
+   */
+  public KdTreeKnnDensityEstimator(int k) {
+    this(k, false);
+  }
+
+  /**
+   * Assigns to each solution of the list the distance to its k-th nearest neighbour. If the list
+   * has k or fewer solutions, the farthest neighbour is used; a list with a single solution gets an
+   * infinite value.
+   *
+   * @param solutionList the solutions
+   */
+  @Override
+  public void compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+    if (solutionList.size() == 1) {
+      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+    } else if (!solutionList.isEmpty()) {
+      if (!updateIncrementally(solutionList)) {
+        rebuild(solutionList);
+      }
+      for (S solution : solutionList) {
+        solution.attributes().put(attributeId, kthDistances[indexOfSolution.get(solution)]);
+      }
+    }
+  }
+
+  @Override
+  public Double value(S solution) {
+    Check.notNull(solution);
+    return (Double) solution.attributes().getOrDefault(attributeId, 0.0);
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return Comparator.comparing(this::value).reversed();
+  }
+
+  private void rebuild(List<S> solutionList) {
+    int size = solutionList.size();
+    int numberOfObjectives = solutionList.get(0).objectives().length;
+
+    indexOfSolution = new IdentityHashMap<>();
+    lowerBounds = new double[numberOfObjectives];
+    upperBounds = new double[numberOfObjectives];
+    computeBounds(solutionList, lowerBounds, upperBounds);
+
+    points = new double[size][];
+    for (int i = 0; i < size; i++) {
+      indexOfSolution.put(solutionList.get(i), i);
+      points[i] = toPoint(solutionList.get(i));
+    }
+
+    removed = new boolean[size];
+    tree = new KdTree(points, removed);
+    neighbours = new int[size][];
+    kthDistances = new double[size];
+    int effectiveK = Math.min(k, size - 1);
+    for (int i = 0; i < size; i++) {
+      query(i, effectiveK);
+    }
+  }
+
+  /**
+   * Tries to derive the new values from the previous computation.
+   *
+   * @return {@code false} if the tree has to be rebuilt
+   */
+  private boolean updateIncrementally(List<S> solutionList) {
+    boolean updated = false;
+    if (indexOfSolution != null && isSubsetOfTheStoredSolutions(solutionList)) {
+      boolean boundsUnchanged = true;
+      if (normalizeObjectives) {
+        double[] lower = new double[lowerBounds.length];
+        double[] upper = new double[upperBounds.length];
+        computeBounds(solutionList, lower, upper);
+        boundsUnchanged = Arrays.equals(lower, lowerBounds) && Arrays.equals(upper, upperBounds);
+      }
+
+      if (boundsUnchanged) {
+        boolean[] kept = new boolean[points.length];
+        solutionList.forEach(solution -> kept[indexOfSolution.get(solution)] = true);
+        for (int i = 0; i < points.length; i++) {
+          if (!kept[i]) {
+            removed[i] = true;
+          }
+        }
+
+        int effectiveK = Math.min(k, solutionList.size() - 1);
+        for (S solution : solutionList) {
+          int index = indexOfSolution.get(solution);
+          if (neighbours[index].length != effectiveK || hasRemovedNeighbours(index)) {
+            query(index, effectiveK);
+          }
+        }
+        updated = true;
+      }
+    }
+
+    return updated;
+  }
+
+  private boolean isSubsetOfTheStoredSolutions(List<S> solutionList) {
+    boolean subset = solutionList.size() <= points.length;
+    for (int i = 0; i < solutionList.size() && subset; i++) {
+      Integer index = indexOfSolution.get(solutionList.get(i));
+      subset = index != null && !removed[index];
+    }
+    return subset;
+  }
+
+  private boolean hasRemovedNeighbours(int index) {
+    boolean found = false;
+    for (int i = 0; i < neighbours[index].length && !found; i++) {
+      found = removed[neighbours[index][i]];
+    }
+    return found;
+  }
+
+  private void query(int index, int numberOfNeighbours) {
+    neighbours[index] = tree.nearestNeighbours(index, numberOfNeighbours);
+    kthDistances[index] =
+        numberOfNeighbours == 0
+            ? Double.POSITIVE_INFINITY
+            : Math.sqrt(
+                squaredDistance(points[index], points[neighbours[index][numberOfNeighbours - 1]]));
+  }
+
+  private void computeBounds(List<S> solutionList, double[] lower, double[] upper) {
+    Arrays.fill(lower, Double.POSITIVE_INFINITY);
+    Arrays.fill(upper, Double.NEGATIVE_INFINITY);
+    for (S solution : solutionList) {
+      for (int j = 0; j < lower.length; j++) {
+        lower[j] = Math.min(lower[j], solution.objectives()[j]);
+        upper[j] = Math.max(upper[j], solution.objectives()[j]);
+      }
+    }
+  }
+
+  private double[] toPoint(S solution) {
+    double[] point = solution.objectives().clone();
+    if (normalizeObjectives) {
+      for (int j = 0; j < point.length; j++) {
+        double range = upperBounds[j] - lowerBounds[j];
+        point[j] = range > 0 ? (point[j] - lowerBounds[j]) / range : 0.0;
+      }
+    }
+    return point;
+  }
+
+  private static double squaredDistance(double[] first, double[] second) {
+    double distance = 0.0;
+    for (int j = 0; j < first.length; j++) {
+      double difference = first[j] - second[j];
+      distance += difference * difference;
+    }
+    return distance;
+  }
+
+  /**
+   * Static k-d tree over a set of points supporting lazy deletion: removed points are kept in the
+   * tree but skipped by the queries.
+   */
+  private static final class KdTree {
+    private final double[][] points;
+    private final boolean[] removed;
+    private final int[] pointOfNode;
+    private final int[] splitDimension;
+    private final int[] leftChild;
+    private final int[] rightChild;
+    private final int root;
+    private int numberOfNodes;
+
+    private KdTree(double[][] points, boolean[] removed) {
+      this.points = points;
+      this.removed = removed;
+      int size = points.length;
+      pointOfNode = new int[size];
+      splitDimension = new int[size];
+      leftChild = new int[size];
+      rightChild = new int[size];
+
+      Integer[] indices = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        indices[i] = i;
+      }
+      root = build(indices, 0, size, 0);
+    }
+
+    private int build(Integer[] indices, int from, int to, int depth) {
+      int node = -1;
+      if (from < to) {
+        int dimension = depth % points[0].length;
+        Arrays.sort(indices, from, to, Comparator.comparingDouble(i -> points[i][dimension]));
+        int median = (from + to) >>> 1;
+
+        node = numberOfNodes++;
+        pointOfNode[node] = indices[median];
+        splitDimension[node] = dimension;
+        leftChild[node] = build(indices, from, median, depth + 1);
+        rightChild[node] = build(indices, median + 1, to, depth + 1);
+      }
+      return node;
+    }
+
+    /** Returns the indices of the nearest non-removed neighbours of a point, closest first. */
+    private int[] nearestNeighbours(int index, int numberOfNeighbours) {
+      int[] bestIndices = new int[numberOfNeighbours];
+      double[] bestDistances = new double[numberOfNeighbours];
+      Arrays.fill(bestIndices, -1);
+      Arrays.fill(bestDistances, Double.POSITIVE_INFINITY);
+      if (numberOfNeighbours > 0) {
+        search(root, index, bestIndices, bestDistances);
+      }
+      return bestIndices;
+    }
+
+    private void search(int node, int index, int[] bestIndices, double[] bestDistances) {
+      if (node != -1) {
+        int candidate = pointOfNode[node];
+        if (candidate != index && !removed[candidate]) {
+          insert(
+              candidate,
+              squaredDistance(points[index], points[candidate]),
+              bestIndices,
+              bestDistances);
+        }
+
+        int dimension = splitDimension[node];
+        double difference = points[index][dimension] - points[candidate][dimension];
+        int nearChild = difference < 0 ? leftChild[node] : rightChild[node];
+        int farChild = difference < 0 ? rightChild[node] : leftChild[node];
+        search(nearChild, index, bestIndices, bestDistances);
+        if (difference * difference <= bestDistances[bestDistances.length - 1]) {
+          search(farChild, index, bestIndices, bestDistances);
+        }
+      }
+    }
+
+    private static void insert(
+        int candidate, double distance, int[] bestIndices, double[] bestDistances) {
+      int position = bestDistances.length - 1;
+      if (distance < bestDistances[position]) {
+        while (position > 0 && bestDistances[position - 1] > distance) {
+          bestDistances[position] = bestDistances[position - 1];
+          bestIndices[position] = bestIndices[position - 1];
+          position--;
+        }
+        bestDistances[position] = distance;
+        bestIndices[position] = candidate;
+      }
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package org.uma.evolver.util.dominance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Pareto dominance tests on primitive objective vectors, shared by the rankings, archives and
+ * filters of Evolver.
+ *
+ * <p>All the objectives are minimized. A relation is {@code -1} if the first vector dominates the
+ * second one, {@code 1} if the second dominates the first, and {@code 0} otherwise, as returned by
+ * jMetal's {@code DefaultDominanceComparator}. The loops accumulate the comparison flags of all the
+ * objectives without early exits, so they compile to branch-free code that the JIT can unroll and
+ * vectorize. The bulk methods operate on <em>rows</em>: the objective vectors of several solutions
+ * stored contiguously in a single row-major array.
+ */
+public final class DominanceKernel {
+  private DominanceKernel() {}
+
+  /**
+   * Returns the dominance relation between two objective vectors.
+   *
+   * @param first the first vector
+   * @param second the second vector, with the same length
+   * @return {@code -1}, {@code 1} or {@code 0} if the first vector dominates, is dominated by or is
+   *     non-dominated with respect to the second one
+   */
+  public static int compare(double[] first, double[] second) {
+    return compare(first, 0, second, 0, first.length);
+  }
+
+  /**
+   * Returns the dominance relation between two objective vectors stored at given offsets.
+   *
+   * @param first the array containing the first vector
+   * @param firstOffset the position of the first vector in its array
+   * @param second the array containing the second vector
+   * @param secondOffset the position of the second vector in its array
+   * @param numberOfObjectives the length of the vectors
+   * @return {@code -1}, {@code 1} or {@code 0} if the first vector dominates, is dominated by or is
+   *     non-dominated with respect to the second one
+   */
+  public static int compare(
+      double[] first, int firstOffset, double[] second, int secondOffset, int numberOfObjectives) {
+    int better;
+    int worse;
+
+    better = 0;
+    worse = 0;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      double a;
+      double b;
+
+      a = first[firstOffset + k];
+      b = second[secondOffset + k];
+      better |= a < b ? 1 : 0;
+      worse |= a > b ? 1 : 0;
+    }
+
+    return (worse & ~better) - (better & ~worse);
+  }
+
+  /**
+   * Computes the dominance relations between an objective vector and each of a number of rows.
+   *
+   * @param point the objective vector
+   * @param rows the rows, stored contiguously
+   * @param numberOfRows the number of rows to compare
+   * @param relations the array where the relation of {@code point} with respect to each row is
+   *     stored
+   */
+  public static void compareToRows(
+      double[] point, double[] rows, int numberOfRows, int[] relations) {
+    int numberOfObjectives;
+
+    numberOfObjectives = point.length;
+    for (int i = 0; i < numberOfRows; i++) {
+      relations[i] = compare(point, 0, rows, i * numberOfObjectives, numberOfObjectives);
+    }
+  }
+
+  /**
+   * Copies the objective vectors of a list of solutions into rows.
+   *
+   * @param solutions the solutions
+   * @return a row-major array with the objectives of the solutions
+   */
+  public static double[] toRows(List<? extends Solution<?>> solutions) {
+    int numberOfObjectives;
+    double[] rows;
+
+    Check.notNull(solutions);
+    numberOfObjectives = solutions.isEmpty() ? 0 : solutions.get(0).objectives().length;
+    rows = new double[solutions.size() * numberOfObjectives];
+    for (int i = 0; i < solutions.size(); i++) {
+      System.arraycopy(
+          solutions.get(i).objectives(), 0, rows, i * numberOfObjectives, numberOfObjectives);
+    }
+
+    return rows;
+  }
+
+  /**
+   * Returns whether any of a list of solutions has constraints, in which case the dominance
+   * relations also depend on the constraint violations and the kernel cannot be used alone.
+   *
+   * @param solutions the solutions
+   * @return {@code true} if some solution has constraints
+   */
+  public static boolean anyConstrained(List<? extends Solution<?>> solutions) {
+    for (Solution<?> solution : solutions) {
+      if (solution.constraints().length > 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the non-dominated solutions of a list, discarding those whose objectives are equal to
+   * those of a previous solution, in their original order. The result is the same as the contents
+   * of a {@link NonDominatedSolutionListArchive} to which the solutions are added in order; such an
+   * archive is used when the solutions have constraints.
+   *
+   * @param solutions the solutions
+   * @param <S> the type of the solutions
+   * @return a new list with the non-dominated solutions
+   */
+  public static <S extends Solution<?>> List<S> nonDominatedSolutions(List<S> solutions) {
+    int numberOfObjectives;
+    double[] rows;
+    int[] members;
+    int numberOfMembers;
+    List<S> result;
+
+    Check.notNull(solutions);
+    if (anyConstrained(solutions)) {
+      NonDominatedSolutionListArchive<S> archive;
+
+      archive = new NonDominatedSolutionListArchive<>();
+      solutions.forEach(archive::add);
+      return new ArrayList<>(archive.solutions());
+    }
+
+    rows = toRows(solutions);
+    numberOfObjectives = solutions.isEmpty() ? 0 : solutions.get(0).objectives().length;
+    members = new int[solutions.size()];
+    numberOfMembers = 0;
+    for (int i = 0; i < solutions.size(); i++) {
+      boolean accepted;
+      int remainingMembers;
+
+      // Same procedure as the archive: the candidate is rejected if a member dominates it or has
+      // its objectives, and the members it dominates are removed. As the members do not dominate
+      // each other, no member has been removed when a candidate is rejected
+      accepted = true;
+      remainingMembers = 0;
+      for (int k = 0; k < numberOfMembers && accepted; k++) {
+        int relation;
+
+        relation =
+            compare(
+                rows,
+                i * numberOfObjectives,
+                rows,
+                members[k] * numberOfObjectives,
+                numberOfObjectives);
+        if (relation == 1
+            || (relation == 0 && equalRows(rows, i, members[k], numberOfObjectives))) {
+          accepted = false;
+        } else if (relation == 0) {
+          members[remainingMembers++] = members[k];
+        }
+      }
+      if (accepted) {
+        members[remainingMembers++] = i;
+        numberOfMembers = remainingMembers;
+      }
+    }
+
+    result = new ArrayList<>(numberOfMembers);
+    for (int k = 0; k < numberOfMembers; k++) {
+      result.add(solutions.get(members[k]));
+    }
+
+    return result;
+  }
+
+  private static boolean equalRows(double[] rows, int i, int j, int numberOfObjectives) {
+    return Arrays.equals(
+        rows,
+        i * numberOfObjectives,
+        (i + 1) * numberOfObjectives,
+        rows,
+        j * numberOfObjectives,
+        (j + 1) * numberOfObjectives);
+  }
+}
@@ -0,0 +1,32 @@
+package org.uma.evolver.util.dominance;
+
+import java.util.Comparator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Dominance comparator that computes the same relation as jMetal's {@link
+ * DefaultDominanceComparator} with {@link DominanceKernel}.
+ *
+ * <p>Solutions with constraints are compared by {@link DefaultDominanceComparator}, which first
+ * compares their constraint violations; unconstrained solutions are compared directly by the
+ * kernel on their objective arrays.
+ *
+ * @param <S> the type of the solutions
+ */
+public class KernelDominanceComparator<S extends Solution<?>> implements Comparator<S> {
+  private final DefaultDominanceComparator<S> constrainedComparator =
+      new DefaultDominanceComparator<>();
+
+  @Override
+  public int compare(S first, S second) {
+    Check.notNull(first);
+    Check.notNull(second);
+    if (first.constraints().length > 0 || second.constraints().length > 0) {
+      return constrainedComparator.compare(first, second);
+    }
+
+    return DominanceKernel.compare(first.objectives(), second.objectives());
+  }
+}
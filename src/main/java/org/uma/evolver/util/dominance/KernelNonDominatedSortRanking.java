@@ -0,0 +1,149 @@
+package org.uma.evolver.util.dominance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Fast non-dominated sorting whose dominance tests are performed by {@link DominanceKernel} on the
+ * objectives of the solutions copied into contiguous rows.
+ *
+ * <p>It is a drop-in replacement of jMetal's {@code FastNonDominatedSortRanking}: it visits the
+ * pairs of solutions in the same order and builds the same subfronts, with their solutions in the
+ * same order, and stores the rank of each solution in the attribute returned by {@link
+ * #getAttributedId()}. The sets of dominated solutions are kept in primitive arrays instead of
+ * lists of boxed indices. When some solution has constraints, the pairs are compared with jMetal's
+ * {@link DefaultDominanceComparator}, as the relations also depend on the constraint violations.
+ *
+ * @param <S> the type of the solutions
+ */
+public class KernelNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  private final String attributeId = getClass().getName();
+  private final DefaultDominanceComparator<S> constrainedComparator =
+      new DefaultDominanceComparator<>();
+  private List<List<S>> subFronts = new ArrayList<>();
+
+  @Override
+  public Ranking<S> compute(List<S> solutions) {
+    int n;
+    int numberOfObjectives;
+    double[] rows;
+    boolean constrained;
+    int[] dominationCounts;
+    int[][] dominatedSolutions;
+    int[] numberOfDominatedSolutions;
+    int[] currentFront;
+    int currentFrontSize;
+
+    Check.notNull(solutions);
+    n = solutions.size();
+    numberOfObjectives = n == 0 ? 0 : solutions.get(0).objectives().length;
+    rows = DominanceKernel.toRows(solutions);
+    constrained = DominanceKernel.anyConstrained(solutions);
+    dominationCounts = new int[n];
+    dominatedSolutions = new int[n][];
+    numberOfDominatedSolutions = new int[n];
+    for (int p = 0; p < n - 1; p++) {
+      for (int q = p + 1; q < n; q++) {
+        int relation;
+
+        relation =
+            constrained
+                ? constrainedComparator.compare(solutions.get(p), solutions.get(q))
+                : DominanceKernel.compare(
+                    rows,
+                    p * numberOfObjectives,
+                    rows,
+                    q * numberOfObjectives,
+                    numberOfObjectives);
+        if (relation == -1) {
+          add(dominatedSolutions, numberOfDominatedSolutions, p, q);
+          dominationCounts[q]++;
+        } else if (relation == 1) {
+          add(dominatedSolutions, numberOfDominatedSolutions, q, p);
+          dominationCounts[p]++;
+        }
+      }
+    }
+
+    subFronts = new ArrayList<>();
+    currentFront = new int[n];
+    currentFrontSize = 0;
+    for (int i = 0; i < n; i++) {
+      if (dominationCounts[i] == 0) {
+        currentFront[currentFrontSize++] = i;
+      }
+    }
+    while (currentFrontSize > 0) {
+      int rank;
+      List<S> subFront;
+      int[] nextFront;
+      int nextFrontSize;
+
+      rank = subFronts.size();
+      subFront = new ArrayList<>(currentFrontSize);
+      nextFront = new int[n];
+      nextFrontSize = 0;
+      for (int k = 0; k < currentFrontSize; k++) {
+        int p;
+
+        p = currentFront[k];
+        solutions.get(p).attributes().put(attributeId, rank);
+        subFront.add(solutions.get(p));
+        for (int d = 0; d < numberOfDominatedSolutions[p]; d++) {
+          int q;
+
+          q = dominatedSolutions[p][d];
+          if (--dominationCounts[q] == 0) {
+            nextFront[nextFrontSize++] = q;
+          }
+        }
+      }
+      subFronts.add(subFront);
+      currentFront = nextFront;
+      currentFrontSize = nextFrontSize;
+    }
+
+    return this;
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank >= 0 && rank < subFronts.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+    return subFronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Object rank;
+
+    Check.notNull(solution);
+    rank = solution.attributes().get(attributeId);
+    return rank == null ? -1 : (Integer) rank;
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+
+  private static void add(int[][] lists, int[] sizes, int owner, int element) {
+    if (lists[owner] == null) {
+      lists[owner] = new int[4];
+    } else if (sizes[owner] == lists[owner].length) {
+      lists[owner] = Arrays.copyOf(lists[owner], 2 * sizes[owner]);
+    }
+    lists[owner][sizes[owner]++] = element;
+  }
+}
@@ -0,0 +1,64 @@
+package org.uma.evolver.util.doublesolution;
+
+import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * BLX-alpha crossover on primitive arrays, with the same distribution as jMetal's {@code
+ * BLXAlphaCrossover}: each child value is drawn uniformly from the interval spanned by the parents
+ * extended by {@code alpha} times its length on both sides.
+ */
+public class ArrayBLXAlphaCrossover extends ArrayDoubleCrossover {
+  private final double alpha;
+
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   * @param alpha the extension factor of the interval
+   * @param solutionRepair the strategy to repair the values out of the bounds
+   */
+  public ArrayBLXAlphaCrossover(
+      double crossoverProbability, double alpha, RepairDoubleSolution solutionRepair) {
+    super(crossoverProbability, solutionRepair);
+    Check.that(alpha >= 0, "Alpha is negative: " + alpha);
+    this.alpha = alpha;
+  }
+
+  @Override
+  protected void cross(
+      int numberOfVariables,
+      double[] firstParent,
+      double[] secondParent,
+      double[] lowerBounds,
+      double[] upperBounds,
+      double[] firstChild,
+      double[] secondChild,
+      RandomNumberBuffer randomNumbers) {
+    double[] random;
+
+    random = randomNumbers.next(2 * numberOfVariables);
+    for (int i = 0; i < numberOfVariables; i++) {
+      double minimum;
+      double range;
+      double lowest;
+      double width;
+
+      minimum = Math.min(firstParent[i], secondParent[i]);
+      range = Math.abs(firstParent[i] - secondParent[i]);
+      lowest = minimum - range * alpha;
+      width = range * (1.0 + 2.0 * alpha);
+      firstChild[i] = lowest + random[2 * i] * width;
+      secondChild[i] = lowest + random[2 * i + 1] * width;
+    }
+  }
+
+  /**
+   * Returns the extension factor of the interval.
+   *
+   * @return alpha
+   */
+  public double alpha() {
+    return alpha;
+  }
+}
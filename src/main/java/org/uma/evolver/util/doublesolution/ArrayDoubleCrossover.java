@@ -0,0 +1,158 @@
+package org.uma.evolver.util.doublesolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Base class of the real-coded crossover operators that recombine the parents as primitive arrays.
+ *
+ * <p>With the crossover probability, the variables and bounds of the parents are copied into {@code
+ * double} arrays, the offspring values are computed by {@link #cross} from a batch of random
+ * numbers drawn from a {@link RandomNumberBuffer}, repaired, and written back to copies of the
+ * parents. Otherwise, the copies are returned unchanged. The copies into and from {@link
+ * ArrayDoubleSolution}s are array copies, without boxing.
+ */
+public abstract class ArrayDoubleCrossover implements CrossoverOperator<DoubleSolution> {
+  private final double crossoverProbability;
+  private final RepairDoubleSolution solutionRepair;
+  private final RandomNumberBuffer randomNumbers;
+
+  private double[] lowerBounds = new double[0];
+  private double[] upperBounds = new double[0];
+  private double[] firstParent = new double[0];
+  private double[] secondParent = new double[0];
+  private double[] firstChild = new double[0];
+  private double[] secondChild = new double[0];
+
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   * @param solutionRepair the strategy to repair the values out of the bounds
+   */
+  protected ArrayDoubleCrossover(double crossoverProbability, RepairDoubleSolution solutionRepair) {
+    Check.probabilityIsValid(crossoverProbability);
+    Check.notNull(solutionRepair);
+    this.crossoverProbability = crossoverProbability;
+    this.solutionRepair = solutionRepair;
+    this.randomNumbers = new RandomNumberBuffer();
+  }
+
+  @Override
+  public List<DoubleSolution> execute(List<DoubleSolution> parents) {
+    List<DoubleSolution> offspring;
+
+    Check.notNull(parents);
+    Check.that(parents.size() == 2, "There must be two parents instead of " + parents.size());
+
+    offspring = new ArrayList<>(2);
+    offspring.add((DoubleSolution) parents.get(0).copy());
+    offspring.add((DoubleSolution) parents.get(1).copy());
+    if (randomNumbers.nextDouble() <= crossoverProbability) {
+      int numberOfVariables;
+
+      numberOfVariables = parents.get(0).variables().size();
+      ensureCapacity(numberOfVariables);
+      if (parents.get(0) instanceof ArrayDoubleSolution first
+          && parents.get(1) instanceof ArrayDoubleSolution second) {
+        System.arraycopy(first.lowerBounds(), 0, lowerBounds, 0, numberOfVariables);
+        System.arraycopy(first.upperBounds(), 0, upperBounds, 0, numberOfVariables);
+        System.arraycopy(first.values(), 0, firstParent, 0, numberOfVariables);
+        System.arraycopy(second.values(), 0, secondParent, 0, numberOfVariables);
+      } else {
+        for (int i = 0; i < numberOfVariables; i++) {
+          lowerBounds[i] = parents.get(0).getBounds(i).getLowerBound();
+          upperBounds[i] = parents.get(0).getBounds(i).getUpperBound();
+          firstParent[i] = parents.get(0).variables().get(i);
+          secondParent[i] = parents.get(1).variables().get(i);
+        }
+      }
+
+      cross(
+          numberOfVariables,
+          firstParent,
+          secondParent,
+          lowerBounds,
+          upperBounds,
+          firstChild,
+          secondChild,
+          randomNumbers);
+
+      for (int i = 0; i < numberOfVariables; i++) {
+        firstChild[i] =
+            solutionRepair.repairSolutionVariableValue(
+                firstChild[i], lowerBounds[i], upperBounds[i]);
+        secondChild[i] =
+            solutionRepair.repairSolutionVariableValue(
+                secondChild[i], lowerBounds[i], upperBounds[i]);
+      }
+      store(firstChild, offspring.get(0), numberOfVariables);
+      store(secondChild, offspring.get(1), numberOfVariables);
+    }
+
+    return offspring;
+  }
+
+  /**
+   * Computes the values of the offspring. Only the first {@code numberOfVariables} positions of the
+   * arrays are meaningful.
+   *
+   * @param numberOfVariables the number of variables
+   * @param firstParent the values of the first parent
+   * @param secondParent the values of the second parent
+   * @param lowerBounds the lower bounds of the variables
+   * @param upperBounds the upper bounds of the variables
+   * @param firstChild the array to store the values of the first child, before being repaired
+   * @param secondChild the array to store the values of the second child, before being repaired
+   * @param randomNumbers the source of random numbers
+   */
+  protected abstract void cross(
+      int numberOfVariables,
+      double[] firstParent,
+      double[] secondParent,
+      double[] lowerBounds,
+      double[] upperBounds,
+      double[] firstChild,
+      double[] secondChild,
+      RandomNumberBuffer randomNumbers);
+
+  @Override
+  public double crossoverProbability() {
+    return crossoverProbability;
+  }
+
+  @Override
+  public int numberOfRequiredParents() {
+    return 2;
+  }
+
+  @Override
+  public int numberOfGeneratedChildren() {
+    return 2;
+  }
+
+  private static void store(double[] values, DoubleSolution solution, int numberOfVariables) {
+    if (solution instanceof ArrayDoubleSolution arraySolution) {
+      System.arraycopy(values, 0, arraySolution.values(), 0, numberOfVariables);
+    } else {
+      for (int i = 0; i < numberOfVariables; i++) {
+        solution.variables().set(i, values[i]);
+      }
+    }
+  }
+
+  private void ensureCapacity(int numberOfVariables) {
+    if (firstParent.length < numberOfVariables) {
+      lowerBounds = new double[numberOfVariables];
+      upperBounds = new double[numberOfVariables];
+      firstParent = new double[numberOfVariables];
+      secondParent = new double[numberOfVariables];
+      firstChild = new double[numberOfVariables];
+      secondChild = new double[numberOfVariables];
+    }
+  }
+}
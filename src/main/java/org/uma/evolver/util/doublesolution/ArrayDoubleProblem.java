@@ -0,0 +1,91 @@
+package org.uma.evolver.util.doublesolution;
+
+import java.util.List;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Decorator of a real-coded problem that creates {@link ArrayDoubleSolution}s, so that a
+ * base-level algorithm such as {@code DoubleNSGAII}, {@code DoubleSMSEMOA} or {@code DoubleRDEMOEA}
+ * stores the variables of its population in primitive arrays. The algorithm is configured with the
+ * same parameter space as with the decorated problem, e.g., {@code new DoubleNSGAII(new
+ * ArrayDoubleProblem(problem), populationSize, maximumNumberOfEvaluations, parameterSpace)}.
+ *
+ * <p>The solutions are evaluated by the decorated problem through their list view; the variation
+ * operators of this package access their arrays directly. As in jMetal's default solutions, the
+ * variables of a new solution are drawn uniformly within their bounds.
+ */
+public class ArrayDoubleProblem implements DoubleProblem {
+  private final DoubleProblem problem;
+  private final double[] lowerBounds;
+  private final double[] upperBounds;
+
+  /**
+   * Creates the decorator.
+   *
+   * @param problem the decorated problem
+   */
+  public ArrayDoubleProblem(DoubleProblem problem) {
+    Check.notNull(problem);
+    this.problem = problem;
+
+    List<Bounds<Double>> bounds = problem.variableBounds();
+    lowerBounds = new double[bounds.size()];
+    upperBounds = new double[bounds.size()];
+    for (int i = 0; i < bounds.size(); i++) {
+      lowerBounds[i] = bounds.get(i).getLowerBound();
+      upperBounds[i] = bounds.get(i).getUpperBound();
+    }
+  }
+
+  @Override
+  public DoubleSolution createSolution() {
+    ArrayDoubleSolution solution;
+    double[] values;
+    JMetalRandom random;
+
+    solution =
+        new ArrayDoubleSolution(
+            lowerBounds, upperBounds, problem.numberOfObjectives(), problem.numberOfConstraints());
+    values = solution.values();
+    random = JMetalRandom.getInstance();
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble(lowerBounds[i], upperBounds[i]);
+    }
+
+    return solution;
+  }
+
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    return problem.evaluate(solution);
+  }
+
+  @Override
+  public List<Bounds<Double>> variableBounds() {
+    return problem.variableBounds();
+  }
+
+  @Override
+  public int numberOfVariables() {
+    return problem.numberOfVariables();
+  }
+
+  @Override
+  public int numberOfObjectives() {
+    return problem.numberOfObjectives();
+  }
+
+  @Override
+  public int numberOfConstraints() {
+    return problem.numberOfConstraints();
+  }
+
+  @Override
+  public String name() {
+    return problem.name();
+  }
+}
@@ -0,0 +1,182 @@
+package org.uma.evolver.util.doublesolution;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+/**
+ * Real-coded solution whose variables are stored in a primitive {@code double} array instead of a
+ * list of boxed values.
+ *
+ * <p>{@link #variables()} returns a fixed-size list view backed by the array, so the solution can
+ * be used wherever a {@link DoubleSolution} is expected, while the operators of this package and
+ * the problems that know this class read and write {@link #values()} directly. Copying a solution
+ * clones its arrays, without boxing any value, and the bounds of the variables, kept as arrays, are
+ * shared by all the solutions created by the same {@link ArrayDoubleProblem}.
+ */
+public class ArrayDoubleSolution implements DoubleSolution {
+  private final double[] variables;
+  private final double[] objectives;
+  private final double[] constraints;
+  private final Map<Object, Object> attributes;
+  private final double[] lowerBounds;
+  private final double[] upperBounds;
+  private final List<Double> variableView;
+
+  /**
+   * Creates a solution with all the variables set to zero.
+   *
+   * @param lowerBounds the lower bounds of the variables, which are not copied
+   * @param upperBounds the upper bounds of the variables, which are not copied
+   * @param numberOfObjectives the number of objectives
+   * @param numberOfConstraints the number of constraints
+   */
+  public ArrayDoubleSolution(
+      double[] lowerBounds, double[] upperBounds, int numberOfObjectives, int numberOfConstraints) {
+    this(
+        new double[lowerBounds.length],
+        new double[numberOfObjectives],
+        new double[numberOfConstraints],
+        new HashMap<>(),
+        lowerBounds,
+        upperBounds);
+  }
+
+  private ArrayDoubleSolution(
+      double[] variables,
+      double[] objectives,
+      double[] constraints,
+      Map<Object, Object> attributes,
+      double[] lowerBounds,
+      double[] upperBounds) {
+    this.variables = variables;
+    this.objectives = objectives;
+    this.constraints = constraints;
+    this.attributes = attributes;
+    this.lowerBounds = lowerBounds;
+    this.upperBounds = upperBounds;
+    this.variableView = new VariableView();
+  }
+
+  /**
+   * Returns the array where the variables are stored; changes to it are changes to the solution.
+   *
+   * @return the variables
+   */
+  public double[] values() {
+    return variables;
+  }
+
+  /**
+   * Returns the lower bounds of the variables, shared with other solutions; it must not be
+   * modified.
+   *
+   * @return the lower bounds
+   */
+  public double[] lowerBounds() {
+    return lowerBounds;
+  }
+
+  /**
+   * Returns the upper bounds of the variables, shared with other solutions; it must not be
+   * modified.
+   *
+   * @return the upper bounds
+   */
+  public double[] upperBounds() {
+    return upperBounds;
+  }
+
+  @Override
+  public List<Double> variables() {
+    return variableView;
+  }
+
+  @Override
+  public double[] objectives() {
+    return objectives;
+  }
+
+  @Override
+  public double[] constraints() {
+    return constraints;
+  }
+
+  @Override
+  public Map<Object, Object> attributes() {
+    return attributes;
+  }
+
+  @Override
+  public Bounds<Double> getBounds(int index) {
+    return Bounds.create(lowerBounds[index], upperBounds[index]);
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(
+        variables.clone(),
+        objectives.clone(),
+        constraints.clone(),
+        new HashMap<>(attributes),
+        lowerBounds,
+        upperBounds);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof ArrayDoubleSolution that)) {
+      return false;
+    }
+
+    return Arrays.equals(variables, that.variables)
+        && Arrays.equals(objectives, that.objectives)
+        && Arrays.equals(constraints, that.constraints);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Arrays.hashCode(variables) + Arrays.hashCode(objectives))
+        + Arrays.hashCode(constraints);
+  }
+
+  @Override
+  public String toString() {
+    return "Variables: "
+        + Arrays.toString(variables)
+        + " Objectives: "
+        + Arrays.toString(objectives)
+        + " Constraints: "
+        + Arrays.toString(constraints);
+  }
+
+  /** Fixed-size list view of the variables. */
+  private final class VariableView extends AbstractList<Double> implements RandomAccess {
+    @Override
+    public Double get(int index) {
+      return variables[index];
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previous;
+
+      previous = variables[index];
+      variables[index] = value;
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return variables.length;
+    }
+  }
+}
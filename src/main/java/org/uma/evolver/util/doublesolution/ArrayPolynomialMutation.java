@@ -0,0 +1,171 @@
+package org.uma.evolver.util.doublesolution;
+
+import java.util.function.Function;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Polynomial mutation with the same distribution as jMetal's {@code PolynomialMutation}, whose cost
+ * depends on the number of mutated variables instead of on the number of variables.
+ *
+ * <p>Instead of drawing a random number per variable to decide whether it is mutated, the distance
+ * to the next mutated variable is drawn from the geometric distribution with parameter equal to the
+ * mutation probability, and only the mutated variables are read and written. With the usual
+ * probability of {@code 1 / n}, about two random numbers are drawn per solution regardless of
+ * {@code n}. The variables of {@link ArrayDoubleSolution}s are accessed without boxing.
+ *
+ * <p>The operator can be given a function returning the sorted indices of the active variables of
+ * a solution, in which case only those variables are mutated, with the probability scaled so that
+ * the expected number of mutated variables is the same as without the function. It is used by
+ * encodings with conditional variables, such as the active-subspace encoding of the
+ * meta-optimization problems, in which the other variables have no effect. The function is applied
+ * to the solution being mutated, so the active variables of an offspring are computed from the
+ * values it got from the crossover and not inherited from a parent.
+ */
+public class ArrayPolynomialMutation implements MutationOperator<DoubleSolution> {
+  private final double mutationProbability;
+  private final double distributionIndex;
+  private final RepairDoubleSolution solutionRepair;
+  private final Function<DoubleSolution, int[]> activeVariables;
+  private final RandomNumberBuffer randomNumbers;
+
+  /**
+   * Creates the operator.
+   *
+   * @param mutationProbability the probability of mutating each variable
+   * @param distributionIndex the distribution index
+   * @param solutionRepair the strategy to repair the values out of the bounds
+   */
+  public ArrayPolynomialMutation(
+      double mutationProbability, double distributionIndex, RepairDoubleSolution solutionRepair) {
+    this(mutationProbability, distributionIndex, solutionRepair, null);
+  }
+
+  /**
+   * Creates the operator mutating only the active variables of the solutions.
+   *
+   * @param mutationProbability the probability of mutating each variable
+   * @param distributionIndex the distribution index
+   * @param solutionRepair the strategy to repair the values out of the bounds
+   * @param activeVariables the function returning the sorted indices of the active variables of a
+   *     solution, or {@code null} if all the variables are active
+   */
+  public ArrayPolynomialMutation(
+      double mutationProbability,
+      double distributionIndex,
+      RepairDoubleSolution solutionRepair,
+      Function<DoubleSolution, int[]> activeVariables) {
+    Check.probabilityIsValid(mutationProbability);
+    Check.that(distributionIndex >= 0, "The distribution index is negative: " + distributionIndex);
+    Check.notNull(solutionRepair);
+    this.mutationProbability = mutationProbability;
+    this.distributionIndex = distributionIndex;
+    this.solutionRepair = solutionRepair;
+    this.activeVariables = activeVariables;
+    this.randomNumbers = new RandomNumberBuffer();
+  }
+
+  @Override
+  public DoubleSolution execute(DoubleSolution solution) {
+    Check.notNull(solution);
+    int numberOfVariables = solution.variables().size();
+    int[] candidates = activeVariables == null ? null : activeVariables.apply(solution);
+    int numberOfCandidates = candidates == null ? numberOfVariables : candidates.length;
+    double probability =
+        candidates == null || numberOfCandidates == 0
+            ? mutationProbability
+            : Math.min(1.0, mutationProbability * numberOfVariables / numberOfCandidates);
+
+    if (probability > 0.0) {
+      double logarithmOfComplement;
+      double position;
+
+      logarithmOfComplement = Math.log1p(-probability);
+      position = nextSkip(logarithmOfComplement);
+      while (position < numberOfCandidates) {
+        int index;
+
+        index = candidates == null ? (int) position : candidates[(int) position];
+        if (solution instanceof ArrayDoubleSolution arraySolution) {
+          arraySolution.values()[index] =
+              mutate(
+                  arraySolution.values()[index],
+                  arraySolution.lowerBounds()[index],
+                  arraySolution.upperBounds()[index]);
+        } else {
+          solution
+              .variables()
+              .set(
+                  index,
+                  mutate(
+                      solution.variables().get(index),
+                      solution.getBounds(index).getLowerBound(),
+                      solution.getBounds(index).getUpperBound()));
+        }
+        position += 1 + nextSkip(logarithmOfComplement);
+      }
+    }
+
+    return solution;
+  }
+
+  private double mutate(double value, double lowerBound, double upperBound) {
+    double random;
+    double exponent;
+    double deltaq;
+
+    if (lowerBound == upperBound) {
+      return lowerBound;
+    }
+
+    random = randomNumbers.nextDouble();
+    exponent = 1.0 / (distributionIndex + 1.0);
+    if (random <= 0.5) {
+      double complement;
+
+      complement = 1.0 - (value - lowerBound) / (upperBound - lowerBound);
+      deltaq =
+          Math.pow(
+                  2.0 * random
+                      + (1.0 - 2.0 * random) * Math.pow(complement, distributionIndex + 1.0),
+                  exponent)
+              - 1.0;
+    } else {
+      double complement;
+
+      complement = 1.0 - (upperBound - value) / (upperBound - lowerBound);
+      deltaq =
+          1.0
+              - Math.pow(
+                  2.0 * (1.0 - random)
+                      + 2.0 * (random - 0.5) * Math.pow(complement, distributionIndex + 1.0),
+                  exponent);
+    }
+
+    return solutionRepair.repairSolutionVariableValue(
+        value + deltaq * (upperBound - lowerBound), lowerBound, upperBound);
+  }
+
+  private double nextSkip(double logarithmOfComplement) {
+    // With probability 1, ln(1 - p) is -infinity and every variable is mutated
+    return logarithmOfComplement == Double.NEGATIVE_INFINITY
+        ? 0.0
+        : Math.floor(Math.log(1.0 - randomNumbers.nextDouble()) / logarithmOfComplement);
+  }
+
+  @Override
+  public double mutationProbability() {
+    return mutationProbability;
+  }
+
+  /**
+   * Returns the distribution index.
+   *
+   * @return the distribution index
+   */
+  public double distributionIndex() {
+    return distributionIndex;
+  }
+}
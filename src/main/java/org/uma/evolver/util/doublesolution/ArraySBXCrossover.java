@@ -0,0 +1,98 @@
+package org.uma.evolver.util.doublesolution;
+
+import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Simulated binary crossover (SBX) on primitive arrays, with the same distribution as jMetal's
+ * {@code SBXCrossover}: each variable is recombined with probability 0.5 when the parents differ in
+ * it, and the children values are exchanged with probability 0.5. The three random numbers used per
+ * variable are drawn in a single batch.
+ */
+public class ArraySBXCrossover extends ArrayDoubleCrossover {
+  private static final double EPS = 1.0e-14;
+
+  private final double distributionIndex;
+
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   * @param distributionIndex the distribution index
+   * @param solutionRepair the strategy to repair the values out of the bounds
+   */
+  public ArraySBXCrossover(
+      double crossoverProbability, double distributionIndex, RepairDoubleSolution solutionRepair) {
+    super(crossoverProbability, solutionRepair);
+    Check.that(distributionIndex >= 0, "The distribution index is negative: " + distributionIndex);
+    this.distributionIndex = distributionIndex;
+  }
+
+  @Override
+  protected void cross(
+      int numberOfVariables,
+      double[] firstParent,
+      double[] secondParent,
+      double[] lowerBounds,
+      double[] upperBounds,
+      double[] firstChild,
+      double[] secondChild,
+      RandomNumberBuffer randomNumbers) {
+    double[] random;
+    double exponent;
+
+    random = randomNumbers.next(3 * numberOfVariables);
+    exponent = 1.0 / (distributionIndex + 1.0);
+    for (int i = 0; i < numberOfVariables; i++) {
+      double x1;
+      double x2;
+
+      x1 = firstParent[i];
+      x2 = secondParent[i];
+      if (random[3 * i] <= 0.5 && Math.abs(x1 - x2) > EPS) {
+        double y1;
+        double y2;
+        double rand;
+        double c1;
+        double c2;
+
+        y1 = Math.min(x1, x2);
+        y2 = Math.max(x1, x2);
+        rand = random[3 * i + 1];
+        c1 = 0.5 * (y1 + y2 - spread(y1, y2, y1 - lowerBounds[i], rand, exponent) * (y2 - y1));
+        c2 = 0.5 * (y1 + y2 + spread(y1, y2, upperBounds[i] - y2, rand, exponent) * (y2 - y1));
+        if (random[3 * i + 2] <= 0.5) {
+          firstChild[i] = c2;
+          secondChild[i] = c1;
+        } else {
+          firstChild[i] = c1;
+          secondChild[i] = c2;
+        }
+      } else {
+        firstChild[i] = x1;
+        secondChild[i] = x2;
+      }
+    }
+  }
+
+  private double spread(
+      double y1, double y2, double distanceToBound, double rand, double exponent) {
+    double beta;
+    double alpha;
+
+    beta = 1.0 + 2.0 * distanceToBound / (y2 - y1);
+    alpha = 2.0 - Math.pow(beta, -(distributionIndex + 1.0));
+    return rand <= 1.0 / alpha
+        ? Math.pow(rand * alpha, exponent)
+        : Math.pow(1.0 / (2.0 - rand * alpha), exponent);
+  }
+
+  /**
+   * Returns the distribution index.
+   *
+   * @return the distribution index
+   */
+  public double distributionIndex() {
+    return distributionIndex;
+  }
+}
@@ -0,0 +1,41 @@
+package org.uma.evolver.util.doublesolution;
+
+import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
+
+/**
+ * Whole arithmetic crossover on primitive arrays, with the same distribution as jMetal's {@code
+ * WholeArithmeticCrossover}: the children are the convex combinations {@code r * x1 + (1 - r) *
+ * x2} and {@code (1 - r) * x1 + r * x2}, with a single random weight {@code r} for all the
+ * variables.
+ */
+public class ArrayWholeArithmeticCrossover extends ArrayDoubleCrossover {
+  /**
+   * Creates the operator.
+   *
+   * @param crossoverProbability the probability of recombining the parents
+   * @param solutionRepair the strategy to repair the values out of the bounds
+   */
+  public ArrayWholeArithmeticCrossover(
+      double crossoverProbability, RepairDoubleSolution solutionRepair) {
+    super(crossoverProbability, solutionRepair);
+  }
+
+  @Override
+  protected void cross(
+      int numberOfVariables,
+      double[] firstParent,
+      double[] secondParent,
+      double[] lowerBounds,
+      double[] upperBounds,
+      double[] firstChild,
+      double[] secondChild,
+      RandomNumberBuffer randomNumbers) {
+    double weight;
+
+    weight = randomNumbers.nextDouble();
+    for (int i = 0; i < numberOfVariables; i++) {
+      firstChild[i] = weight * firstParent[i] + (1.0 - weight) * secondParent[i];
+      secondChild[i] = (1.0 - weight) * firstParent[i] + weight * secondParent[i];
+    }
+  }
+}
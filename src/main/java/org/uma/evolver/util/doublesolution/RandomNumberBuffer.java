@@ -0,0 +1,58 @@
+package org.uma.evolver.util.doublesolution;
+
+import java.util.SplittableRandom;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Source of batches of uniform random numbers in [0, 1) for the operators of this package.
+ *
+ * <p>The numbers are produced by a {@link SplittableRandom} seeded from {@link JMetalRandom} when
+ * the buffer is created, so runs remain reproducible with the seed of {@link JMetalRandom}, and are
+ * written into a reused array with a tight loop instead of a call to {@link JMetalRandom} per gene.
+ * Instances are not thread-safe; each operator owns its buffer.
+ */
+public class RandomNumberBuffer {
+  private static final double TWO_TO_THE_32 = 4294967296.0;
+
+  private final SplittableRandom random;
+  private double[] buffer;
+
+  /** Creates a buffer seeded from {@link JMetalRandom}. */
+  public RandomNumberBuffer() {
+    JMetalRandom seedGenerator;
+
+    seedGenerator = JMetalRandom.getInstance();
+    random =
+        new SplittableRandom(
+            ((long) (seedGenerator.nextDouble() * TWO_TO_THE_32) << 32)
+                | (long) (seedGenerator.nextDouble() * TWO_TO_THE_32));
+    buffer = new double[0];
+  }
+
+  /**
+   * Fills the first positions of the internal array with random numbers and returns it. The array
+   * is overwritten by the next call.
+   *
+   * @param count the number of random numbers
+   * @return an array whose first {@code count} positions contain uniform random numbers in [0, 1)
+   */
+  public double[] next(int count) {
+    if (buffer.length < count) {
+      buffer = new double[count];
+    }
+    for (int i = 0; i < count; i++) {
+      buffer[i] = random.nextDouble();
+    }
+
+    return buffer;
+  }
+
+  /**
+   * Returns a single uniform random number in [0, 1).
+   *
+   * @return the random number
+   */
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+}
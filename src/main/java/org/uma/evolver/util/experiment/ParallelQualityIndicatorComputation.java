@@ -0,0 +1,320 @@
+package org.uma.evolver.util.experiment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentComponent;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Experiment component that computes the quality indicators of the fronts of an experiment, as
+ * {@code ComputeQualityIndicators} does, but with a bounded parallel pipeline:
+ *
+ * <ol>
+ *   <li>a reader thread loads the FUN files into a bounded queue, so memory use does not depend on
+ *       the number of files;
+ *   <li>{@link Experiment#getNumberOfCores()} worker threads normalize each front with the bounds of
+ *       its reference front and compute the indicators, each worker using its own indicator
+ *       instances, created with {@link QualityIndicator#newInstance()};
+ *   <li>an aggregator thread writes the {@code QualityIndicatorSummary.csv} lines as results
+ *       arrive and, at the end, the per-indicator files in {@code data/<algorithm>/<problem>}.
+ * </ol>
+ *
+ * <p>Each reference front is read and normalized only once. The output files have the same format
+ * as those of {@code ComputeQualityIndicators}, although the lines of the summary are written in
+ * completion order. The best and median fronts generated by that component are not computed. The
+ * throughput, in files per second, is reported through the {@link JMetalLogger}.
+ *
+ * <p>If any stage fails, the others discard the remaining work but keep draining their queues, so
+ * no thread is left blocked, and the failure is rethrown by {@link #run()}: errors as they are,
+ * exceptions wrapped in a {@link JMetalException}.
+ *
+ * @param <S> the type of the solutions
+ * @param <Result> the type of the result of the algorithms
+ */
+public class ParallelQualityIndicatorComputation<S extends Solution<?>, Result extends List<S>>
+    implements ExperimentComponent {
+  private static final int QUEUE_CAPACITY_PER_WORKER = 4;
+
+  private record Front(ExperimentAlgorithm<?, ?> task, double[][] values) {}
+
+  private record IndicatorValues(ExperimentAlgorithm<?, ?> task, Map<String, Double> values) {}
+
+  private record ReferenceFront(
+      double[] minimumValues, double[] maximumValues, double[][] normalizedValues) {}
+
+  private static final Front END_OF_FRONTS = new Front(null, null);
+  private static final IndicatorValues END_OF_RESULTS = new IndicatorValues(null, null);
+
+  private final Experiment<S, Result> experiment;
+  private final Map<String, ReferenceFront> referenceFronts;
+  private final AtomicReference<Throwable> failure;
+
+  /**
+   * Creates the component.
+   *
+   * @param experiment the experiment whose fronts are evaluated
+   */
+  public ParallelQualityIndicatorComputation(Experiment<S, Result> experiment) {
+    this.experiment = experiment;
+    this.referenceFronts = new ConcurrentHashMap<>();
+    this.failure = new AtomicReference<>();
+  }
+
+  @Override
+  public void run() throws IOException {
+    int numberOfWorkers;
+    BlockingQueue<Front> fronts;
+    BlockingQueue<IndicatorValues> results;
+    List<Thread> threads;
+    Thread aggregator;
+    long startTime;
+    int[] numberOfFiles;
+
+    numberOfWorkers = Math.max(1, experiment.getNumberOfCores());
+    fronts = new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_WORKER * numberOfWorkers);
+    results = new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_WORKER * numberOfWorkers);
+    numberOfFiles = new int[1];
+    startTime = System.currentTimeMillis();
+
+    threads = new ArrayList<>();
+    threads.add(new Thread(() -> read(fronts, numberOfWorkers), "indicators-reader"));
+    for (int i = 0; i < numberOfWorkers; i++) {
+      threads.add(new Thread(() -> evaluate(fronts, results), "indicators-worker-" + i));
+    }
+    aggregator = new Thread(() -> numberOfFiles[0] = aggregate(results), "indicators-aggregator");
+    threads.forEach(Thread::start);
+    aggregator.start();
+
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      results.put(END_OF_RESULTS);
+      aggregator.join();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while computing the quality indicators", exception);
+    }
+
+    if (failure.get() instanceof Error error) {
+      throw error;
+    } else if (failure.get() != null) {
+      throw new JMetalException(
+          "Error computing the quality indicators", (Exception) failure.get());
+    }
+
+    JMetalLogger.logger.info(
+        String.format(
+            "Quality indicators of %d files computed in %.1f s (%.1f files/s)",
+            numberOfFiles[0],
+            (System.currentTimeMillis() - startTime) / 1000.0,
+            numberOfFiles[0] * 1000.0 / Math.max(1, System.currentTimeMillis() - startTime)));
+  }
+
+  /**
+   * Reader stage: loads the FUN files and finally sends one end mark per worker, also when it
+   * fails, so the workers never wait for fronts that will not arrive.
+   */
+  private void read(BlockingQueue<Front> fronts, int numberOfWorkers) {
+    try {
+      for (ExperimentAlgorithm<S, Result> task : experiment.getAlgorithmList()) {
+        Path frontFile;
+
+        frontFile = frontFile(task);
+        if (failure.get() != null) {
+          break;
+        }
+        if (Files.exists(frontFile)) {
+          fronts.put(new Front(task, VectorUtils.readVectors(frontFile.toString(), ",")));
+        } else {
+          JMetalLogger.logger.warning("Front file not found: " + frontFile);
+        }
+      }
+    } catch (IOException | RuntimeException | Error exception) {
+      failure.compareAndSet(null, exception);
+    } catch (InterruptedException exception) {
+      failure.compareAndSet(null, exception);
+      Thread.currentThread().interrupt();
+    } finally {
+      for (int i = 0; i < numberOfWorkers; i++) {
+        putUninterruptibly(fronts, END_OF_FRONTS);
+      }
+    }
+  }
+
+  /**
+   * Puts an element in a queue, waiting for space even if the thread is interrupted. The interrupt
+   * status is restored afterwards.
+   */
+  private static <T> void putUninterruptibly(BlockingQueue<T> queue, T element) {
+    boolean interrupted;
+    boolean done;
+
+    interrupted = Thread.interrupted();
+    done = false;
+    while (!done) {
+      try {
+        queue.put(element);
+        done = true;
+      } catch (InterruptedException exception) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Worker stage: normalizes the fronts and computes their indicators. After a failure, the
+   * remaining fronts are discarded, but the queue is still drained so the reader never blocks.
+   */
+  private void evaluate(BlockingQueue<Front> fronts, BlockingQueue<IndicatorValues> results) {
+    List<QualityIndicator> indicators;
+
+    indicators = experiment.getIndicatorList().stream().map(QualityIndicator::newInstance).toList();
+    try {
+      Front front;
+
+      front = fronts.take();
+      while (front != END_OF_FRONTS) {
+        if (failure.get() == null) {
+          try {
+            results.put(new IndicatorValues(front.task(), computeIndicators(front, indicators)));
+          } catch (IOException | RuntimeException | Error exception) {
+            failure.compareAndSet(null, exception);
+          }
+        }
+        front = fronts.take();
+      }
+    } catch (InterruptedException exception) {
+      failure.compareAndSet(null, exception);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Map<String, Double> computeIndicators(Front front, List<QualityIndicator> indicators)
+      throws IOException {
+    ReferenceFront referenceFront;
+    double[][] normalizedFront;
+    Map<String, Double> result;
+
+    referenceFront = referenceFront(front.task());
+    normalizedFront =
+        NormalizeUtils.normalize(
+            front.values(), referenceFront.minimumValues(), referenceFront.maximumValues());
+    result = new LinkedHashMap<>();
+    for (QualityIndicator indicator : indicators) {
+      indicator.referenceFront(referenceFront.normalizedValues());
+      result.put(indicator.name(), indicator.compute(normalizedFront));
+    }
+
+    return result;
+  }
+
+  /**
+   * Aggregator stage: writes the summary file as the results arrive and the per-indicator files at
+   * the end. It keeps draining the results after a failure, so the workers never block.
+   *
+   * @return the number of evaluated fronts
+   */
+  private int aggregate(BlockingQueue<IndicatorValues> results) {
+    QualityIndicatorFileWriter writer;
+    int result;
+
+    writer = null;
+    result = 0;
+    try {
+      IndicatorValues indicatorValues;
+
+      try {
+        writer = new QualityIndicatorFileWriter(experiment);
+      } catch (IOException | RuntimeException | Error exception) {
+        failure.compareAndSet(null, exception);
+      }
+
+      indicatorValues = results.take();
+      while (indicatorValues != END_OF_RESULTS) {
+        if (failure.get() == null) {
+          try {
+            writer.add(indicatorValues.task(), indicatorValues.values());
+            result++;
+          } catch (IOException | RuntimeException | Error exception) {
+            failure.compareAndSet(null, exception);
+          }
+        }
+        indicatorValues = results.take();
+      }
+
+      if (writer != null) {
+        try {
+          if (failure.get() == null) {
+            writer.writeIndicatorFiles();
+          }
+        } finally {
+          writer.close();
+        }
+      }
+    } catch (IOException | RuntimeException | Error exception) {
+      failure.compareAndSet(null, exception);
+    } catch (InterruptedException exception) {
+      failure.compareAndSet(null, exception);
+      Thread.currentThread().interrupt();
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the reference front of the problem of a task, reading and normalizing it the first time
+   * it is requested. Workers requesting it meanwhile wait instead of reading it again.
+   */
+  private ReferenceFront referenceFront(ExperimentAlgorithm<?, ?> task) throws IOException {
+    try {
+      return referenceFronts.computeIfAbsent(
+          task.getProblemTag(), problemTag -> readReferenceFront(task));
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+  }
+
+  private ReferenceFront readReferenceFront(ExperimentAlgorithm<?, ?> task) {
+    double[][] values;
+
+    try {
+      values =
+          VectorUtils.readVectors(
+              Path.of(experiment.getReferenceFrontDirectory(), task.getReferenceParetoFront())
+                  .toString(),
+              ",");
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return new ReferenceFront(
+        NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(values),
+        NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(values),
+        NormalizeUtils.normalize(values));
+  }
+
+  private Path frontFile(ExperimentAlgorithm<?, ?> task) {
+    return QualityIndicatorFileWriter.frontFile(experiment, task);
+  }
+}
@@ -0,0 +1,128 @@
+package org.uma.evolver.util.experiment;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+
+/**
+ * Writes the quality indicator values of the runs of an experiment with the format of the files
+ * generated by {@code ComputeQualityIndicators}:
+ *
+ * <ul>
+ *   <li>the {@code QualityIndicatorSummary.csv} file in the experiment base directory, whose lines
+ *       are written as the values of each run are added;
+ *   <li>for each algorithm, problem and indicator, a file in {@code data/<algorithm>/<problem>}
+ *       named as the indicator with the values of the runs sorted by run index, written by {@link
+ *       #writeIndicatorFiles()}.
+ * </ul>
+ *
+ * <p>Instances are not thread-safe.
+ */
+final class QualityIndicatorFileWriter implements Closeable {
+  private static final String SUMMARY_FILE_NAME = "QualityIndicatorSummary.csv";
+  private static final String SUMMARY_HEADER =
+      "Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue\n";
+
+  private final Experiment<?, ?> experiment;
+  private final BufferedWriter summary;
+  private final Map<Path, Map<Integer, Double>> valuesByFile;
+
+  /**
+   * Creates the writer, replacing the summary file of the experiment with one containing only the
+   * header.
+   *
+   * @param experiment the experiment
+   * @throws IOException if the summary file cannot be created
+   */
+  QualityIndicatorFileWriter(Experiment<?, ?> experiment) throws IOException {
+    this.experiment = experiment;
+    this.summary =
+        new BufferedWriter(
+            new FileWriter(
+                Path.of(experiment.getExperimentBaseDirectory(), SUMMARY_FILE_NAME).toFile(),
+                false));
+    this.valuesByFile = new LinkedHashMap<>();
+    summary.write(SUMMARY_HEADER);
+  }
+
+  /**
+   * Adds the indicator values of a run, writing them to the summary file.
+   *
+   * @param task the run
+   * @param indicatorValues the values of the indicators, by indicator name
+   * @throws IOException if the summary file cannot be written
+   */
+  void add(ExperimentAlgorithm<?, ?> task, Map<String, Double> indicatorValues)
+      throws IOException {
+    for (Map.Entry<String, Double> entry : indicatorValues.entrySet()) {
+      summary.write(
+          task.getAlgorithmTag()
+              + ","
+              + task.getProblemTag()
+              + ","
+              + entry.getKey()
+              + ","
+              + task.getRunId()
+              + ","
+              + entry.getValue()
+              + "\n");
+      valuesByFile
+          .computeIfAbsent(
+              outputDirectory(experiment, task).resolve(entry.getKey()),
+              ignored -> new TreeMap<>())
+          .put(task.getRunId(), entry.getValue());
+    }
+  }
+
+  /**
+   * Writes the per-indicator files with the values added so far.
+   *
+   * @throws IOException if a file cannot be written
+   */
+  void writeIndicatorFiles() throws IOException {
+    for (Map.Entry<Path, Map<Integer, Double>> entry : valuesByFile.entrySet()) {
+      Files.write(
+          entry.getKey(), entry.getValue().values().stream().map(String::valueOf).toList());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    summary.close();
+  }
+
+  /**
+   * Returns the directory {@code data/<algorithm>/<problem>} of a run.
+   *
+   * @param experiment the experiment
+   * @param task the run
+   * @return the directory where the fronts and indicator files of the run are stored
+   */
+  static Path outputDirectory(Experiment<?, ?> experiment, ExperimentAlgorithm<?, ?> task) {
+    return Path.of(
+        experiment.getExperimentBaseDirectory(),
+        "data",
+        task.getAlgorithmTag(),
+        task.getProblemTag());
+  }
+
+  /**
+   * Returns the FUN file of a run.
+   *
+   * @param experiment the experiment
+   * @param task the run
+   * @return the path of the file with the front obtained by the run
+   */
+  static Path frontFile(Experiment<?, ?> experiment, ExperimentAlgorithm<?, ?> task) {
+    return outputDirectory(experiment, task)
+        .resolve(experiment.getOutputParetoFrontFileName() + task.getRunId() + ".csv");
+  }
+}
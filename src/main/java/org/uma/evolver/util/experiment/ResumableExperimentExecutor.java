@@ -0,0 +1,385 @@
+package org.uma.evolver.util.experiment;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentComponent;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Experiment component that replaces the combination of {@code ExecuteAlgorithms} and {@code
+ * ComputeQualityIndicators} with a resumable, incremental execution.
+ *
+ * <p>The component keeps a manifest file ({@value #MANIFEST_FILE_NAME}) in the experiment base
+ * directory with one line per completed (algorithm, problem, run) task, containing its execution
+ * time and its quality indicator values. When the experiment is launched again:
+ *
+ * <ul>
+ *   <li>tasks in the manifest whose FUN file exists are not executed again;
+ *   <li>tasks not in the manifest whose FUN file exists (e.g., produced by {@code
+ *       ExecuteAlgorithms}) are adopted: only their indicators are computed;
+ *   <li>the remaining tasks are scheduled on {@link Experiment#getNumberOfCores()} threads, starting
+ *       with those expected to last longest according to the times recorded for the same algorithm
+ *       and problem (tasks without any recorded time go first).
+ * </ul>
+ *
+ * <p>The quality indicators of each run are computed by the worker thread as soon as the run
+ * finishes, normalizing the front with the bounds of the reference front as {@code
+ * ComputeQualityIndicators} does, and are appended to the manifest at once. When all the tasks are
+ * done, the per-indicator files in {@code data/<algorithm>/<problem>} and the {@code
+ * QualityIndicatorSummary.csv} file are written, so the statistical components of jMetal (LaTeX
+ * tables, Wilcoxon and Friedman tests, boxplots) can be applied afterwards.
+ *
+ * @param <S> the type of the solutions
+ * @param <Result> the type of the result of the algorithms
+ */
+public class ResumableExperimentExecutor<S extends Solution<?>, Result extends List<S>>
+    implements ExperimentComponent {
+  /** Name of the manifest file stored in the experiment base directory. */
+  public static final String MANIFEST_FILE_NAME = "manifest.csv";
+
+  private static final int NUMBER_OF_FIXED_COLUMNS = 4;
+
+  private record TaskKey(String algorithm, String problem, int run) {}
+
+  private record CompletedTask(long elapsedMillis, Map<String, Double> indicatorValues) {}
+
+  private final Experiment<S, Result> experiment;
+  private final Map<TaskKey, CompletedTask> completedTasks;
+  private final Map<String, double[][]> referenceFronts;
+
+  /**
+   * Creates the component.
+   *
+   * @param experiment the experiment to execute
+   */
+  public ResumableExperimentExecutor(Experiment<S, Result> experiment) {
+    this.experiment = experiment;
+    this.completedTasks = new ConcurrentHashMap<>();
+    this.referenceFronts = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void run() throws IOException {
+    Path manifestPath;
+    List<ExperimentAlgorithm<S, Result>> pendingTasks;
+    ExecutorService executor;
+    List<Future<?>> futures;
+
+    Files.createDirectories(Path.of(experiment.getExperimentBaseDirectory()));
+    manifestPath = Path.of(experiment.getExperimentBaseDirectory(), MANIFEST_FILE_NAME);
+    readManifest(manifestPath);
+
+    pendingTasks = new ArrayList<>();
+    for (ExperimentAlgorithm<S, Result> task : experiment.getAlgorithmList()) {
+      CompletedTask completedTask;
+
+      completedTask = completedTasks.get(keyOf(task));
+      if (completedTask == null
+          || !Files.exists(frontFile(task))
+          || !completedTask.indicatorValues().keySet().containsAll(indicatorNames())) {
+        pendingTasks.add(task);
+      }
+    }
+    pendingTasks.sort(Comparator.comparingDouble(this::expectedDuration).reversed());
+    JMetalLogger.logger.info(
+        pendingTasks.size()
+            + " of "
+            + experiment.getAlgorithmList().size()
+            + " tasks pending; "
+            + (experiment.getAlgorithmList().size() - pendingTasks.size())
+            + " found in "
+            + manifestPath);
+
+    try (BufferedWriter manifest = openManifest(manifestPath)) {
+      executor = Executors.newFixedThreadPool(Math.max(1, experiment.getNumberOfCores()));
+      futures = new ArrayList<>();
+      for (ExperimentAlgorithm<S, Result> task : pendingTasks) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  execute(task, manifest);
+                  return null;
+                }));
+      }
+      try {
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while executing the experiment", exception);
+      } catch (ExecutionException exception) {
+        throw new JMetalException("Error executing an experiment task", exception);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    writeIndicatorFiles();
+  }
+
+  /**
+   * Runs a task, unless its FUN file already exists, computes its quality indicators and appends
+   * them to the manifest.
+   */
+  private void execute(ExperimentAlgorithm<S, Result> task, BufferedWriter manifest)
+      throws IOException {
+    TaskKey key;
+    long elapsedMillis;
+    Map<String, Double> indicatorValues;
+    CompletedTask previous;
+
+    key = keyOf(task);
+    previous = completedTasks.get(key);
+    elapsedMillis = previous == null ? -1 : previous.elapsedMillis();
+    if (previous == null && Files.exists(frontFile(task))) {
+      JMetalLogger.logger.info("Adopting existing front " + frontFile(task));
+    } else if (!Files.exists(frontFile(task))) {
+      long startTime;
+
+      startTime = System.currentTimeMillis();
+      task.runAlgorithm(experiment);
+      elapsedMillis = System.currentTimeMillis() - startTime;
+      if (!Files.exists(frontFile(task))) {
+        throw new JMetalException("The run did not produce the front file " + frontFile(task));
+      }
+    }
+
+    indicatorValues = computeIndicators(task);
+    completedTasks.put(key, new CompletedTask(elapsedMillis, indicatorValues));
+    synchronized (manifest) {
+      manifest.write(manifestLine(key, elapsedMillis, indicatorValues));
+      manifest.flush();
+    }
+  }
+
+  private Map<String, Double> computeIndicators(ExperimentAlgorithm<S, Result> task)
+      throws IOException {
+    double[][] referenceFront;
+    double[][] normalizedReferenceFront;
+    double[][] normalizedFront;
+    Map<String, Double> result;
+
+    referenceFront = referenceFront(task);
+    normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+    normalizedFront =
+        NormalizeUtils.normalize(
+            VectorUtils.readVectors(frontFile(task).toString(), ","),
+            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+
+    result = new LinkedHashMap<>();
+    for (QualityIndicator indicator : experiment.getIndicatorList()) {
+      synchronized (indicator) {
+        indicator.referenceFront(normalizedReferenceFront);
+        result.put(indicator.name(), indicator.compute(normalizedFront));
+      }
+    }
+
+    return result;
+  }
+
+  private double[][] referenceFront(ExperimentAlgorithm<S, Result> task) throws IOException {
+    double[][] result;
+
+    result = referenceFronts.get(task.getProblemTag());
+    if (result == null) {
+      result =
+          VectorUtils.readVectors(
+              Path.of(experiment.getReferenceFrontDirectory(), task.getReferenceParetoFront())
+                  .toString(),
+              ",");
+      referenceFronts.put(task.getProblemTag(), result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Estimates the duration of a task as the mean time of the completed runs of the same algorithm
+   * on the same problem, or of any algorithm on the same problem. Tasks without estimation get an
+   * infinite duration, so they are scheduled first.
+   */
+  private double expectedDuration(ExperimentAlgorithm<S, Result> task) {
+    double sameAlgorithmTime;
+    int sameAlgorithmCount;
+    double sameProblemTime;
+    int sameProblemCount;
+    double result;
+
+    sameAlgorithmTime = 0.0;
+    sameAlgorithmCount = 0;
+    sameProblemTime = 0.0;
+    sameProblemCount = 0;
+    for (Map.Entry<TaskKey, CompletedTask> entry : completedTasks.entrySet()) {
+      long elapsedMillis;
+
+      elapsedMillis = entry.getValue().elapsedMillis();
+      if (elapsedMillis >= 0 && entry.getKey().problem().equals(task.getProblemTag())) {
+        sameProblemTime += elapsedMillis;
+        sameProblemCount++;
+        if (entry.getKey().algorithm().equals(task.getAlgorithmTag())) {
+          sameAlgorithmTime += elapsedMillis;
+          sameAlgorithmCount++;
+        }
+      }
+    }
+
+    if (sameAlgorithmCount > 0) {
+      result = sameAlgorithmTime / sameAlgorithmCount;
+    } else if (sameProblemCount > 0) {
+      result = sameProblemTime / sameProblemCount;
+    } else {
+      result = Double.POSITIVE_INFINITY;
+    }
+
+    return result;
+  }
+
+  private void readManifest(Path manifestPath) throws IOException {
+    List<String> lines;
+    String[] header;
+
+    if (!Files.exists(manifestPath)) {
+      return;
+    }
+
+    lines = Files.readAllLines(manifestPath);
+    if (lines.isEmpty()) {
+      return;
+    }
+    header = lines.get(0).split(",", -1);
+    for (int index = 1; index < lines.size(); index++) {
+      String[] columns;
+      Map<String, Double> indicatorValues;
+
+      columns = lines.get(index).split(",", -1);
+      if (columns.length != header.length) {
+        continue;
+      }
+
+      indicatorValues = new LinkedHashMap<>();
+      try {
+        for (int column = NUMBER_OF_FIXED_COLUMNS; column < columns.length; column++) {
+          if (!columns[column].isEmpty()) {
+            indicatorValues.put(header[column], Double.parseDouble(columns[column]));
+          }
+        }
+        completedTasks.put(
+            new TaskKey(columns[0], columns[1], Integer.parseInt(columns[2])),
+            new CompletedTask(Long.parseLong(columns[3]), indicatorValues));
+      } catch (NumberFormatException exception) {
+        // A line truncated by an interrupted execution: the task is run again
+      }
+    }
+  }
+
+  /**
+   * Opens the manifest for appending. If it does not exist or its indicators differ from those of
+   * the experiment, it is rewritten with the current header and the entries read before.
+   */
+  private BufferedWriter openManifest(Path manifestPath) throws IOException {
+    String header;
+    BufferedWriter result;
+
+    header = manifestHeader();
+    if (Files.exists(manifestPath)
+        && Files.readAllLines(manifestPath).stream().findFirst().orElse("").equals(header)) {
+      result = new BufferedWriter(new FileWriter(manifestPath.toFile(), true));
+    } else {
+      result = new BufferedWriter(new FileWriter(manifestPath.toFile(), false));
+      result.write(header);
+      result.write("\n");
+      for (Map.Entry<TaskKey, CompletedTask> entry : completedTasks.entrySet()) {
+        result.write(
+            manifestLine(
+                entry.getKey(),
+                entry.getValue().elapsedMillis(),
+                entry.getValue().indicatorValues()));
+      }
+      result.flush();
+    }
+
+    return result;
+  }
+
+  private String manifestHeader() {
+    return "Algorithm,Problem,ExecutionId,ElapsedMillis," + String.join(",", indicatorNames());
+  }
+
+  private String manifestLine(
+      TaskKey key, long elapsedMillis, Map<String, Double> indicatorValues) {
+    StringBuilder line;
+
+    line = new StringBuilder();
+    line.append(key.algorithm())
+        .append(",")
+        .append(key.problem())
+        .append(",")
+        .append(key.run())
+        .append(",")
+        .append(elapsedMillis);
+    for (String indicatorName : indicatorNames()) {
+      Double value;
+
+      value = indicatorValues.get(indicatorName);
+      line.append(",").append(value == null ? "" : Double.toString(value));
+    }
+    line.append("\n");
+
+    return line.toString();
+  }
+
+  /**
+   * Writes, for each algorithm, problem and indicator, the file with the indicator values of the
+   * runs sorted by run index, together with the {@code QualityIndicatorSummary.csv} file.
+   */
+  private void writeIndicatorFiles() throws IOException {
+    try (QualityIndicatorFileWriter writer = new QualityIndicatorFileWriter(experiment)) {
+      for (ExperimentAlgorithm<S, Result> task : experiment.getAlgorithmList()) {
+        Map<String, Double> completedValues;
+        Map<String, Double> indicatorValues;
+
+        completedValues = completedTasks.get(keyOf(task)).indicatorValues();
+        indicatorValues = new LinkedHashMap<>();
+        for (String indicatorName : indicatorNames()) {
+          indicatorValues.put(indicatorName, completedValues.get(indicatorName));
+        }
+        writer.add(task, indicatorValues);
+      }
+      writer.writeIndicatorFiles();
+    }
+  }
+
+  private List<String> indicatorNames() {
+    return experiment.getIndicatorList().stream().map(QualityIndicator::name).toList();
+  }
+
+  private Path frontFile(ExperimentAlgorithm<S, Result> task) {
+    return QualityIndicatorFileWriter.frontFile(experiment, task);
+  }
+
+  private static TaskKey keyOf(ExperimentAlgorithm<?, ?> task) {
+    return new TaskKey(task.getAlgorithmTag(), task.getProblemTag(), task.getRunId());
+  }
+}
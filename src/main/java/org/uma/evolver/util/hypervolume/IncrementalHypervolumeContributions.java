@@ -0,0 +1,528 @@
+package org.uma.evolver.util.hypervolume;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Maintains the exclusive hypervolume contributions of a set of mutually non-dominated solutions
+ * under insertions and removals, avoiding a full recomputation after every change.
+ *
+ * <p>The strategy depends on the number of objectives:
+ *
+ * <ul>
+ *   <li><b>2 objectives:</b> the solutions are kept sorted by the first objective, so the
+ *       contribution of a solution only depends on its two neighbours. Insertions and removals
+ *       locate the position in O(log n) and update at most three contributions.
+ *   <li><b>3 objectives:</b> only the contributions of the solutions whose exclusive region
+ *       intersects the region dominated by the inserted (or removed) solution are recomputed,
+ *       each one exactly with an O(n log n) sweep.
+ *   <li><b>More than 3 objectives:</b> the affected contributions are estimated by Monte Carlo
+ *       sampling inside the box dominated by each solution.
+ * </ul>
+ *
+ * <p>The reference point is the component-wise maximum of the stored solutions plus an offset.
+ * When it changes (i.e., an extreme solution enters or leaves the set), all the contributions are
+ * recomputed in two objectives, where this is linear. In more objectives, only the solutions whose
+ * exclusive region reaches the boundary of the reference box in a changed objective are
+ * recomputed: a solution q is not affected by a change in objective j if another solution is not
+ * worse than q in every objective but j, as it then dominates the whole face of the exclusive
+ * region of q that moves.
+ *
+ * <p>The current contribution of each solution is also stored as an attribute of the solution
+ * (see {@link #ATTRIBUTE_ID}) so that comparators can use it.
+ *
+ * @param <S> the type of the solutions
+ */
+public class IncrementalHypervolumeContributions<S extends Solution<?>> {
+  /** Key of the solution attribute holding the hypervolume contribution. */
+  public static final String ATTRIBUTE_ID = IncrementalHypervolumeContributions.class.getName();
+
+  /** Default offset added to the maximum values to build the reference point. */
+  public static final double DEFAULT_OFFSET = 100.0;
+
+  /** Default number of samples used by the Monte Carlo estimation (more than 3 objectives). */
+  public static final int DEFAULT_NUMBER_OF_SAMPLES = 10000;
+
+  private final int numberOfObjectives;
+  private final double offset;
+  private final int numberOfSamples;
+  private final List<Entry<S>> entries;
+  private double[] referencePoint;
+
+  /**
+   * Creates an instance using {@link #DEFAULT_OFFSET} and {@link #DEFAULT_NUMBER_OF_SAMPLES}.
+   *
+   * @param numberOfObjectives the number of objectives of the solutions (at least 2)
+   */
+  public IncrementalHypervolumeContributions(int numberOfObjectives) {
+    this(numberOfObjectives, DEFAULT_OFFSET, DEFAULT_NUMBER_OF_SAMPLES);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param numberOfObjectives the number of objectives of the solutions (at least 2)
+   * @param offset the value added to the maximum of each objective to build the reference point
+   * @param numberOfSamples the number of samples per contribution when there are more than three
+   *     objectives
+   */
+  public IncrementalHypervolumeContributions(
+      int numberOfObjectives, double offset, int numberOfSamples) {
+    Check.that(numberOfObjectives >= 2, "The number of objectives must be at least 2");
+    Check.that(offset > 0, "The offset must be positive: " + offset);
+    Check.that(numberOfSamples > 0, "The number of samples must be positive: " + numberOfSamples);
+    this.numberOfObjectives = numberOfObjectives;
+    this.offset = offset;
+    this.numberOfSamples = numberOfSamples;
+    this.entries = new ArrayList<>();
+  }
+
+  /**
+   * Adds a solution. The solution must not be dominated by, nor dominate, any of the stored
+   * solutions.
+   *
+   * @param solution the solution to add
+   */
+  public void add(S solution) {
+    Check.notNull(solution);
+    Check.that(
+        solution.objectives().length == numberOfObjectives,
+        "The solution has " + solution.objectives().length + " objectives instead of "
+            + numberOfObjectives);
+
+    Entry<S> entry = new Entry<>(solution);
+    int position = insert(entry);
+    double[] previousReferencePoint = referencePoint;
+    boolean referencePointChanged = updateReferencePoint();
+
+    if (numberOfObjectives == 2) {
+      if (referencePointChanged) {
+        recomputeAll();
+      } else {
+        updateContribution2D(position - 1);
+        updateContribution2D(position);
+        updateContribution2D(position + 1);
+      }
+    } else if (previousReferencePoint == null) {
+      recomputeAll();
+    } else {
+      Set<Entry<S>> affected = new LinkedHashSet<>();
+      affected.add(entry);
+      affected.addAll(affectedBy(entry));
+      if (referencePointChanged) {
+        affected.addAll(affectedByReferencePointChange(previousReferencePoint));
+      }
+      affected.forEach(this::updateContribution);
+    }
+  }
+
+  /**
+   * Removes a solution (compared by identity). Nothing is done if the solution is not stored.
+   *
+   * @param solution the solution to remove
+   * @return {@code true} if the solution was removed
+   */
+  public boolean remove(S solution) {
+    int position = indexOf(solution);
+    if (position == -1) {
+      return false;
+    }
+
+    Entry<S> entry = entries.get(position);
+    Set<Entry<S>> affected = new LinkedHashSet<>();
+    if (numberOfObjectives > 2) {
+      affected.addAll(affectedBy(entry));
+    }
+    entries.remove(position);
+    double[] previousReferencePoint = referencePoint;
+    boolean referencePointChanged = updateReferencePoint();
+
+    if (numberOfObjectives == 2) {
+      if (referencePointChanged) {
+        recomputeAll();
+      } else {
+        updateContribution2D(position - 1);
+        updateContribution2D(position);
+      }
+    } else if (referencePoint != null) {
+      if (referencePointChanged) {
+        affected.addAll(affectedByReferencePointChange(previousReferencePoint));
+      }
+      affected.forEach(this::updateContribution);
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the current hypervolume contribution of a stored solution.
+   *
+   * @param solution a stored solution
+   * @return its exclusive hypervolume contribution
+   */
+  public double contribution(S solution) {
+    int position = indexOf(solution);
+    Check.that(position != -1, "The solution is not stored");
+    return entries.get(position).contribution;
+  }
+
+  /**
+   * Returns the stored solution having the lowest hypervolume contribution.
+   *
+   * @return the solution contributing the least to the hypervolume
+   */
+  public S worst() {
+    Check.that(!entries.isEmpty(), "There are no solutions");
+    Entry<S> worst = entries.get(0);
+    for (Entry<S> entry : entries) {
+      if (entry.contribution < worst.contribution) {
+        worst = entry;
+      }
+    }
+    return worst.solution;
+  }
+
+  /**
+   * Returns the stored solutions (in the first objective order when there are two objectives).
+   *
+   * @return a new list containing the stored solutions
+   */
+  public List<S> solutions() {
+    List<S> solutions = new ArrayList<>(entries.size());
+    entries.forEach(entry -> solutions.add(entry.solution));
+    return solutions;
+  }
+
+  /**
+   * Returns the number of stored solutions.
+   *
+   * @return the number of solutions
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /** Removes all the solutions. */
+  public void clear() {
+    entries.clear();
+    referencePoint = null;
+  }
+
+  /**
+   * Replaces the stored solutions by the given ones, computing all the contributions once. This is
+   * cheaper than adding the solutions one by one when most of the set changes.
+   *
+   * @param solutions mutually non-dominated solutions
+   */
+  public void reset(List<S> solutions) {
+    clear();
+    for (S solution : solutions) {
+      Check.that(
+          solution.objectives().length == numberOfObjectives,
+          "The solution has " + solution.objectives().length + " objectives instead of "
+              + numberOfObjectives);
+      insert(new Entry<>(solution));
+    }
+    updateReferencePoint();
+    recomputeAll();
+  }
+
+  /**
+   * Returns a copy of the reference point currently used.
+   *
+   * @return the reference point, or an empty array if there are no solutions
+   */
+  public double[] referencePoint() {
+    return referencePoint == null ? new double[0] : referencePoint.clone();
+  }
+
+  /**
+   * Computes the hypervolume of a set of three-objective points (minimization) with respect to a
+   * reference point using a sweep along the third objective and a two-dimensional staircase
+   * stored in a sorted map. Points not strictly dominating the reference point are ignored.
+   *
+   * @param points the points
+   * @param referencePoint the reference point
+   * @return the hypervolume in O(n log n) time
+   */
+  public static double hypervolume3D(List<double[]> points, double[] referencePoint) {
+    List<double[]> sortedPoints = new ArrayList<>(points.size());
+    for (double[] point : points) {
+      if (point[0] < referencePoint[0]
+          && point[1] < referencePoint[1]
+          && point[2] < referencePoint[2]) {
+        sortedPoints.add(point);
+      }
+    }
+    sortedPoints.sort(Comparator.comparingDouble(point -> point[2]));
+
+    TreeMap<Double, Double> staircase = new TreeMap<>();
+    double area = 0.0;
+    double volume = 0.0;
+    for (int i = 0; i < sortedPoints.size(); i++) {
+      double[] point = sortedPoints.get(i);
+      area += insertInStaircase(staircase, point[0], point[1], referencePoint);
+      double nextZ =
+          (i + 1 < sortedPoints.size()) ? sortedPoints.get(i + 1)[2] : referencePoint[2];
+      volume += area * (nextZ - point[2]);
+    }
+
+    return volume;
+  }
+
+  /**
+   * Inserts a point into a two-dimensional non-dominated staircase (x ascending, y descending) and
+   * returns the area gained with respect to the reference point.
+   */
+  private static double insertInStaircase(
+      TreeMap<Double, Double> staircase, double x, double y, double[] referencePoint) {
+    Map.Entry<Double, Double> floor = staircase.floorEntry(x);
+    if (floor != null && floor.getValue() <= y) {
+      return 0.0;
+    }
+
+    Map.Entry<Double, Double> lower = staircase.lowerEntry(x);
+    double height = (lower == null) ? referencePoint[1] : lower.getValue();
+    double start = x;
+    double gainedArea = 0.0;
+
+    Map.Entry<Double, Double> next = staircase.ceilingEntry(x);
+    while (next != null && next.getValue() >= y) {
+      gainedArea += (next.getKey() - start) * (height - y);
+      start = next.getKey();
+      height = next.getValue();
+      staircase.remove(next.getKey());
+      next = staircase.higherEntry(start);
+    }
+    double end = (next == null) ? referencePoint[0] : next.getKey();
+    gainedArea += (end - start) * (height - y);
+
+    staircase.put(x, y);
+
+    return gainedArea;
+  }
+
+  private int insert(Entry<S> entry) {
+    int position;
+    if (numberOfObjectives == 2) {
+      position = 0;
+      int high = entries.size();
+      while (position < high) {
+        int middle = (position + high) >>> 1;
+        if (entries.get(middle).point[0] < entry.point[0]) {
+          position = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      entries.add(position, entry);
+    } else {
+      position = entries.size();
+      entries.add(entry);
+    }
+    return position;
+  }
+
+  private int indexOf(S solution) {
+    int position = -1;
+    for (int i = 0; i < entries.size() && position == -1; i++) {
+      if (entries.get(i).solution == solution) {
+        position = i;
+      }
+    }
+    return position;
+  }
+
+  /**
+   * Recomputes the reference point from the stored solutions.
+   *
+   * @return {@code true} if the reference point has changed
+   */
+  private boolean updateReferencePoint() {
+    double[] newReferencePoint = null;
+    if (!entries.isEmpty()) {
+      newReferencePoint = new double[numberOfObjectives];
+      Arrays.fill(newReferencePoint, Double.NEGATIVE_INFINITY);
+      for (Entry<S> entry : entries) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          newReferencePoint[j] = Math.max(newReferencePoint[j], entry.point[j]);
+        }
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        newReferencePoint[j] += offset;
+      }
+    }
+
+    boolean changed = !Arrays.equals(newReferencePoint, referencePoint);
+    referencePoint = newReferencePoint;
+
+    return changed;
+  }
+
+  private void recomputeAll() {
+    if (numberOfObjectives == 2) {
+      for (int i = 0; i < entries.size(); i++) {
+        updateContribution2D(i);
+      }
+    } else {
+      entries.forEach(this::updateContribution);
+    }
+  }
+
+  /**
+   * Returns the stored solutions (other than the given one) whose exclusive region intersects the
+   * region dominated by the given one. A solution q is affected by p if the point max(q, p) is not
+   * weakly dominated by any other stored solution.
+   */
+  private List<Entry<S>> affectedBy(Entry<S> entry) {
+    List<Entry<S>> affected = new ArrayList<>();
+    double[] corner = new double[numberOfObjectives];
+    for (Entry<S> candidate : entries) {
+      if (candidate != entry) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          corner[j] = Math.max(candidate.point[j], entry.point[j]);
+        }
+        if (!isWeaklyDominatedByOthers(corner, candidate, entry)) {
+          affected.add(candidate);
+        }
+      }
+    }
+    return affected;
+  }
+
+  /**
+   * Returns the stored solutions whose exclusive region reaches the boundary of the reference box
+   * in an objective whose reference value has changed. A solution q is not affected by a change in
+   * objective j if another solution p satisfies p[k] <= q[k] for every k != j and p[j] is lower
+   * than both the previous and the current reference values, because p then dominates the part of
+   * the box of q that is added or removed.
+   */
+  private List<Entry<S>> affectedByReferencePointChange(double[] previousReferencePoint) {
+    List<Entry<S>> affected = new ArrayList<>();
+    for (Entry<S> candidate : entries) {
+      boolean isAffected = false;
+      for (int j = 0; j < numberOfObjectives && !isAffected; j++) {
+        if (previousReferencePoint[j] != referencePoint[j]) {
+          double limit = Math.min(previousReferencePoint[j], referencePoint[j]);
+          isAffected = !isDominatedExceptIn(candidate, j, limit);
+        }
+      }
+      if (isAffected) {
+        affected.add(candidate);
+      }
+    }
+    return affected;
+  }
+
+  private boolean isDominatedExceptIn(Entry<S> entry, int objective, double limit) {
+    boolean dominated = false;
+    for (int i = 0; i < entries.size() && !dominated; i++) {
+      Entry<S> other = entries.get(i);
+      if (other != entry && other.point[objective] < limit) {
+        dominated = true;
+        for (int k = 0; k < numberOfObjectives && dominated; k++) {
+          dominated = k == objective || other.point[k] <= entry.point[k];
+        }
+      }
+    }
+    return dominated;
+  }
+
+  private boolean isWeaklyDominatedByOthers(double[] point, Entry<S> first, Entry<S> second) {
+    boolean dominated = false;
+    for (int i = 0; i < entries.size() && !dominated; i++) {
+      Entry<S> other = entries.get(i);
+      if (other != first && other != second) {
+        dominated = weaklyDominates(other.point, point);
+      }
+    }
+    return dominated;
+  }
+
+  private static boolean weaklyDominates(double[] point, double[] otherPoint) {
+    boolean result = true;
+    for (int j = 0; j < point.length && result; j++) {
+      result = point[j] <= otherPoint[j];
+    }
+    return result;
+  }
+
+  private void updateContribution2D(int position) {
+    if (position >= 0 && position < entries.size()) {
+      double[] point = entries.get(position).point;
+      double right =
+          (position + 1 < entries.size()) ? entries.get(position + 1).point[0] : referencePoint[0];
+      double upper = (position > 0) ? entries.get(position - 1).point[1] : referencePoint[1];
+      entries.get(position).contribution(Math.max(0.0, (right - point[0]) * (upper - point[1])));
+    }
+  }
+
+  private void updateContribution(Entry<S> entry) {
+    double contribution =
+        (numberOfObjectives == 3) ? exactContribution3D(entry) : estimatedContribution(entry);
+    entry.contribution(Math.max(0.0, contribution));
+  }
+
+  private double boxVolume(double[] point) {
+    double volume = 1.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      volume *= referencePoint[j] - point[j];
+    }
+    return volume;
+  }
+
+  private double exactContribution3D(Entry<S> entry) {
+    List<double[]> limitedPoints = new ArrayList<>(entries.size());
+    for (Entry<S> other : entries) {
+      if (other != entry) {
+        double[] limited = new double[3];
+        for (int j = 0; j < 3; j++) {
+          limited[j] = Math.max(entry.point[j], other.point[j]);
+        }
+        limitedPoints.add(limited);
+      }
+    }
+    return boxVolume(entry.point) - hypervolume3D(limitedPoints, referencePoint);
+  }
+
+  private double estimatedContribution(Entry<S> entry) {
+    JMetalRandom random = JMetalRandom.getInstance();
+    double[] sample = new double[numberOfObjectives];
+    int exclusiveSamples = 0;
+    for (int i = 0; i < numberOfSamples; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        sample[j] = random.nextDouble(entry.point[j], referencePoint[j]);
+      }
+      if (!isWeaklyDominatedByOthers(sample, entry, entry)) {
+        exclusiveSamples++;
+      }
+    }
+    return boxVolume(entry.point) * exclusiveSamples / numberOfSamples;
+  }
+
+  /** A stored solution together with a copy of its objectives and its current contribution. */
+  private static final class Entry<S extends Solution<?>> {
+    private final S solution;
+    private final double[] point;
+    private double contribution;
+
+    private Entry(S solution) {
+      this.solution = solution;
+      this.point = solution.objectives().clone();
+    }
+
+    private void contribution(double value) {
+      contribution = value;
+      solution.attributes().put(ATTRIBUTE_ID, value);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package org.uma.evolver.util.neighborhood;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
+
+/**
+ * Process-wide cache of {@link WeightVectorNeighborhood} instances.
+ *
+ * <p>Creating a weight vector neighborhood requires generating or reading from a file the weight
+ * vectors and sorting, for each of them, the distances to all the others. MOEA/D variants built by
+ * a meta-optimizer repeat this work for every base-level run, although the result only depends on
+ * the population size, the number of objectives, the neighborhood size and the directory of the
+ * weight vector files. This class computes each neighborhood once and shares it among all the
+ * runs and threads requesting the same combination.
+ *
+ * <p>Sharing is safe because a {@link WeightVectorNeighborhood} is not modified after its
+ * construction: obtaining the neighbors of a solution only reads the precomputed index arrays, and
+ * the weight vectors are only read by the MOEA/D components.
+ */
+public final class WeightVectorNeighborhoodCache {
+  private static final Map<Key, WeightVectorNeighborhood<?>> cache = new ConcurrentHashMap<>();
+
+  private WeightVectorNeighborhoodCache() {}
+
+  /**
+   * Returns the neighborhood of uniformly distributed weight vectors for two objectives.
+   *
+   * @param populationSize the number of weight vectors
+   * @param neighborhoodSize the number of neighbors of each weight vector
+   * @param <S> the type of the solutions
+   * @return the shared neighborhood
+   */
+  public static <S extends Solution<?>> WeightVectorNeighborhood<S> get(
+      int populationSize, int neighborhoodSize) {
+    Check.that(populationSize > 0, "The population size must be positive: " + populationSize);
+    return cast(
+        cache.computeIfAbsent(
+            new Key(populationSize, 2, neighborhoodSize, null),
+            key -> new WeightVectorNeighborhood<>(populationSize, neighborhoodSize)));
+  }
+
+  /**
+   * Returns the neighborhood of the weight vectors read from the file of the given directory
+   * corresponding to the population size and number of objectives.
+   *
+   * @param populationSize the number of weight vectors
+   * @param numberOfObjectives the dimension of the weight vectors
+   * @param neighborhoodSize the number of neighbors of each weight vector
+   * @param weightVectorFilesDirectory the directory containing the weight vector files
+   * @param <S> the type of the solutions
+   * @return the shared neighborhood
+   * @throws FileNotFoundException if the weight vector file does not exist
+   */
+  public static <S extends Solution<?>> WeightVectorNeighborhood<S> get(
+      int populationSize,
+      int numberOfObjectives,
+      int neighborhoodSize,
+      String weightVectorFilesDirectory)
+      throws FileNotFoundException {
+    Check.that(populationSize > 0, "The population size must be positive: " + populationSize);
+    Check.notNull(weightVectorFilesDirectory);
+    try {
+      return cast(
+          cache.computeIfAbsent(
+              new Key(
+                  populationSize, numberOfObjectives, neighborhoodSize, weightVectorFilesDirectory),
+              key -> {
+                try {
+                  return new WeightVectorNeighborhood<>(
+                      populationSize,
+                      numberOfObjectives,
+                      neighborhoodSize,
+                      weightVectorFilesDirectory);
+                } catch (FileNotFoundException exception) {
+                  throw new UncheckedIOException(exception);
+                }
+              }));
+    } catch (UncheckedIOException exception) {
+      throw (FileNotFoundException) exception.getCause();
+    }
+  }
+
+  /** Removes all the cached neighborhoods. */
+  public static void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the number of cached neighborhoods.
+   *
+   * @return the number of cached neighborhoods
+   */
+  public static int size() {
+    return cache.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <S extends Solution<?>> WeightVectorNeighborhood<S> cast(
+      WeightVectorNeighborhood<?> neighborhood) {
+    return (WeightVectorNeighborhood<S>) neighborhood;
+  }
+
+  private record Key(
+      int populationSize,
+      int numberOfObjectives,
+      int neighborhoodSize,
+      String weightVectorFilesDirectory) {}
+}
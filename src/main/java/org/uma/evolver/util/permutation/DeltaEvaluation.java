@@ -0,0 +1,88 @@
+package org.uma.evolver.util.permutation;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Protocol used by operators and problems to evaluate permutation solutions incrementally.
+ *
+ * <p>The information is stored in the attributes of the solutions, so it travels with them through
+ * the unmodified jMetal components:
+ *
+ * <ul>
+ *   <li>{@link #markObjectivesAsCurrent(Solution)} declares that the objective values of a solution
+ *       are those of its permutation. {@link DeltaEvaluationCrossover} marks the offspring that are
+ *       copies of their parents; the offspring modified by the crossover are not marked.
+ *   <li>{@link #recordMove(Solution, PermutationMove)} is invoked by the mutation operators of this
+ *       package after modifying a solution.
+ *   <li>{@link #consumeMoves(Solution)} is invoked by the problems when evaluating a solution. It
+ *       returns the moves applied since the objectives were current, or {@code null} if the solution
+ *       must be fully evaluated, and removes both attributes.
+ * </ul>
+ *
+ * <p>Problems that do not use this protocol ignore the attributes, and solutions that are not
+ * marked are always fully evaluated, so using the operators with any problem is safe.
+ */
+public final class DeltaEvaluation {
+  /** Attribute marking that the objective values of a solution correspond to a former state. */
+  public static final String CURRENT_OBJECTIVES_ATTRIBUTE = "DeltaEvaluation.currentObjectives";
+
+  /** Attribute holding the list of moves applied to a marked solution. */
+  public static final String MOVES_ATTRIBUTE = "DeltaEvaluation.moves";
+
+  private DeltaEvaluation() {}
+
+  /**
+   * Declares that the objective values of a solution are those of its current permutation.
+   *
+   * @param solution the solution
+   */
+  public static void markObjectivesAsCurrent(Solution<?> solution) {
+    solution.attributes().put(CURRENT_OBJECTIVES_ATTRIBUTE, Boolean.TRUE);
+    solution.attributes().remove(MOVES_ATTRIBUTE);
+  }
+
+  /**
+   * Records a move applied to a solution. The move is ignored if the objective values of the
+   * solution are not current, as it will be fully evaluated anyway.
+   *
+   * @param solution the solution, after applying the move
+   * @param move the move
+   */
+  public static void recordMove(Solution<?> solution, PermutationMove move) {
+    if (solution.attributes().containsKey(CURRENT_OBJECTIVES_ATTRIBUTE)) {
+      List<PermutationMove> moves;
+
+      // A new list is created because copies of a solution share the attribute values
+      moves = new ArrayList<>(moves(solution));
+      moves.add(move);
+      solution.attributes().put(MOVES_ATTRIBUTE, moves);
+    }
+  }
+
+  /**
+   * Returns the moves applied to a solution since its objective values were current, removing the
+   * delta evaluation attributes.
+   *
+   * @param solution the solution being evaluated
+   * @return the moves, which may be empty if the solution has not changed, or {@code null} if the
+   *     solution must be fully evaluated
+   */
+  public static List<PermutationMove> consumeMoves(Solution<?> solution) {
+    List<PermutationMove> result;
+
+    result =
+        solution.attributes().remove(CURRENT_OBJECTIVES_ATTRIBUTE) != null
+            ? moves(solution)
+            : null;
+    solution.attributes().remove(MOVES_ATTRIBUTE);
+
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<PermutationMove> moves(Solution<?> solution) {
+    return (List<PermutationMove>) solution.attributes().getOrDefault(MOVES_ATTRIBUTE, List.of());
+  }
+}
@@ -0,0 +1,70 @@
+package org.uma.evolver.util.permutation;
+
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Decorator of a permutation crossover operator that enables the delta evaluation of the offspring
+ * that the crossover leaves unchanged.
+ *
+ * <p>jMetal crossovers return copies of the parents, including their objective values, when the
+ * crossover is not applied. This decorator marks with {@link
+ * DeltaEvaluation#markObjectivesAsCurrent} the offspring whose permutation and objective values are
+ * equal to those of the parent at the same position, so the moves recorded by a subsequent {@link
+ * DeltaPermutationMutation} can be evaluated incrementally. The remaining offspring are left
+ * unmarked and are fully evaluated. The random decisions of the decorated operator are not
+ * altered.
+ */
+public class DeltaEvaluationCrossover implements CrossoverOperator<PermutationSolution<Integer>> {
+  private final CrossoverOperator<PermutationSolution<Integer>> crossover;
+
+  /**
+   * Creates the decorator.
+   *
+   * @param crossover the decorated operator
+   */
+  public DeltaEvaluationCrossover(CrossoverOperator<PermutationSolution<Integer>> crossover) {
+    Check.notNull(crossover);
+    this.crossover = crossover;
+  }
+
+  @Override
+  public List<PermutationSolution<Integer>> execute(List<PermutationSolution<Integer>> parents) {
+    List<PermutationSolution<Integer>> offspring;
+
+    offspring = crossover.execute(parents);
+    for (int i = 0; i < Math.min(parents.size(), offspring.size()); i++) {
+      PermutationSolution<Integer> parent;
+      PermutationSolution<Integer> child;
+
+      parent = parents.get(i);
+      child = offspring.get(i);
+      if (Arrays.equals(parent.objectives(), child.objectives())
+          && parent.variables().equals(child.variables())) {
+        DeltaEvaluation.markObjectivesAsCurrent(child);
+      } else {
+        child.attributes().remove(DeltaEvaluation.CURRENT_OBJECTIVES_ATTRIBUTE);
+      }
+    }
+
+    return offspring;
+  }
+
+  @Override
+  public double crossoverProbability() {
+    return crossover.crossoverProbability();
+  }
+
+  @Override
+  public int numberOfRequiredParents() {
+    return crossover.numberOfRequiredParents();
+  }
+
+  @Override
+  public int numberOfGeneratedChildren() {
+    return crossover.numberOfGeneratedChildren();
+  }
+}
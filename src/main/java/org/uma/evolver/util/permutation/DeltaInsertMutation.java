@@ -0,0 +1,30 @@
+package org.uma.evolver.util.permutation;
+
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+
+/**
+ * Insert mutation that records the applied move for delta evaluation: the element at a random
+ * position is moved to another random position, changing at most three edges of the tour.
+ */
+public class DeltaInsertMutation extends DeltaPermutationMutation {
+  /**
+   * Creates the operator.
+   *
+   * @param mutationProbability the probability of modifying a solution
+   */
+  public DeltaInsertMutation(double mutationProbability) {
+    super(mutationProbability);
+  }
+
+  @Override
+  protected PermutationMove apply(PermutationSolution<Integer> solution) {
+    int[] positions;
+    PermutationMove result;
+
+    positions = twoDifferentPositions(solution);
+    result = PermutationMove.insert(solution.variables(), positions[0], positions[1]);
+    solution.variables().add(positions[1], solution.variables().remove(positions[0]));
+
+    return result;
+  }
+}
@@ -0,0 +1,35 @@
+package org.uma.evolver.util.permutation;
+
+import java.util.Collections;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+
+/**
+ * Inversion mutation that records the applied move for delta evaluation: the segment between two
+ * random positions is reversed, which changes two edges of the tour when the costs are symmetric.
+ */
+public class DeltaInversionMutation extends DeltaPermutationMutation {
+  /**
+   * Creates the operator.
+   *
+   * @param mutationProbability the probability of modifying a solution
+   */
+  public DeltaInversionMutation(double mutationProbability) {
+    super(mutationProbability);
+  }
+
+  @Override
+  protected PermutationMove apply(PermutationSolution<Integer> solution) {
+    int[] positions;
+    int first;
+    int last;
+    PermutationMove result;
+
+    positions = twoDifferentPositions(solution);
+    first = Math.min(positions[0], positions[1]);
+    last = Math.max(positions[0], positions[1]);
+    result = PermutationMove.inversion(solution.variables(), first, last);
+    Collections.reverse(solution.variables().subList(first, last + 1));
+
+    return result;
+  }
+}
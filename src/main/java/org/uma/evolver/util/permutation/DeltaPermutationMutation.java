@@ -0,0 +1,73 @@
+package org.uma.evolver.util.permutation;
+
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Base class of the permutation mutation operators that record the applied move with {@link
+ * DeltaEvaluation#recordMove}, so that problems such as {@code MultiObjectiveTSP} can update the
+ * objective values of the mutated solution instead of evaluating it from scratch.
+ *
+ * <p>With the given probability, each invocation applies a single move to the solution.
+ */
+public abstract class DeltaPermutationMutation
+    implements MutationOperator<PermutationSolution<Integer>> {
+  private final double mutationProbability;
+
+  /**
+   * Creates the operator.
+   *
+   * @param mutationProbability the probability of modifying a solution
+   */
+  protected DeltaPermutationMutation(double mutationProbability) {
+    Check.probabilityIsValid(mutationProbability);
+    this.mutationProbability = mutationProbability;
+  }
+
+  @Override
+  public PermutationSolution<Integer> execute(PermutationSolution<Integer> solution) {
+    Check.notNull(solution);
+    if (solution.variables().size() > 1
+        && JMetalRandom.getInstance().nextDouble() < mutationProbability) {
+      DeltaEvaluation.recordMove(solution, apply(solution));
+    }
+
+    return solution;
+  }
+
+  @Override
+  public double mutationProbability() {
+    return mutationProbability;
+  }
+
+  /**
+   * Applies a random move to a solution with at least two elements.
+   *
+   * @param solution the solution to modify
+   * @return the applied move
+   */
+  protected abstract PermutationMove apply(PermutationSolution<Integer> solution);
+
+  /**
+   * Returns two different random positions of a solution.
+   *
+   * @param solution the solution
+   * @return the positions
+   */
+  protected static int[] twoDifferentPositions(PermutationSolution<Integer> solution) {
+    JMetalRandom random;
+    int first;
+    int second;
+
+    random = JMetalRandom.getInstance();
+    first = random.nextInt(0, solution.variables().size() - 1);
+    second = random.nextInt(0, solution.variables().size() - 2);
+    if (second >= first) {
+      second++;
+    }
+
+    return new int[] {first, second};
+  }
+}
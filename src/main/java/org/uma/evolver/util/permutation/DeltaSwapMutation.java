@@ -0,0 +1,31 @@
+package org.uma.evolver.util.permutation;
+
+import java.util.Collections;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+
+/**
+ * Swap mutation that records the applied move for delta evaluation: the elements at two random
+ * positions are exchanged, changing at most four edges of the tour.
+ */
+public class DeltaSwapMutation extends DeltaPermutationMutation {
+  /**
+   * Creates the operator.
+   *
+   * @param mutationProbability the probability of modifying a solution
+   */
+  public DeltaSwapMutation(double mutationProbability) {
+    super(mutationProbability);
+  }
+
+  @Override
+  protected PermutationMove apply(PermutationSolution<Integer> solution) {
+    int[] positions;
+    PermutationMove result;
+
+    positions = twoDifferentPositions(solution);
+    result = PermutationMove.swap(solution.variables(), positions[0], positions[1]);
+    Collections.swap(solution.variables(), positions[0], positions[1]);
+
+    return result;
+  }
+}
@@ -0,0 +1,187 @@
+package org.uma.evolver.util.permutation;
+
+import java.util.List;
+
+/**
+ * Change of the cyclic tour encoded by a permutation, described by the edges it removes and the
+ * edges it adds.
+ *
+ * <p>An edge {@code (a, b)} joins the element {@code a} with the element {@code b} that follows it
+ * in the tour, the last element being followed by the first one. The edges are stored as flattened
+ * pairs ({@code [a0, b0, a1, b1, ...]}), so the change of any objective that sums a cost per edge
+ * can be computed in time proportional to the number of edges of the move, which is constant for
+ * the moves created by the factory methods of this class.
+ *
+ * <p>The factory methods must be invoked with the permutation <b>before</b> applying the move, and
+ * they do not modify it.
+ *
+ * @param removedEdges the edges of the tour before the move that are not in the tour after it
+ * @param addedEdges the edges of the tour after the move that were not in the tour before it
+ * @param requiresSymmetricCosts whether the move is only exact if the cost of {@code (a, b)} is
+ *     equal to the cost of {@code (b, a)}, as it reverses the direction of some edges that are not
+ *     listed
+ */
+public record PermutationMove(
+    int[] removedEdges, int[] addedEdges, boolean requiresSymmetricCosts) {
+  private static final PermutationMove IDENTITY =
+      new PermutationMove(new int[0], new int[0], false);
+  private static final PermutationMove REVERSAL = new PermutationMove(new int[0], new int[0], true);
+
+  /**
+   * Returns the move that exchanges the elements at two positions.
+   *
+   * @param permutation the permutation before the move
+   * @param i a position
+   * @param j another position
+   * @return the move
+   */
+  public static PermutationMove swap(List<Integer> permutation, int i, int j) {
+    int n;
+    int[] starts;
+    int numberOfStarts;
+    int[] removedEdges;
+    int[] addedEdges;
+
+    n = permutation.size();
+    if (i == j || n < 3) {
+      return IDENTITY;
+    }
+
+    // Only the edges starting at these positions may change; duplicates appear when i and j are
+    // adjacent
+    starts = new int[4];
+    numberOfStarts = 0;
+    for (int start : new int[] {i - 1, i, j - 1, j}) {
+      int position;
+      boolean repeated;
+
+      position = Math.floorMod(start, n);
+      repeated = false;
+      for (int k = 0; k < numberOfStarts; k++) {
+        repeated |= starts[k] == position;
+      }
+      if (!repeated) {
+        starts[numberOfStarts++] = position;
+      }
+    }
+
+    removedEdges = new int[2 * numberOfStarts];
+    addedEdges = new int[2 * numberOfStarts];
+    for (int k = 0; k < numberOfStarts; k++) {
+      int from;
+      int to;
+
+      from = starts[k];
+      to = (from + 1) % n;
+      removedEdges[2 * k] = permutation.get(from);
+      removedEdges[2 * k + 1] = permutation.get(to);
+      addedEdges[2 * k] = permutation.get(swapped(from, i, j));
+      addedEdges[2 * k + 1] = permutation.get(swapped(to, i, j));
+    }
+
+    return new PermutationMove(removedEdges, addedEdges, false);
+  }
+
+  /**
+   * Returns the move that removes the element at a position and inserts it at another one, as
+   * {@code permutation.add(to, permutation.remove(from))} does.
+   *
+   * @param permutation the permutation before the move
+   * @param from the position of the moved element
+   * @param to the position of the moved element after the move
+   * @return the move
+   */
+  public static PermutationMove insert(List<Integer> permutation, int from, int to) {
+    int n;
+    int element;
+    int previous;
+    int next;
+
+    n = permutation.size();
+    if (from == to || n < 3 || Math.abs(from - to) == n - 1) {
+      // Moving the first element to the end, or vice versa, is a rotation of the tour
+      return IDENTITY;
+    }
+
+    element = permutation.get(from);
+    previous = element(permutation, from - 1);
+    next = element(permutation, from + 1);
+    if (from < to) {
+      int last;
+      int following;
+
+      last = permutation.get(to);
+      following = element(permutation, to + 1);
+      return new PermutationMove(
+          new int[] {previous, element, element, next, last, following},
+          new int[] {previous, next, last, element, element, following},
+          false);
+    } else {
+      int preceding;
+      int first;
+
+      preceding = element(permutation, to - 1);
+      first = permutation.get(to);
+      return new PermutationMove(
+          new int[] {preceding, first, previous, element, element, next},
+          new int[] {preceding, element, element, first, previous, next},
+          false);
+    }
+  }
+
+  /**
+   * Returns the move that reverses the elements between two positions, both included.
+   *
+   * @param permutation the permutation before the move
+   * @param i a position
+   * @param j another position
+   * @return the move
+   */
+  public static PermutationMove inversion(List<Integer> permutation, int i, int j) {
+    int n;
+    int first;
+    int last;
+
+    n = permutation.size();
+    first = Math.min(i, j);
+    last = Math.max(i, j);
+    if (last == first) {
+      return IDENTITY;
+    } else if (last - first + 1 >= n - 1) {
+      // Reversing a segment of n - 1 elements reverses the whole tour
+      return REVERSAL;
+    }
+
+    return new PermutationMove(
+        new int[] {
+          element(permutation, first - 1),
+          permutation.get(first),
+          permutation.get(last),
+          element(permutation, last + 1)
+        },
+        new int[] {
+          element(permutation, first - 1),
+          permutation.get(last),
+          permutation.get(first),
+          element(permutation, last + 1)
+        },
+        true);
+  }
+
+  /**
+   * Returns the number of edges removed by the move, which is equal to the number of added ones.
+   *
+   * @return the number of edges
+   */
+  public int numberOfEdges() {
+    return removedEdges.length / 2;
+  }
+
+  private static int element(List<Integer> permutation, int position) {
+    return permutation.get(Math.floorMod(position, permutation.size()));
+  }
+
+  private static int swapped(int position, int i, int j) {
+    return position == i ? j : position == j ? i : position;
+  }
+}
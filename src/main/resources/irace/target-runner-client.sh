@@ -0,0 +1,28 @@
+#!/bin/bash
+
+## irace target runner that forwards its arguments to a running
+## org.uma.evolver.irace.IraceTargetRunnerServer instead of launching a JVM
+## per evaluation. It prints the cost returned by the server. If the server
+## reports an error, the response is printed to stderr and the script fails.
+##
+## The server address can be set with the EVOLVER_SERVER_HOST (default
+## 127.0.0.1) and EVOLVER_SERVER_PORT (default 9876) environment variables.
+
+HOST=${EVOLVER_SERVER_HOST:-127.0.0.1}
+PORT=${EVOLVER_SERVER_PORT:-9876}
+
+exec 3<>/dev/tcp/${HOST}/${PORT} || {
+    echo "cannot connect to the Evolver server at ${HOST}:${PORT}" >&2
+    exit 1
+}
+echo "$*" >&3
+read -r RESPONSE <&3
+exec 3<&-
+
+case "$RESPONSE" in
+    ""|ERROR*)
+        echo "${RESPONSE:-No response from the server}" >&2
+        exit 1
+        ;;
+esac
+echo "$RESPONSE"
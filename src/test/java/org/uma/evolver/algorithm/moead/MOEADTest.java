@@ -43,7 +43,7 @@ class MOEADTest {
     @Test
     @DisplayName("The total number of parameters is correct")
     void whenCreatingAnInstanceTheTotalNumberOfParametersIsCorrect() {
-      int numberOfFlattenedParameters = 39;
+      int numberOfFlattenedParameters = 42;
       assertEquals(
           numberOfFlattenedParameters, moeadDouble.parameterSpace().parameters().size());
     }
@@ -51,7 +51,7 @@ class MOEADTest {
     @Test
     @DisplayName("The number of top-level parameters is correct")
     void whenCreatingAnInstanceTheTotalNumberOfTopLevelParametersIsCorrect() {
-      int numberOfTopLevelParameters = 8;
+      int numberOfTopLevelParameters = 9;
       assertEquals(
           numberOfTopLevelParameters, moeadDouble.parameterSpace().topLevelParameters().size());
     }
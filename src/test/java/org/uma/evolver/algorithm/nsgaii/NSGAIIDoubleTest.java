@@ -30,7 +30,7 @@ class NSGAIIDoubleTest {
         @Test
         @DisplayName("The total number of parameters is correct")
         void whenCreatingAnInstanceTheTotalNumberOfParametersIsCorrect() {
-            int numberOfFlattenedParameters = 32;
+            int numberOfFlattenedParameters = 35;
             assertEquals(
                     numberOfFlattenedParameters,
                     nsgaIIDouble.parameterSpace().parameters().size());
@@ -39,7 +39,7 @@ class NSGAIIDoubleTest {
     @Test
     @DisplayName("The number of top-level parameters is correct")
     void whenCreatingAnInstanceTheTotalNumberOfTopLevelParametersIsCorrect() {
-      int numberOfTopLevelParameters = 5;
+      int numberOfTopLevelParameters = 6;
       assertEquals(
           numberOfTopLevelParameters,
           nsgaIIDouble.parameterSpace().topLevelParameters().size());
@@ -0,0 +1,144 @@
+package org.uma.evolver.component.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+@DisplayName("IncrementalSMSEMOAReplacement Tests")
+class IncrementalSMSEMOAReplacementTest {
+  private static final double OFFSET = 1.0;
+
+  private static DoubleSolution solution(double f1, double f2) {
+    DoubleSolution solution = new ZDT1().createSolution();
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+    return solution;
+  }
+
+  /**
+   * Returns the solution of a bi-objective non-dominated front with the lowest hypervolume
+   * contribution, computed from scratch with the reference point used by the replacement.
+   */
+  private static DoubleSolution lowestContributor(List<DoubleSolution> front) {
+    List<DoubleSolution> sortedFront = new ArrayList<>(front);
+    sortedFront.sort(Comparator.comparingDouble(solution -> solution.objectives()[0]));
+    double[] referencePoint = new double[2];
+    for (int j = 0; j < 2; j++) {
+      int objective = j;
+      referencePoint[j] =
+          front.stream()
+                  .mapToDouble(solution -> solution.objectives()[objective])
+                  .max()
+                  .orElseThrow()
+              + OFFSET;
+    }
+
+    DoubleSolution lowestContributor = null;
+    double lowestContribution = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < sortedFront.size(); i++) {
+      double[] point = sortedFront.get(i).objectives();
+      double right =
+          (i + 1 < sortedFront.size())
+              ? sortedFront.get(i + 1).objectives()[0]
+              : referencePoint[0];
+      double upper = (i > 0) ? sortedFront.get(i - 1).objectives()[1] : referencePoint[1];
+      double contribution = (right - point[0]) * (upper - point[1]);
+      if (contribution < lowestContribution) {
+        lowestContribution = contribution;
+        lowestContributor = sortedFront.get(i);
+      }
+    }
+    return lowestContributor;
+  }
+
+  @Test
+  @DisplayName("removes a dominated offspring that forms the last front on its own")
+  void shouldRemoveADominatedOffspring() {
+    // Arrange
+    var replacement =
+        new IncrementalSMSEMOAReplacement<DoubleSolution>(
+            new FastNonDominatedSortRanking<>(), OFFSET, 1);
+    List<DoubleSolution> population =
+        List.of(solution(1.0, 3.0), solution(2.0, 2.0), solution(3.0, 1.0));
+    DoubleSolution offspring = solution(3.0, 3.0);
+
+    // Act
+    List<DoubleSolution> result = replacement.replace(population, List.of(offspring));
+
+    // Assert
+    assertEquals(3, result.size());
+    assertFalse(result.contains(offspring));
+    assertTrue(result.containsAll(population));
+  }
+
+  @Test
+  @DisplayName("removes the solution of the last front with the lowest hypervolume contribution")
+  void shouldRemoveTheLowestContributorOfTheLastFront() {
+    // Arrange
+    var replacement =
+        new IncrementalSMSEMOAReplacement<DoubleSolution>(
+            new FastNonDominatedSortRanking<>(), OFFSET, 1);
+    DoubleSolution first = solution(1.0, 3.0);
+    DoubleSolution second = solution(2.0, 2.0);
+    DoubleSolution third = solution(3.0, 1.0);
+    DoubleSolution crowded = solution(1.9, 2.1);
+
+    // Act
+    List<DoubleSolution> result =
+        replacement.replace(List.of(first, second, third), List.of(crowded));
+
+    // Assert: the contributions are 0.9, 0.09, 0.1 and 1.0 with the reference point (4, 4)
+    assertEquals(List.of(first, second, third), result);
+  }
+
+  @Test
+  @DisplayName("removes the lowest contributor computed from scratch in every step of a run")
+  void shouldMatchTheContributionsComputedFromScratchInEveryStep() {
+    // Arrange
+    var replacement =
+        new IncrementalSMSEMOAReplacement<DoubleSolution>(
+            new FastNonDominatedSortRanking<>(), OFFSET, 1);
+    Random random = new Random(1);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      double f1 = random.nextDouble();
+      population.add(solution(f1, 1.0 - Math.sqrt(f1) + 0.2 * random.nextDouble()));
+    }
+
+    for (int step = 0; step < 200; step++) {
+      double f1 = random.nextDouble();
+      DoubleSolution offspring = solution(f1, 1.0 - Math.sqrt(f1) + 0.2 * random.nextDouble());
+
+      List<DoubleSolution> jointPopulation = new ArrayList<>(population);
+      jointPopulation.add(offspring);
+      Ranking<DoubleSolution> ranking =
+          new FastNonDominatedSortRanking<DoubleSolution>().compute(jointPopulation);
+      List<DoubleSolution> lastFront = ranking.getSubFront(ranking.getNumberOfSubFronts() - 1);
+      DoubleSolution expectedRemoval =
+          lastFront.size() == 1 ? lastFront.get(0) : lowestContributor(lastFront);
+
+      // Act
+      population = replacement.replace(population, List.of(offspring));
+
+      // Assert
+      assertEquals(20, population.size());
+      assertFalse(population.contains(expectedRemoval));
+      jointPopulation.removeIf(solution -> solution == expectedRemoval);
+      for (int i = 0; i < population.size(); i++) {
+        assertSame(jointPopulation.get(i), population.get(i));
+      }
+    }
+  }
+}
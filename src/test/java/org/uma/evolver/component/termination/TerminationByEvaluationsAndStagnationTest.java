@@ -0,0 +1,98 @@
+package org.uma.evolver.component.termination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+class TerminationByEvaluationsAndStagnationTest {
+  private static List<DoubleSolution> population(double... firstObjectiveValues) {
+    ZDT1 problem = new ZDT1();
+    List<DoubleSolution> population = new ArrayList<>();
+    for (double value : firstObjectiveValues) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = value;
+      solution.objectives()[1] = 1.0 - value;
+      population.add(solution);
+    }
+    return population;
+  }
+
+  private static Map<String, Object> status(int evaluations, List<DoubleSolution> population) {
+    Map<String, Object> status = new HashMap<>();
+    status.put("EVALUATIONS", evaluations);
+    status.put("POPULATION", population);
+    return status;
+  }
+
+  @Nested
+  @DisplayName("Without stagnation detection")
+  class EvaluationsTestCases {
+    @Test
+    @DisplayName("The condition is met when the maximum number of evaluations is reached")
+    void theConditionIsMetWhenTheMaximumNumberOfEvaluationsIsReached() {
+      // Arrange
+      var termination = new TerminationByEvaluationsAndStagnation(1000);
+      List<DoubleSolution> population = population(0.0, 0.5, 1.0);
+
+      // Act and Assert
+      assertFalse(termination.isMet(status(100, population)));
+      assertFalse(termination.isMet(status(900, population)));
+      assertTrue(termination.isMet(status(1000, population)));
+      assertEquals(1000, termination.numberOfEvaluations());
+      assertFalse(termination.stagnated());
+    }
+
+    @Test
+    @DisplayName("A non-positive maximum number of evaluations raises an exception")
+    void aNonPositiveMaximumNumberOfEvaluationsRaisesAnException() {
+      assertThrows(JMetalException.class, () -> new TerminationByEvaluationsAndStagnation(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("With stagnation detection")
+  class StagnationTestCases {
+    @Test
+    @DisplayName("The condition is met when the front does not change between two checks")
+    void theConditionIsMetWhenTheFrontDoesNotChangeBetweenTwoChecks() {
+      // Arrange
+      var termination = new TerminationByEvaluationsAndStagnation(10000, 100, 0.001);
+      List<DoubleSolution> population = population(0.0, 0.5, 1.0);
+
+      // Act and Assert
+      assertFalse(termination.isMet(status(100, population)));
+      assertFalse(termination.isMet(status(150, population)));
+      assertTrue(termination.isMet(status(200, population)));
+      assertTrue(termination.stagnated());
+      assertEquals(200, termination.numberOfEvaluations());
+    }
+
+    @Test
+    @DisplayName("The condition is not met while the front improves")
+    void theConditionIsNotMetWhileTheFrontImproves() {
+      // Arrange
+      var termination = new TerminationByEvaluationsAndStagnation(10000, 100, 0.001);
+
+      // Act and Assert
+      assertFalse(termination.isMet(status(100, population(0.0, 0.5, 1.0))));
+      assertFalse(termination.isMet(status(200, population(0.0, 0.25, 0.5, 0.75, 1.0))));
+      assertFalse(termination.stagnated());
+    }
+
+    @Test
+    @DisplayName("A non-positive window size raises an exception")
+    void aNonPositiveWindowSizeRaisesAnException() {
+      assertThrows(
+          JMetalException.class, () -> new TerminationByEvaluationsAndStagnation(1000, 0, 0.001));
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package org.uma.evolver.irace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IraceTargetRunnerServer Tests")
+class IraceTargetRunnerServerTest {
+  private static final String CONFIGURATION =
+      String.join(
+          " ",
+          "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT1",
+          "--referenceFrontFileName ZDT1.csv",
+          "--populationSize 100",
+          "--maximumNumberOfEvaluations 5000",
+          "--algorithmResult population",
+          "--createInitialSolutions default",
+          "--offspringPopulationSize 100",
+          "--variation crossoverAndMutationVariation",
+          "--crossover SBX",
+          "--crossoverProbability 0.9",
+          "--crossoverRepairStrategy bounds",
+          "--sbxDistributionIndex 20.0",
+          "--mutation polynomial",
+          "--mutationProbabilityFactor 1.0",
+          "--mutationRepairStrategy bounds",
+          "--polynomialMutationDistributionIndex 20.0",
+          "--selection tournament",
+          "--selectionTournamentSize 2");
+
+  @Test
+  @DisplayName("returns the cost of a configuration and keeps serving requests")
+  void shouldReturnTheCostOfAConfiguration() {
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(120),
+        () -> {
+          // Arrange
+          IraceTargetRunnerServer server =
+              new IraceTargetRunnerServer(0, 2, "resources/referenceFronts");
+          Thread serverThread = start(server);
+
+          // Act
+          String firstResponse = send(server.port(), CONFIGURATION);
+          String secondResponse = send(server.port(), CONFIGURATION);
+          send(server.port(), IraceTargetRunnerServer.SHUTDOWN_REQUEST);
+          serverThread.join();
+
+          // Assert: the cost is the hypervolume of the normalized front multiplied by -1
+          for (String response : List.of(firstResponse, secondResponse)) {
+            double cost = Double.parseDouble(response);
+            assertTrue(cost < 0.0 && cost > -1.0, "Unexpected cost: " + response);
+          }
+        });
+  }
+
+  @Test
+  @DisplayName("reports malformed requests and stops on a shutdown request")
+  void shouldReportErrorsAndStopOnShutdown() {
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(30),
+        () -> {
+          // Arrange
+          IraceTargetRunnerServer server =
+              new IraceTargetRunnerServer(0, 2, AutoNSGAIIIraceHV.REFERENCE_FRONT_DIRECTORY);
+          Thread serverThread = start(server);
+
+          // Act
+          String errorResponse = send(server.port(), "--populationSize 100");
+          String shutdownResponse = send(server.port(), IraceTargetRunnerServer.SHUTDOWN_REQUEST);
+          serverThread.join();
+
+          // Assert
+          assertTrue(errorResponse.startsWith(IraceTargetRunnerServer.ERROR_PREFIX));
+          assertEquals(IraceTargetRunnerServer.SHUTDOWN_REQUEST, shutdownResponse);
+        });
+  }
+
+  private static Thread start(IraceTargetRunnerServer server) {
+    Thread result =
+        new Thread(
+            () -> {
+              try {
+                server.serve();
+              } catch (IOException exception) {
+                throw new RuntimeException(exception);
+              }
+            });
+    result.start();
+    return result;
+  }
+
+  private static String send(int port, String request) throws IOException {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        PrintWriter writer =
+            new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+      writer.println(request);
+      return reader.readLine();
+    }
+  }
+}
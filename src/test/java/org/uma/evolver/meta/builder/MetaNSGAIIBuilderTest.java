@@ -0,0 +1,89 @@
+package org.uma.evolver.meta.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.strategy.FixedEvaluationsStrategy;
+import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+@DisplayName("MetaNSGAIIBuilder Tests")
+class MetaNSGAIIBuilderTest {
+
+  private MetaOptimizationProblem<DoubleSolution> metaProblem;
+
+  @BeforeEach
+  void setUp() {
+    JMetalRandom.getInstance().setSeed(1);
+    var baseAlgorithm =
+        new DoubleNSGAII(
+            20, new YAMLParameterSpace("NSGAIIDouble.yaml", new DoubleParameterFactory()));
+    metaProblem =
+        new MetaOptimizationProblem<>(
+            baseAlgorithm,
+            List.of(new ZDT1()),
+            List.of("resources/referenceFronts/ZDT1.csv"),
+            List.of(new Epsilon(), new NormalizedHypervolume()),
+            new FixedEvaluationsStrategy(List.of(1000)),
+            1);
+  }
+
+  @Nested
+  @DisplayName("Active-subspace encoding")
+  class ActiveSubspaceEncodingTests {
+
+    @Test
+    @DisplayName("A parameter space without the arrayPolynomial mutation is rejected")
+    void parameterSpaceWithoutArrayPolynomialMutationIsRejected() {
+      // Arrange
+      var parameterSpace =
+          new YAMLParameterSpace("NSGAIIDouble.yaml", new DoubleParameterFactory());
+      var builder = new MetaNSGAIIBuilder(metaProblem, parameterSpace);
+
+      // Act & Assert
+      assertThrows(JMetalException.class, () -> builder.setActiveSubspaceEncoding(true));
+    }
+
+    @Test
+    @DisplayName("The algorithm built with the encoding evaluates every configuration through it")
+    void algorithmBuiltWithTheEncodingRuns() {
+      // Arrange
+      var builder =
+          new MetaNSGAIIBuilder(
+                  metaProblem,
+                  new YAMLParameterSpace(
+                      "NSGAIIDoubleArrayOperators.yaml", new DoubleParameterFactory()))
+              .setPopulationSize(4)
+              .setOffspringPopulationSize(4)
+              .setMaxEvaluations(8)
+              .setNumberOfCores(1)
+              .setActiveSubspaceEncoding(true);
+      EvolutionaryAlgorithm<DoubleSolution> algorithm = builder.build();
+
+      // Act
+      algorithm.run();
+
+      // Assert
+      assertEquals(4, algorithm.result().size());
+      assertEquals(8, builder.activeSubspaceProblem().numberOfEvaluations());
+      for (DoubleSolution solution : algorithm.result()) {
+        List<Double> variables = List.copyOf(solution.variables());
+        assertEquals(variables, builder.activeSubspaceProblem().repair(solution).variables());
+      }
+    }
+  }
+}
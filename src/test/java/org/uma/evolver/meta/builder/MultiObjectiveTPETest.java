@@ -0,0 +1,175 @@
+package org.uma.evolver.meta.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.parameter.Parameter;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.parameter.type.DoubleParameter;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+@DisplayName("MultiObjectiveTPE Tests")
+class MultiObjectiveTPETest {
+
+  private static final int STARTUP_EVALUATIONS = 20;
+
+  private List<Parameter<?>> topLevelParameters;
+  private ConditionalToyProblem problem;
+
+  /**
+   * Bi-objective problem on the encoding of a parameter space with a categorical parameter
+   * {@code algorithm} in {a, b, c}, a parameter {@code aValue} only active with {@code a}, a
+   * parameter {@code bValue} only active with {@code b}, and a global parameter {@code x}. The
+   * Pareto front is reached with {@code a} and {@code aValue = 0.3}.
+   */
+  private static class ConditionalToyProblem extends AbstractDoubleProblem {
+    ConditionalToyProblem() {
+      numberOfObjectives(2);
+      name("ConditionalToyProblem");
+      variableBounds(Collections.nCopies(4, 0.0), Collections.nCopies(4, 1.0));
+    }
+
+    static double penalty(List<Double> variables) {
+      int algorithm = (int) Math.min(2, Math.floor(variables.get(0) * 3));
+      return switch (algorithm) {
+        case 0 -> 10.0 * Math.pow(variables.get(1) - 0.3, 2);
+        case 1 -> 1.0 + variables.get(2);
+        default -> 2.0;
+      };
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      double penalty = penalty(solution.variables());
+      solution.objectives()[0] = solution.variables().get(3) + penalty;
+      solution.objectives()[1] = 1.0 - solution.variables().get(3) + penalty;
+      return solution;
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    JMetalRandom.getInstance().setSeed(1);
+    var algorithm = new CategoricalParameter("algorithm", List.of("a", "b", "c"));
+    algorithm.addConditionalParameter("a", new DoubleParameter("aValue", 0.0, 1.0));
+    algorithm.addConditionalParameter("b", new DoubleParameter("bValue", 0.0, 1.0));
+    topLevelParameters = List.of(algorithm, new DoubleParameter("x", 0.0, 1.0));
+    problem = new ConditionalToyProblem();
+  }
+
+  private MultiObjectiveTPE createTPE(int maxEvaluations, int numberOfCores) {
+    return new MultiObjectiveTPE(
+        problem, topLevelParameters, maxEvaluations, numberOfCores, STARTUP_EVALUATIONS, 0.25, 24);
+  }
+
+  @Nested
+  @DisplayName("Construction")
+  class ConstructionTests {
+
+    @Test
+    @DisplayName("A parameter space not matching the variables of the problem is rejected")
+    void mismatchingParameterSpaceIsRejected() {
+      // Arrange
+      List<Parameter<?>> parameters = List.of(new DoubleParameter("x", 0.0, 1.0));
+
+      // Act & Assert
+      assertThrows(
+          InvalidConditionException.class,
+          () -> new MultiObjectiveTPE(problem, parameters, 10, 1, 5, 0.25, 24));
+    }
+
+    @Test
+    @DisplayName("Gamma out of (0, 1) is rejected")
+    void invalidGammaIsRejected() {
+      // Act & Assert
+      assertThrows(
+          InvalidConditionException.class,
+          () -> new MultiObjectiveTPE(problem, topLevelParameters, 10, 1, 5, 1.0, 24));
+    }
+  }
+
+  @Nested
+  @DisplayName("Running")
+  class RunTests {
+
+    @Test
+    @DisplayName("Exactly the maximum number of configurations is evaluated")
+    void maxEvaluationsAreEvaluated() {
+      // Arrange
+      MultiObjectiveTPE tpe = createTPE(40, 4);
+
+      // Act
+      tpe.run();
+
+      // Assert
+      assertEquals(40, tpe.evaluatedSolutions().size());
+      assertFalse(tpe.result().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Model-based suggestions concentrate on the best branch of the parameter space")
+    void suggestionsConcentrateOnTheBestBranch() {
+      // Arrange
+      MultiObjectiveTPE tpe = createTPE(120, 1);
+
+      // Act
+      tpe.run();
+
+      // Assert
+      List<DoubleSolution> evaluated = tpe.evaluatedSolutions();
+      double startupPenalty = 0.0;
+      for (int i = 0; i < STARTUP_EVALUATIONS; i++) {
+        startupPenalty += ConditionalToyProblem.penalty(evaluated.get(i).variables());
+      }
+      double modelPenalty = 0.0;
+      int branchA = 0;
+      for (int i = STARTUP_EVALUATIONS; i < evaluated.size(); i++) {
+        modelPenalty += ConditionalToyProblem.penalty(evaluated.get(i).variables());
+        branchA += evaluated.get(i).variables().get(0) < 1.0 / 3.0 ? 1 : 0;
+      }
+      int modelEvaluations = evaluated.size() - STARTUP_EVALUATIONS;
+
+      assertTrue(branchA > 0.8 * modelEvaluations);
+      assertTrue(
+          modelPenalty / modelEvaluations < 0.25 * startupPenalty / STARTUP_EVALUATIONS);
+    }
+
+    @Test
+    @DisplayName("The observers are notified without blocking the registration of other workers")
+    void observersDoNotBlockOtherWorkers() {
+      // Arrange
+      MultiObjectiveTPE tpe = createTPE(2, 2);
+      AtomicBoolean otherWorkerRegistered = new AtomicBoolean(false);
+      tpe.observable()
+          .register(
+              (observable, data) -> {
+                if ((int) data.get("EVALUATIONS") == 1) {
+                  long deadline = System.currentTimeMillis() + 5000;
+                  while (tpe.evaluatedSolutions().size() < 2
+                      && System.currentTimeMillis() < deadline) {
+                    Thread.onSpinWait();
+                  }
+                  otherWorkerRegistered.set(tpe.evaluatedSolutions().size() == 2);
+                }
+              });
+
+      // Act
+      tpe.run();
+
+      // Assert
+      assertTrue(otherWorkerRegistered.get());
+    }
+  }
+}
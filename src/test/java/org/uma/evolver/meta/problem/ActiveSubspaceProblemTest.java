@@ -0,0 +1,202 @@
+package org.uma.evolver.meta.problem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.parameter.Parameter;
+import org.uma.evolver.parameter.ParameterManagement;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.parameter.type.DoubleParameter;
+import org.uma.evolver.parameter.type.IntegerParameter;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+@DisplayName("ActiveSubspaceProblem Unit Tests")
+class ActiveSubspaceProblemTest {
+  private List<Parameter<?>> topLevelParameters;
+  private CountingProblem problem;
+  private ActiveSubspaceProblem activeSubspaceProblem;
+
+  /**
+   * Problem on the encoding of the parameter space counting its evaluations, which sets the
+   * evaluation attributes of a meta-optimization problem and can be slowed down.
+   */
+  private static class CountingProblem extends AbstractDoubleProblem {
+    private final AtomicInteger numberOfEvaluations = new AtomicInteger();
+    private long delayInMilliseconds;
+
+    CountingProblem() {
+      numberOfObjectives(2);
+      name("CountingProblem");
+      variableBounds(Collections.nCopies(4, 0.0), Collections.nCopies(4, 1.0));
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      int evaluation = numberOfEvaluations.incrementAndGet();
+      try {
+        Thread.sleep(delayInMilliseconds);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      solution.objectives()[0] = solution.variables().get(1) + solution.variables().get(2);
+      solution.objectives()[1] = solution.variables().get(3);
+      solution.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, evaluation);
+      solution.attributes().put(MetaOptimizationProblem.INDEPENDENT_RUNS_ATTRIBUTE, 3);
+      return solution;
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    // Flattened parameters: algorithm, aValue, bValue, size
+    var algorithm = new CategoricalParameter("algorithm", List.of("a", "b", "c"));
+    algorithm.addConditionalParameter("a", new DoubleParameter("aValue", 0.0, 1.0));
+    algorithm.addConditionalParameter("b", new DoubleParameter("bValue", 0.0, 1.0));
+    topLevelParameters = List.of(algorithm, new IntegerParameter("size", 0, 10));
+    problem = new CountingProblem();
+    List<Parameter<?>> parameters = ParameterManagement.parameterFlattening(topLevelParameters);
+    activeSubspaceProblem = new ActiveSubspaceProblem(problem, topLevelParameters, parameters);
+  }
+
+  private DoubleSolution solution(double... values) {
+    DoubleSolution solution = problem.createSolution();
+    for (int i = 0; i < values.length; i++) {
+      solution.variables().set(i, values[i]);
+    }
+    return solution;
+  }
+
+  @Test
+  @DisplayName("Solutions decoding into the same configuration are repaired into the same encoding")
+  void solutionsOfTheSameConfigurationAreRepairedIntoTheSameEncoding() {
+    // Arrange
+    DoubleSolution first = solution(0.05, 0.4, 0.9, 0.31);
+    DoubleSolution second = solution(0.30, 0.4, 0.1, 0.39);
+
+    // Act
+    activeSubspaceProblem.repair(first);
+    activeSubspaceProblem.repair(second);
+
+    // Assert
+    assertEquals(List.of(1.0 / 6.0, 0.4, 0.5, 0.35), first.variables());
+    assertEquals(first.variables(), second.variables());
+    assertArrayEquals(new int[] {0, 1, 3}, activeSubspaceProblem.activeVariables(first));
+  }
+
+  @Test
+  @DisplayName("The active variables are computed from the current variables of a solution")
+  void theActiveVariablesAreComputedFromTheCurrentVariables() {
+    // Arrange
+    DoubleSolution offspring = activeSubspaceProblem.repair(solution(0.05, 0.4, 0.9, 0.31));
+
+    // Act: a crossover copies the algorithm of another parent, which selects b
+    offspring.variables().set(0, 0.5);
+
+    // Assert
+    assertArrayEquals(new int[] {0, 2, 3}, activeSubspaceProblem.activeVariables(offspring));
+  }
+
+  @Test
+  @DisplayName("A configuration already evaluated is not evaluated again")
+  void aConfigurationAlreadyEvaluatedIsNotEvaluatedAgain() {
+    // Arrange
+    DoubleSolution first = solution(0.05, 0.4, 0.9, 0.31);
+    DoubleSolution duplicate = solution(0.30, 0.4, 0.1, 0.39);
+    DoubleSolution other = solution(0.50, 0.4, 0.1, 0.39);
+
+    // Act
+    activeSubspaceProblem.evaluate(first);
+    activeSubspaceProblem.evaluate(duplicate);
+    activeSubspaceProblem.evaluate(other);
+
+    // Assert
+    assertEquals(2, problem.numberOfEvaluations.get());
+    assertEquals(3, activeSubspaceProblem.numberOfEvaluations());
+    assertEquals(1, activeSubspaceProblem.numberOfDuplicatedEvaluations());
+    assertArrayEquals(first.objectives(), duplicate.objectives());
+    assertEquals(3.0, activeSubspaceProblem.meanNumberOfActiveVariables());
+  }
+
+  @Test
+  @DisplayName("A categorical variable at the upper bound is repaired into its last value")
+  void aCategoricalVariableAtTheUpperBoundIsRepairedIntoItsLastValue() {
+    // Arrange
+    DoubleSolution solution = solution(1.0, 0.4, 0.9, 0.31);
+
+    // Act
+    activeSubspaceProblem.repair(solution);
+
+    // Assert
+    assertEquals(List.of(5.0 / 6.0, 0.5, 0.5, 0.35), solution.variables());
+    assertArrayEquals(new int[] {0, 3}, activeSubspaceProblem.activeVariables(solution));
+  }
+
+  @Test
+  @DisplayName("A duplicated configuration gets the evaluation attributes of its first evaluation")
+  void aConfigurationAlreadyEvaluatedGetsTheAttributesOfItsFirstEvaluation() {
+    // Arrange
+    DoubleSolution first = solution(0.05, 0.4, 0.9, 0.31);
+    DoubleSolution duplicate = solution(0.30, 0.4, 0.1, 0.39);
+
+    // Act
+    activeSubspaceProblem.evaluate(first);
+    activeSubspaceProblem.evaluate(duplicate);
+
+    // Assert
+    assertEquals(1, problem.numberOfEvaluations.get());
+    assertEquals(
+        1, duplicate.attributes().get(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE));
+    assertEquals(3, duplicate.attributes().get(MetaOptimizationProblem.INDEPENDENT_RUNS_ATTRIBUTE));
+  }
+
+  @Test
+  @DisplayName("A configuration evaluated concurrently by several threads is evaluated once")
+  void aConfigurationEvaluatedConcurrentlyIsEvaluatedOnce() throws Exception {
+    // Arrange
+    problem.delayInMilliseconds = 100;
+    int numberOfThreads = 4;
+    List<Callable<DoubleSolution>> evaluations =
+        Collections.nCopies(
+            numberOfThreads,
+            () -> activeSubspaceProblem.evaluate(solution(0.05, 0.4, 0.9, 0.31)));
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+
+    // Act
+    List<Future<DoubleSolution>> solutions;
+    try {
+      solutions = executor.invokeAll(evaluations);
+    } finally {
+      executor.shutdown();
+    }
+
+    // Assert
+    assertEquals(1, problem.numberOfEvaluations.get());
+    assertEquals(numberOfThreads - 1, activeSubspaceProblem.numberOfDuplicatedEvaluations());
+    for (Future<DoubleSolution> solution : solutions) {
+      assertArrayEquals(new double[] {0.9, 0.35}, solution.get().objectives(), 1e-12);
+      assertEquals(
+          1, solution.get().attributes().get(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE));
+    }
+  }
+
+  @Test
+  @DisplayName("A parameter space not matching the variables of the problem is rejected")
+  void aParameterSpaceNotMatchingTheVariablesIsRejected() {
+    assertThrows(
+        JMetalException.class,
+        () -> new ActiveSubspaceProblem(problem, topLevelParameters, topLevelParameters));
+  }
+}
@@ -1,23 +1,37 @@
 package org.uma.evolver.meta.problem;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.uma.evolver.algorithm.BaseLevelAlgorithm;
 import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.meta.strategy.AllInstancesStrategy;
 import org.uma.evolver.meta.strategy.EvaluationBudgetStrategy;
 import org.uma.evolver.meta.strategy.FixedEvaluationsStrategy;
+import org.uma.evolver.meta.strategy.FixedRunsStrategy;
+import org.uma.evolver.meta.strategy.IndependentRunsStrategy;
+import org.uma.evolver.meta.strategy.RotatingSubsetStrategy;
+import org.uma.evolver.parameter.ParameterSpace;
 import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.type.DoubleParameter;
 import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
 import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
@@ -55,6 +69,102 @@ class MetaOptimizationProblemTest {
     singleProblemStrategy = new FixedEvaluationsStrategy(List.of(25000));
   }
 
+  /**
+   * Base-level algorithm returning a single point, {@code (quality, 1 - quality)} on ZDT1 and
+   * {@code (quality + 0.5, 1 - quality)} on ZDT4, where {@code quality} is its only parameter.
+   */
+  private static class DeterministicAlgorithm implements BaseLevelAlgorithm<DoubleSolution> {
+    private final Problem<DoubleSolution> problem;
+    private final ParameterSpace parameterSpace;
+
+    DeterministicAlgorithm(Problem<DoubleSolution> problem) {
+      this.problem = problem;
+      this.parameterSpace =
+          new ParameterSpace() {
+            @Override
+            public ParameterSpace createInstance() {
+              return null;
+            }
+          };
+      DoubleParameter quality = new DoubleParameter("quality", 0.0, 1.0);
+      parameterSpace.put(quality);
+      parameterSpace.addTopLevelParameter(quality);
+    }
+
+    @Override
+    public ParameterSpace parameterSpace() {
+      return parameterSpace;
+    }
+
+    @Override
+    public BaseLevelAlgorithm<DoubleSolution> createInstance(
+        Problem<DoubleSolution> problem, int maximumNumberOfEvaluations) {
+      return new DeterministicAlgorithm(problem);
+    }
+
+    @Override
+    public Algorithm<List<DoubleSolution>> build() {
+      double quality = (Double) parameterSpace.get("quality").value();
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = quality + (problem instanceof ZDT4 ? 0.5 : 0.0);
+      solution.objectives()[1] = 1.0 - quality;
+
+      return new Algorithm<>() {
+        @Override
+        public void run() {}
+
+        @Override
+        public List<DoubleSolution> result() {
+          return List.of(solution);
+        }
+
+        @Override
+        public String name() {
+          return "DeterministicAlgorithm";
+        }
+
+        @Override
+        public String description() {
+          return "Algorithm returning a point depending on the problem and its parameter";
+        }
+      };
+    }
+  }
+
+  /** Indicator returning the minimum value of an objective in the front. */
+  private static class ObjectiveIndicator extends QualityIndicator {
+    private final int objective;
+
+    ObjectiveIndicator(int objective) {
+      this.objective = objective;
+    }
+
+    @Override
+    public double compute(double[][] front) {
+      return Arrays.stream(front).mapToDouble(point -> point[objective]).min().orElseThrow();
+    }
+
+    @Override
+    public boolean isTheLowerTheIndicatorValueTheBetter() {
+      return true;
+    }
+
+    @Override
+    public QualityIndicator newInstance() {
+      return new ObjectiveIndicator(objective);
+    }
+
+    @Override
+    public String name() {
+      return "Objective" + objective;
+    }
+
+    @Override
+    public String description() {
+      return "Minimum value of an objective";
+    }
+  }
+
   /**
    * Helper that creates a valid instance with the default single-problem setup.
    */
@@ -117,6 +227,34 @@ class MetaOptimizationProblemTest {
               singleIndicator, null, ONE_RUN));
     }
 
+    @Test
+    @DisplayName("Given null instance sampling strategy, when constructing, then throw NullParameterException")
+    void givenNullInstanceSamplingStrategy_whenConstructing_thenThrowException() {
+      assertThrows(NullParameterException.class, () ->
+          new MetaOptimizationProblem<>(
+              baseAlgorithm, singleProblem, singleReferenceFront,
+              singleIndicator, singleProblemStrategy, ONE_RUN, null));
+    }
+
+    @Test
+    @DisplayName("Given null independent runs strategy, when constructing, then throw NullParameterException")
+    void givenNullIndependentRunsStrategy_whenConstructing_thenThrowException() {
+      assertThrows(NullParameterException.class, () ->
+          new MetaOptimizationProblem<>(
+              baseAlgorithm, singleProblem, singleReferenceFront,
+              singleIndicator, singleProblemStrategy, (IndependentRunsStrategy) null,
+              new AllInstancesStrategy()));
+    }
+
+    @Test
+    @DisplayName("Given a non-positive number of runs, when constructing, then throw InvalidConditionException")
+    void givenNonPositiveNumberOfRuns_whenConstructing_thenThrowException() {
+      assertThrows(InvalidConditionException.class, () ->
+          new MetaOptimizationProblem<>(
+              baseAlgorithm, singleProblem, singleReferenceFront,
+              singleIndicator, singleProblemStrategy, 0));
+    }
+
     @Test
     @DisplayName("Given mismatched problems and reference fronts sizes, when constructing, then throw exception")
     void givenMismatchedSizes_whenConstructing_thenThrowException() {
@@ -280,6 +418,29 @@ class MetaOptimizationProblemTest {
       assertEquals(singleProblemStrategy, problem.evaluationBudgetStrategy());
     }
 
+    @Test
+    @DisplayName("Given default construction, when getting instance sampling strategy, then all instances are used")
+    void givenDefaultConstruction_whenGettingInstanceSamplingStrategy_thenAllInstancesAreUsed() {
+      // Act & Assert
+      assertInstanceOf(AllInstancesStrategy.class, problem.instanceSamplingStrategy());
+    }
+
+    @Test
+    @DisplayName("Given a number of independent runs, when getting the runs strategy, then the number of runs is fixed")
+    void givenNumberOfRuns_whenGettingIndependentRunsStrategy_thenTheNumberOfRunsIsFixed() {
+      // Act & Assert
+      assertInstanceOf(FixedRunsStrategy.class, problem.independentRunsStrategy());
+      assertEquals(ONE_RUN, problem.independentRunsStrategy().maximumNumberOfRuns());
+    }
+
+    @Test
+    @DisplayName("Given no evaluation, when getting instance statistics, then counts are zero and means NaN")
+    void givenNoEvaluation_whenGettingInstanceStatistics_thenCountsAreZero() {
+      // Act & Assert
+      assertArrayEquals(new int[] {0}, problem.instanceEvaluationCounts());
+      assertTrue(Double.isNaN(problem.instanceIndicatorMeans()[0][0]));
+    }
+
     @Test
     @DisplayName("Given valid instance, when getting top-level parameters, then return non-empty list")
     void givenValidInstance_whenGettingTopLevelParameters_thenReturnNonEmptyList() {
@@ -368,4 +529,164 @@ class MetaOptimizationProblemTest {
       assertTrue(differ, "Two randomly created solutions should differ in at least one variable");
     }
   }
+
+  // ──────────────────────────────────────────────────────────────────────────
+  // Re-evaluation tests
+  // ──────────────────────────────────────────────────────────────────────────
+
+  @Nested
+  @DisplayName("When re-evaluating non-dominated solutions")
+  class ReevaluationTests {
+
+    private MetaOptimizationProblem<DoubleSolution> problem;
+    private MetaOptimizationProblem<DoubleSolution> deterministicProblem;
+
+    @TempDir Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+      problem = new MetaOptimizationProblem<>(
+          baseAlgorithm, List.of(new ZDT1(), new ZDT4()),
+          List.of("resources/referenceFronts/ZDT1.csv", "resources/referenceFronts/ZDT4.csv"),
+          List.of(new Epsilon(), new NormalizedHypervolume()),
+          new FixedEvaluationsStrategy(List.of(25000, 25000)), ONE_RUN,
+          new RotatingSubsetStrategy(1));
+
+      // The reference front bounds are [0, 1], so the fronts are not changed by normalization
+      String referenceFront =
+          Files.write(directory.resolve("front.csv"), List.of("0.0,0.0", "1.0,1.0")).toString();
+      deterministicProblem = new MetaOptimizationProblem<>(
+          new DeterministicAlgorithm(null), List.of(new ZDT1(), new ZDT4()),
+          List.of(referenceFront, referenceFront),
+          List.of(new ObjectiveIndicator(0), new ObjectiveIndicator(1)),
+          new FixedEvaluationsStrategy(List.of(1000, 1000)), ONE_RUN,
+          new RotatingSubsetStrategy(1));
+    }
+
+    private DoubleSolution solutionWithQuality(double quality) {
+      DoubleSolution solution = deterministicProblem.createSolution();
+      solution.variables().set(0, quality);
+      return solution;
+    }
+
+    private DoubleSolution solutionWithObjectives(double first, double second) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = first;
+      solution.objectives()[1] = second;
+      solution.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, 2);
+      return solution;
+    }
+
+    @Test
+    @DisplayName("Given solutions evaluated on all problems, when re-evaluating, then only non-dominated ones are returned unchanged")
+    void givenFullyEvaluatedSolutions_whenReevaluating_thenNonDominatedAreReturned() {
+      // Arrange
+      DoubleSolution first = solutionWithObjectives(0.1, 0.9);
+      DoubleSolution second = solutionWithObjectives(0.9, 0.1);
+      DoubleSolution dominated = solutionWithObjectives(1.0, 1.0);
+
+      // Act
+      List<DoubleSolution> result =
+          problem.reevaluateNonDominatedSolutions(List.of(first, second, dominated));
+
+      // Assert
+      assertEquals(2, result.size());
+      assertTrue(result.contains(first));
+      assertTrue(result.contains(second));
+      assertArrayEquals(new double[] {0.1, 0.9}, first.objectives());
+    }
+
+    @Test
+    @DisplayName("Given dominated solutions evaluated on a subset, when re-evaluating, then they are not re-evaluated")
+    void givenDominatedSubsetSolutions_whenReevaluating_thenTheyAreNotReevaluated() {
+      // Arrange
+      DoubleSolution best = solutionWithObjectives(0.1, 0.1);
+      DoubleSolution dominated = solutionWithObjectives(0.5, 0.5);
+      dominated.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, 1);
+
+      // Act
+      List<DoubleSolution> result =
+          problem.reevaluateNonDominatedSolutions(List.of(best, dominated));
+
+      // Assert
+      assertEquals(List.of(best), result);
+      assertArrayEquals(new int[] {0, 0}, problem.instanceEvaluationCounts());
+    }
+
+    @Test
+    @DisplayName("Given a solution evaluated on a subset, when evaluating, then its objectives are corrected with the problem means")
+    void givenSubsetEvaluation_whenEvaluating_thenObjectivesAreCorrectedWithTheProblemMeans() {
+      // Arrange: the first evaluation uses both problems, giving the means (0.2, 0.8) on ZDT1
+      // and (0.7, 0.8) on ZDT4
+      deterministicProblem.evaluate(solutionWithQuality(0.2));
+      DoubleSolution solution = solutionWithQuality(0.4);
+
+      // Act
+      deterministicProblem.evaluate(solution);
+
+      // Assert: whatever the sampled problem, the values of the solution are (0.1, -0.1) away
+      // from the updated means of that problem, and the means over the problems are (0.5, 0.75)
+      assertEquals(
+          1, solution.attributes().get(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE));
+      assertEquals(3, Arrays.stream(deterministicProblem.instanceEvaluationCounts()).sum());
+      assertArrayEquals(new double[] {0.6, 0.65}, solution.objectives(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Given a non-dominated solution evaluated on a subset, when re-evaluating, then a copy evaluated on all problems is returned and cached")
+    void givenNonDominatedSubsetSolution_whenReevaluating_thenFullyEvaluatedCopyIsCached() {
+      // Arrange
+      DoubleSolution subsetSolution = solutionWithQuality(0.4);
+      subsetSolution.objectives()[0] = 0.0;
+      subsetSolution.objectives()[1] = 0.0;
+      subsetSolution.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, 1);
+      DoubleSolution fullSolution = solutionWithQuality(0.7);
+      fullSolution.objectives()[0] = 0.7;
+      fullSolution.objectives()[1] = 0.3;
+      fullSolution.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, 2);
+      List<DoubleSolution> solutions = List.of(subsetSolution, fullSolution);
+
+      // Act
+      List<DoubleSolution> result = deterministicProblem.reevaluateNonDominatedSolutions(solutions);
+      List<DoubleSolution> secondResult =
+          deterministicProblem.reevaluateNonDominatedSolutions(solutions);
+
+      // Assert: the full evaluation gives the means of (0.4, 0.6) and (0.9, 0.6)
+      assertEquals(2, result.size());
+      assertTrue(result.contains(fullSolution));
+      DoubleSolution reevaluated = result.get(result.get(0) == fullSolution ? 1 : 0);
+      assertFalse(reevaluated == subsetSolution);
+      assertArrayEquals(new double[] {0.65, 0.6}, reevaluated.objectives(), 1e-12);
+      assertEquals(
+          2, reevaluated.attributes().get(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE));
+      assertArrayEquals(new double[] {0.0, 0.0}, subsetSolution.objectives());
+
+      assertArrayEquals(new int[] {1, 1}, deterministicProblem.instanceEvaluationCounts());
+      assertEquals(2, secondResult.size());
+      assertTrue(secondResult.stream().anyMatch(
+          solution -> Arrays.equals(reevaluated.objectives(), solution.objectives())));
+    }
+
+    @Test
+    @DisplayName("Given a subset solution dominated once re-evaluated, when re-evaluating, then it is discarded")
+    void givenSubsetSolutionDominatedOnceReevaluated_whenReevaluating_thenItIsDiscarded() {
+      // Arrange
+      DoubleSolution subsetSolution = solutionWithQuality(0.4);
+      subsetSolution.objectives()[0] = 0.0;
+      subsetSolution.objectives()[1] = 0.0;
+      subsetSolution.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, 1);
+      DoubleSolution fullSolution = solutionWithQuality(0.5);
+      fullSolution.objectives()[0] = 0.5;
+      fullSolution.objectives()[1] = 0.5;
+      fullSolution.attributes().put(MetaOptimizationProblem.EVALUATED_PROBLEMS_ATTRIBUTE, 2);
+
+      // Act
+      List<DoubleSolution> result = deterministicProblem.reevaluateNonDominatedSolutions(
+          List.of(subsetSolution, fullSolution));
+
+      // Assert: the re-evaluated objectives (0.65, 0.6) are dominated by (0.5, 0.5)
+      assertEquals(List.of(fullSolution), result);
+      assertArrayEquals(new int[] {1, 1}, deterministicProblem.instanceEvaluationCounts());
+    }
+  }
 }
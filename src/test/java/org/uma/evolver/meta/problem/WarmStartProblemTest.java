@@ -0,0 +1,95 @@
+package org.uma.evolver.meta.problem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+@DisplayName("WarmStartProblem Unit Tests")
+class WarmStartProblemTest {
+  private static final double MEASURED_VALUE = -1.0;
+
+  private ZDT1 problem;
+  private DoubleSolution measuredSolution;
+  private DoubleSolution unmeasuredSolution;
+
+  @BeforeEach
+  void setUp() {
+    problem = new ZDT1(5);
+    measuredSolution = problem.createSolution();
+    measuredSolution.objectives()[0] = MEASURED_VALUE;
+    measuredSolution.objectives()[1] = MEASURED_VALUE;
+    measuredSolution.attributes().put(WarmStartProblem.MEASURED_OBJECTIVES_ATTRIBUTE, true);
+    unmeasuredSolution = problem.createSolution();
+  }
+
+  @Test
+  @DisplayName("The initial solutions are created first, then random ones")
+  void theInitialSolutionsAreCreatedFirst() {
+    // Arrange
+    var warmStartProblem =
+        new WarmStartProblem(problem, List.of(measuredSolution, unmeasuredSolution), false);
+
+    // Act
+    DoubleSolution first = warmStartProblem.createSolution();
+    DoubleSolution second = warmStartProblem.createSolution();
+    DoubleSolution third = warmStartProblem.createSolution();
+
+    // Assert
+    assertEquals(measuredSolution.variables(), first.variables());
+    assertEquals(unmeasuredSolution.variables(), second.variables());
+    assertNotEquals(measuredSolution.variables(), third.variables());
+    assertEquals(2, warmStartProblem.numberOfSeededSolutions());
+  }
+
+  @Test
+  @DisplayName("The measured objectives are kept only once if they are reused")
+  void theMeasuredObjectivesAreKeptOnlyOnceIfTheyAreReused() {
+    // Arrange
+    var warmStartProblem = new WarmStartProblem(problem, List.of(measuredSolution), true);
+    DoubleSolution solution = warmStartProblem.createSolution();
+    DoubleSolution offspring = (DoubleSolution) solution.copy();
+
+    // Act
+    warmStartProblem.evaluate(solution);
+    warmStartProblem.evaluate(offspring);
+
+    // Assert
+    assertEquals(MEASURED_VALUE, solution.objectives()[0]);
+    assertNotEquals(MEASURED_VALUE, offspring.objectives()[0]);
+    assertFalse(solution.attributes().containsKey(WarmStartProblem.MEASURED_OBJECTIVES_ATTRIBUTE));
+
+    warmStartProblem.evaluate(solution);
+    assertNotEquals(MEASURED_VALUE, solution.objectives()[0]);
+  }
+
+  @Test
+  @DisplayName("The initial solutions are evaluated if the objectives are not reused")
+  void theInitialSolutionsAreEvaluatedIfTheObjectivesAreNotReused() {
+    // Arrange
+    var warmStartProblem = new WarmStartProblem(problem, List.of(measuredSolution), false);
+    DoubleSolution solution = warmStartProblem.createSolution();
+
+    // Act
+    warmStartProblem.evaluate(solution);
+
+    // Assert
+    assertNotEquals(MEASURED_VALUE, solution.objectives()[0]);
+  }
+
+  @Test
+  @DisplayName("Initial solutions with a wrong number of variables raise an exception")
+  void initialSolutionsWithAWrongNumberOfVariablesRaiseAnException() {
+    assertThrows(
+        JMetalException.class,
+        () -> new WarmStartProblem(new ZDT1(3), List.of(measuredSolution), true));
+  }
+}
@@ -0,0 +1,102 @@
+package org.uma.evolver.meta.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.errorchecking.exception.NullParameterException;
+
+@DisplayName("RotatingSubsetStrategy Tests")
+class RotatingSubsetStrategyTest {
+
+  @Test
+  @DisplayName("Constructor throws exception when subset size is not positive")
+  void constructorThrowsWhenSubsetSizeIsNotPositive() {
+    // Arrange & Act & Assert
+    assertThrows(InvalidConditionException.class, () -> new RotatingSubsetStrategy(0));
+  }
+
+  @Test
+  @DisplayName("Constructor throws exception when random is null")
+  void constructorThrowsWhenRandomIsNull() {
+    // Arrange & Act & Assert
+    assertThrows(NullParameterException.class, () -> new RotatingSubsetStrategy(2, null));
+  }
+
+  @Test
+  @DisplayName("sampleProblems returns all the problems when the subset is not smaller")
+  void sampleProblemsReturnsAllProblemsWhenSubsetIsNotSmaller() {
+    // Arrange
+    RotatingSubsetStrategy strategy = new RotatingSubsetStrategy(5, new Random(1));
+
+    // Act
+    int[] problems = strategy.sampleProblems(3);
+
+    // Assert
+    assertArrayEquals(new int[] {0, 1, 2}, problems);
+  }
+
+  @Test
+  @DisplayName("sampleProblems returns sorted subsets of distinct valid problems")
+  void sampleProblemsReturnsSortedDistinctSubsets() {
+    // Arrange
+    RotatingSubsetStrategy strategy = new RotatingSubsetStrategy(3, new Random(2));
+
+    for (int i = 0; i < 100; i++) {
+      // Act
+      int[] problems = strategy.sampleProblems(7);
+
+      // Assert
+      assertEquals(3, problems.length);
+      for (int j = 1; j < problems.length; j++) {
+        assertTrue(problems[j - 1] < problems[j]);
+      }
+      assertTrue(problems[0] >= 0 && problems[2] < 7);
+    }
+  }
+
+  @Test
+  @DisplayName("Consecutive subsets cover the whole training set")
+  void consecutiveSubsetsCoverAllProblems() {
+    // Arrange
+    RotatingSubsetStrategy strategy = new RotatingSubsetStrategy(2, new Random(3));
+    Set<Integer> covered = new HashSet<>();
+
+    // Act
+    for (int i = 0; i < 4; i++) {
+      for (int problem : strategy.sampleProblems(7)) {
+        covered.add(problem);
+      }
+    }
+
+    // Assert
+    assertEquals(7, covered.size());
+  }
+
+  @Test
+  @DisplayName("All the problems are sampled equally often")
+  void allProblemsAreSampledEquallyOften() {
+    // Arrange
+    RotatingSubsetStrategy strategy = new RotatingSubsetStrategy(3, new Random(4));
+    int[] counts = new int[9];
+
+    // Act
+    for (int i = 0; i < 30; i++) {
+      for (int problem : strategy.sampleProblems(9)) {
+        counts[problem]++;
+      }
+    }
+
+    // Assert
+    for (int count : counts) {
+      assertEquals(10, count);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.uma.evolver.meta.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+@DisplayName("SequentialRunsStrategy Tests")
+class SequentialRunsStrategyTest {
+
+  @Test
+  @DisplayName("Constructor throws exception when the initial number of runs is not positive")
+  void constructorThrowsWhenInitialNumberOfRunsIsNotPositive() {
+    // Arrange & Act & Assert
+    assertThrows(InvalidConditionException.class, () -> new SequentialRunsStrategy(0, 10, 0.01));
+  }
+
+  @Test
+  @DisplayName("Constructor throws exception when the maximum is lower than the initial number of runs")
+  void constructorThrowsWhenMaximumIsLowerThanInitialNumberOfRuns() {
+    // Arrange & Act & Assert
+    assertThrows(InvalidConditionException.class, () -> new SequentialRunsStrategy(5, 4, 0.01));
+  }
+
+  @Test
+  @DisplayName("No more runs are needed when the runs have the same indicator values")
+  void noMoreRunsAreNeededWhenRunsHaveTheSameValues() {
+    // Arrange
+    SequentialRunsStrategy strategy = new SequentialRunsStrategy(3, 30, 0.01);
+    double[][] indicatorValues = {{0.2, 0.2, 0.2}, {0.5, 0.5, 0.5}};
+
+    // Act & Assert
+    assertFalse(strategy.needsMoreRuns(indicatorValues));
+  }
+
+  @Test
+  @DisplayName("More runs are needed when any indicator has a wide confidence interval")
+  void moreRunsAreNeededWhenAnyIndicatorHasAWideInterval() {
+    // Arrange
+    SequentialRunsStrategy strategy = new SequentialRunsStrategy(3, 30, 0.01);
+    double[][] indicatorValues = {{0.2, 0.2, 0.2}, {0.3, 0.5, 0.7}};
+
+    // Act & Assert
+    assertTrue(strategy.needsMoreRuns(indicatorValues));
+  }
+
+  @Test
+  @DisplayName("The tolerance is relative to the median when its magnitude is greater than one")
+  void theToleranceIsRelativeToLargeMedians() {
+    // Arrange
+    SequentialRunsStrategy strategy = new SequentialRunsStrategy(3, 30, 0.01);
+    double[][] indicatorValues = {{10000, 10050, 10090}};
+
+    // Act & Assert
+    assertFalse(strategy.needsMoreRuns(indicatorValues));
+  }
+
+  @Test
+  @DisplayName("The confidence interval of the median spans all the values of small samples")
+  void theConfidenceIntervalSpansAllTheValuesOfSmallSamples() {
+    // Arrange
+    double[] values = {0.5, 0.1, 0.4, 0.3, 0.2};
+
+    // Act
+    double[] interval = SequentialRunsStrategy.medianConfidenceInterval(values);
+
+    // Assert
+    assertArrayEquals(new double[] {0.1, 0.5}, interval);
+  }
+
+  @Test
+  @DisplayName("The confidence interval of the median excludes the extreme values of large samples")
+  void theConfidenceIntervalExcludesTheExtremeValuesOfLargeSamples() {
+    // Arrange
+    double[] values = IntStream.rangeClosed(1, 30).asDoubleStream().toArray();
+
+    // Act
+    double[] interval = SequentialRunsStrategy.medianConfidenceInterval(values);
+
+    // Assert
+    assertEquals(9.0, interval[0]);
+    assertEquals(22.0, interval[1]);
+  }
+
+  @Test
+  @DisplayName("FixedRunsStrategy never asks for more runs")
+  void fixedRunsStrategyNeverAsksForMoreRuns() {
+    // Arrange
+    FixedRunsStrategy strategy = new FixedRunsStrategy(5);
+
+    // Act & Assert
+    assertEquals(5, strategy.initialNumberOfRuns());
+    assertEquals(5, strategy.maximumNumberOfRuns());
+    assertFalse(strategy.needsMoreRuns(new double[][] {{0.0, 1.0, 0.0, 1.0, 0.0}}));
+  }
+}
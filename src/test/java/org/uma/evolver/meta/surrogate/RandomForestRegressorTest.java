@@ -0,0 +1,149 @@
+package org.uma.evolver.meta.surrogate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+@DisplayName("RandomForestRegressor Tests")
+class RandomForestRegressorTest {
+
+  private static double[] function(double[] x) {
+    return new double[] {x[0] + x[1], 100.0 * x[2] * x[2]};
+  }
+
+  private static double[][] randomInputs(int size, Random random) {
+    double[][] inputs = new double[size][4];
+    for (double[] input : inputs) {
+      for (int j = 0; j < input.length; j++) {
+        input[j] = random.nextDouble();
+      }
+    }
+    return inputs;
+  }
+
+  @Nested
+  @DisplayName("Construction")
+  class ConstructionTests {
+
+    @Test
+    @DisplayName("Invalid configurations are rejected")
+    void invalidConfigurationsAreRejected() {
+      // Act & Assert
+      assertThrows(InvalidConditionException.class, () -> new RandomForestRegressor(0, 1, 1, 1.0));
+      assertThrows(InvalidConditionException.class, () -> new RandomForestRegressor(1, 0, 1, 1.0));
+      assertThrows(InvalidConditionException.class, () -> new RandomForestRegressor(1, 1, 0, 1.0));
+      assertThrows(InvalidConditionException.class, () -> new RandomForestRegressor(1, 1, 1, 0.0));
+    }
+
+    @Test
+    @DisplayName("Fitting returns a new forest and leaves the configuration unfitted")
+    void fittingReturnsANewForest() {
+      // Arrange
+      RandomForestRegressor forest = new RandomForestRegressor();
+      double[][] inputs = randomInputs(50, new Random(1));
+      double[][] outputs = new double[50][];
+      for (int i = 0; i < inputs.length; i++) {
+        outputs[i] = function(inputs[i]);
+      }
+
+      // Act
+      RandomForestRegressor fitted = forest.fit(inputs, outputs, 1);
+
+      // Assert
+      assertFalse(forest.isFitted());
+      assertTrue(fitted.isFitted());
+    }
+  }
+
+  @Nested
+  @DisplayName("Prediction")
+  class PredictionTests {
+
+    @Test
+    @DisplayName("Predicting with an unfitted forest raises an exception")
+    void predictingWithAnUnfittedForestRaisesAnException() {
+      // Act & Assert
+      assertThrows(
+          InvalidConditionException.class,
+          () -> new RandomForestRegressor().predict(new double[4]));
+    }
+
+    @Test
+    @DisplayName("A constant output is predicted exactly with no uncertainty")
+    void constantOutputIsPredictedExactly() {
+      // Arrange
+      double[][] inputs = randomInputs(30, new Random(2));
+      double[][] outputs = new double[30][];
+      for (int i = 0; i < outputs.length; i++) {
+        outputs[i] = new double[] {7.0, -1.0};
+      }
+      RandomForestRegressor forest = new RandomForestRegressor().fit(inputs, outputs, 2);
+      double[] mean = new double[2];
+      double[] standardDeviation = new double[2];
+
+      // Act
+      forest.predict(new double[] {0.5, 0.5, 0.5, 0.5}, mean, standardDeviation);
+
+      // Assert
+      assertArrayEquals(new double[] {7.0, -1.0}, mean, 1e-12);
+      assertArrayEquals(new double[] {0.0, 0.0}, standardDeviation, 1e-12);
+    }
+
+    @Test
+    @DisplayName("Predictions of a smooth function are much better than its mean")
+    void predictionsOfASmoothFunctionAreAccurate() {
+      // Arrange
+      Random random = new Random(3);
+      double[][] inputs = randomInputs(400, random);
+      double[][] outputs = new double[inputs.length][];
+      for (int i = 0; i < inputs.length; i++) {
+        outputs[i] = function(inputs[i]);
+      }
+      RandomForestRegressor forest = new RandomForestRegressor().fit(inputs, outputs, 3);
+
+      // Act
+      double[] forestError = new double[2];
+      double[] meanError = new double[2];
+      for (double[] input : randomInputs(200, random)) {
+        double[] expected = function(input);
+        double[] predicted = forest.predict(input);
+        forestError[0] += Math.abs(predicted[0] - expected[0]);
+        forestError[1] += Math.abs(predicted[1] - expected[1]);
+        meanError[0] += Math.abs(1.0 - expected[0]);
+        meanError[1] += Math.abs(100.0 / 3.0 - expected[1]);
+      }
+
+      // Assert
+      assertTrue(forestError[0] < 0.5 * meanError[0]);
+      assertTrue(forestError[1] < 0.5 * meanError[1]);
+    }
+
+    @Test
+    @DisplayName("Fitting with the same seed yields the same predictions")
+    void fittingIsReproducible() {
+      // Arrange
+      double[][] inputs = randomInputs(100, new Random(4));
+      double[][] outputs = new double[inputs.length][];
+      for (int i = 0; i < inputs.length; i++) {
+        outputs[i] = function(inputs[i]);
+      }
+      double[] input = {0.1, 0.2, 0.3, 0.4};
+
+      // Act
+      double[] first = new RandomForestRegressor().fit(inputs, outputs, 5).predict(input);
+      double[] second = new RandomForestRegressor().fit(inputs, outputs, 5).predict(input);
+
+      // Assert
+      assertEquals(first.length, second.length);
+      assertArrayEquals(first, second, 0.0);
+    }
+  }
+}
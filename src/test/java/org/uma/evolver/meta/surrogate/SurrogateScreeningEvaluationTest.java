@@ -0,0 +1,189 @@
+package org.uma.evolver.meta.surrogate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+@DisplayName("SurrogateScreeningEvaluation Tests")
+class SurrogateScreeningEvaluationTest {
+
+  private ZDT1 problem;
+  private SequentialEvaluation<DoubleSolution> realEvaluation;
+
+  @BeforeEach
+  void setUp() {
+    problem = new ZDT1(5);
+    realEvaluation = new SequentialEvaluation<>(problem);
+  }
+
+  private List<DoubleSolution> createSolutions(int size) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  /** Creates an evaluation whose model is fitted synchronously after every 20 evaluations. */
+  private SurrogateScreeningEvaluation createEvaluation(double evaluatedFraction) {
+    return new SurrogateScreeningEvaluation(
+        realEvaluation, evaluatedFraction, 20, 20, new RandomForestRegressor(), Runnable::run);
+  }
+
+  @Test
+  @DisplayName("Evaluated fractions out of (0, 1] are rejected")
+  void invalidFractionsAreRejected() {
+    // Act & Assert
+    assertThrows(InvalidConditionException.class, () -> createEvaluation(0.0));
+    assertThrows(InvalidConditionException.class, () -> createEvaluation(1.5));
+  }
+
+  @Nested
+  @DisplayName("Before the first model is fitted")
+  class WarmUpTests {
+
+    @Test
+    @DisplayName("All the solutions are really evaluated")
+    void allSolutionsAreEvaluated() {
+      // Arrange
+      SurrogateScreeningEvaluation evaluation = createEvaluation(0.25);
+      List<DoubleSolution> solutions = createSolutions(10);
+
+      // Act
+      evaluation.evaluate(solutions);
+
+      // Assert
+      assertEquals(10, evaluation.computedEvaluations());
+      assertEquals(0, evaluation.numberOfSavedEvaluations());
+      assertNull(evaluation.model());
+      for (DoubleSolution solution : solutions) {
+        assertFalse(solution.attributes().containsKey(
+            SurrogateScreeningEvaluation.SCREENED_OUT_ATTRIBUTE));
+        assertTrue(solution.objectives()[1] < Double.MAX_VALUE);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("When fitting the model fails")
+  class FailedFitTests {
+
+    /** Forest whose fit always fails, counting the attempts. */
+    private static class FailingForest extends RandomForestRegressor {
+      private int numberOfFits;
+
+      @Override
+      public RandomForestRegressor fit(double[][] features, double[][] outputs, long seed) {
+        numberOfFits++;
+        throw new IllegalStateException("Fit failure");
+      }
+    }
+
+    @Test
+    @DisplayName("The model is not refitted again and all the solutions are really evaluated")
+    void modelIsNotRefittedAndAllSolutionsAreEvaluated() {
+      // Arrange
+      FailingForest forest = new FailingForest();
+      SurrogateScreeningEvaluation evaluation =
+          new SurrogateScreeningEvaluation(realEvaluation, 0.25, 20, 20, forest, Runnable::run);
+
+      // Act
+      evaluation.evaluate(createSolutions(20));
+      evaluation.evaluate(createSolutions(20));
+
+      // Assert
+      assertEquals(1, forest.numberOfFits);
+      assertTrue(evaluation.isRefittingStopped());
+      assertNull(evaluation.model());
+      assertEquals(0, evaluation.numberOfModelFits());
+      assertEquals(40, evaluation.computedEvaluations());
+    }
+  }
+
+  @Nested
+  @DisplayName("After the first model is fitted")
+  class ScreeningTests {
+
+    private SurrogateScreeningEvaluation evaluation;
+
+    @BeforeEach
+    void setUp() {
+      evaluation = createEvaluation(0.25);
+      evaluation.evaluate(createSolutions(20));
+    }
+
+    @Test
+    @DisplayName("The model is fitted once the minimum training set size is reached")
+    void modelIsFitted() {
+      // Assert
+      assertNotNull(evaluation.model());
+      assertEquals(1, evaluation.numberOfModelFits());
+      assertFalse(evaluation.isRefittingStopped());
+    }
+
+    @Test
+    @DisplayName("Only the given fraction of the candidates is really evaluated")
+    void onlyAFractionIsEvaluated() {
+      // Arrange
+      List<DoubleSolution> solutions = createSolutions(20);
+
+      // Act
+      List<DoubleSolution> result = evaluation.evaluate(solutions);
+
+      // Assert
+      assertEquals(20, result.size());
+      assertEquals(25, evaluation.computedEvaluations());
+      assertEquals(40, evaluation.numberOfCandidates());
+      assertEquals(15, evaluation.numberOfSavedEvaluations());
+      assertEquals(15.0 / 40.0, evaluation.savedEvaluationsRatio(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Screened-out candidates are marked and get the worst objective values")
+    void screenedOutCandidatesAreMarked() {
+      // Arrange
+      List<DoubleSolution> solutions = createSolutions(20);
+
+      // Act
+      evaluation.evaluate(solutions);
+
+      // Assert
+      int screenedOut = 0;
+      for (DoubleSolution solution : solutions) {
+        if (solution.attributes().containsKey(
+            SurrogateScreeningEvaluation.SCREENED_OUT_ATTRIBUTE)) {
+          screenedOut++;
+          assertEquals(Double.MAX_VALUE, solution.objectives()[0]);
+          assertEquals(Double.MAX_VALUE, solution.objectives()[1]);
+        } else {
+          assertTrue(solution.objectives()[1] < Double.MAX_VALUE);
+        }
+      }
+      assertEquals(15, screenedOut);
+    }
+
+    @Test
+    @DisplayName("At least one candidate is evaluated")
+    void atLeastOneCandidateIsEvaluated() {
+      // Act
+      evaluation.evaluate(createSolutions(2));
+
+      // Assert
+      assertEquals(21, evaluation.computedEvaluations());
+    }
+  }
+}
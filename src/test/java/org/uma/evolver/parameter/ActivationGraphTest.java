@@ -0,0 +1,158 @@
+package org.uma.evolver.parameter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.parameter.type.BooleanParameter;
+import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.parameter.type.DoubleParameter;
+import org.uma.evolver.parameter.type.IntegerParameter;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+class ActivationGraphTest {
+  private static List<Integer> activeIndices(long[] activeSet) {
+    List<Integer> indices = new ArrayList<>();
+    for (int i = ActivationGraph.nextActive(activeSet, 0); i >= 0;
+        i = ActivationGraph.nextActive(activeSet, i + 1)) {
+      indices.add(i);
+    }
+    return indices;
+  }
+
+  @Nested
+  @DisplayName("Active set test cases")
+  class ActiveSetTestCases {
+    private List<Parameter<?>> topLevelParameters;
+    private ActivationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+      // Flattened parameters: crossover, crossoverProbability, sbxIndex, blxAlpha, mutation,
+      // repair, roundDigits, archive, archiveSize
+      var crossover = new CategoricalParameter("crossover", List.of("sbx", "blx"));
+      crossover.addGlobalSubParameter(new DoubleParameter("crossoverProbability", 0.0, 1.0));
+      crossover.addConditionalParameter("sbx", new DoubleParameter("sbxIndex", 5.0, 400.0));
+      crossover.addConditionalParameter("blx", new DoubleParameter("blxAlpha", 0.0, 1.0));
+
+      var repair = new CategoricalParameter("repair", List.of("random", "round"));
+      repair.addConditionalParameter("round", new IntegerParameter("roundDigits", 0, 5));
+      var mutation =
+          new CategoricalParameter("mutation", List.of("uniform", "polynomial", "linked"));
+      mutation.addConditionalParameter("polynomial", repair);
+
+      var archive = new BooleanParameter("archive");
+      archive.addConditionalParameter(true, new IntegerParameter("archiveSize", 10, 100));
+
+      topLevelParameters = List.of(crossover, mutation, archive);
+      graph =
+          new ActivationGraph(
+              topLevelParameters, ParameterManagement.parameterFlattening(topLevelParameters));
+    }
+
+    @Test
+    @DisplayName("The conditional parameters selected by active parents are active")
+    void theConditionalParametersSelectedByActiveParentsAreActive() {
+      // Arrange
+      List<Double> values = List.of(0.2, 0.5, 0.5, 0.5, 0.5, 0.9, 0.5, 0.9, 0.5);
+
+      // Act
+      long[] activeSet = graph.activeSet(values);
+
+      // Assert
+      assertEquals(List.of(0, 1, 2, 4, 5, 6, 7), activeIndices(activeSet));
+      assertEquals(7, ActivationGraph.numberOfActiveParameters(activeSet));
+    }
+
+    @Test
+    @DisplayName("The descendants of an inactive parameter are inactive")
+    void theDescendantsOfAnInactiveParameterAreInactive() {
+      // Arrange
+      List<Double> values = List.of(0.7, 0.5, 0.5, 0.5, 0.9, 0.9, 0.5, 0.1, 0.5);
+
+      // Act
+      long[] activeSet = graph.activeSet(values);
+
+      // Assert
+      assertEquals(List.of(0, 1, 3, 4, 7), activeIndices(activeSet));
+      assertFalse(ActivationGraph.isActive(activeSet, 6));
+    }
+
+    @Test
+    @DisplayName("The conditional parameters of a boolean parameter are never active")
+    void theConditionalParametersOfABooleanParameterAreNeverActive() {
+      // Arrange
+      List<Double> values = List.of(0.2, 0.5, 0.5, 0.5, 0.0, 0.5, 0.5, 1.0, 0.5);
+
+      // Act
+      long[] activeSet = graph.activeSet(values);
+
+      // Assert
+      assertFalse(ActivationGraph.isActive(activeSet, 8));
+    }
+
+    @Test
+    @DisplayName("A reused bitset is cleared before computing the active parameters")
+    void aReusedBitsetIsClearedBeforeComputingTheActiveParameters() {
+      // Arrange
+      long[] activeSet = graph.createActiveSet();
+      graph.computeActiveSet(List.of(0.2, 0.5, 0.5, 0.5, 0.5, 0.9, 0.5, 0.9, 0.5), activeSet);
+
+      // Act
+      graph.computeActiveSet(List.of(0.7, 0.5, 0.5, 0.5, 0.9, 0.9, 0.5, 0.1, 0.5), activeSet);
+
+      // Assert
+      assertEquals(List.of(0, 1, 3, 4, 7), activeIndices(activeSet));
+    }
+
+    @Test
+    @DisplayName("A number of values different from the number of parameters raises an exception")
+    void aNumberOfValuesDifferentFromTheNumberOfParametersRaisesAnException() {
+      assertThrows(JMetalException.class, () -> graph.activeSet(List.of(0.2, 0.5)));
+    }
+
+    @Test
+    @DisplayName("A parameter missing in the flattened list raises an exception")
+    void aParameterMissingInTheFlattenedListRaisesAnException() {
+      assertThrows(
+          JMetalException.class,
+          () -> new ActivationGraph(topLevelParameters, topLevelParameters));
+    }
+  }
+
+  @Nested
+  @DisplayName("Bitset iteration test cases")
+  class BitsetIterationTestCases {
+    @Test
+    @DisplayName("The active parameters are iterated across the words of the bitset")
+    void theActiveParametersAreIteratedAcrossTheWordsOfTheBitset() {
+      // Arrange
+      List<Parameter<?>> parameters = new ArrayList<>();
+      for (int i = 0; i < 130; i++) {
+        parameters.add(new IntegerParameter("parameter" + i, 0, 10));
+      }
+      ActivationGraph graph = new ActivationGraph(parameters, parameters);
+
+      // Act
+      long[] activeSet = graph.activeSet(Collections.nCopies(130, 0.5));
+
+      // Assert
+      assertEquals(3, activeSet.length);
+      assertEquals(130, ActivationGraph.numberOfActiveParameters(activeSet));
+      assertEquals(64, ActivationGraph.nextActive(activeSet, 64));
+      assertEquals(129, ActivationGraph.nextActive(activeSet, 129));
+      assertEquals(-1, ActivationGraph.nextActive(activeSet, 130));
+    }
+
+    @Test
+    @DisplayName("An empty bitset has no active parameter")
+    void anEmptyBitsetHasNoActiveParameter() {
+      assertEquals(-1, ActivationGraph.nextActive(new long[2], 0));
+    }
+  }
+}
@@ -2,6 +2,8 @@ package org.uma.evolver.parameter;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.uma.evolver.parameter.ParameterManagement.decodeParameter;
+import static org.uma.evolver.parameter.ParameterManagement.decodeParameterToDoubleValues;
+import static org.uma.evolver.parameter.ParameterManagement.encodeParameterFromDoubleValues;
 
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.uma.evolver.parameter.type.BooleanParameter;
 import org.uma.evolver.parameter.type.CategoricalParameter;
+import org.uma.evolver.parameter.type.DoubleParameter;
+import org.uma.evolver.parameter.type.IntegerParameter;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
 class ParameterManagementTest {
   @Nested
@@ -154,4 +159,90 @@ class ParameterManagementTest {
       assertEquals("C", result);
     }
   }
+
+  @Nested
+  @DisplayName("Encode parameter from double values test cases")
+  class EncodeParameterFromDoubleValuesTestCases {
+    @Test
+    @DisplayName("Encoding a categorical index decodes back to the same index")
+    void encodeCategoricalIndexDecodesBackToTheSameIndex() {
+      // Arrange
+      var parameter = new CategoricalParameter("Parameter", List.of("A", "B", "C"));
+
+      for (int index = 0; index < 3; index++) {
+        // Act
+        double encodedValue = encodeParameterFromDoubleValues(parameter, index);
+
+        // Assert
+        assertEquals(index, decodeParameterToDoubleValues(parameter, encodedValue));
+      }
+    }
+
+    @Test
+    @DisplayName("Encoding an invalid categorical index throws an exception")
+    void encodeInvalidCategoricalIndexThrowsAnException() {
+      // Arrange
+      var parameter = new CategoricalParameter("Parameter", List.of("A", "B", "C"));
+
+      // Act and Assert
+      assertThrows(JMetalException.class, () -> encodeParameterFromDoubleValues(parameter, 4));
+      assertThrows(JMetalException.class, () -> encodeParameterFromDoubleValues(parameter, 1.5));
+    }
+
+    @Test
+    @DisplayName("Encoded value 1.0 of a categorical parameter round-trips to the last index")
+    void encodedValueOneOfACategoricalParameterRoundTripsToTheLastIndex() {
+      // Arrange
+      var parameter = new CategoricalParameter("Parameter", List.of("A", "B", "C"));
+
+      // Act
+      double index = decodeParameterToDoubleValues(parameter, 1.0);
+      double encodedValue = encodeParameterFromDoubleValues(parameter, index);
+
+      // Assert
+      assertEquals(2, index);
+      assertEquals(2, decodeParameterToDoubleValues(parameter, encodedValue));
+      assertEquals("C", decodeParameter(parameter, encodedValue));
+    }
+
+    @Test
+    @DisplayName("Encoding an index equal to the number of values gives the last value")
+    void encodeIndexEqualToTheNumberOfValuesGivesTheLastValue() {
+      // Arrange
+      var parameter = new CategoricalParameter("Parameter", List.of("A", "B", "C"));
+
+      // Act
+      double encodedValue = encodeParameterFromDoubleValues(parameter, 3);
+
+      // Assert
+      assertEquals("C", decodeParameter(parameter, encodedValue));
+    }
+
+    @Test
+    @DisplayName("Encoding an integer decodes back to the same integer, including the bounds")
+    void encodeIntegerDecodesBackToTheSameInteger() {
+      // Arrange
+      IntegerParameter parameter = new IntegerParameter("Parameter", 10, 20);
+
+      for (int value = 10; value <= 20; value++) {
+        // Act
+        double encodedValue = encodeParameterFromDoubleValues(parameter, value);
+
+        // Assert
+        assertEquals(value, decodeParameterToDoubleValues(parameter, encodedValue));
+      }
+    }
+
+    @Test
+    @DisplayName("Encoding a real value out of the bounds clips it")
+    void encodeRealValueOutOfTheBoundsClipsIt() {
+      // Arrange
+      DoubleParameter parameter = new DoubleParameter("Parameter", 0.0, 4.0);
+
+      // Act and Assert
+      assertEquals(0.25, encodeParameterFromDoubleValues(parameter, 1.0), 1e-12);
+      assertEquals(1.0, encodeParameterFromDoubleValues(parameter, 5.0));
+      assertEquals(0.0, encodeParameterFromDoubleValues(parameter, -1.0));
+    }
+  }
 }
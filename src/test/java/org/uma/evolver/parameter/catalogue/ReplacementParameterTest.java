@@ -0,0 +1,39 @@
+package org.uma.evolver.parameter.catalogue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class ReplacementParameterTest {
+
+  @Test
+  @DisplayName("The replacement is smsEMOA if the parameter is not in the arguments")
+  void theReplacementIsSMSEMOAIfTheParameterIsNotInTheArguments() {
+    // Arrange
+    var replacementParameter =
+        new ReplacementParameter<DoubleSolution>(List.of("smsEMOA", "incrementalSMSEMOA"));
+
+    // Act
+    replacementParameter.parse("--populationSize 100".split(" "));
+
+    // Assert
+    assertEquals("smsEMOA", replacementParameter.value());
+  }
+
+  @Test
+  @DisplayName("The replacement given in the arguments is used")
+  void theReplacementGivenInTheArgumentsIsUsed() {
+    // Arrange
+    var replacementParameter =
+        new ReplacementParameter<DoubleSolution>(List.of("smsEMOA", "incrementalSMSEMOA"));
+
+    // Act
+    replacementParameter.parse("--replacement incrementalSMSEMOA".split(" "));
+
+    // Assert
+    assertEquals("incrementalSMSEMOA", replacementParameter.value());
+  }
+}
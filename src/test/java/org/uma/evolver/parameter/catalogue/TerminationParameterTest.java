@@ -0,0 +1,53 @@
+package org.uma.evolver.parameter.catalogue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.component.termination.TerminationByEvaluationsAndStagnation;
+import org.uma.evolver.parameter.type.DoubleParameter;
+
+class TerminationParameterTest {
+  private TerminationParameter terminationParameter;
+
+  @BeforeEach
+  void setUp() {
+    terminationParameter = new TerminationParameter(List.of("evaluations", "stagnation"));
+    terminationParameter.addConditionalParameter(
+        "stagnation", new DoubleParameter("stagnationWindow", 0.02, 0.2));
+    terminationParameter.addConditionalParameter(
+        "stagnation", new DoubleParameter("stagnationEpsilon", 0.0001, 0.01));
+  }
+
+  @Test
+  @DisplayName("The termination is based on evaluations if the parameter is not in the arguments")
+  void theTerminationIsBasedOnEvaluationsIfTheParameterIsNotInTheArguments() {
+    // Arrange
+    terminationParameter.parse("--populationSize 100".split(" "));
+
+    // Act
+    TerminationByEvaluationsAndStagnation termination = terminationParameter.getTermination(1000);
+
+    // Assert
+    assertEquals("evaluations", terminationParameter.value());
+    assertEquals(0, termination.windowSize());
+    assertEquals(1000, termination.maximumNumberOfEvaluations());
+  }
+
+  @Test
+  @DisplayName("The stagnation window is a fraction of the maximum number of evaluations")
+  void theStagnationWindowIsAFractionOfTheMaximumNumberOfEvaluations() {
+    // Arrange
+    terminationParameter.parse(
+        "--termination stagnation --stagnationWindow 0.1 --stagnationEpsilon 0.001".split(" "));
+
+    // Act
+    TerminationByEvaluationsAndStagnation termination = terminationParameter.getTermination(25000);
+
+    // Assert
+    assertEquals(2500, termination.windowSize());
+    assertSame(termination, terminationParameter.termination());
+  }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.uma.evolver.parameter.type.DoubleParameter;
+import org.uma.evolver.util.binary.WordHUXCrossover;
 import org.uma.jmetal.operator.crossover.impl.HUXCrossover;
 import org.uma.jmetal.operator.crossover.impl.SinglePointCrossover;
 import org.uma.jmetal.operator.crossover.impl.UniformCrossover;
@@ -68,7 +69,8 @@ class BinaryCrossoverParameterTest {
 
     @BeforeEach
     void setUp() {
-      crossoverParameter = new BinaryCrossoverParameter(List.of("singlePoint", "HUX", "uniform"));
+      crossoverParameter =
+          new BinaryCrossoverParameter(List.of("singlePoint", "HUX", "uniform", "wordHUX"));
       crossoverParameter.addGlobalSubParameter(new DoubleParameter("crossoverProbability", 0, 1.0));
     }
 
@@ -119,6 +121,21 @@ class BinaryCrossoverParameterTest {
           crossoverOperator instanceof UniformCrossover);
     }
 
+    @DisplayName("returns a word HUX crossover operator when the operator is wordHUX")
+    @Test
+    void shouldReturnWordHUXCrossoverOperatorWhenOperatorIsWordHUX() {
+      // Arrange
+      String parameterString = "--crossover wordHUX --crossoverProbability 0.8 ";
+
+      // Act
+      crossoverParameter.parse(parameterString.split(" "));
+
+      var crossoverOperator = crossoverParameter.getCrossover();
+
+      // Assert
+      assertTrue(crossoverOperator instanceof WordHUXCrossover);
+    }
+
     @DisplayName("throws an exception when an invalid crossover operator is provided")
     @Test
     void shouldThrowExceptionWhenInvalidCrossoverOperatorIsProvided() {
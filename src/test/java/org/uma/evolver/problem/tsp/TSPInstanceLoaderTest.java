@@ -0,0 +1,44 @@
+package org.uma.evolver.problem.tsp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.problem.tsp.TSPInstanceLoader.Precision;
+
+@DisplayName("TSPInstanceLoader Tests")
+class TSPInstanceLoaderTest {
+  private static final String INSTANCE_FILE = "resources/tspInstances/kroA100.tsp";
+
+  @Test
+  @DisplayName("shares the matrix of an instance among all the requests")
+  void shouldShareTheMatrixOfAnInstance() throws IOException {
+    // Act
+    DistanceMatrix first = TSPInstanceLoader.load(INSTANCE_FILE);
+    DistanceMatrix second = TSPInstanceLoader.load("resources/../" + INSTANCE_FILE);
+
+    // Assert
+    assertSame(first, second);
+    assertEquals(100, first.numberOfCities());
+    assertTrue(first.isSymmetric());
+  }
+
+  @Test
+  @DisplayName("float matrices contain the same rounded distances as double ones")
+  void shouldStoreTheSameDistancesWithFloatPrecision() throws IOException {
+    // Act
+    DistanceMatrix doubleMatrix = TSPInstanceLoader.load(INSTANCE_FILE, Precision.DOUBLE);
+    DistanceMatrix floatMatrix = TSPInstanceLoader.load(INSTANCE_FILE, Precision.FLOAT);
+
+    // Assert
+    for (int i = 0; i < doubleMatrix.numberOfCities(); i++) {
+      for (int j = 0; j < doubleMatrix.numberOfCities(); j++) {
+        assertEquals(doubleMatrix.distance(i, j), floatMatrix.distance(i, j));
+        assertEquals(Math.rint(doubleMatrix.distance(i, j)), doubleMatrix.distance(i, j));
+      }
+    }
+  }
+}
@@ -3,10 +3,15 @@ package org.uma.evolver.trainingset;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.uma.evolver.trainingset.AbstractTrainingSet;
 import org.uma.evolver.trainingset.TrainingSet;
 import org.uma.jmetal.problem.Problem;
@@ -509,4 +514,86 @@ class AbstractTrainingSetTest {
       assertTrue(trainingSet.evaluationsToOptimize().stream().allMatch(e -> e == 5000));
     }
   }
+
+  @Nested
+  @DisplayName("setMaximumReferenceFrontSize tests")
+  class SetMaximumReferenceFrontSizeTests {
+
+    @TempDir
+    Path directory;
+
+    private AbstractTrainingSet<DoubleSolution> trainingSetWithFrontOf(int size) throws IOException {
+      List<String> lines = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        double x = (double) i / (size - 1);
+        lines.add(x + "," + (1.0 - x));
+      }
+      Files.write(directory.resolve("front.csv"), lines);
+
+      AbstractTrainingSet<DoubleSolution> trainingSet = new TestTrainingSet(
+          List.of(createMockProblem()), List.of("front.csv"), List.of(1000), "Test");
+      trainingSet.setReferenceFrontDirectory(directory.toString());
+      return trainingSet;
+    }
+
+    @Test
+    @DisplayName("given negative size when setting maximum reference front size then throws IllegalArgumentException")
+    void givenNegativeSize_whenSettingMaximumReferenceFrontSize_thenThrowsIllegalArgumentException() {
+      // Arrange
+      TrainingSet<DoubleSolution> trainingSet = new TestTrainingSet(
+          List.of(createMockProblem()), List.of("front1.csv"), List.of(1000), "Test");
+
+      // Act & Assert
+      assertThrows(
+          IllegalArgumentException.class, () -> trainingSet.setMaximumReferenceFrontSize(-1));
+    }
+
+    @Test
+    @DisplayName("given large front when setting maximum reference front size then reference front is thinned")
+    void givenLargeFront_whenSettingMaximumReferenceFrontSize_thenReferenceFrontIsThinned()
+        throws IOException {
+      // Arrange
+      AbstractTrainingSet<DoubleSolution> trainingSet = trainingSetWithFrontOf(101);
+
+      // Act
+      trainingSet.setMaximumReferenceFrontSize(11);
+      List<String> referenceFronts = trainingSet.referenceFronts();
+
+      // Assert
+      assertEquals(11, Files.readAllLines(Path.of(referenceFronts.get(0))).size());
+      assertTrue(trainingSet.referenceFrontErrorBounds().get(0) > 0.0);
+      assertTrue(trainingSet.referenceFrontErrorBounds().get(0) < 0.1);
+    }
+
+    @Test
+    @DisplayName("given small front when setting maximum reference front size then error bound is zero")
+    void givenSmallFront_whenSettingMaximumReferenceFrontSize_thenErrorBoundIsZero()
+        throws IOException {
+      // Arrange
+      AbstractTrainingSet<DoubleSolution> trainingSet = trainingSetWithFrontOf(5);
+
+      // Act
+      trainingSet.setMaximumReferenceFrontSize(11);
+
+      // Assert
+      assertEquals(5, Files.readAllLines(Path.of(trainingSet.referenceFronts().get(0))).size());
+      assertEquals(List.of(0.0), trainingSet.referenceFrontErrorBounds());
+    }
+
+    @Test
+    @DisplayName("given size zero when getting reference fronts then original paths are returned")
+    void givenSizeZero_whenGettingReferenceFronts_thenOriginalPathsAreReturned() {
+      // Arrange
+      TrainingSet<DoubleSolution> trainingSet = new TestTrainingSet(
+          List.of(createMockProblem()), List.of("front1.csv"), List.of(1000), "Test");
+
+      // Act
+      trainingSet.setMaximumReferenceFrontSize(0);
+
+      // Assert
+      assertEquals(
+          List.of(AbstractTrainingSet.DEFAULT_REFERENCE_FRONT_DIRECTORY + "/front1.csv"),
+          trainingSet.referenceFronts());
+    }
+  }
 }
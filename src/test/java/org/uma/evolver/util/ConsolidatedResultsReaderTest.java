@@ -0,0 +1,188 @@
+package org.uma.evolver.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.evolver.algorithm.nsgaii.DoubleNSGAII;
+import org.uma.evolver.meta.problem.MetaOptimizationProblem;
+import org.uma.evolver.meta.problem.WarmStartProblem;
+import org.uma.evolver.meta.strategy.FixedEvaluationsStrategy;
+import org.uma.evolver.parameter.Parameter;
+import org.uma.evolver.parameter.ParameterManagement;
+import org.uma.evolver.parameter.factory.DoubleParameterFactory;
+import org.uma.evolver.parameter.yaml.YAMLParameterSpace;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+@DisplayName("ConsolidatedResultsReader Unit Tests")
+class ConsolidatedResultsReaderTest {
+  @TempDir Path resultsDirectory;
+
+  private MetaOptimizationProblem<DoubleSolution> problem;
+
+  @BeforeEach
+  void setUp() {
+    problem =
+        new MetaOptimizationProblem<>(
+            new DoubleNSGAII(
+                100, new YAMLParameterSpace("NSGAIIDouble.yaml", new DoubleParameterFactory())),
+            List.of(new ZDT1()),
+            List.of("resources/referenceFronts/ZDT1.csv"),
+            List.of(new Epsilon(), new NormalizedHypervolume()),
+            new FixedEvaluationsStrategy(List.of(25000)),
+            1);
+  }
+
+  /** Writes the solutions as the given checkpoint in the format of ConsolidatedOutputResults */
+  private void writeCheckpoint(int evaluations, List<DoubleSolution> solutions) throws IOException {
+    List<Parameter<?>> parameters = problem.parameters();
+    Path configurationsFile = resultsDirectory.resolve("CONFIGURATIONS.csv");
+    Path indicatorsFile = resultsDirectory.resolve("INDICATORS.csv");
+    if (!Files.exists(configurationsFile)) {
+      StringBuilder header = new StringBuilder("Evaluation,SolutionId");
+      parameters.forEach(parameter -> header.append(",").append(parameter.name()));
+      Files.writeString(configurationsFile, header + "\n");
+      Files.writeString(indicatorsFile, "Evaluation,SolutionId,EP,NHV\n");
+    }
+
+    StringBuilder configurations = new StringBuilder();
+    StringBuilder indicators = new StringBuilder();
+    for (int i = 0; i < solutions.size(); i++) {
+      DoubleSolution solution = solutions.get(i);
+      Set<Integer> activeIndices =
+          ParameterManagement.getActiveParameterIndices(
+              problem.topLevelParameters(), parameters, solution.variables());
+      configurations.append(evaluations).append(",").append(i);
+      for (int variable = 0; variable < parameters.size(); variable++) {
+        configurations.append(",");
+        configurations.append(
+            activeIndices.contains(variable)
+                ? ParameterManagement.decodeParameterToDoubleValues(
+                    parameters.get(variable), solution.variables().get(variable))
+                : "NaN");
+      }
+      configurations.append("\n");
+      indicators.append(evaluations).append(",").append(i);
+      indicators.append(",").append(solution.objectives()[0]);
+      indicators.append(",").append(solution.objectives()[1]).append("\n");
+    }
+    Files.writeString(configurationsFile, configurations, StandardOpenOption.APPEND);
+    Files.writeString(indicatorsFile, indicators, StandardOpenOption.APPEND);
+  }
+
+  private List<DoubleSolution> createSolutions(int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = i;
+      solution.objectives()[1] = -i;
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  private String activeConfiguration(DoubleSolution solution) {
+    List<Parameter<?>> parameters = problem.parameters();
+    return ParameterManagement.decodeActiveParametersToString(
+            parameters,
+            solution.variables(),
+            ParameterManagement.getActiveParameterIndices(
+                problem.topLevelParameters(), parameters, solution.variables()))
+        .toString();
+  }
+
+  @Test
+  @DisplayName("The configurations of the last checkpoint are re-encoded into the same ones")
+  void theConfigurationsOfTheLastCheckpointAreReEncodedIntoTheSameOnes() throws IOException {
+    // Arrange
+    writeCheckpoint(100, createSolutions(5));
+    List<DoubleSolution> lastCheckpoint = createSolutions(10);
+    writeCheckpoint(200, lastCheckpoint);
+
+    // Act
+    List<DoubleSolution> solutions =
+        new ConsolidatedResultsReader(problem).readSolutions(resultsDirectory.toString());
+
+    // Assert
+    assertEquals(lastCheckpoint.size(), solutions.size());
+    for (int i = 0; i < solutions.size(); i++) {
+      DoubleSolution solution = solutions.get(i);
+      assertEquals(activeConfiguration(lastCheckpoint.get(i)), activeConfiguration(solution));
+      assertArrayEquals(lastCheckpoint.get(i).objectives(), solution.objectives());
+      assertTrue(
+          solution.attributes().containsKey(WarmStartProblem.MEASURED_OBJECTIVES_ATTRIBUTE));
+    }
+  }
+
+  @Test
+  @DisplayName("A configuration read from several directories is returned once")
+  void aConfigurationReadFromSeveralDirectoriesIsReturnedOnce() throws IOException {
+    // Arrange
+    writeCheckpoint(100, createSolutions(4));
+
+    // Act
+    List<DoubleSolution> solutions =
+        new ConsolidatedResultsReader(problem)
+            .readSolutions(resultsDirectory.toString(), resultsDirectory.toString());
+
+    // Assert
+    assertEquals(4, solutions.size());
+  }
+
+  @Test
+  @DisplayName("The objectives are not set if the number of indicators differs")
+  void theObjectivesAreNotSetIfTheNumberOfIndicatorsDiffers() throws IOException {
+    // Arrange
+    writeCheckpoint(100, createSolutions(3));
+    Files.writeString(
+        resultsDirectory.resolve("INDICATORS.csv"), "Evaluation,SolutionId,EP\n100,0,0.1\n");
+
+    // Act
+    List<DoubleSolution> solutions =
+        new ConsolidatedResultsReader(problem).readSolutions(resultsDirectory.toString());
+
+    // Assert
+    assertFalse(
+        solutions.get(0).attributes().containsKey(WarmStartProblem.MEASURED_OBJECTIVES_ATTRIBUTE));
+  }
+
+  @Test
+  @DisplayName("Configurations of a different parameter space raise an exception")
+  void configurationsOfADifferentParameterSpaceRaiseAnException() throws IOException {
+    // Arrange
+    Files.writeString(
+        resultsDirectory.resolve("CONFIGURATIONS.csv"), "Evaluation,SolutionId,unknown\n100,0,1\n");
+
+    // Act and Assert
+    assertThrows(
+        JMetalException.class,
+        () -> new ConsolidatedResultsReader(problem).readSolutions(resultsDirectory.toString()));
+  }
+
+  @Test
+  @DisplayName("A missing directory raises an exception")
+  void aMissingDirectoryRaisesAnException() {
+    assertThrows(
+        JMetalException.class,
+        () ->
+            new ConsolidatedResultsReader(problem)
+                .readSolutions(resultsDirectory.resolve("missing").toString()));
+  }
+}
@@ -0,0 +1,166 @@
+package org.uma.evolver.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ReferenceFrontThinning Tests")
+class ReferenceFrontThinningTest {
+
+  private static double[][] linearFront(int size) {
+    double[][] front = new double[size][];
+    for (int i = 0; i < size; i++) {
+      double x = (double) i / (size - 1);
+      front[i] = new double[] {10.0 * x, 1.0 - x};
+    }
+    return front;
+  }
+
+  /** Returns a front made of the given number of copies of three distinct points. */
+  private static double[][] frontWithDuplicates(int copies) {
+    double[][] distinctPoints = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}};
+    double[][] front = new double[copies * distinctPoints.length][];
+    for (int i = 0; i < front.length; i++) {
+      front[i] = distinctPoints[i % distinctPoints.length].clone();
+    }
+    return front;
+  }
+
+  private static double[] columnBounds(double[][] front, int objective) {
+    double[] column = Arrays.stream(front).mapToDouble(point -> point[objective]).toArray();
+    return new double[] {
+      Arrays.stream(column).min().orElseThrow(), Arrays.stream(column).max().orElseThrow()
+    };
+  }
+
+  @Nested
+  @DisplayName("Constructor tests")
+  class ConstructorTests {
+
+    @Test
+    @DisplayName("given non-positive maximum size when constructing then throws IllegalArgumentException")
+    void givenNonPositiveMaximumSize_whenConstructing_thenThrowsIllegalArgumentException() {
+      assertThrows(IllegalArgumentException.class, () -> new ReferenceFrontThinning(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("thin tests")
+  class ThinTests {
+    @TempDir Path directory;
+
+    @Test
+    @DisplayName("given front not larger than maximum size when thinning then front is unchanged")
+    void givenSmallFront_whenThinning_thenFrontIsUnchanged() {
+      // Arrange
+      double[][] front = linearFront(5);
+
+      // Act
+      ReferenceFrontThinning.ThinnedFront thinnedFront = new ReferenceFrontThinning(5).thin(front);
+
+      // Assert
+      assertArrayEquals(front, thinnedFront.front());
+      assertEquals(0.0, thinnedFront.maximumDistance());
+    }
+
+    @Test
+    @DisplayName("given large front when thinning then maximum size and objective bounds are kept")
+    void givenLargeFront_whenThinning_thenMaximumSizeAndBoundsAreKept() {
+      // Arrange
+      double[][] front = linearFront(1000);
+
+      // Act
+      ReferenceFrontThinning.ThinnedFront thinnedFront = new ReferenceFrontThinning(20).thin(front);
+
+      // Assert
+      assertEquals(20, thinnedFront.front().length);
+      assertEquals(1000, thinnedFront.originalSize());
+      for (int objective = 0; objective < 2; objective++) {
+        assertArrayEquals(
+            columnBounds(front, objective), columnBounds(thinnedFront.front(), objective));
+      }
+    }
+
+    @Test
+    @DisplayName("given large front when thinning then every point is within the error bound")
+    void givenLargeFront_whenThinning_thenEveryPointIsWithinTheErrorBound() {
+      // Arrange
+      double[][] front = linearFront(1000);
+
+      // Act
+      ReferenceFrontThinning.ThinnedFront thinnedFront = new ReferenceFrontThinning(20).thin(front);
+
+      // Assert: the front is normalized with the ranges of the objectives (10 and 1)
+      double maximumChebyshevDistance = 0.0;
+      for (double[] point : front) {
+        double distance = Double.POSITIVE_INFINITY;
+        for (double[] selectedPoint : thinnedFront.front()) {
+          distance = Math.min(
+              distance,
+              Math.max(
+                  Math.abs(point[0] - selectedPoint[0]) / 10.0,
+                  Math.abs(point[1] - selectedPoint[1])));
+        }
+        maximumChebyshevDistance = Math.max(maximumChebyshevDistance, distance);
+      }
+      assertEquals(maximumChebyshevDistance, thinnedFront.maximumChebyshevDistance(), 1e-12);
+      assertTrue(thinnedFront.maximumChebyshevDistance() <= thinnedFront.maximumDistance());
+      assertTrue(thinnedFront.maximumDistance() < 0.1);
+    }
+
+    @Test
+    @DisplayName("given maximum size lower than the extreme points when thinning then throws IllegalArgumentException")
+    void givenMaximumSizeLowerThanExtremePoints_whenThinning_thenThrowsIllegalArgumentException() {
+      // Arrange
+      double[][] front = {{0.0, 1.0, 0.5}, {1.0, 0.0, 0.5}, {0.5, 0.5, 0.0}, {0.5, 0.5, 1.0}};
+
+      // Act & Assert
+      assertThrows(IllegalArgumentException.class, () -> new ReferenceFrontThinning(3).thin(front));
+    }
+
+    @Test
+    @DisplayName("given fewer distinct points than maximum size when thinning then the distinct points are returned")
+    void givenFewerDistinctPointsThanMaximumSize_whenThinning_thenDistinctPointsAreReturned() {
+      // Arrange
+      double[][] front = frontWithDuplicates(30);
+
+      // Act
+      ReferenceFrontThinning.ThinnedFront thinnedFront = new ReferenceFrontThinning(10).thin(front);
+
+      // Assert
+      assertArrayEquals(
+          new double[][] {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}}, thinnedFront.front());
+      assertEquals(90, thinnedFront.originalSize());
+      assertEquals(0.0, thinnedFront.maximumDistance());
+      assertEquals(0.0, thinnedFront.maximumChebyshevDistance());
+    }
+
+    @Test
+    @DisplayName("given file with duplicated points when thinning the file then the distinct points are written")
+    void givenFileWithFewerDistinctPoints_whenThinningTheFile_thenDistinctPointsAreWritten()
+        throws IOException {
+      // Arrange
+      List<String> lines = new ArrayList<>();
+      for (double[] point : frontWithDuplicates(30)) {
+        lines.add(point[0] + "," + point[1]);
+      }
+      Path inputFile = Files.write(directory.resolve("front.csv"), lines);
+      Path outputFile = directory.resolve("thinned").resolve("front.csv");
+
+      // Act
+      new ReferenceFrontThinning(10).thinFile(inputFile.toString(), outputFile.toString());
+
+      // Assert
+      assertEquals(List.of("0.0,1.0", "0.5,0.5", "1.0,0.0"), Files.readAllLines(outputFile));
+    }
+  }
+}
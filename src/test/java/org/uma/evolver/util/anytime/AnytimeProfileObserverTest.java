@@ -0,0 +1,103 @@
+package org.uma.evolver.util.anytime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+class AnytimeProfileObserverTest {
+  private static List<DoubleSolution> population(double... firstObjectiveValues) {
+    ZDT1 problem = new ZDT1();
+    List<DoubleSolution> population = new ArrayList<>();
+    for (double value : firstObjectiveValues) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = value;
+      solution.objectives()[1] = 1.0 - value;
+      population.add(solution);
+    }
+    return population;
+  }
+
+  private static Map<String, Object> status(int evaluations, List<DoubleSolution> population) {
+    Map<String, Object> status = new HashMap<>();
+    status.put("EVALUATIONS", evaluations);
+    status.put("POPULATION", population);
+    return status;
+  }
+
+  @Test
+  @DisplayName("The front is captured when the evaluations reach each checkpoint")
+  void theFrontIsCapturedWhenTheEvaluationsReachEachCheckpoint() {
+    // Arrange
+    var observer = new AnytimeProfileObserver(new int[] {100, 200});
+
+    // Act
+    observer.update(null, status(50, population(0.5)));
+    observer.update(null, status(100, population(0.0, 1.0)));
+    observer.update(null, status(200, population(0.0, 0.5, 1.0)));
+
+    // Assert
+    assertEquals(2, observer.front(100).length);
+    assertEquals(3, observer.front(200).length);
+  }
+
+  @Test
+  @DisplayName("The checkpoints reached at once share the same front")
+  void theCheckpointsReachedAtOnceShareTheSameFront() {
+    // Arrange
+    var observer = new AnytimeProfileObserver(new int[] {100, 200, 300});
+
+    // Act
+    observer.update(null, status(250, population(0.0, 1.0)));
+
+    // Assert
+    assertSame(observer.front(100), observer.front(200));
+    assertThrows(JMetalException.class, () -> observer.front(300));
+  }
+
+  @Test
+  @DisplayName("The captured front is not modified when the population changes")
+  void theCapturedFrontIsNotModifiedWhenThePopulationChanges() {
+    // Arrange
+    var observer = new AnytimeProfileObserver(new int[] {100});
+    List<DoubleSolution> population = population(0.25);
+
+    // Act
+    observer.update(null, status(100, population));
+    population.get(0).objectives()[0] = 0.75;
+
+    // Assert
+    assertEquals(0.25, observer.front(100)[0][0]);
+  }
+
+  @Test
+  @DisplayName("The checkpoints not reached are given the front of the result")
+  void theCheckpointsNotReachedAreGivenTheFrontOfTheResult() {
+    // Arrange
+    var observer = new AnytimeProfileObserver(new int[] {100, 200});
+    observer.update(null, status(100, population(0.5)));
+
+    // Act
+    observer.complete(population(0.0, 0.5, 1.0));
+
+    // Assert
+    assertEquals(1, observer.front(100).length);
+    assertEquals(3, observer.front(200).length);
+  }
+
+  @Test
+  @DisplayName("Requesting the front of a value that is not a checkpoint raises an exception")
+  void requestingTheFrontOfAValueThatIsNotACheckpointRaisesAnException() {
+    var observer = new AnytimeProfileObserver(new int[] {100});
+    observer.complete(population(0.5));
+
+    assertThrows(JMetalException.class, () -> observer.front(150));
+  }
+}
@@ -0,0 +1,130 @@
+package org.uma.evolver.util.anytime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+class AnytimeQualityIndicatorTest {
+  private static final double EPSILON = 1e-12;
+  private static final double[][] ANY_FRONT = {{0.0, 1.0}, {1.0, 0.0}};
+
+  @Nested
+  @DisplayName("Checkpoints")
+  class CheckpointsTestCases {
+    @Test
+    @DisplayName("The checkpoints are sorted and without duplicates")
+    void theCheckpointsAreSortedAndWithoutDuplicates() {
+      // Act
+      var indicator = new HypervolumeAreaIndicator(3000, 1000, 2000, 1000);
+
+      // Assert
+      assertArrayEquals(new int[] {1000, 2000, 3000}, indicator.checkpoints());
+    }
+
+    @Test
+    @DisplayName("A non-positive checkpoint raises an exception")
+    void aNonPositiveCheckpointRaisesAnException() {
+      assertThrows(JMetalException.class, () -> new HypervolumeAreaIndicator(0, 1000));
+    }
+
+    @Test
+    @DisplayName("A profile without one value per checkpoint raises an exception")
+    void aProfileWithoutOneValuePerCheckpointRaisesAnException() {
+      var indicator = new HypervolumeAreaIndicator(1000, 2000);
+
+      assertThrows(JMetalException.class, () -> indicator.setProfile(new double[] {0.5}));
+    }
+  }
+
+  @Nested
+  @DisplayName("Area under the hypervolume curve")
+  class HypervolumeAreaTestCases {
+    @Test
+    @DisplayName("The area is divided by the range of evaluations spanned by the checkpoints")
+    void theAreaIsDividedByTheRangeOfEvaluationsSpannedByTheCheckpoints() {
+      // Arrange
+      var indicator = new HypervolumeAreaIndicator(1000, 2000, 4000);
+      indicator.setProfile(new double[] {0.8, 0.4, 0.2});
+
+      // Act
+      double value = indicator.compute(ANY_FRONT);
+
+      // Assert
+      double expectedArea = 1000 * (0.8 + 0.4) / 2.0 + 2000 * (0.4 + 0.2) / 2.0;
+      assertEquals(expectedArea / 3000, value, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Earlier convergence gives a lower value than the same final front")
+    void earlierConvergenceGivesALowerValueThanTheSameFinalFront() {
+      // Arrange
+      var fastIndicator = new HypervolumeAreaIndicator(1000, 2000, 3000);
+      fastIndicator.setProfile(new double[] {0.3, 0.1, 0.1});
+      var slowIndicator = new HypervolumeAreaIndicator(1000, 2000, 3000);
+      slowIndicator.setProfile(new double[] {0.9, 0.5, 0.1});
+
+      // Act and Assert
+      assertTrue(fastIndicator.compute(ANY_FRONT) < slowIndicator.compute(ANY_FRONT));
+    }
+
+    @Test
+    @DisplayName("With a single checkpoint the value is the hypervolume at the checkpoint")
+    void withASingleCheckpointTheValueIsTheHypervolumeAtTheCheckpoint() {
+      // Arrange
+      var indicator = new HypervolumeAreaIndicator(1000);
+      indicator.setProfile(new double[] {0.25});
+
+      // Act and Assert
+      assertEquals(0.25, indicator.compute(ANY_FRONT), EPSILON);
+    }
+  }
+
+  @Nested
+  @DisplayName("Evaluations to target")
+  class EvaluationsToTargetTestCases {
+    @Test
+    @DisplayName("The value is the first checkpoint at which the target is reached")
+    void theValueIsTheFirstCheckpointAtWhichTheTargetIsReached() {
+      // Arrange
+      var indicator = new EvaluationsToTargetIndicator(0.3, 1000, 2000, 3000);
+      indicator.setProfile(new double[] {0.6, 0.3, 0.1});
+
+      // Act and Assert
+      assertEquals(2000, indicator.compute(ANY_FRONT), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Runs not reaching the target get twice the last checkpoint")
+    void runsNotReachingTheTargetGetTwiceTheLastCheckpoint() {
+      // Arrange
+      var indicator = new EvaluationsToTargetIndicator(0.05, 1000, 2000, 3000);
+      indicator.setProfile(new double[] {0.6, 0.3, 0.1});
+
+      // Act and Assert
+      assertEquals(6000, indicator.compute(ANY_FRONT), EPSILON);
+    }
+
+    @Test
+    @DisplayName("A new instance keeps the target and the checkpoints")
+    void aNewInstanceKeepsTheTargetAndTheCheckpoints() {
+      // Arrange
+      var indicator = new EvaluationsToTargetIndicator(0.2, 1000, 2000);
+
+      // Act
+      var newInstance = (EvaluationsToTargetIndicator) indicator.newInstance();
+
+      // Assert
+      assertEquals(0.2, newInstance.target(), EPSILON);
+      assertArrayEquals(indicator.checkpoints(), newInstance.checkpoints());
+    }
+
+    @Test
+    @DisplayName("A target out of [0, 1] raises an exception")
+    void aTargetOutOfTheUnitIntervalRaisesAnException() {
+      assertThrows(JMetalException.class, () -> new EvaluationsToTargetIndicator(1.5, 1000));
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package org.uma.evolver.util.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+
+@DisplayName("IncrementalCrowdingDistanceArchive Tests")
+class IncrementalCrowdingDistanceArchiveTest {
+  private static final double EPSILON = 1e-12;
+
+  private static DoubleSolution solution(double f1, double f2) {
+    DoubleSolution solution = new ZDT1().createSolution();
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+    return solution;
+  }
+
+  @Test
+  @DisplayName("rejects dominated and repeated solutions and removes the dominated members")
+  void shouldKeepOnlyNonDominatedSolutions() {
+    // Arrange
+    var archive = new IncrementalCrowdingDistanceArchive<DoubleSolution>(10);
+    archive.add(solution(1.0, 3.0));
+    archive.add(solution(3.0, 1.0));
+
+    // Act and Assert
+    assertFalse(archive.add(solution(2.0, 3.5)));
+    assertFalse(archive.add(solution(1.0, 3.0)));
+    assertTrue(archive.add(solution(0.5, 2.5)));
+    assertEquals(2, archive.size());
+  }
+
+  @Test
+  @DisplayName("computes the same crowding distances as CrowdingDistanceDensityEstimator")
+  void shouldComputeTheSameCrowdingDistancesAsTheDensityEstimator() {
+    // Arrange
+    var archive = new IncrementalCrowdingDistanceArchive<DoubleSolution>(20);
+    var densityEstimator = new CrowdingDistanceDensityEstimator<DoubleSolution>();
+
+    for (int i = 0; i < 100; i++) {
+      // Act
+      double f1 = (i * 37 % 100) / 100.0;
+      archive.add(solution(f1, 1.0 - Math.sqrt(f1)));
+
+      // Assert
+      List<DoubleSolution> members = new ArrayList<>(archive.solutions());
+      densityEstimator.compute(members);
+      for (DoubleSolution member : members) {
+        assertEquals(
+            densityEstimator.value(member), archive.crowdingDistance(member), EPSILON);
+      }
+    }
+    assertEquals(20, archive.size());
+  }
+}
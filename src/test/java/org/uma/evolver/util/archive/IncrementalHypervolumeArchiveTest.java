@@ -0,0 +1,107 @@
+package org.uma.evolver.util.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.evolver.util.hypervolume.IncrementalHypervolumeContributions;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+@DisplayName("IncrementalHypervolumeArchive Tests")
+class IncrementalHypervolumeArchiveTest {
+  private static final double EPSILON = 1e-12;
+
+  private static DoubleSolution solution(double f1, double f2) {
+    DoubleSolution solution = new ZDT1().createSolution();
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+    return solution;
+  }
+
+  @Test
+  @DisplayName("rejects dominated and repeated solutions and removes the dominated members")
+  void shouldKeepOnlyNonDominatedSolutions() {
+    // Arrange
+    var archive = new IncrementalHypervolumeArchive<DoubleSolution>(10);
+    archive.add(solution(1.0, 3.0));
+    archive.add(solution(3.0, 1.0));
+
+    // Act and Assert
+    assertFalse(archive.add(solution(2.0, 3.5)));
+    assertFalse(archive.add(solution(1.0, 3.0)));
+    assertTrue(archive.add(solution(0.5, 2.5)));
+    assertEquals(2, archive.size());
+  }
+
+  @Test
+  @DisplayName("discards the solution with the lowest hypervolume contribution when full")
+  void shouldDiscardTheLowestContributorWhenFull() {
+    // Arrange
+    var archive = new IncrementalHypervolumeArchive<DoubleSolution>(3, 1.0, 1);
+    DoubleSolution first = solution(1.0, 3.0);
+    DoubleSolution second = solution(2.0, 2.0);
+    DoubleSolution third = solution(3.0, 1.0);
+    DoubleSolution crowded = solution(1.9, 2.1);
+    archive.add(first);
+    archive.add(second);
+    archive.add(third);
+
+    // Act
+    boolean accepted = archive.add(crowded);
+
+    // Assert
+    assertTrue(accepted);
+    assertEquals(3, archive.size());
+    assertFalse(archive.solutions().contains(crowded));
+    assertEquals(
+        1.0,
+        (double) second.attributes().get(IncrementalHypervolumeContributions.ATTRIBUTE_ID),
+        EPSILON);
+  }
+
+  @Test
+  @DisplayName("keeps the solutions with the highest contributions after many insertions")
+  void shouldKeepTheSolutionsWithTheHighestContributions() {
+    // Arrange
+    var archive = new IncrementalHypervolumeArchive<DoubleSolution>(5, 1.0, 1);
+
+    // Act
+    for (int i = 0; i <= 100; i++) {
+      double f1 = (i * 37 % 101) / 100.0;
+      archive.add(solution(f1, 1.0 - f1));
+    }
+
+    // Assert: on a linear front, the extreme points have the largest contributions
+    List<Double> firstObjectives = new ArrayList<>();
+    archive.solutions().forEach(member -> firstObjectives.add(member.objectives()[0]));
+    assertEquals(5, archive.size());
+    assertTrue(firstObjectives.contains(0.0));
+    assertTrue(firstObjectives.contains(1.0));
+  }
+
+  @Test
+  @DisplayName("sorts the solutions by decreasing hypervolume contribution")
+  void shouldSortByDecreasingContribution() {
+    // Arrange
+    var archive = new IncrementalHypervolumeArchive<DoubleSolution>(10, 1.0, 1);
+    DoubleSolution first = solution(1.0, 3.0);
+    DoubleSolution middle = solution(1.5, 2.8);
+    DoubleSolution last = solution(3.0, 1.0);
+    archive.add(middle);
+    archive.add(first);
+    archive.add(last);
+
+    // Act
+    archive.sortByDensityEstimator();
+
+    // Assert
+    assertSame(last, archive.get(0));
+    assertSame(middle, archive.get(2));
+  }
+}
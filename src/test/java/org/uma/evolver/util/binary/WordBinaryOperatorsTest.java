@@ -0,0 +1,165 @@
+package org.uma.evolver.util.binary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.OneZeroMax;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+class WordBinaryOperatorsTest {
+  private static final int NUMBER_OF_BITS = 1000;
+
+  @Nested
+  @DisplayName("The word crossovers")
+  class WordCrossoverTestCases {
+    @DisplayName("keep at each position the bits of the parents")
+    @Test
+    void shouldKeepTheBitsOfTheParentsAtEachPosition() {
+      // Arrange
+      var problem = new OneZeroMax(NUMBER_OF_BITS);
+      var parents = List.of(problem.createSolution(), problem.createSolution());
+
+      for (WordCrossover crossover :
+          List.of(
+              new WordHUXCrossover(1.0),
+              new WordUniformCrossover(1.0),
+              new WordSinglePointCrossover(1.0))) {
+        // Act
+        var offspring = crossover.execute(parents);
+
+        // Assert
+        for (int i = 0; i < NUMBER_OF_BITS; i++) {
+          assertEquals(
+              bit(parents.get(0), i) + bit(parents.get(1), i),
+              bit(offspring.get(0), i) + bit(offspring.get(1), i));
+        }
+        assertEquals(NUMBER_OF_BITS, variable(offspring.get(0)).getBinarySetLength());
+      }
+    }
+
+    @DisplayName("exchange only differing bits, about half of them, in the HUX crossover")
+    @Test
+    void shouldExchangeAboutHalfOfTheDifferingBitsInTheHUXCrossover() {
+      // Arrange
+      JMetalRandom.getInstance().setSeed(1);
+      var problem = new OneZeroMax(NUMBER_OF_BITS);
+      var parents = List.of(problem.createSolution(), problem.createSolution());
+      BinarySet differences = (BinarySet) variable(parents.get(0)).clone();
+      differences.xor(variable(parents.get(1)));
+
+      // Act
+      var offspring = new WordHUXCrossover(1.0).execute(parents);
+
+      // Assert
+      BinarySet exchanged = (BinarySet) variable(parents.get(0)).clone();
+      exchanged.xor(variable(offspring.get(0)));
+      BinarySet exchangedEqualBits = (BinarySet) exchanged.clone();
+      exchangedEqualBits.andNot(differences);
+      assertTrue(exchangedEqualBits.isEmpty());
+      assertTrue(exchanged.cardinality() > 0.4 * differences.cardinality());
+      assertTrue(exchanged.cardinality() < 0.6 * differences.cardinality());
+    }
+
+    @DisplayName("exchange the bits from the crossover point onwards in the single point crossover")
+    @Test
+    void shouldExchangeASuffixInTheSinglePointCrossover() {
+      // Arrange
+      var problem = new OneZeroMax(NUMBER_OF_BITS);
+      var first = problem.createSolution();
+      var second = problem.createSolution();
+      variable(first).clear();
+      variable(second).set(0, NUMBER_OF_BITS);
+
+      // Act
+      var offspring = new WordSinglePointCrossover(1.0).execute(List.of(first, second));
+
+      // Assert
+      BinarySet child = variable(offspring.get(0));
+      int point = child.nextSetBit(0) < 0 ? NUMBER_OF_BITS : child.nextSetBit(0);
+      assertEquals(NUMBER_OF_BITS - point, child.cardinality());
+    }
+
+    @DisplayName("return copies of the parents when the crossover is not applied")
+    @Test
+    void shouldReturnCopiesOfTheParentsWhenTheProbabilityIsZero() {
+      // Arrange
+      var problem = new OneZeroMax(NUMBER_OF_BITS);
+      var parents = List.of(problem.createSolution(), problem.createSolution());
+
+      // Act
+      var offspring = new WordUniformCrossover(0.0).execute(parents);
+
+      // Assert
+      assertEquals(variable(parents.get(0)), variable(offspring.get(0)));
+      assertEquals(variable(parents.get(1)), variable(offspring.get(1)));
+      assertNotSame(parents.get(0), offspring.get(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("The geometric bit flip mutation")
+  class GeometricBitFlipMutationTestCases {
+    @DisplayName("does not change the solution when the probability is zero")
+    @Test
+    void shouldNotChangeTheSolutionWhenTheProbabilityIsZero() {
+      // Arrange
+      var solution = new OneZeroMax(NUMBER_OF_BITS).createSolution();
+      BinarySet original = (BinarySet) variable(solution).clone();
+
+      // Act
+      new GeometricBitFlipMutation(0.0).execute(solution);
+
+      // Assert
+      assertEquals(original, variable(solution));
+    }
+
+    @DisplayName("flips every bit when the probability is one")
+    @Test
+    void shouldFlipEveryBitWhenTheProbabilityIsOne() {
+      // Arrange
+      var solution = new OneZeroMax(NUMBER_OF_BITS).createSolution();
+      int ones = variable(solution).cardinality();
+
+      // Act
+      new GeometricBitFlipMutation(1.0).execute(solution);
+
+      // Assert
+      assertEquals(NUMBER_OF_BITS - ones, variable(solution).cardinality());
+    }
+
+    @DisplayName("flips on average the expected number of bits")
+    @Test
+    void shouldFlipTheExpectedNumberOfBitsOnAverage() {
+      // Arrange
+      double probability = 0.01;
+      int numberOfRuns = 2000;
+      var mutation = new GeometricBitFlipMutation(probability);
+      var solution = new OneZeroMax(NUMBER_OF_BITS).createSolution();
+      long flippedBits = 0;
+
+      // Act
+      for (int run = 0; run < numberOfRuns; run++) {
+        BinarySet before = (BinarySet) variable(solution).clone();
+        mutation.execute(solution);
+        before.xor(variable(solution));
+        flippedBits += before.cardinality();
+      }
+
+      // Assert
+      assertEquals(probability * NUMBER_OF_BITS, (double) flippedBits / numberOfRuns, 0.5);
+    }
+  }
+
+  private static BinarySet variable(BinarySolution solution) {
+    return solution.variables().get(0);
+  }
+
+  private static int bit(BinarySolution solution, int index) {
+    return variable(solution).get(index) ? 1 : 0;
+  }
+}
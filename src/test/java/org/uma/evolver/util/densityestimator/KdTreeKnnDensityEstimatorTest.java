@@ -0,0 +1,87 @@
+package org.uma.evolver.util.densityestimator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+@DisplayName("KdTreeKnnDensityEstimator Tests")
+class KdTreeKnnDensityEstimatorTest {
+  private static final double EPSILON = 1e-12;
+
+  private static List<DoubleSolution> randomSolutions(int numberOfSolutions) {
+    DTLZ2 problem = new DTLZ2();
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < solution.objectives().length; j++) {
+        solution.objectives()[j] = JMetalRandom.getInstance().nextDouble(0.0, 1.0);
+      }
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  private static double bruteForceKthDistance(
+      DoubleSolution solution, List<DoubleSolution> list, int k) {
+    List<Double> distances = new ArrayList<>();
+    for (DoubleSolution other : list) {
+      if (other != solution) {
+        double distance = 0.0;
+        for (int j = 0; j < solution.objectives().length; j++) {
+          double difference = solution.objectives()[j] - other.objectives()[j];
+          distance += difference * difference;
+        }
+        distances.add(Math.sqrt(distance));
+      }
+    }
+    distances.sort(Double::compare);
+    return distances.get(Math.min(k, distances.size()) - 1);
+  }
+
+  @Test
+  @DisplayName("computes the distance to the k-th nearest neighbour")
+  void shouldComputeTheDistanceToTheKthNearestNeighbour() {
+    // Arrange
+    List<DoubleSolution> solutions = randomSolutions(40);
+    var densityEstimator = new KdTreeKnnDensityEstimator<DoubleSolution>(3);
+
+    // Act
+    densityEstimator.compute(solutions);
+
+    // Assert
+    for (DoubleSolution solution : solutions) {
+      assertEquals(
+          bruteForceKthDistance(solution, solutions, 3), densityEstimator.value(solution), EPSILON);
+    }
+  }
+
+  @Test
+  @DisplayName("keeps the values exact during iterative truncation")
+  void shouldKeepTheValuesExactDuringIterativeTruncation() {
+    // Arrange
+    List<DoubleSolution> solutions = randomSolutions(40);
+    var densityEstimator = new KdTreeKnnDensityEstimator<DoubleSolution>(2);
+    densityEstimator.compute(solutions);
+
+    while (solutions.size() > 5) {
+      // Act
+      solutions.sort(densityEstimator.comparator());
+      solutions.remove(solutions.size() - 1);
+      densityEstimator.compute(solutions);
+
+      // Assert
+      for (DoubleSolution solution : solutions) {
+        assertEquals(
+            bruteForceKthDistance(solution, solutions, 2),
+            densityEstimator.value(solution),
+            EPSILON);
+      }
+    }
+  }
+}
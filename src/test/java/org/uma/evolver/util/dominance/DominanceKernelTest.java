@@ -0,0 +1,129 @@
+package org.uma.evolver.util.dominance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+class DominanceKernelTest {
+  private static final int NUMBER_OF_POPULATIONS = 50;
+
+  @Nested
+  @DisplayName("The compare method")
+  class CompareTestCases {
+    @DisplayName("returns -1 when the first vector dominates the second one")
+    @Test
+    void shouldReturnMinusOneWhenTheFirstVectorDominates() {
+      assertEquals(-1, DominanceKernel.compare(new double[] {1, 2}, new double[] {1, 3}));
+    }
+
+    @DisplayName("returns 1 when the second vector dominates the first one")
+    @Test
+    void shouldReturnOneWhenTheSecondVectorDominates() {
+      assertEquals(1, DominanceKernel.compare(new double[] {2, 3, 4}, new double[] {1, 3, 4}));
+    }
+
+    @DisplayName("returns 0 when the vectors are equal or non-dominated")
+    @Test
+    void shouldReturnZeroWhenTheVectorsAreEqualOrNonDominated() {
+      assertEquals(0, DominanceKernel.compare(new double[] {1, 2}, new double[] {1, 2}));
+      assertEquals(0, DominanceKernel.compare(new double[] {1, 3}, new double[] {2, 1}));
+    }
+
+    @DisplayName("returns the same relations as the default dominance comparator of jMetal")
+    @Test
+    void shouldReturnTheSameRelationsAsTheDefaultDominanceComparator() {
+      // Arrange
+      var comparator = new DefaultDominanceComparator<DoubleSolution>();
+      var random = new Random(1);
+
+      for (int i = 0; i < NUMBER_OF_POPULATIONS; i++) {
+        List<DoubleSolution> population = population(random, 40, 3);
+        double[] rows = DominanceKernel.toRows(population);
+        int[] relations = new int[population.size()];
+
+        // Act
+        DominanceKernel.compareToRows(
+            population.get(0).objectives(), rows, population.size(), relations);
+
+        // Assert
+        for (int j = 0; j < population.size(); j++) {
+          assertEquals(comparator.compare(population.get(0), population.get(j)), relations[j]);
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("The kernel based implementations")
+  class KernelImplementationsTestCases {
+    @DisplayName("compute the same subfronts as the fast non-dominated sort ranking of jMetal")
+    @Test
+    void shouldComputeTheSameSubFrontsAsFastNonDominatedSortRanking() {
+      var random = new Random(2);
+      for (int i = 0; i < NUMBER_OF_POPULATIONS; i++) {
+        // Arrange
+        List<DoubleSolution> population = population(random, 60, 2 + i % 2);
+
+        // Act
+        Ranking<DoubleSolution> expected =
+            new FastNonDominatedSortRanking<DoubleSolution>().compute(population);
+        Ranking<DoubleSolution> actual =
+            new KernelNonDominatedSortRanking<DoubleSolution>().compute(population);
+
+        // Assert
+        assertEquals(expected.getNumberOfSubFronts(), actual.getNumberOfSubFronts());
+        for (int rank = 0; rank < expected.getNumberOfSubFronts(); rank++) {
+          assertEquals(expected.getSubFront(rank), actual.getSubFront(rank));
+          for (DoubleSolution solution : actual.getSubFront(rank)) {
+            assertEquals(rank, actual.getRank(solution));
+          }
+        }
+      }
+    }
+
+    @DisplayName("filter the same solutions as a non-dominated solution list archive")
+    @Test
+    void shouldFilterTheSameSolutionsAsANonDominatedSolutionListArchive() {
+      var random = new Random(3);
+      for (int i = 0; i < NUMBER_OF_POPULATIONS; i++) {
+        // Arrange
+        List<DoubleSolution> population = population(random, 60, 2 + i % 2);
+        var archive = new NonDominatedSolutionListArchive<DoubleSolution>();
+        population.forEach(archive::add);
+
+        // Act
+        List<DoubleSolution> nonDominatedSolutions =
+            DominanceKernel.nonDominatedSolutions(population);
+
+        // Assert
+        assertEquals(archive.solutions(), nonDominatedSolutions);
+      }
+    }
+  }
+
+  /** Creates solutions with small integer objective values, so that ties and repetitions occur. */
+  private static List<DoubleSolution> population(Random random, int size, int numberOfObjectives) {
+    var problem = new DTLZ2(12, numberOfObjectives);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextInt(6);
+      }
+      population.add(solution);
+    }
+
+    return population;
+  }
+}
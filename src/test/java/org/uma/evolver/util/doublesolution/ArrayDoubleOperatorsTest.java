@@ -0,0 +1,189 @@
+package org.uma.evolver.util.doublesolution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
+
+class ArrayDoubleOperatorsTest {
+  private static final int NUMBER_OF_SAMPLES = 20000;
+  private static final RepairDoubleSolution REPAIR = new RepairDoubleSolutionWithBoundValue();
+
+  @Nested
+  @DisplayName("The array crossovers")
+  class ArrayCrossoverTestCases {
+    @DisplayName("generate the first variable of SBX with the same mean and deviation as jMetal")
+    @Test
+    void shouldMatchTheDistributionOfTheJMetalSBXCrossover() {
+      // Arrange
+      var parents = List.of(solution(0.2, 0.5), solution(0.7, 0.5));
+      var arrayCrossover = new ArraySBXCrossover(1.0, 20.0, REPAIR);
+      var listCrossover = new SBXCrossover(1.0, 20.0, REPAIR);
+
+      // Act
+      double[] arrayMoments =
+          moments(() -> arrayCrossover.execute(parents).get(0).variables().get(0));
+      double[] listMoments =
+          moments(() -> listCrossover.execute(parents).get(0).variables().get(0));
+
+      // Assert
+      assertEquals(listMoments[0], arrayMoments[0], 0.01);
+      assertEquals(listMoments[1], arrayMoments[1], 0.01);
+    }
+
+    @DisplayName("keep the sum of the parents in the whole arithmetic crossover")
+    @Test
+    void shouldKeepTheSumOfTheParentsInTheWholeArithmeticCrossover() {
+      // Arrange
+      var parents = List.of(solution(0.2, 0.9), solution(0.6, 0.1));
+
+      // Act
+      var offspring = new ArrayWholeArithmeticCrossover(1.0, REPAIR).execute(parents);
+
+      // Assert
+      for (int i = 0; i < 2; i++) {
+        assertEquals(
+            parents.get(0).variables().get(i) + parents.get(1).variables().get(i),
+            offspring.get(0).variables().get(i) + offspring.get(1).variables().get(i),
+            1.0e-12);
+      }
+    }
+
+    @DisplayName("generate BLX-alpha values within the extended interval of the parents")
+    @Test
+    void shouldGenerateValuesWithinTheExtendedIntervalInTheBLXAlphaCrossover() {
+      // Arrange
+      var parents = List.of(solution(0.4, 0.5), solution(0.6, 0.5));
+      var crossover = new ArrayBLXAlphaCrossover(1.0, 0.5, REPAIR);
+
+      for (int sample = 0; sample < 1000; sample++) {
+        // Act
+        var offspring = crossover.execute(parents);
+
+        // Assert
+        for (DoubleSolution child : offspring) {
+          assertTrue(child.variables().get(0) >= 0.3 && child.variables().get(0) <= 0.7);
+          assertEquals(0.5, child.variables().get(1), 1.0e-12);
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("The array polynomial mutation")
+  class ArrayPolynomialMutationTestCases {
+    @DisplayName("generates values with the same mean and deviation as jMetal")
+    @Test
+    void shouldMatchTheDistributionOfTheJMetalPolynomialMutation() {
+      // Arrange
+      var arrayMutation = new ArrayPolynomialMutation(1.0, 20.0, REPAIR);
+      var listMutation = new PolynomialMutation(1.0, 20.0, REPAIR);
+
+      // Act
+      double[] arrayMoments =
+          moments(() -> arrayMutation.execute(solution(0.3, 0.5)).variables().get(0));
+      double[] listMoments =
+          moments(() -> listMutation.execute(solution(0.3, 0.5)).variables().get(0));
+
+      // Assert
+      assertEquals(listMoments[0], arrayMoments[0], 0.005);
+      assertEquals(listMoments[1], arrayMoments[1], 0.005);
+    }
+
+    @DisplayName("does not change the solution when the probability is zero")
+    @Test
+    void shouldNotChangeTheSolutionWhenTheProbabilityIsZero() {
+      // Arrange
+      var solution = solution(0.3, 0.5);
+
+      // Act
+      new ArrayPolynomialMutation(0.0, 20.0, REPAIR).execute(solution);
+
+      // Assert
+      assertEquals(List.of(0.3, 0.5), solution.variables());
+    }
+
+    @DisplayName("mutates on average the expected number of variables")
+    @Test
+    void shouldMutateTheExpectedNumberOfVariablesOnAverage() {
+      // Arrange
+      int numberOfVariables = 1000;
+      var mutation = new ArrayPolynomialMutation(0.01, 20.0, REPAIR);
+      var solution = new ZDT1(numberOfVariables).createSolution();
+      long mutatedVariables = 0;
+
+      // Act
+      for (int sample = 0; sample < 2000; sample++) {
+        List<Double> before = List.copyOf(solution.variables());
+        mutation.execute(solution);
+        for (int i = 0; i < numberOfVariables; i++) {
+          mutatedVariables += before.get(i).equals(solution.variables().get(i)) ? 0 : 1;
+        }
+      }
+
+      // Assert
+      assertEquals(10.0, mutatedVariables / 2000.0, 0.5);
+    }
+
+    @DisplayName("mutates only the active variables, the expected number of them on average")
+    @Test
+    void shouldMutateOnlyTheActiveVariables() {
+      // Arrange
+      int numberOfVariables = 100;
+      int[] activeVariables = {3, 50, 97};
+      var mutation =
+          new ArrayPolynomialMutation(
+              1.0 / numberOfVariables, 20.0, REPAIR, mutated -> activeVariables);
+      var solution = new ZDT1(numberOfVariables).createSolution();
+      long mutatedVariables = 0;
+      long mutatedInactiveVariables = 0;
+
+      // Act
+      for (int sample = 0; sample < 2000; sample++) {
+        List<Double> before = List.copyOf(solution.variables());
+        mutation.execute(solution);
+        for (int i = 0; i < numberOfVariables; i++) {
+          if (!before.get(i).equals(solution.variables().get(i))) {
+            mutatedVariables++;
+            mutatedInactiveVariables += i == 3 || i == 50 || i == 97 ? 0 : 1;
+          }
+        }
+      }
+
+      // Assert
+      assertEquals(0, mutatedInactiveVariables);
+      assertEquals(1.0, mutatedVariables / 2000.0, 0.1);
+    }
+  }
+
+  private static DoubleSolution solution(double... values) {
+    DoubleSolution solution = new ZDT1(values.length).createSolution();
+    for (int i = 0; i < values.length; i++) {
+      solution.variables().set(i, values[i]);
+    }
+
+    return solution;
+  }
+
+  private static double[] moments(DoubleSupplier sample) {
+    double sum = 0.0;
+    double sumOfSquares = 0.0;
+    for (int i = 0; i < NUMBER_OF_SAMPLES; i++) {
+      double value = sample.getAsDouble();
+      sum += value;
+      sumOfSquares += value * value;
+    }
+    double mean = sum / NUMBER_OF_SAMPLES;
+
+    return new double[] {mean, Math.sqrt(sumOfSquares / NUMBER_OF_SAMPLES - mean * mean)};
+  }
+}
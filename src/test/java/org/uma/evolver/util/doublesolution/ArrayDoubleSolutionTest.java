@@ -0,0 +1,108 @@
+package org.uma.evolver.util.doublesolution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
+
+class ArrayDoubleSolutionTest {
+  private final ArrayDoubleProblem problem = new ArrayDoubleProblem(new ZDT1(30));
+
+  @Nested
+  @DisplayName("The array double problem")
+  class ArrayDoubleProblemTestCases {
+    @DisplayName("creates array solutions with the variables within their bounds")
+    @Test
+    void shouldCreateArraySolutionsWithinTheBounds() {
+      // Act
+      DoubleSolution solution = problem.createSolution();
+
+      // Assert
+      assertInstanceOf(ArrayDoubleSolution.class, solution);
+      assertEquals(30, solution.variables().size());
+      for (int i = 0; i < solution.variables().size(); i++) {
+        assertTrue(solution.variables().get(i) >= solution.getBounds(i).getLowerBound());
+        assertTrue(solution.variables().get(i) <= solution.getBounds(i).getUpperBound());
+      }
+    }
+
+    @DisplayName("evaluates the solutions with the decorated problem")
+    @Test
+    void shouldEvaluateTheSolutionsWithTheDecoratedProblem() {
+      // Arrange
+      DoubleSolution solution = problem.createSolution();
+      DoubleSolution defaultSolution = new ZDT1(30).createSolution();
+      for (int i = 0; i < solution.variables().size(); i++) {
+        defaultSolution.variables().set(i, solution.variables().get(i));
+      }
+
+      // Act
+      problem.evaluate(solution);
+      new ZDT1(30).evaluate(defaultSolution);
+
+      // Assert
+      assertArrayEquals(defaultSolution.objectives(), solution.objectives());
+    }
+  }
+
+  @Nested
+  @DisplayName("The array double solution")
+  class ArrayDoubleSolutionTestCases {
+    @DisplayName("writes the values set through its variable list into its array")
+    @Test
+    void shouldWriteTheValuesOfTheVariableListIntoTheArray() {
+      // Arrange
+      var solution = (ArrayDoubleSolution) problem.createSolution();
+
+      // Act
+      solution.variables().set(3, 0.25);
+
+      // Assert
+      assertEquals(0.25, solution.values()[3]);
+    }
+
+    @DisplayName("creates independent copies with the same values and attributes")
+    @Test
+    void shouldCreateIndependentCopies() {
+      // Arrange
+      var solution = (ArrayDoubleSolution) problem.createSolution();
+      solution.objectives()[0] = 1.0;
+      solution.attributes().put("key", "value");
+
+      // Act
+      ArrayDoubleSolution copy = solution.copy();
+      copy.values()[0] = -1.0;
+
+      // Assert
+      assertEquals(1.0, copy.objectives()[0]);
+      assertEquals("value", copy.attributes().get("key"));
+      assertNotEquals(-1.0, solution.values()[0]);
+      assertSame(solution.lowerBounds(), copy.lowerBounds());
+    }
+
+    @DisplayName("is recombined and mutated by the array operators into array solutions")
+    @Test
+    void shouldBeRecombinedAndMutatedByTheArrayOperators() {
+      // Arrange
+      var repair = new RepairDoubleSolutionWithBoundValue();
+      var parents = List.of(problem.createSolution(), problem.createSolution());
+
+      // Act
+      List<DoubleSolution> offspring = new ArraySBXCrossover(1.0, 20.0, repair).execute(parents);
+      new ArrayPolynomialMutation(1.0, 20.0, repair).execute(offspring.get(0));
+
+      // Assert
+      for (DoubleSolution child : offspring) {
+        assertInstanceOf(ArrayDoubleSolution.class, child);
+        for (double value : ((ArrayDoubleSolution) child).values()) {
+          assertTrue(value >= 0.0 && value <= 1.0);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.uma.evolver.util.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.component.impl.ComputeQualityIndicators;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+@DisplayName("ParallelQualityIndicatorComputation Tests")
+class ParallelQualityIndicatorComputationTest {
+  private static final List<String> ALGORITHMS = List.of("AlgorithmA", "AlgorithmB");
+  private static final List<String> INDICATORS = List.of("EP", "HV", "IGD");
+  private static final int NUMBER_OF_RUNS = 5;
+  private static final double EPSILON = 1e-12;
+
+  @TempDir Path directory;
+
+  /**
+   * Creates an experiment on ZDT1 whose FUN and VAR files are written with deterministic fronts
+   * that differ for every algorithm and run.
+   */
+  private Experiment<DoubleSolution, List<DoubleSolution>> experiment(
+      String name, String referenceFront, int numberOfCores) throws IOException {
+    ExperimentProblem<DoubleSolution> problem =
+        new ExperimentProblem<>(new ZDT1()).setReferenceFront(referenceFront);
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithms =
+        new ArrayList<>();
+    for (String algorithm : ALGORITHMS) {
+      for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+        algorithms.add(new ExperimentAlgorithm<>(null, algorithm, problem, run));
+      }
+    }
+
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment =
+        new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>(name)
+            .setAlgorithmList(algorithms)
+            .setProblemList(List.of(problem))
+            .setReferenceFrontDirectory("resources/referenceFronts")
+            .setExperimentBaseDirectory(directory.toString())
+            .setOutputParetoFrontFileName("FUN")
+            .setOutputParetoSetFileName("VAR")
+            .setIndicatorList(
+                List.of(new Epsilon(), new PISAHypervolume(), new InvertedGenerationalDistance()))
+            .setIndependentRuns(NUMBER_OF_RUNS)
+            .setNumberOfCores(numberOfCores)
+            .build();
+
+    for (int algorithm = 0; algorithm < ALGORITHMS.size(); algorithm++) {
+      Path problemDirectory =
+          Path.of(experiment.getExperimentBaseDirectory(), "data", ALGORITHMS.get(algorithm))
+              .resolve(problem.getTag());
+      Files.createDirectories(problemDirectory);
+      for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+        List<String> front = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+          double f1 = (i + 0.1 * run) / 20.0;
+          double f2 = 1.0 - Math.sqrt(f1) + 0.02 * (run + 1) * (algorithm + 1);
+          front.add(f1 + "," + f2);
+          variables.add(Double.toString(f1));
+        }
+        Files.write(problemDirectory.resolve("FUN" + run + ".csv"), front);
+        Files.write(problemDirectory.resolve("VAR" + run + ".csv"), variables);
+      }
+    }
+
+    return experiment;
+  }
+
+  /** Reads the summary file of an experiment as a map from algorithm,problem,indicator,run. */
+  private static Map<String, Double> readSummary(Experiment<?, ?> experiment) throws IOException {
+    List<String> lines =
+        Files.readAllLines(
+            Path.of(experiment.getExperimentBaseDirectory(), "QualityIndicatorSummary.csv"));
+    Map<String, Double> result = new TreeMap<>();
+    for (String line : lines.subList(1, lines.size())) {
+      int lastComma = line.lastIndexOf(',');
+      result.put(line.substring(0, lastComma), Double.parseDouble(line.substring(lastComma + 1)));
+    }
+    return result;
+  }
+
+  private static List<String> readIndicatorFile(
+      Experiment<?, ?> experiment, String algorithm, String indicator) throws IOException {
+    return Files.readAllLines(
+        Path.of(experiment.getExperimentBaseDirectory(), "data", algorithm, "ZDT1", indicator));
+  }
+
+  @Test
+  @DisplayName("computes the same indicator files and summary as ComputeQualityIndicators")
+  void shouldProduceTheSameOutputAsComputeQualityIndicators() throws IOException {
+    // Arrange
+    var sequentialExperiment = experiment("Sequential", "ZDT1.csv", 1);
+    var parallelExperiment = experiment("Parallel", "ZDT1.csv", 3);
+
+    // Act
+    new ComputeQualityIndicators<>(sequentialExperiment).run();
+    new ParallelQualityIndicatorComputation<>(parallelExperiment).run();
+
+    // Assert
+    for (String algorithm : ALGORITHMS) {
+      for (String indicator : INDICATORS) {
+        List<String> expectedValues = readIndicatorFile(sequentialExperiment, algorithm, indicator);
+        List<String> actualValues = readIndicatorFile(parallelExperiment, algorithm, indicator);
+        assertEquals(NUMBER_OF_RUNS, actualValues.size());
+        for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+          assertEquals(
+              Double.parseDouble(expectedValues.get(run)),
+              Double.parseDouble(actualValues.get(run)),
+              EPSILON);
+        }
+      }
+    }
+
+    Map<String, Double> expectedSummary = readSummary(sequentialExperiment);
+    Map<String, Double> actualSummary = readSummary(parallelExperiment);
+    assertEquals(expectedSummary.keySet(), actualSummary.keySet());
+    expectedSummary.forEach(
+        (key, value) -> assertEquals(value, actualSummary.get(key), EPSILON, key));
+  }
+
+  @Test
+  @DisplayName("throws a JMetalException without blocking when a reference front cannot be read")
+  void shouldThrowWithoutBlockingWhenAReferenceFrontCannotBeRead() throws IOException {
+    // Arrange: one worker, whose queue is shorter than the number of fronts
+    var experiment = experiment("MissingReferenceFront", "NonExistent.csv", 1);
+    var computation = new ParallelQualityIndicatorComputation<>(experiment);
+
+    // Act & Assert
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(30), () -> assertThrows(JMetalException.class, computation::run));
+  }
+}
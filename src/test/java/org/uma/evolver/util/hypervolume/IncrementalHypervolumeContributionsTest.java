@@ -0,0 +1,216 @@
+package org.uma.evolver.util.hypervolume;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+@DisplayName("IncrementalHypervolumeContributions Tests")
+class IncrementalHypervolumeContributionsTest {
+  private static final double EPSILON = 1e-9;
+
+  private static DoubleSolution solution2D(double f1, double f2) {
+    DoubleSolution solution = new ZDT1().createSolution();
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+    return solution;
+  }
+
+  private static List<DoubleSolution> solutionsOnTheSphere() {
+    DTLZ2 problem = new DTLZ2();
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 1; i < 6; i++) {
+      for (int j = 1; j < 6; j++) {
+        double a = i * Math.PI / 12.0;
+        double b = j * Math.PI / 12.0;
+        DoubleSolution solution = problem.createSolution();
+        solution.objectives()[0] = Math.cos(a) * Math.cos(b);
+        solution.objectives()[1] = Math.cos(a) * Math.sin(b);
+        solution.objectives()[2] = Math.sin(a);
+        solutions.add(solution);
+      }
+    }
+    return solutions;
+  }
+
+  @Nested
+  @DisplayName("With two objectives")
+  class TwoObjectivesTestCases {
+    @Test
+    @DisplayName("computes the contributions from the neighbours and the reference point")
+    void shouldComputeContributionsFromNeighbours() {
+      // Arrange
+      var contributions = new IncrementalHypervolumeContributions<DoubleSolution>(2, 1.0, 1);
+      var first = solution2D(1.0, 3.0);
+      var second = solution2D(2.0, 2.0);
+      var third = solution2D(3.0, 1.0);
+
+      // Act
+      contributions.add(second);
+      contributions.add(third);
+      contributions.add(first);
+
+      // Assert
+      assertEquals(1.0, contributions.contribution(first), EPSILON);
+      assertEquals(1.0, contributions.contribution(second), EPSILON);
+      assertEquals(1.0, contributions.contribution(third), EPSILON);
+    }
+
+    @Test
+    @DisplayName("updates the neighbours when a solution is inserted and removed")
+    void shouldUpdateNeighboursOnInsertionAndRemoval() {
+      // Arrange
+      var contributions = new IncrementalHypervolumeContributions<DoubleSolution>(2, 1.0, 1);
+      var first = solution2D(1.0, 3.0);
+      var second = solution2D(2.0, 2.0);
+      var third = solution2D(3.0, 1.0);
+      var inserted = solution2D(1.5, 2.5);
+      contributions.add(first);
+      contributions.add(second);
+      contributions.add(third);
+
+      // Act
+      contributions.add(inserted);
+
+      // Assert
+      assertEquals(0.5, contributions.contribution(first), EPSILON);
+      assertEquals(0.25, contributions.contribution(inserted), EPSILON);
+      assertEquals(0.5, contributions.contribution(second), EPSILON);
+      assertEquals(1.0, contributions.contribution(third), EPSILON);
+      assertSame(inserted, contributions.worst());
+
+      // Act
+      assertTrue(contributions.remove(inserted));
+
+      // Assert
+      assertEquals(1.0, contributions.contribution(first), EPSILON);
+      assertEquals(1.0, contributions.contribution(second), EPSILON);
+      assertFalse(contributions.remove(inserted));
+    }
+  }
+
+  @Nested
+  @DisplayName("With three objectives")
+  class ThreeObjectivesTestCases {
+    @Test
+    @DisplayName("computes the hypervolume of two overlapping boxes")
+    void shouldComputeTheHypervolumeOfTwoOverlappingBoxes() {
+      // Arrange
+      List<double[]> points = List.of(new double[] {0.0, 0.0, 0.5}, new double[] {0.5, 0.5, 0.0});
+      double[] referencePoint = {1.0, 1.0, 1.0};
+
+      // Act
+      double hypervolume =
+          IncrementalHypervolumeContributions.hypervolume3D(points, referencePoint);
+
+      // Assert
+      assertEquals(0.625, hypervolume, EPSILON);
+    }
+
+    @Test
+    @DisplayName("obtains the same contributions incrementally as PISAHypervolume")
+    void shouldObtainTheSameContributionsAsPISAHypervolume() {
+      // Arrange
+      List<DoubleSolution> solutions = solutionsOnTheSphere();
+      var contributions = new IncrementalHypervolumeContributions<DoubleSolution>(3);
+
+      // Act
+      solutions.forEach(contributions::add);
+      for (int i = 0; i < solutions.size(); i += 3) {
+        contributions.remove(solutions.get(i));
+      }
+
+      // Assert
+      assertContributionsMatchPISAHypervolume(contributions, 1e-6);
+    }
+
+    @Test
+    @DisplayName("updates the contributions when an extreme solution changes the reference point")
+    void shouldUpdateTheContributionsWhenTheReferencePointChanges() {
+      // Arrange
+      List<DoubleSolution> solutions = solutionsOnTheSphere();
+      var contributions = new IncrementalHypervolumeContributions<DoubleSolution>(3, 1.0, 1);
+      solutions.forEach(contributions::add);
+      DoubleSolution extreme = new DTLZ2().createSolution();
+      extreme.objectives()[0] = 0.0;
+      extreme.objectives()[1] = 0.0;
+      extreme.objectives()[2] = 1.5;
+      double[] referencePoint = contributions.referencePoint();
+
+      // Act
+      contributions.add(extreme);
+
+      // Assert
+      assertTrue(contributions.referencePoint()[2] > referencePoint[2]);
+      assertContributionsMatchPISAHypervolume(contributions, 1e-9);
+
+      // Act
+      contributions.remove(extreme);
+
+      // Assert
+      assertContributionsMatchPISAHypervolume(contributions, 1e-9);
+    }
+  }
+
+  @Nested
+  @DisplayName("With more than three objectives")
+  class ManyObjectivesTestCases {
+    @Test
+    @DisplayName("estimates the contributions of PISAHypervolume after the reference point changes")
+    void shouldEstimateTheContributionsOfPISAHypervolume() {
+      // Arrange
+      JMetalRandom.getInstance().setSeed(1);
+      var contributions = new IncrementalHypervolumeContributions<DoubleSolution>(4, 1.0, 200000);
+      List<DoubleSolution> solutions = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        DoubleSolution solution = new DTLZ2(12, 4).createSolution();
+        for (int j = 0; j < 4; j++) {
+          solution.objectives()[j] = i == j ? 0.0 : 1.0;
+        }
+        solutions.add(solution);
+      }
+      DoubleSolution central = new DTLZ2(12, 4).createSolution();
+      Arrays.fill(central.objectives(), 0.6);
+
+      // Act
+      solutions.forEach(contributions::add);
+      contributions.add(central);
+      contributions.remove(solutions.get(0));
+
+      // Assert
+      assertContributionsMatchPISAHypervolume(contributions, 0.05);
+    }
+  }
+
+  /**
+   * Checks that the contribution of every stored solution is the difference between the
+   * hypervolume computed by PISAHypervolume with and without it.
+   */
+  private static void assertContributionsMatchPISAHypervolume(
+      IncrementalHypervolumeContributions<DoubleSolution> contributions, double tolerance) {
+    List<DoubleSolution> solutions = contributions.solutions();
+    double[][] front =
+        solutions.stream().map(DoubleSolution::objectives).toArray(double[][]::new);
+    PISAHypervolume hypervolume = new PISAHypervolume(contributions.referencePoint());
+    double totalHypervolume = hypervolume.compute(front);
+
+    for (int i = 0; i < solutions.size(); i++) {
+      List<double[]> others = new ArrayList<>(Arrays.asList(front));
+      others.remove(i);
+      double expected = totalHypervolume - hypervolume.compute(others.toArray(new double[0][]));
+      assertEquals(expected, contributions.contribution(solutions.get(i)), tolerance);
+    }
+  }
+}
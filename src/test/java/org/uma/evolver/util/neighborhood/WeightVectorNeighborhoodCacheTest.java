@@ -0,0 +1,26 @@
+package org.uma.evolver.util.neighborhood;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
+
+@DisplayName("WeightVectorNeighborhoodCache Tests")
+class WeightVectorNeighborhoodCacheTest {
+
+  @Test
+  @DisplayName("returns the same neighborhood for the same population and neighborhood sizes")
+  void shouldShareTheNeighborhoodOfTheSameConfiguration() {
+    // Act
+    WeightVectorNeighborhood<DoubleSolution> first = WeightVectorNeighborhoodCache.get(50, 10);
+    WeightVectorNeighborhood<DoubleSolution> second = WeightVectorNeighborhoodCache.get(50, 10);
+    WeightVectorNeighborhood<DoubleSolution> other = WeightVectorNeighborhoodCache.get(50, 20);
+
+    // Assert
+    assertSame(first, second);
+    assertNotSame(first, other);
+  }
+}
@@ -0,0 +1,96 @@
+package org.uma.evolver.util.permutation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.uma.evolver.problem.tsp.DoubleDistanceMatrix;
+import org.uma.evolver.problem.tsp.MultiObjectiveTSP;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+
+@DisplayName("DeltaPermutationMutation Tests")
+class DeltaPermutationMutationTest {
+
+  private static final int NUMBER_OF_CITIES = 30;
+
+  static Stream<DeltaPermutationMutation> mutations() {
+    return Stream.of(
+        new DeltaSwapMutation(1.0), new DeltaInsertMutation(1.0), new DeltaInversionMutation(1.0));
+  }
+
+  private static MultiObjectiveTSP randomProblem(long seed) {
+    Random random = new Random(seed);
+    double[][] firstMatrix = new double[NUMBER_OF_CITIES][NUMBER_OF_CITIES];
+    double[][] secondMatrix = new double[NUMBER_OF_CITIES][NUMBER_OF_CITIES];
+    for (int i = 0; i < NUMBER_OF_CITIES; i++) {
+      for (int j = i + 1; j < NUMBER_OF_CITIES; j++) {
+        firstMatrix[i][j] = firstMatrix[j][i] = random.nextInt(1000);
+        secondMatrix[i][j] = secondMatrix[j][i] = random.nextInt(1000);
+      }
+    }
+    return new MultiObjectiveTSP(
+        "RandomTSP",
+        List.of(new DoubleDistanceMatrix(firstMatrix), new DoubleDistanceMatrix(secondMatrix)));
+  }
+
+  @Nested
+  @DisplayName("When the objectives are current")
+  class CurrentObjectives {
+
+    @ParameterizedTest
+    @MethodSource("org.uma.evolver.util.permutation.DeltaPermutationMutationTest#mutations")
+    @DisplayName("delta evaluation matches full evaluation after consecutive moves")
+    void shouldMatchFullEvaluation(DeltaPermutationMutation mutation) {
+      // Arrange
+      MultiObjectiveTSP problem = randomProblem(1);
+      PermutationSolution<Integer> solution = problem.evaluate(problem.createSolution());
+
+      for (int iteration = 0; iteration < 500; iteration++) {
+        // Act
+        DeltaEvaluation.markObjectivesAsCurrent(solution);
+        mutation.execute(solution);
+        mutation.execute(solution);
+        problem.evaluate(solution);
+
+        // Assert
+        PermutationSolution<Integer> reference = solution.copy();
+        reference.attributes().clear();
+        problem.evaluate(reference);
+        assertEquals(reference.objectives()[0], solution.objectives()[0], 1e-9);
+        assertEquals(reference.objectives()[1], solution.objectives()[1], 1e-9);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("When the objectives are not current")
+  class StaleObjectives {
+
+    @Test
+    @DisplayName("moves are not recorded and the solution is fully evaluated")
+    void shouldNotRecordMoves() {
+      // Arrange
+      MultiObjectiveTSP problem = randomProblem(2);
+      PermutationSolution<Integer> solution = problem.evaluate(problem.createSolution());
+      solution.objectives()[0] = -1.0;
+
+      // Act
+      new DeltaSwapMutation(1.0).execute(solution);
+      List<PermutationMove> moves = DeltaEvaluation.consumeMoves(solution);
+      problem.evaluate(solution);
+
+      // Assert
+      assertNull(moves);
+      PermutationSolution<Integer> reference = solution.copy();
+      problem.evaluate(reference);
+      assertEquals(reference.objectives()[0], solution.objectives()[0]);
+    }
+  }
+}